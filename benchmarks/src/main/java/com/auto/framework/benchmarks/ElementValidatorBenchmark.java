@@ -0,0 +1,105 @@
+package com.auto.framework.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+
+import com.auto.framework.model.ElementSnapshot;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : JMH benchmarks of the public operations of ElementValidator against the local fixture page.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Average time of the element verifications, including their browser round trips.
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.actions.ElementValidator
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class ElementValidatorBenchmark {
+
+    private static final By HEADING = By.id("heading");
+    private static final List<By> CELLS = List.of(By.cssSelector("#users tbody tr:nth-child(1) td"),
+            By.cssSelector("#users tbody tr:nth-child(2) td"), By.cssSelector("#users tbody tr:nth-child(3) td"));
+    private static final Map<String, By> FIELDS = Map.of("userName", By.id("userName"), "userEmail",
+            By.id("userEmail"), "submit", By.id("submit"));
+
+    /**
+     * Reloads the fixture page.
+     *
+     * @param framework The shared framework state
+     */
+    @Setup(Level.Iteration)
+    public void openPage(FrameworkState framework) {
+        framework.open(FrameworkState.ACTIONS_PAGE);
+    }
+
+    /**
+     * Measures {@code getTitle}.
+     *
+     * @param framework The shared framework state
+     * @return The page title
+     */
+    @Benchmark
+    public String getTitle(FrameworkState framework) {
+        return framework.elementValidator.getTitle();
+    }
+
+    /**
+     * Measures {@code getText} of a single element.
+     *
+     * @param framework The shared framework state
+     * @return The element text
+     */
+    @Benchmark
+    public String getText(FrameworkState framework) {
+        return framework.elementValidator.getText(HEADING);
+    }
+
+    /**
+     * Measures {@code getTexts} of three elements in one call.
+     *
+     * @param framework The shared framework state
+     * @return The element texts
+     */
+    @Benchmark
+    public List<String> getTexts(FrameworkState framework) {
+        return framework.elementValidator.getTexts(CELLS);
+    }
+
+    /**
+     * Measures {@code getSnapshots} of three form elements with one attribute.
+     *
+     * @param framework The shared framework state
+     * @return The element snapshots
+     */
+    @Benchmark
+    public Map<String, ElementSnapshot> getSnapshots(FrameworkState framework) {
+        return framework.elementValidator.getSnapshots(FIELDS, "type");
+    }
+}
@@ -0,0 +1,175 @@
+package com.auto.framework.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.auto.framework.SpringAutoFrameworkApplication;
+import com.auto.framework.actions.InteractionHelper;
+import com.auto.framework.driverscope.DriverScope;
+import com.auto.framework.interfaces.IElementValidator;
+import com.auto.framework.interfaces.JavaScriptOperations;
+import com.auto.framework.interfaces.WaitOperations;
+import com.auto.framework.interfaces.WebElementInteraction;
+import com.auto.framework.model.PageReadiness;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Shared JMH state of the benchmarks: boots the framework's Spring context with a headless browser
+ *                  session and opens the local HTML fixture the benchmarked actions run against.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Framework context and browser session of a benchmark run.
+ *
+ * <p>The context is started once per trial with the {@code performance} browser profile,
+ * a single pooled session and without network interception, so the measurements contain
+ * the framework's own overhead and the browser round trips only. The fixture pages are
+ * copied from the classpath to a temporary directory and opened through {@code file:}
+ * URLs; no network access is needed.</p>
+ *
+ * <p>Browser sessions are bound to the thread that starts them, so the benchmarks run with
+ * a single thread.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.config.BrowserProfile#PERFORMANCE
+ */
+@State(Scope.Benchmark)
+public class FrameworkState {
+
+    /**
+     * Name of the fixture page all benchmarks run against.
+     */
+    public static final String ACTIONS_PAGE = "actions.html";
+
+    /**
+     * Framework settings of the benchmark run. Passed as command-line arguments so that they
+     * take precedence over the framework's application.properties.
+     */
+    private static final String[] SETTINGS = {
+            "--my.properties.browser-profile=performance",
+            "--my.properties.session-pool-size=1",
+            "--my.properties.session-pool-warm-size=1",
+            "--my.properties.blocked-urls=",
+            "--my.properties.asset-cache=false",
+            "--my.properties.fixture-mode=off",
+            "--my.properties.adaptive-timeouts=false",
+            "--my.properties.benchmark=false",
+            "--logging.level.root=warn" };
+
+    /**
+     * The framework's Spring context.
+     */
+    public ConfigurableApplicationContext context;
+
+    /**
+     * Element interactions under benchmark.
+     */
+    public WebElementInteraction webElementInteraction;
+
+    /**
+     * Element verifications under benchmark.
+     */
+    public IElementValidator elementValidator;
+
+    /**
+     * Explicit waits under benchmark.
+     */
+    public WaitOperations waitOperations;
+
+    /**
+     * JavaScript interactions under benchmark.
+     */
+    public JavaScriptOperations javaScriptOperations;
+
+    /**
+     * Interaction utilities under benchmark.
+     */
+    public InteractionHelper interactionHelper;
+
+    /**
+     * Scope holding the benchmark thread's browser session.
+     */
+    public DriverScope driverScope;
+
+    /**
+     * Directory the fixture pages are copied to.
+     */
+    private Path fixtureDir;
+
+    /**
+     * Starts the Spring context and copies the fixture pages.
+     *
+     * @throws IOException if the fixture pages cannot be copied
+     */
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        fixtureDir = Files.createTempDirectory("benchmark-fixtures");
+        copyFixture(ACTIONS_PAGE);
+        context = new SpringApplicationBuilder(SpringAutoFrameworkApplication.class)
+                .web(WebApplicationType.NONE).bannerMode(Banner.Mode.OFF).logStartupInfo(false).run(SETTINGS);
+        webElementInteraction = context.getBean(WebElementInteraction.class);
+        elementValidator = context.getBean(IElementValidator.class);
+        waitOperations = context.getBean(WaitOperations.class);
+        javaScriptOperations = context.getBean(JavaScriptOperations.class);
+        interactionHelper = context.getBean(InteractionHelper.class);
+        driverScope = context.getBean(DriverScope.class);
+    }
+
+    /**
+     * Opens a fixture page and waits until its DOM is parsed.
+     *
+     * @param page The file name of the fixture page
+     */
+    public void open(String page) {
+        webElementInteraction.openURL(fixtureDir.resolve(page).toUri().toString(), PageReadiness.domContentLoaded());
+    }
+
+    /**
+     * Releases the browser session, closes the Spring context and deletes the fixture pages.
+     *
+     * @throws IOException if the fixture pages cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void stop() throws IOException {
+        driverScope.reset();
+        context.close();
+        try (Stream<Path> files = Files.list(fixtureDir)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(fixtureDir);
+    }
+
+    /**
+     * Copies a fixture page from the classpath to the fixture directory.
+     *
+     * @param page The file name of the fixture page
+     * @throws IOException if the page cannot be copied
+     */
+    private void copyFixture(String page) throws IOException {
+        try (InputStream in = FrameworkState.class.getResourceAsStream("/fixtures/" + page)) {
+            if (in == null) {
+                throw new IOException("Fixture page not on classpath: " + page);
+            }
+            Files.copy(in, fixtureDir.resolve(page), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
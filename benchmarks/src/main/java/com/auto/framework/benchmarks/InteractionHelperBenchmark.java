@@ -0,0 +1,87 @@
+package com.auto.framework.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : JMH benchmarks of the public operations of InteractionHelper against the local fixture page.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Average time of the interaction utilities. {@code toScriptLocator} runs in the JVM
+ * only and is reported in nanoseconds; {@code scrollIntoView} includes its browser
+ * round trip.
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.actions.InteractionHelper
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class InteractionHelperBenchmark {
+
+    private static final By ROWS = By.cssSelector("#users tbody tr");
+
+    /**
+     * Element scrolled to by {@link #scrollIntoView(FrameworkState)}, found once per iteration.
+     */
+    private WebElement bottom;
+
+    /**
+     * Reloads the fixture page and finds the element to scroll to.
+     *
+     * @param framework The shared framework state
+     */
+    @Setup(Level.Iteration)
+    public void openPage(FrameworkState framework) {
+        framework.open(FrameworkState.ACTIONS_PAGE);
+        bottom = framework.context.getBean(WebDriver.class).findElement(By.id("bottom"));
+    }
+
+    /**
+     * Measures {@code toScriptLocator} of a CSS selector.
+     *
+     * @param framework The shared framework state
+     * @return The W3C locator
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Map<String, Object> toScriptLocator(FrameworkState framework) {
+        return framework.interactionHelper.toScriptLocator(ROWS);
+    }
+
+    /**
+     * Measures {@code scrollIntoView} of an element below the fold.
+     *
+     * @param framework The shared framework state
+     * @return The element
+     */
+    @Benchmark
+    public WebElement scrollIntoView(FrameworkState framework) {
+        return framework.interactionHelper.scrollIntoView(framework.context, bottom);
+    }
+}
@@ -0,0 +1,74 @@
+package com.auto.framework.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : JMH benchmarks of the public operations of JavaScriptHelper against the local fixture page.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Average time of the JavaScript-based interactions, including their browser round trips.
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.actions.JavaScriptHelper
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class JavaScriptHelperBenchmark {
+
+    private static final By BOTTOM = By.id("bottom");
+    private static final By TABLE = By.id("users");
+
+    /**
+     * Reloads the fixture page.
+     *
+     * @param framework The shared framework state
+     */
+    @Setup(Level.Iteration)
+    public void openPage(FrameworkState framework) {
+        framework.open(FrameworkState.ACTIONS_PAGE);
+    }
+
+    /**
+     * Measures the JavaScript {@code click} of a button below the fold.
+     *
+     * @param framework The shared framework state
+     */
+    @Benchmark
+    public void click(FrameworkState framework) {
+        framework.javaScriptOperations.click(BOTTOM);
+    }
+
+    /**
+     * Measures {@code scrollIntoView} of a table below the fold.
+     *
+     * @param framework The shared framework state
+     */
+    @Benchmark
+    public void scrollIntoView(FrameworkState framework) {
+        framework.javaScriptOperations.scrollIntoView(TABLE);
+    }
+}
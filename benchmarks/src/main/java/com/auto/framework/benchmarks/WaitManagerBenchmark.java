@@ -0,0 +1,79 @@
+package com.auto.framework.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import com.auto.framework.model.PageReadiness;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : JMH benchmarks of the public operations of WaitManager against the local fixture page.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Average time of explicit waits whose conditions already hold, i.e. the fixed cost a
+ * wait adds to every action.
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.actions.WaitManager
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class WaitManagerBenchmark {
+
+    private static final By SUBMIT = By.id("submit");
+    private static final PageReadiness TABLE_PRESENT = PageReadiness.elementPresent(By.id("users"));
+
+    /**
+     * Reloads the fixture page.
+     *
+     * @param framework The shared framework state
+     */
+    @Setup(Level.Iteration)
+    public void openPage(FrameworkState framework) {
+        framework.open(FrameworkState.ACTIONS_PAGE);
+    }
+
+    /**
+     * Measures {@code waitForElementToBeClickable} on a visible button.
+     *
+     * @param framework The shared framework state
+     * @return The clickable element
+     */
+    @Benchmark
+    public WebElement waitForElementToBeClickable(FrameworkState framework) {
+        return framework.waitOperations.waitForElementToBeClickable(SUBMIT);
+    }
+
+    /**
+     * Measures {@code waitForPageReady} on a page that is already ready.
+     *
+     * @param framework The shared framework state
+     */
+    @Benchmark
+    public void waitForPageReady(FrameworkState framework) {
+        framework.waitOperations.waitForPageReady(TABLE_PRESENT);
+    }
+}
@@ -0,0 +1,135 @@
+package com.auto.framework.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+
+import com.auto.framework.model.TableSnapshot;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : JMH benchmarks of the public operations of WebElementInteractor against the local fixture page.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Average time of the element interactions, including their browser round trips.
+ * The fixture page is reloaded before every iteration, so state left by the
+ * operations, such as typed text, does not build up across iterations.
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.actions.WebElementInteractor
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class WebElementInteractorBenchmark {
+
+    private static final By SUBMIT = By.id("submit");
+    private static final By USER_NAME = By.id("userName");
+    private static final By OPTIONS = By.cssSelector("#options .option");
+    private static final By TABLE = By.id("users");
+    private static final By TABLE_ROWS = By.cssSelector("#users tbody tr");
+    private static final By MENU = By.cssSelector("#menu > li");
+
+    /**
+     * Reloads the fixture page.
+     *
+     * @param framework The shared framework state
+     */
+    @Setup(Level.Iteration)
+    public void openPage(FrameworkState framework) {
+        framework.open(FrameworkState.ACTIONS_PAGE);
+    }
+
+    /**
+     * Measures {@code click} on a button.
+     *
+     * @param framework The shared framework state
+     */
+    @Benchmark
+    public void click(FrameworkState framework) {
+        framework.webElementInteraction.click(SUBMIT);
+    }
+
+    /**
+     * Measures {@code sendKeys} into a text field.
+     *
+     * @param framework The shared framework state
+     */
+    @Benchmark
+    public void sendKeys(FrameworkState framework) {
+        framework.webElementInteraction.sendKeys(USER_NAME, "Benchmark User");
+    }
+
+    /**
+     * Measures {@code searchAndClickByText} on a group of radio button labels.
+     *
+     * @param framework The shared framework state
+     */
+    @Benchmark
+    public void searchAndClickByText(FrameworkState framework) {
+        framework.webElementInteraction.searchAndClickByText(OPTIONS, "Impressive");
+    }
+
+    /**
+     * Measures {@code searchAndClickTableByText} typing into the input of a table row.
+     *
+     * @param framework The shared framework state
+     */
+    @Benchmark
+    public void searchAndClickTableByText(FrameworkState framework) {
+        framework.webElementInteraction.searchAndClickTableByText(TABLE_ROWS, "Alden", "x");
+    }
+
+    /**
+     * Measures {@code clickNestedMenus} through three menu levels.
+     *
+     * @param framework The shared framework state
+     */
+    @Benchmark
+    public void clickNestedMenus(FrameworkState framework) {
+        framework.webElementInteraction.clickNestedMenus(MENU, "li",
+                List.of("Forms", "Practice Form", "Student Registration"));
+    }
+
+    /**
+     * Measures {@code readTable} on a three-row table.
+     *
+     * @param framework The shared framework state
+     * @return The table snapshot
+     */
+    @Benchmark
+    public TableSnapshot readTable(FrameworkState framework) {
+        return framework.webElementInteraction.readTable(TABLE);
+    }
+
+    /**
+     * Measures {@code openURL} of the fixture page until its DOM is parsed.
+     *
+     * @param framework The shared framework state
+     */
+    @Benchmark
+    public void openURL(FrameworkState framework) {
+        framework.open(FrameworkState.ACTIONS_PAGE);
+    }
+}
@@ -0,0 +1,80 @@
+#!/usr/bin/env bash
+########################################################################################################################
+# @Author : Ravi Kukreja
+# @Description : Runs the suite split over several JVMs on this machine, balanced by the recorded test durations, and
+#                  collects the results of all shards in one Allure report.
+# @Version : 1.1
+########################################################################################################################
+#
+# Usage: ./run-shards.sh [shards] [maven options...]
+#
+#   ./run-shards.sh 4
+#   ./run-shards.sh 3 -DsuiteXmlFile=src/test/resources/Element-Tests.xml -Dmy.properties.browser=simulator
+#
+# Every shard is a 'mvn surefire:test' JVM with my.properties.shard-count and my.properties.shard-index set, so the
+# DurationAwareScheduler of each runs its own part of every test. The shards plan from a copy of
+# test-durations.properties taken before they start, so they agree on the split while they add this run's durations
+# to the file. Shards share allure-results; surefire reports, suite profiles and action metrics are kept per shard.
+# Each shard opens up to my.properties.session-pool-size browsers; lower it when the machine cannot run them all.
+# Each shard gets its own block of $DEBUG_PORTS_PER_JVM (default 100) Chrome remote-debugging ports from
+# $DEBUG_PORT_BASE (default 9222) on, since JVMs starting browsers at the same time cannot share a port range.
+
+set -uo pipefail
+
+SHARDS="${1:-2}"
+shift || true
+if ! [[ "$SHARDS" =~ ^[1-9][0-9]*$ ]]; then
+    echo "Usage: $0 [shards] [maven options...]" >&2
+    exit 2
+fi
+
+cd "$(dirname "$0")"
+DURATIONS="${TEST_DURATION_FILE:-test-durations.properties}"
+WORK="target/shards"
+BASE_PORT="${SHARD_BASE_PORT:-8081}"
+DEBUG_PORT_BASE="${DEBUG_PORT_BASE:-9222}"
+DEBUG_PORTS="${DEBUG_PORTS_PER_JVM:-100}"
+
+rm -rf "$WORK"
+mkdir -p "$WORK"
+mvn -B -q test-compile "$@" || exit $?
+if [[ -f "$DURATIONS" ]]; then
+    cp "$DURATIONS" "$WORK/plan-durations.properties"
+else
+    : > "$WORK/plan-durations.properties"
+fi
+
+pids=()
+for ((shard = 0; shard < SHARDS; shard++)); do
+    mvn -B surefire:test \
+        -Dmy.properties.shard-count="$SHARDS" \
+        -Dmy.properties.shard-index="$shard" \
+        -Dmy.properties.shard-durations-file="$WORK/plan-durations.properties" \
+        -Dmy.properties.test-duration-file="$DURATIONS" \
+        -Dmy.properties.suite-profile-dir="suite-profile/shard-$shard" \
+        -Dmy.properties.action-metrics-dir="target/action-metrics/shard-$shard" \
+        -Dmy.properties.benchmark-dir="target/benchmark/shard-$shard" \
+        -Dmy.properties.jfr-file="target/jfr/shard-$shard.jfr" \
+        -Dserver.port="$((BASE_PORT + shard))" \
+        -Dmy.properties.debug-port-from="$((DEBUG_PORT_BASE + shard * DEBUG_PORTS))" \
+        -Dmy.properties.debug-port-to="$((DEBUG_PORT_BASE + (shard + 1) * DEBUG_PORTS - 1))" \
+        -DsurefireReportsDirectory="target/surefire-reports/shard-$shard" \
+        -DtempDir="surefire-shard-$shard" \
+        "$@" > "$WORK/shard-$shard.log" 2>&1 &
+    pids+=("$!")
+    echo "Shard $((shard + 1)) of $SHARDS started, log in $WORK/shard-$shard.log"
+done
+
+status=0
+for ((shard = 0; shard < SHARDS; shard++)); do
+    if wait "${pids[$shard]}"; then
+        echo "Shard $((shard + 1)) of $SHARDS passed"
+    else
+        status=1
+        echo "Shard $((shard + 1)) of $SHARDS failed, see $WORK/shard-$shard.log"
+    fi
+    grep -h "Tests run:.*Fail" "$WORK/shard-$shard.log" | tail -n 1
+done
+
+echo "Results of all shards are in allure-results; run 'mvn allure:serve' for the merged report"
+exit $status
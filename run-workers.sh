@@ -0,0 +1,76 @@
+#!/usr/bin/env bash
+########################################################################################################################
+# @Author : Ravi Kukreja
+# @Description : Runs the suite on several worker JVMs of this machine that pull their tests from one work-stealing
+#                  coordinator, so no worker sits idle while tests are left.
+# @Version : 1.1
+########################################################################################################################
+#
+# Usage: ./run-workers.sh [workers] [JVM options...]
+#
+#   ./run-workers.sh 3
+#   SUITE=src/test/resources/Element-Tests.xml ./run-workers.sh 2 -Dmy.properties.browser=simulator
+#
+# Starts a WorkCoordinator serving the tests of $SUITE (default src/test/resources/Suites.xml) and the given number of
+# DistributedWorker JVMs. Every worker runs one test at a time and pulls the next one as soon as it is done; the
+# tests of a worker that stops sending heartbeats go to the others. The JVM options are
+# passed to the coordinator and to every worker. Workers share allure-results and test-durations.properties; suite
+# profiles and action metrics are kept per worker. The coordinator listens on loopback only; to let workers on other
+# machines join, pass -Dmy.properties.coordinator-bind-address=0.0.0.0 -Dmy.properties.coordinator-token=<secret> and
+# run DistributedWorker there with the same token and -Dmy.properties.coordinator-url=http://<this host>:8090.
+# Each worker gets its own block of $DEBUG_PORTS_PER_JVM
+# (default 100) Chrome remote-debugging ports from $DEBUG_PORT_BASE (default 9222) on, since JVMs starting browsers at
+# the same time cannot share a port range.
+
+set -uo pipefail
+
+WORKERS="${1:-2}"
+shift || true
+if ! [[ "$WORKERS" =~ ^[1-9][0-9]*$ ]]; then
+    echo "Usage: $0 [workers] [JVM options...]" >&2
+    exit 2
+fi
+
+cd "$(dirname "$0")"
+SUITE="${SUITE:-src/test/resources/Suites.xml}"
+WORK="target/workers"
+BASE_PORT="${WORKER_BASE_PORT:-8081}"
+DEBUG_PORT_BASE="${DEBUG_PORT_BASE:-9222}"
+DEBUG_PORTS="${DEBUG_PORTS_PER_JVM:-100}"
+
+rm -rf "$WORK"
+mkdir -p "$WORK"
+mvn -B -q test-compile dependency:build-classpath -Dmdep.outputFile="$WORK/classpath.txt" \
+    -Dmdep.includeScope=test || exit $?
+CLASSPATH="target/test-classes:target/classes:$(cat "$WORK/classpath.txt")"
+ASPECTJ_VERSION="$(sed -n 's:.*<aspectj.version>\(.*\)</aspectj.version>.*:\1:p' pom.xml)"
+AGENT="${M2_REPO:-$HOME/.m2/repository}/org/aspectj/aspectjweaver/$ASPECTJ_VERSION/aspectjweaver-$ASPECTJ_VERSION.jar"
+
+java -cp "$CLASSPATH" "$@" com.auto.framework.distributed.WorkCoordinator "$SUITE" > "$WORK/coordinator.log" 2>&1 &
+coordinator=$!
+echo "Coordinator started, log in $WORK/coordinator.log"
+
+workers=()
+for ((worker = 0; worker < WORKERS; worker++)); do
+    java -javaagent:"$AGENT" --add-opens java.base/java.lang=ALL-UNNAMED -cp "$CLASSPATH" \
+        -Dmy.properties.suite-profile-dir="suite-profile/worker-$worker" \
+        -Dmy.properties.action-metrics-dir="target/action-metrics/worker-$worker" \
+        -Dmy.properties.benchmark-dir="target/benchmark/worker-$worker" \
+        -Dmy.properties.jfr-file="target/jfr/worker-$worker.jfr" \
+        -Dserver.port="$((BASE_PORT + worker))" \
+        -Dmy.properties.debug-port-from="$((DEBUG_PORT_BASE + worker * DEBUG_PORTS))" \
+        -Dmy.properties.debug-port-to="$((DEBUG_PORT_BASE + (worker + 1) * DEBUG_PORTS - 1))" \
+        "$@" com.auto.framework.distributed.DistributedWorker > "$WORK/worker-$worker.log" 2>&1 &
+    workers+=("$!")
+    echo "Worker $((worker + 1)) of $WORKERS started, log in $WORK/worker-$worker.log"
+done
+
+wait "$coordinator"
+status=$?
+for pid in "${workers[@]}"; do
+    wait "$pid"
+done
+
+grep -h "tests finished\|Worker .* ran" "$WORK/coordinator.log"
+echo "Results of all workers are in allure-results; run 'mvn allure:serve' for the merged report"
+exit $status
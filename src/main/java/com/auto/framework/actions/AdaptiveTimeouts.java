@@ -0,0 +1,318 @@
+package com.auto.framework.actions;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import org.openqa.selenium.By;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.auto.framework.config.FrameworkProperties;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Learns a wait timeout per locator and page from the readiness times recorded in earlier waits,
+ *                  so that a missing element fails fast while slow but healthy elements still get enough time.
+ *                  The history is kept in a local properties file between runs, which several JVMs can
+ *                  record into.
+ * @Version : 1.1
+ ************************************************************************************************************************/
+
+/**
+ * Adaptive timeouts for the explicit waits of {@link WaitManager}.
+ *
+ * <p>Every successful in-browser wait records how long the element took to become ready, keyed by
+ * page path and locator. Once a key has {@code my.properties.adaptive-timeout-min-samples}
+ * records, its timeout is the 99th percentile readiness time multiplied by
+ * {@code my.properties.adaptive-timeout-factor}, bounded below by
+ * {@code my.properties.adaptive-timeout-min} and above by the explicit timeout. Keys
+ * without enough history use the explicit timeout. Waits that time out are not recorded,
+ * so a broken locator never raises its own timeout.</p>
+ *
+ * <p>The most recent {@value #MAX_SAMPLES} readiness times per key are loaded from
+ * {@code my.properties.wait-history-file} at startup and saved when the context closes.
+ * The file is shared by the JVMs of sharded and distributed runs: when saving, a JVM locks
+ * the file, reads it again and adds only the readiness times it recorded, so concurrent
+ * JVMs do not overwrite each other's samples.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.1
+ * @since 1.3
+ * @see com.auto.framework.actions.WaitManager
+ */
+@Slf4j
+@Component
+public class AdaptiveTimeouts {
+
+    /**
+     * Number of readiness times kept per key.
+     */
+    static final int MAX_SAMPLES = 200;
+
+    /**
+     * Separator between page path and locator in history keys.
+     */
+    private static final String KEY_SEPARATOR = " | ";
+
+    /**
+     * Serializes the saves of this JVM, which the file lock does not: it is held per JVM.
+     */
+    private static final Object SAVE_LOCK = new Object();
+
+    @Autowired
+    public FrameworkProperties frameworkProperties;
+
+    /**
+     * Recent readiness times in milliseconds, oldest first, keyed by page and locator.
+     */
+    private final Map<String, Deque<Long>> history = new ConcurrentHashMap<>();
+
+    /**
+     * Readiness times recorded in this run and not saved yet, keyed by page and locator.
+     * Replaced by an empty map when saved.
+     */
+    private Map<String, Deque<Long>> recorded = new ConcurrentHashMap<>();
+
+    /**
+     * Guards {@code recorded}: recording holds the read lock, so that threads record concurrently,
+     * and saving holds the write lock to take the map, so that no sample is added to a map
+     * that was already taken.
+     */
+    private final ReadWriteLock recordedLock = new ReentrantReadWriteLock();
+
+    /**
+     * Returns the timeout to use for the locator on the given page.
+     *
+     * @param page The path of the current page
+     * @param by The locator that is waited for
+     * @return The adaptive timeout, or the explicit timeout if the key has too little history
+     */
+    public Duration timeoutFor(String page, By by) {
+        Duration explicitTimeout = frameworkProperties.getExplicitTimeout();
+        if (!frameworkProperties.isAdaptiveTimeouts()) {
+            return explicitTimeout;
+        }
+        Deque<Long> samples = history.get(key(page, by));
+        if (samples == null) {
+            return explicitTimeout;
+        }
+        long[] sorted;
+        synchronized (samples) {
+            if (samples.size() < frameworkProperties.getAdaptiveTimeoutMinSamples()) {
+                return explicitTimeout;
+            }
+            sorted = samples.stream().mapToLong(Long::longValue).sorted().toArray();
+        }
+        long p99 = sorted[(int) Math.ceil(sorted.length * 0.99) - 1];
+        long adaptive = (long) Math.ceil(p99 * frameworkProperties.getAdaptiveTimeoutFactor());
+        long min = frameworkProperties.getAdaptiveTimeoutMin().toMillis();
+        return Duration.ofMillis(Math.min(Math.max(adaptive, min), explicitTimeout.toMillis()));
+    }
+
+    /**
+     * Returns the timeouts of the locator on every page it has history for. Used by the
+     * in-browser wait, which picks the timeout for the page it is running on.
+     *
+     * @param by The locator that is waited for
+     * @return Map of page path to timeout in milliseconds, only for pages whose timeout is adapted
+     */
+    public Map<String, Long> timeoutsByPage(By by) {
+        Map<String, Long> timeouts = new HashMap<>();
+        if (!frameworkProperties.isAdaptiveTimeouts()) {
+            return timeouts;
+        }
+        String suffix = KEY_SEPARATOR + by;
+        long explicitTimeout = frameworkProperties.getExplicitTimeout().toMillis();
+        history.keySet().stream().filter(key -> key.endsWith(suffix)).forEach(key -> {
+            String page = key.substring(0, key.length() - suffix.length());
+            long timeout = timeoutFor(page, by).toMillis();
+            if (timeout < explicitTimeout) {
+                timeouts.put(page, timeout);
+            }
+        });
+        return timeouts;
+    }
+
+    /**
+     * Records the readiness time of a successful wait.
+     *
+     * @param page The path of the page the element was found on
+     * @param by The locator that was waited for
+     * @param readinessMillis Time the element took to become ready, in milliseconds
+     */
+    public void record(String page, By by, long readinessMillis) {
+        String key = key(page, by);
+        add(history, key, readinessMillis);
+        recordedLock.readLock().lock();
+        try {
+            add(recorded, key, readinessMillis);
+        } finally {
+            recordedLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a readiness time to the samples of a key, dropping the oldest beyond {@value #MAX_SAMPLES}.
+     *
+     * @param readinessTimes Readiness times keyed by page and locator
+     * @param key The history key
+     * @param readinessMillis The readiness time in milliseconds
+     */
+    private static void add(Map<String, Deque<Long>> readinessTimes, String key, long readinessMillis) {
+        Deque<Long> samples = readinessTimes.computeIfAbsent(key, k -> new ArrayDeque<>());
+        synchronized (samples) {
+            samples.addLast(readinessMillis);
+            if (samples.size() > MAX_SAMPLES) {
+                samples.removeFirst();
+            }
+        }
+    }
+
+    /**
+     * Loads the readiness history file, if it exists.
+     */
+    @PostConstruct
+    public void load() {
+        Path file = Path.of(frameworkProperties.getWaitHistoryFile()).toAbsolutePath();
+        history.putAll(read(file));
+        if (!history.isEmpty()) {
+            log.info("Loaded wait history for {} locators from {}", history.size(), file);
+        }
+    }
+
+    /**
+     * Reads a readiness history file.
+     *
+     * @param file The properties file
+     * @return Readiness times keyed by page and locator, empty if the file does not exist or cannot be read
+     */
+    private static Map<String, Deque<Long>> read(Path file) {
+        Map<String, Deque<Long>> readinessTimes = new HashMap<>();
+        if (!Files.isReadable(file)) {
+            return readinessTimes;
+        }
+        Properties stored = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            stored.load(reader);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Ignoring unreadable wait history {}: {}", file, e.getMessage());
+            return readinessTimes;
+        }
+        stored.stringPropertyNames().forEach(key -> {
+            try {
+                Deque<Long> samples = Arrays.stream(stored.getProperty(key).split(",")).map(String::trim)
+                        .filter(value -> !value.isEmpty()).map(Long::valueOf)
+                        .collect(Collectors.toCollection(ArrayDeque::new));
+                while (samples.size() > MAX_SAMPLES) {
+                    samples.removeFirst();
+                }
+                readinessTimes.put(key, samples);
+            } catch (NumberFormatException e) {
+                log.warn("Ignoring wait history entry [{}]: {}", key, e.getMessage());
+            }
+        });
+        return readinessTimes;
+    }
+
+    /**
+     * Adds the readiness times recorded since the last save to the history file. The file is
+     * locked while it is read and rewritten, and replaced atomically where the file system
+     * supports it, so a concurrent reader never sees a partial file.
+     */
+    @PreDestroy
+    public void save() {
+        Map<String, Deque<Long>> unsaved;
+        recordedLock.writeLock().lock();
+        try {
+            unsaved = recorded;
+            recorded = new ConcurrentHashMap<>();
+        } finally {
+            recordedLock.writeLock().unlock();
+        }
+        if (unsaved.isEmpty()) {
+            return;
+        }
+        Path file = Path.of(frameworkProperties.getWaitHistoryFile()).toAbsolutePath();
+        Path lock = file.resolveSibling(file.getFileName() + ".lock");
+        try {
+            Files.createDirectories(file.getParent());
+            synchronized (SAVE_LOCK) {
+                try (FileChannel channel = FileChannel.open(lock, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE)) {
+                    // released when the channel is closed
+                    channel.lock();
+                    Map<String, Deque<Long>> merged = read(file);
+                    unsaved.forEach((key, samples) -> {
+                        Deque<Long> mergedSamples = merged.computeIfAbsent(key, k -> new ArrayDeque<>());
+                        mergedSamples.addAll(samples);
+                        while (mergedSamples.size() > MAX_SAMPLES) {
+                            mergedSamples.removeFirst();
+                        }
+                    });
+                    write(file, merged);
+                    log.info("Saved wait history for {} locators to {}", unsaved.size(), file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not save wait history to {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Replaces the history file. The temporary file is deleted if it cannot be moved into place.
+     *
+     * @param file The properties file
+     * @param readinessTimes Readiness times keyed by page and locator
+     * @throws IOException if the file cannot be written
+     */
+    private static void write(Path file, Map<String, Deque<Long>> readinessTimes) throws IOException {
+        Properties stored = new Properties();
+        readinessTimes.forEach((key, samples) -> stored.setProperty(key,
+                samples.stream().map(String::valueOf).collect(Collectors.joining(","))));
+        Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(temp)) {
+                stored.store(writer, "Readiness times in ms per page and locator, oldest first");
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Builds the history key of a locator on a page.
+     *
+     * @param page The page path
+     * @param by The locator
+     * @return The history key
+     */
+    private static String key(String page, By by) {
+        return page + KEY_SEPARATOR + by;
+    }
+}
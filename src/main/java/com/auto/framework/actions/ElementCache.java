@@ -0,0 +1,80 @@
+package com.auto.framework.actions;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.springframework.context.annotation.Scope;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Per-session cache of resolved web elements keyed by locator. Lets an action reuse the element
+ *                  found by its clickable wait instead of resolving the same locator again for every step.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Cache of resolved {@link WebElement}s for the current browser session, keyed by {@link By}.
+ *
+ * <p>The cache lives in the 'driverscope', so every test thread has its own instance
+ * that is discarded together with the browser session. Entries belong to the page that
+ * was loaded when they were resolved: the cache is cleared on navigation, and an entry
+ * is dropped as soon as its element turns out to be stale.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.actions.WebElementInteractor
+ */
+@Slf4j
+@Component
+@Scope("driverscope")
+public class ElementCache {
+
+    /**
+     * Elements resolved on the current page, keyed by locator.
+     */
+    private final Map<By, WebElement> elements = new HashMap<>();
+
+    /**
+     * Returns the cached element for the locator.
+     *
+     * @param by The locator the element was resolved with
+     * @return The cached element, or null if the locator has not been resolved on the current page
+     */
+    public WebElement get(By by) {
+        return elements.get(by);
+    }
+
+    /**
+     * Caches the element resolved for the locator.
+     *
+     * @param by The locator the element was resolved with
+     * @param element The resolved element
+     */
+    public void put(By by, WebElement element) {
+        elements.put(by, element);
+    }
+
+    /**
+     * Drops the cached element for the locator, e.g. after a StaleElementReferenceException.
+     *
+     * @param by The locator to invalidate
+     */
+    public void invalidate(By by) {
+        if (elements.remove(by) != null) {
+            log.debug("Invalidated cached element for {}", by);
+        }
+    }
+
+    /**
+     * Drops all cached elements, e.g. after navigating to another page.
+     */
+    public void clear() {
+        elements.clear();
+    }
+}
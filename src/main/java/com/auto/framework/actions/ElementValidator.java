@@ -1,9 +1,21 @@
 package com.auto.framework.actions;
 
+import static com.auto.framework.constants.JavaScripts.ELEMENT_SNAPSHOT;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
 import org.springframework.stereotype.Component;
 
 import com.auto.framework.interfaces.IElementValidator;
+import com.auto.framework.model.ElementSnapshot;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -12,7 +24,7 @@ import lombok.extern.slf4j.Slf4j;
  * @Description : Element validator implementation providing methods to retrieve page titles
  *                  and element text content. This class extends BaseAction and implements IElementValidator
  *                  interface to provide comprehensive element verification capabilities for test automation.
- * @Version : 1.2
+ * @Version : 1.3
  ************************************************************************************************************************/
 
 /**
@@ -20,10 +32,12 @@ import lombok.extern.slf4j.Slf4j;
  * This class provides methods to retrieve page titles and element text content,
  * with comprehensive logging for debugging and test reporting purposes.
  * 
- * <p>All methods include debug logging to track verification operations during test execution.</p>
+ * <p>All methods include debug logging to track verification operations during test execution.
+ * Bulk methods resolve all locators and read all values inside the browser with a single
+ * JavaScript call.</p>
  * 
  * @author Ravi Kukreja
- * @version 1.2
+ * @version 1.3
  * @since 1.0
  * @see com.auto.framework.interfaces.IElementValidator
  * @see org.openqa.selenium.WebDriver
@@ -60,5 +74,102 @@ public class ElementValidator extends BaseAction implements IElementValidator {
         return text;
     }
 
+    /**
+     * Reads the text and the given attributes of several elements with one JavaScript call.
+     * Text is read from {@code innerText}, trimmed, which matches WebElement.getText()
+     * for rendered elements. If a locator cannot be evaluated in the browser (e.g. a
+     * relative locator) the elements are read one by one instead.
+     * 
+     * @param locators Locators keyed by a caller-chosen name; iteration order is preserved in the result
+     * @param attributeNames Names of the DOM attributes to read from every element
+     * @return Snapshot of each element keyed by the same names as the locators
+     * 
+     * @throws org.openqa.selenium.NoSuchElementException if any of the elements is not found
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, ElementSnapshot> getSnapshots(Map<String, By> locators, String... attributeNames) {
+        Map<String, Object> scriptLocators = new LinkedHashMap<>();
+        try {
+            locators.forEach((key, by) -> scriptLocators.put(key, interactionHelper.toScriptLocator(by)));
+        } catch (IllegalArgumentException e) {
+            log.debug("{}; reading elements one by one", e.getMessage());
+            return readSnapshots(locators, attributeNames);
+        }
+        JavascriptExecutor executor = (JavascriptExecutor) applicationContext.getBean(WebDriver.class);
+        Map<String, Map<String, Object>> result = (Map<String, Map<String, Object>>) executor
+                .executeScript(ELEMENT_SNAPSHOT, scriptLocators, List.of(attributeNames));
+
+        Map<String, ElementSnapshot> snapshots = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        locators.forEach((key, by) -> {
+            Map<String, Object> element = result.get(key);
+            if (element == null) {
+                missing.add(key + "=" + by);
+            } else {
+                snapshots.put(key, new ElementSnapshot((String) element.get("text"),
+                        (Map<String, String>) element.get("attributes")));
+            }
+        });
+        if (!missing.isEmpty()) {
+            throw new NoSuchElementException("No elements found for " + missing);
+        }
+        log.debug("Snapshot Values: {}", snapshots);
+        return snapshots;
+    }
+
+    /**
+     * Retrieves the text content of several elements with one JavaScript call.
+     * 
+     * @param locators Locators keyed by a caller-chosen name
+     * @return The text content of each element keyed by the same names as the locators
+     * 
+     * @throws org.openqa.selenium.NoSuchElementException if any of the elements is not found
+     */
+    @Override
+    public Map<String, String> getTexts(Map<String, By> locators) {
+        Map<String, String> texts = new LinkedHashMap<>();
+        getSnapshots(locators).forEach((key, snapshot) -> texts.put(key, snapshot.getText()));
+        return texts;
+    }
+
+    /**
+     * Retrieves the text content of several elements with one JavaScript call.
+     * 
+     * @param locators The locators of the elements
+     * @return The text content of each element, in the order of the locators
+     * 
+     * @throws org.openqa.selenium.NoSuchElementException if any of the elements is not found
+     */
+    @Override
+    public List<String> getTexts(List<By> locators) {
+        Map<String, By> keyed = new LinkedHashMap<>();
+        for (int i = 0; i < locators.size(); i++) {
+            keyed.put(String.valueOf(i), locators.get(i));
+        }
+        return new ArrayList<>(getTexts(keyed).values());
+    }
+
+    /**
+     * Reads element snapshots through individual WebDriver calls.
+     * Used when a locator cannot be evaluated inside the browser.
+     * 
+     * @param locators Locators keyed by a caller-chosen name
+     * @param attributeNames Names of the DOM attributes to read from every element
+     * @return Snapshot of each element keyed by the same names as the locators
+     */
+    private Map<String, ElementSnapshot> readSnapshots(Map<String, By> locators, String... attributeNames) {
+        Map<String, ElementSnapshot> snapshots = new LinkedHashMap<>();
+        locators.forEach((key, by) -> {
+            WebElement element = driver.findElement(by);
+            Map<String, String> attributes = new LinkedHashMap<>();
+            for (String name : attributeNames) {
+                attributes.put(name, element.getDomAttribute(name));
+            }
+            snapshots.put(key, new ElementSnapshot(element.getText(), attributes));
+        });
+        return snapshots;
+    }
+
 
 }
@@ -1,8 +1,12 @@
 package com.auto.framework.actions;
 
+import java.util.Map;
+import java.util.Set;
+
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.springframework.context.ApplicationContext;
@@ -13,7 +17,7 @@ import org.springframework.stereotype.Component;
  * @Description : Interaction helper class for UI action classes providing utility methods for common web interactions.
  *                  This class contains scroll helper functionality and other utility methods that support
  *                  UI automation operations throughout the framework.
- * @Version : 1.2
+ * @Version : 1.3
  ************************************************************************************************************************/
 
 /**
@@ -21,20 +25,28 @@ import org.springframework.stereotype.Component;
  * This class is Spring-managed and can be injected into other components.
  * 
  * @author Ravi Kukreja
- * @version 1.2
+ * @version 1.3
  * @since 1.0
  */
 @Component
 public class InteractionHelper {
 
+    /**
+     * W3C locator strategies supported by the in-browser locator functions.
+     */
+    private static final Set<String> SCRIPT_LOCATOR_STRATEGIES = Set.of("css selector", "xpath", "tag name",
+            "link text", "partial link text");
+
     /**
      * Scrolls the specified element into view to ensure it's visible on the page.
-     * This method waits for the element to be clickable before scrolling.
+     * This method waits for the element to be clickable before scrolling and reuses
+     * the element returned by the wait, so the locator is resolved only once.
      * 
      * @param driver The WebDriver instance used to find and interact with elements
      * @param webDriverWait The WebDriverWait instance for explicit waiting
      * @param applicationContext The Spring application context for bean injection
      * @param by The locator strategy used to find the element to scroll to
+     * @return The clickable element that was scrolled into view
      * 
      * @throws org.openqa.selenium.TimeoutException if the element is not clickable within the wait timeout
      * @throws org.openqa.selenium.NoSuchElementException if the element cannot be found
@@ -42,11 +54,46 @@ public class InteractionHelper {
      * @see org.openqa.selenium.JavascriptExecutor
      * @see org.openqa.selenium.support.ui.ExpectedConditions
      */
-    public void scrollHelper(WebDriver driver, WebDriverWait webDriverWait, ApplicationContext applicationContext,
+    public WebElement scrollHelper(WebDriver driver, WebDriverWait webDriverWait, ApplicationContext applicationContext,
             By by) {
-        webDriverWait.until(ExpectedConditions.elementToBeClickable(by));
+        WebElement element = webDriverWait.until(ExpectedConditions.elementToBeClickable(by));
+        scrollIntoView(applicationContext, element);
+        return element;
+    }
+
+    /**
+     * Scrolls an already resolved element into view.
+     * 
+     * @param applicationContext The Spring application context for bean injection
+     * @param element The element to scroll to
+     * @return The same element, for chaining
+     * 
+     * @throws org.openqa.selenium.StaleElementReferenceException if the element is no longer attached to the page
+     */
+    public WebElement scrollIntoView(ApplicationContext applicationContext, WebElement element) {
         ((JavascriptExecutor) applicationContext.getBean(WebDriver.class))
-                .executeScript("arguments[0].scrollIntoView(true);", driver.findElement(by));
+                .executeScript("arguments[0].scrollIntoView(true);", element);
+        return element;
+    }
+
+    /**
+     * Converts a locator into the {@code {using, value}} form understood by the scripts in
+     * {@link com.auto.framework.constants.JavaScripts}.
+     * 
+     * @param by The locator to convert
+     * @return Map with the W3C locator strategy under "using" and the selector under "value"
+     * 
+     * @throws IllegalArgumentException if the locator cannot be evaluated inside the browser,
+     *         e.g. chained or relative locators
+     */
+    public Map<String, Object> toScriptLocator(By by) {
+        if (by instanceof By.Remotable remotable) {
+            By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+            if (SCRIPT_LOCATOR_STRATEGIES.contains(parameters.using())) {
+                return Map.of("using", parameters.using(), "value", parameters.value());
+            }
+        }
+        throw new IllegalArgumentException("Locator cannot be evaluated in the browser: " + by);
     }
 
 }
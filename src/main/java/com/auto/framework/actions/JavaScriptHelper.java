@@ -4,10 +4,11 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import com.auto.framework.interfaces.JavaScriptOperations;
+import com.auto.framework.interfaces.WaitOperations;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -16,7 +17,7 @@ import lombok.extern.slf4j.Slf4j;
  * @Description : JavaScript helper implementation class providing JavaScript-based interactions
  *                  with web elements. This class extends BaseAction and implements JavaScriptOperations interface
  *                  to offer alternative interaction methods when standard Selenium actions are insufficient.
- * @Version : 1.2
+ * @Version : 1.3
  ************************************************************************************************************************/
 
 /**
@@ -29,7 +30,7 @@ import lombok.extern.slf4j.Slf4j;
  * that are obscured or have complex event handlers.</p>
  * 
  * @author Ravi Kukreja
- * @version 1.2
+ * @version 1.3
  * @since 1.0
  * @see com.auto.framework.interfaces.JavaScriptOperations
  * @see org.openqa.selenium.JavascriptExecutor
@@ -39,6 +40,12 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 public class JavaScriptHelper extends BaseAction implements JavaScriptOperations {
 
+    /**
+     * Explicit waits used before every JavaScript interaction.
+     */
+    @Autowired
+    public WaitOperations waitOperations;
+
     /**
      * Scrolls the specified element into view using JavaScript.
      * This method waits for the element to be clickable before scrolling.
@@ -50,12 +57,7 @@ public class JavaScriptHelper extends BaseAction implements JavaScriptOperations
      */
     @Override
     public void scrollIntoView(By by) {
-        webDriverWait.until(ExpectedConditions.elementToBeClickable(by));
-        log.debug("Test {}", driver.getTitle());
-        ((JavascriptExecutor) applicationContext.getBean(WebDriver.class))
-                .executeScript("arguments[0].scrollIntoView(true);", driver.findElement(by));
-
-        log.debug("Scrolled into View..");
+        scrollToClickable(by);
     }
 
     /**
@@ -69,12 +71,27 @@ public class JavaScriptHelper extends BaseAction implements JavaScriptOperations
      */
     @Override
     public void click(By by) {
-        scrollIntoView(by);
-        WebElement element = driver.findElement(by);
+        WebElement element = scrollToClickable(by);
         ((JavascriptExecutor) applicationContext.getBean(WebDriver.class)).executeScript("arguments[0].click();",
                 element);
 
         log.debug("Clicked on Link..");
 
     }
+
+    /**
+     * Waits for the element to be clickable and scrolls it into view with JavaScript.
+     * The element returned by the wait is reused, so the locator is resolved only once.
+     * 
+     * @param by The locator strategy used to find the element
+     * @return The clickable element
+     */
+    private WebElement scrollToClickable(By by) {
+        WebElement element = waitOperations.waitForElementToBeClickable(by);
+        ((JavascriptExecutor) applicationContext.getBean(WebDriver.class))
+                .executeScript("arguments[0].scrollIntoView(true);", element);
+
+        log.debug("Scrolled into View..");
+        return element;
+    }
 }
@@ -1,51 +1,334 @@
 package com.auto.framework.actions;
 
+import static com.auto.framework.constants.JavaScripts.WAIT_FOR_CLICKABLE;
+import static com.auto.framework.constants.JavaScripts.WAIT_FOR_PAGE_READY;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import com.auto.framework.interfaces.WaitOperations;
+import com.auto.framework.jfr.WaitEvent;
+import com.auto.framework.model.PageReadiness;
+import com.auto.framework.profiler.Phase;
+import com.auto.framework.profiler.SuiteProfiler;
+
+import lombok.extern.slf4j.Slf4j;
 
 /************************************************************************************************************************
  * @Author : Ravi Kukreja
  * @Description : Wait manager implementation class providing methods for waiting until elements are in
  *                  specific states before proceeding with test actions. This class extends BaseAction and
  *                  implements WaitOperations interface to provide robust wait mechanisms for test automation.
- * @Version : 1.2
+ *                  Waits are event-driven by default, with WebDriverWait polling as the fallback, and use
+ *                  timeouts learned per locator and page. Page readiness after navigation is detected in the
+ *                  browser from conditions declared by the page objects. Every wait is a Java Flight Recorder
+ *                  event.
+ * @Version : 1.6
  ************************************************************************************************************************/
 
 /**
  * Implementation of explicit wait methods for web automation testing.
  * This class provides methods to wait for elements to reach specific states
  * before performing actions, ensuring reliable test execution.
- * 
+ *
  * <p>Explicit waits are used to handle dynamic web pages where elements may
  * take time to load or become interactive.</p>
- * 
+ *
+ * <p>With {@code my.properties.event-driven-waits=true} the condition is watched inside
+ * the browser by a MutationObserver in an asynchronous script, which returns as soon as
+ * the element is ready. The result is confirmed with Selenium's own clickable check; if
+ * the script cannot run or the check disagrees, the wait falls back to WebDriverWait
+ * polling at {@code my.properties.polling-interval}.</p>
+ *
+ * <p>The timeout of each wait comes from {@link AdaptiveTimeouts}: locators with enough
+ * recorded history on the current page fail as soon as they are clearly later than usual,
+ * all others wait up to the explicit timeout. Only readiness times measured in the browser
+ * are recorded; a polled wait's time is rounded up to the polling interval.</p>
+ *
+ * <p>{@link #waitForPageReady(PageReadiness)} watches a page's readiness condition in the
+ * same way. With the {@code none} page-load strategy the check can start before the new
+ * document replaced the previous one; such checks are detected and repeated.</p>
+ *
+ * <p>Every wait is recorded as a {@link WaitEvent} of the Java Flight Recorder, with its
+ * mode, the page and, for in-browser waits, the readiness time.</p>
+ *
  * @author Ravi Kukreja
- * @version 1.2
+ * @version 1.6
  * @since 1.0
  * @see com.auto.framework.interfaces.WaitOperations
  * @see org.openqa.selenium.support.ui.ExpectedConditions
  * @see org.openqa.selenium.support.ui.WebDriverWait
  */
+@Slf4j
 @Component
 public class WaitManager extends BaseAction implements WaitOperations {
 
+    /**
+     * Pause before a page readiness check that ran on the previous document is repeated.
+     */
+    private static final Duration READINESS_RETRY_PAUSE = Duration.ofMillis(50);
+
+    /**
+     * Collector of wait and readiness times.
+     */
+    @Autowired
+    public WaitStatistics waitStatistics;
+
+    /**
+     * Timeouts learned from the readiness history of each locator.
+     */
+    @Autowired
+    public AdaptiveTimeouts adaptiveTimeouts;
+
     /**
      * Waits for an element to be clickable before proceeding.
-     * This method polls the DOM until the element is both visible and enabled.
-     * 
+     * The element must be both visible and enabled.
+     *
      * @param by The locator strategy used to find the element
      * @return The WebElement that is clickable
-     * 
+     *
      * @throws org.openqa.selenium.TimeoutException if the element is not clickable within the timeout period
      * @throws org.openqa.selenium.NoSuchElementException if the element is not found
      */
     @Override
     public WebElement waitForElementToBeClickable(By by) {
-        return webDriverWait.until(ExpectedConditions.elementToBeClickable(by));
+        WaitEvent event = WaitEvent.begin(WaitEvent.POLLING, by);
+        SuiteProfiler.Span span = SuiteProfiler.enter(Phase.WAIT);
+        long start = System.nanoTime();
+        try {
+            if (frameworkProperties.isEventDrivenWaits()) {
+                BrowserWait browserWait = awaitClickableInBrowser(by);
+                if (browserWait != null) {
+                    waitStatistics.record(by, System.nanoTime() - start, browserWait.readinessNanos());
+                    if (browserWait.readinessNanos() >= 0) {
+                        adaptiveTimeouts.record(browserWait.page(), by, browserWait.readinessNanos() / 1_000_000);
+                        event.readiness = browserWait.readinessNanos();
+                    }
+                    event.mode = WaitEvent.EVENT_DRIVEN;
+                    event.page = browserWait.page();
+                    return browserWait.element();
+                }
+            }
+            Duration timeout = frameworkProperties.getExplicitTimeout();
+            if (frameworkProperties.isAdaptiveTimeouts()) {
+                String page = currentPage();
+                event.page = page;
+                timeout = adaptiveTimeouts.timeoutFor(page, by);
+            }
+            WebElement element = pollingWait(timeout).until(ExpectedConditions.elementToBeClickable(by));
+            waitStatistics.record(by, System.nanoTime() - start, -1);
+            return element;
+        } finally {
+            span.exit();
+            event.commit();
+        }
+    }
+
+    /**
+     * Waits for an element to be present in the DOM by polling it with the explicit timeout.
+     * The check runs at once, so an element that is already present costs a single lookup.
+     *
+     * @param by The locator strategy used to find the element
+     * @return The WebElement once present
+     *
+     * @throws org.openqa.selenium.TimeoutException if the element is not present within the explicit timeout
+     */
+    @Override
+    public WebElement waitForElementToBePresent(By by) {
+        WaitEvent event = WaitEvent.begin(WaitEvent.POLLING, by);
+        SuiteProfiler.Span span = SuiteProfiler.enter(Phase.WAIT);
+        try {
+            return webDriverWait.until(ExpectedConditions.presenceOfElementLocated(by));
+        } finally {
+            span.exit();
+            event.commit();
+        }
+    }
+
+    /**
+     * Waits until a newly opened page satisfies its declared readiness condition.
+     * Checks that ran on the previous document, or were cut short because the document
+     * was replaced while they ran, are repeated until the explicit timeout elapses.
+     *
+     * @param readiness The condition declared by the page object
+     *
+     * @throws org.openqa.selenium.TimeoutException if the condition does not hold within the explicit timeout
+     * @throws IllegalArgumentException if a locator of the condition cannot be evaluated in the browser
+     */
+    @Override
+    public void waitForPageReady(PageReadiness readiness) {
+        String script = readiness.getScripts().stream().map(expression -> "function () { return (" + expression
+                + "); }").collect(Collectors.joining(", ", "var predicates = [", "];\n")) + WAIT_FOR_PAGE_READY;
+        List<Map<String, Object>> locators = readiness.getElements().stream().map(interactionHelper::toScriptLocator)
+                .toList();
+        long quiet = readiness.getNetworkIdle() == null ? 0 : readiness.getNetworkIdle().toMillis();
+        WaitEvent event = WaitEvent.begin(WaitEvent.PAGE_READY, readiness);
+        SuiteProfiler.Span span = SuiteProfiler.enter(Phase.WAIT);
+        try {
+            awaitPageReady(readiness, script, locators, quiet, event);
+        } finally {
+            span.exit();
+            event.commit();
+        }
+    }
+
+    /**
+     * Runs the page readiness check until it holds on the new document.
+     *
+     * @param readiness The condition declared by the page object
+     * @param script The readiness script with the condition's predicates
+     * @param locators The script locators of the elements that must be present
+     * @param quiet The network quiet period in milliseconds
+     * @param event The flight recorder event of the wait, receiving the readiness time
+     *
+     * @throws org.openqa.selenium.TimeoutException if the condition does not hold within the explicit timeout
+     */
+    @SuppressWarnings("unchecked")
+    private void awaitPageReady(PageReadiness readiness, String script, List<Map<String, Object>> locators,
+            long quiet, WaitEvent event) {
+        long start = System.nanoTime();
+        long deadline = start + frameworkProperties.getExplicitTimeout().toNanos();
+        while (true) {
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remaining <= 0) {
+                throw new TimeoutException("Timed out waiting for the new page to replace the previous one: "
+                        + readiness);
+            }
+            Map<String, Object> result;
+            try {
+                result = (Map<String, Object>) ((JavascriptExecutor) applicationContext.getBean(WebDriver.class))
+                        .executeAsyncScript(script, locators, quiet, remaining);
+            } catch (ScriptTimeoutException e) {
+                throw new TimeoutException("Timed out waiting for page readiness: " + readiness, e);
+            } catch (JavascriptException e) {
+                log.debug("Page readiness check interrupted by navigation: {}", e.getMessage());
+                pause();
+                continue;
+            }
+            if (Boolean.TRUE.equals(result.get("previous"))) {
+                pause();
+                continue;
+            }
+            if (!Boolean.TRUE.equals(result.get("ready"))) {
+                throw new TimeoutException(String.format("Page [%s] not ready after %s ms, pending: %s",
+                        currentPage(), remaining, result.get("pending")));
+            }
+            if (result.get("readyAfter") instanceof Number readyAfter) {
+                event.readiness = (long) (readyAfter.doubleValue() * 1_000_000);
+            }
+            log.debug("Page ready after {} ms: {}", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                    readiness);
+            return;
+        }
+    }
+
+    /**
+     * Pauses briefly before a page readiness check is repeated.
+     */
+    private static void pause() {
+        try {
+            Thread.sleep(READINESS_RETRY_PAUSE.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Interrupted while waiting for page readiness", e);
+        }
+    }
+
+    /**
+     * Returns the WebDriverWait for the given timeout, reusing the configured bean when the
+     * timeout is the explicit timeout.
+     *
+     * @param timeout The timeout of the wait
+     * @return A WebDriverWait polling at the configured interval
+     */
+    private WebDriverWait pollingWait(Duration timeout) {
+        if (timeout.equals(frameworkProperties.getExplicitTimeout())) {
+            return webDriverWait;
+        }
+        return new WebDriverWait(driver, timeout, frameworkProperties.getPollingInterval());
+    }
+
+    /**
+     * Returns the path of the page loaded in the browser, used to key the readiness history.
+     *
+     * @return The page path, or an empty string if the current URL has no path
+     */
+    private String currentPage() {
+        try {
+            String path = URI.create(driver.getCurrentUrl()).getPath();
+            return path == null ? "" : path;
+        } catch (IllegalArgumentException e) {
+            return "";
+        }
+    }
+
+    /**
+     * Waits for the element inside the browser with a MutationObserver-based async script.
+     *
+     * @param by The locator strategy used to find the element
+     * @return The clickable element and its readiness time, or null if the polling fallback should be used
+     *
+     * @throws org.openqa.selenium.TimeoutException if the element did not become clickable within the timeout
+     */
+    @SuppressWarnings("unchecked")
+    private BrowserWait awaitClickableInBrowser(By by) {
+        Map<String, Object> result;
+        try {
+            result = (Map<String, Object>) ((JavascriptExecutor) applicationContext.getBean(WebDriver.class))
+                    .executeAsyncScript(WAIT_FOR_CLICKABLE, interactionHelper.toScriptLocator(by),
+                            frameworkProperties.getExplicitTimeout().toMillis(), adaptiveTimeouts.timeoutsByPage(by));
+        } catch (ScriptTimeoutException e) {
+            throw new TimeoutException("Timed out waiting for element to be clickable: " + by, e);
+        } catch (IllegalArgumentException | JavascriptException e) {
+            log.debug("Event-driven wait unavailable for {}: {}", by, e.getMessage());
+            return null;
+        }
+        WebElement element = (WebElement) result.get("element");
+        String page = String.valueOf(result.get("page"));
+        if (element == null) {
+            WebElement clickable = ExpectedConditions.elementToBeClickable(by).apply(driver);
+            if (clickable == null) {
+                throw new TimeoutException(String.format("Timed out after %s ms on page [%s] waiting for element "
+                        + "to be clickable: %s", result.get("timeout"), page, by));
+            }
+            return new BrowserWait(clickable, -1, page);
+        }
+        try {
+            if (ExpectedConditions.elementToBeClickable(element).apply(driver) == null) {
+                return null;
+            }
+        } catch (StaleElementReferenceException e) {
+            return null;
+        }
+        long readinessNanos = (long) (((Number) result.get("readyAfter")).doubleValue() * 1_000_000);
+        return new BrowserWait(element, readinessNanos, page);
+    }
+
+    /**
+     * Outcome of an in-browser wait.
+     *
+     * @param element The clickable element
+     * @param readinessNanos Time the condition took to hold in the browser, or -1 if unknown
+     * @param page Path of the page the wait ran on
+     */
+    private record BrowserWait(WebElement element, long readinessNanos, String page) {
     }
 
 }
@@ -0,0 +1,82 @@
+package com.auto.framework.actions;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openqa.selenium.By;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Collects explicit wait metrics, comparing the time a test spent waiting with the time the element
+ *                  actually took to become ready in the browser. A summary is logged when the context closes.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Statistics of the explicit waits performed by {@link WaitManager}.
+ *
+ * <p>For every wait the total wait time is recorded. Event-driven waits also report the
+ * readiness time measured inside the browser, i.e. how long the condition took to hold;
+ * the difference between the two is the framework's own wait overhead. Polling waits
+ * have no readiness time, their overhead is bounded by the polling interval.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.actions.WaitManager
+ */
+@Slf4j
+@Component
+public class WaitStatistics {
+
+    private final LongAdder eventWaits = new LongAdder();
+    private final LongAdder eventWaitNanos = new LongAdder();
+    private final LongAdder eventReadinessNanos = new LongAdder();
+    private final LongAdder pollingWaits = new LongAdder();
+    private final LongAdder pollingWaitNanos = new LongAdder();
+
+    /**
+     * Records a completed wait.
+     *
+     * @param by The locator that was waited for
+     * @param waitNanos Time spent in the wait, in nanoseconds
+     * @param readinessNanos Time the condition took to hold in the browser, or a negative
+     *                       value if unknown (polling waits)
+     */
+    public void record(By by, long waitNanos, long readinessNanos) {
+        if (readinessNanos >= 0) {
+            eventWaits.increment();
+            eventWaitNanos.add(waitNanos);
+            eventReadinessNanos.add(readinessNanos);
+            log.debug("Waited {} ms for {} (ready after {} ms)", TimeUnit.NANOSECONDS.toMillis(waitNanos), by,
+                    TimeUnit.NANOSECONDS.toMillis(readinessNanos));
+        } else {
+            pollingWaits.increment();
+            pollingWaitNanos.add(waitNanos);
+            log.debug("Waited {} ms for {} (polling)", TimeUnit.NANOSECONDS.toMillis(waitNanos), by);
+        }
+    }
+
+    /**
+     * Logs the wait summary when the Spring context closes.
+     */
+    @PreDestroy
+    public void logSummary() {
+        long events = eventWaits.sum();
+        if (events > 0) {
+            long avgWait = TimeUnit.NANOSECONDS.toMillis(eventWaitNanos.sum() / events);
+            long avgReady = TimeUnit.NANOSECONDS.toMillis(eventReadinessNanos.sum() / events);
+            log.info("Event-driven waits: {}, avg wait {} ms, avg readiness {} ms, avg overhead {} ms", events,
+                    avgWait, avgReady, avgWait - avgReady);
+        }
+        long polls = pollingWaits.sum();
+        if (polls > 0) {
+            log.info("Polling waits: {}, avg wait {} ms", polls,
+                    TimeUnit.NANOSECONDS.toMillis(pollingWaitNanos.sum() / polls));
+        }
+    }
+}
@@ -1,19 +1,44 @@
 package com.auto.framework.actions;
 
 import static com.auto.framework.constants.Constants.UIELEMENT_ERROR_TEXT;
+import static com.auto.framework.constants.JavaScripts.FIND_BY_TEXT;
+import static com.auto.framework.constants.JavaScripts.MARK_DOCUMENT;
+import static com.auto.framework.constants.JavaScripts.TABLE_CELL;
+import static com.auto.framework.constants.JavaScripts.TABLE_INPUT_RIGHT_OF_TEXT;
+import static com.auto.framework.constants.JavaScripts.TABLE_SNAPSHOT;
 import static java.lang.String.format;
 
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.locators.RelativeLocator;
-import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
+import com.auto.framework.config.NetworkBlocker;
+import com.auto.framework.fixtures.FixtureServer;
+import com.auto.framework.interfaces.WaitOperations;
 import com.auto.framework.interfaces.WebElementInteraction;
+import com.auto.framework.jfr.ActionEvent;
+import com.auto.framework.jfr.NavigationEvent;
+import com.auto.framework.model.NetworkStats;
+import com.auto.framework.model.PageReadiness;
+import com.auto.framework.model.TableSnapshot;
+import com.auto.framework.profiler.Phase;
+import com.auto.framework.profiler.SuiteProfiler;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -22,7 +47,9 @@ import lombok.extern.slf4j.Slf4j;
  * @Description : Web element interactor implementation class providing comprehensive methods for web element
  *                  interactions including clicking, typing, navigation, nested menu handling, relative locators,
  *                  and table interactions. This class extends BaseAction and implements WebElementInteraction interface.
- * @Version : 1.2
+ *                  Navigation waits for page readiness conditions declared by page objects. Interactions and
+ *                  navigations are emitted as Java Flight Recorder events.
+ * @Version : 1.5
  ************************************************************************************************************************/
 
 /**
@@ -32,10 +59,15 @@ import lombok.extern.slf4j.Slf4j;
  * menu navigation, relative locators, and table interactions.
  * 
  * <p>All methods in this class include automatic scrolling to ensure elements are visible
- * before interaction, and comprehensive logging for debugging purposes.</p>
+ * before interaction, and comprehensive logging for debugging purposes. Elements used by
+ * click and sendKeys are cached per page in the {@link ElementCache} to avoid resolving
+ * the same locator several times per action. Text-based lookups run inside the browser
+ * with one script call per lookup, falling back to Java-side filtering when needed.
+ * Every interaction is an {@link ActionEvent} and every navigation a {@link NavigationEvent}
+ * of the Java Flight Recorder.</p>
  * 
  * @author Ravi Kukreja
- * @version 1.2
+ * @version 1.5
  * @since 1.0
  * @see com.auto.framework.interfaces.WebElementInteraction
  * @see org.openqa.selenium.WebDriver
@@ -45,9 +77,41 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 public class WebElementInteractor extends BaseAction implements WebElementInteraction {
 
+    /**
+     * Form controls that can be typed into inside a table cell.
+     */
+    private static final By TABLE_CELL_INPUT = By.cssSelector("input, textarea");
+
+    /**
+     * Elements already resolved on the current page of this thread's browser session.
+     * Initialized lazily as it lives in the 'driverscope'.
+     */
+    @Autowired
+    @Lazy
+    public ElementCache elementCache;
+
+    /**
+     * Explicit waits used before every interaction.
+     */
+    @Autowired
+    public WaitOperations waitOperations;
+
+    /**
+     * Network block-list, queried for the requests blocked during navigation.
+     */
+    @Autowired
+    public NetworkBlocker networkBlocker;
+
+    /**
+     * Local stand-in for the application under test, used when fixtures are replayed.
+     */
+    @Autowired
+    public FixtureServer fixtureServer;
+
     /**
      * Clicks on a web element identified by the given locator.
-     * Automatically scrolls to the element before clicking.
+     * Automatically scrolls to the element before clicking. The element is resolved
+     * once and served from the element cache on later actions on the same page.
      * 
      * @param by The locator strategy used to find the element
      * 
@@ -56,10 +120,13 @@ public class WebElementInteractor extends BaseAction implements WebElementIntera
      */
     @Override
     public void click(By by) {
-        interactionHelper.scrollHelper(driver, webDriverWait, applicationContext, by);
-        driver.findElement(by).click();
-        log.debug("Clicked on Link..");
-
+        ActionEvent event = ActionEvent.begin("click", by);
+        try {
+            withClickableElement(by, WebElement::click);
+            log.debug("Clicked on Link..");
+        } finally {
+            event.commit();
+        }
     }
 
     /**
@@ -74,22 +141,71 @@ public class WebElementInteractor extends BaseAction implements WebElementIntera
      */
     @Override
     public void sendKeys(By by, String keysToSend) {
-        interactionHelper.scrollHelper(driver, webDriverWait, applicationContext, by);
-        driver.findElement(by).clear();
-        driver.findElement(by).sendKeys(keysToSend);
-        log.debug("Typed in text : {}", keysToSend);
-
+        ActionEvent event = ActionEvent.begin("sendKeys", by);
+        try {
+            withClickableElement(by, element -> {
+                element.clear();
+                element.sendKeys(keysToSend);
+            });
+            log.debug("Typed in text : {}", keysToSend);
+        } finally {
+            event.commit();
+        }
     }
 
     /**
      * Navigates to the specified URL in the current browser window.
+     * With the {@code none} page-load strategy the navigation waits until the DOM is parsed;
+     * otherwise it returns when the browser's page-load strategy is satisfied.
      * 
      * @param url The URL to navigate to
      */
     @Override
     public void openURL(String url) {
+        openURL(url, frameworkProperties.getPageLoadStrategy() == PageLoadStrategy.NONE
+                ? PageReadiness.domContentLoaded() : null);
+    }
+
+    /**
+     * Navigates to the specified URL and waits until the page satisfies the readiness condition.
+     * When fixtures are replayed, URLs of the application under test are served by the fixture server.
+     * Elements cached for the previous page are discarded.
+     * The load time and the number of requests blocked by the network block-list are logged.
+     * 
+     * @param url The URL to navigate to
+     * @param readiness The condition telling when the page is ready, or null to rely on the page-load strategy
+     * 
+     * @throws org.openqa.selenium.TimeoutException if the page is not ready within the explicit timeout
+     */
+    @Override
+    public void openURL(String url, PageReadiness readiness) {
+        url = fixtureServer.localUrl(url);
         log.info("Loading {}", url);
-        driver.get(url);
+        elementCache.clear();
+        WebDriver session = applicationContext.getBean(WebDriver.class);
+        NetworkStats networkStats = networkBlocker.statsFor(session);
+        long blockedBefore = networkStats.getBlockedRequests();
+        NavigationEvent event = new NavigationEvent();
+        event.begin();
+        SuiteProfiler.Span span = SuiteProfiler.enter(Phase.NAVIGATION);
+        long start = System.nanoTime();
+        try {
+            if (readiness != null && frameworkProperties.getPageLoadStrategy() == PageLoadStrategy.NONE) {
+                ((JavascriptExecutor) session).executeScript(MARK_DOCUMENT);
+            }
+            driver.get(url);
+            if (readiness != null) {
+                waitOperations.waitForPageReady(readiness);
+            }
+        } finally {
+            span.exit();
+            event.url = url;
+            event.readiness = String.valueOf(readiness);
+            event.blockedRequests = networkStats.getBlockedRequests() - blockedBefore;
+            event.commit();
+        }
+        log.debug("Loaded {} in {} ms, {} requests blocked", url,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), event.blockedRequests);
 
     }
 
@@ -107,21 +223,23 @@ public class WebElementInteractor extends BaseAction implements WebElementIntera
      */
     @Override
     public void clickNestedMenus(By by, String tagName, List<String> menuList) {
-
-        interactionHelper.scrollHelper(driver, webDriverWait, applicationContext, by);
-        WebElement headerWebElement = driver.findElements(by).stream()
-                .filter(element -> element.getText().toLowerCase().contains(menuList.get(0).toLowerCase())).findFirst()
-                .orElseThrow(() -> new NoSuchElementException(format(UIELEMENT_ERROR_TEXT, by, menuList.get(0))));
-        headerWebElement.click();
-        log.debug("Found and clicked on Header Element with Text : {}", menuList.get(0));
-
-        for (int i = 1; i < menuList.size(); i++) {
-            String subMenuName = menuList.get(i);
-            headerWebElement = headerWebElement.findElements(By.tagName(tagName)).stream()
-                    .filter(element -> element.getText().toLowerCase().contains(subMenuName.toLowerCase())).findFirst()
-                    .orElseThrow(() -> new NoSuchElementException(format(UIELEMENT_ERROR_TEXT, by, subMenuName)));
+        ActionEvent event = ActionEvent.begin("clickNestedMenus", by);
+        try {
+            interactionHelper.scrollIntoView(applicationContext, waitOperations.waitForElementToBeClickable(by));
+            WebElement headerWebElement = findByText(null, by, menuList.get(0))
+                    .orElseThrow(() -> new NoSuchElementException(format(UIELEMENT_ERROR_TEXT, by, menuList.get(0))));
             headerWebElement.click();
-            log.debug("Found and clicked on Sub Element with Text : {}", subMenuName);
+            log.debug("Found and clicked on Header Element with Text : {}", menuList.get(0));
+
+            for (int i = 1; i < menuList.size(); i++) {
+                String subMenuName = menuList.get(i);
+                headerWebElement = findByText(headerWebElement, By.tagName(tagName), subMenuName)
+                        .orElseThrow(() -> new NoSuchElementException(format(UIELEMENT_ERROR_TEXT, by, subMenuName)));
+                headerWebElement.click();
+                log.debug("Found and clicked on Sub Element with Text : {}", subMenuName);
+            }
+        } finally {
+            event.commit();
         }
     }
 
@@ -137,8 +255,13 @@ public class WebElementInteractor extends BaseAction implements WebElementIntera
      */
     @Override
     public String findElementsbyIndex(By by, int index) {
-        interactionHelper.scrollHelper(driver, webDriverWait, applicationContext, by);
-        return driver.findElements(by).get(index).getText();
+        ActionEvent event = ActionEvent.begin("findElementsbyIndex", by);
+        try {
+            interactionHelper.scrollIntoView(applicationContext, waitOperations.waitForElementToBeClickable(by));
+            return driver.findElements(by).get(index).getText();
+        } finally {
+            event.commit();
+        }
     }
 
     /**
@@ -153,13 +276,17 @@ public class WebElementInteractor extends BaseAction implements WebElementIntera
      */
     @Override
     public void searchAndClickByText(By by, String textForSearch) {
-        webDriverWait.until(ExpectedConditions.elementToBeClickable(by));
-        driver.findElements(by).stream()
-                .filter(element -> element.getText().toLowerCase().contains(textForSearch.toLowerCase())).findFirst()
-                .orElseThrow(() -> new NoSuchElementException(format(UIELEMENT_ERROR_TEXT, by, textForSearch))).click();
-
-        log.debug("Found and clicked on Element with Text : {}", textForSearch);
+        ActionEvent event = ActionEvent.begin("searchAndClickByText", by);
+        try {
+            waitOperations.waitForElementToBeClickable(by);
+            findByText(null, by, textForSearch)
+                    .orElseThrow(() -> new NoSuchElementException(format(UIELEMENT_ERROR_TEXT, by, textForSearch)))
+                    .click();
 
+            log.debug("Found and clicked on Element with Text : {}", textForSearch);
+        } finally {
+            event.commit();
+        }
     }
 
     /**
@@ -174,10 +301,14 @@ public class WebElementInteractor extends BaseAction implements WebElementIntera
      */
     @Override
     public void clickRelativeLeftElement(By toLeftoFBy, By withBy) {
-        interactionHelper.scrollHelper(driver, webDriverWait, applicationContext, withBy);
-        driver.findElement(RelativeLocator.with(withBy).toLeftOf(toLeftoFBy)).click();
-        log.debug("Clicked on Link..");
-
+        ActionEvent event = ActionEvent.begin("clickRelativeLeftElement", withBy);
+        try {
+            interactionHelper.scrollIntoView(applicationContext, waitOperations.waitForElementToBeClickable(withBy));
+            driver.findElement(RelativeLocator.with(withBy).toLeftOf(toLeftoFBy)).click();
+            log.debug("Clicked on Link..");
+        } finally {
+            event.commit();
+        }
     }
 
     /**
@@ -193,19 +324,24 @@ public class WebElementInteractor extends BaseAction implements WebElementIntera
      */
     @Override
     public void searchAndClickRelativeLeftElement(By toLeftoFBy, By withBy, String textForSearch) {
-        webDriverWait.until(ExpectedConditions.elementToBeClickable(toLeftoFBy));
-        driver.findElement(RelativeLocator.with(withBy).toLeftOf(driver.findElements(toLeftoFBy).stream()
-                .filter(element -> element.getText().toLowerCase().contains(textForSearch.toLowerCase())).findFirst()
-                .orElseThrow(
-                        () -> new NoSuchElementException(format(UIELEMENT_ERROR_TEXT, toLeftoFBy, textForSearch)))))
-                .click();
-
+        ActionEvent event = ActionEvent.begin("searchAndClickRelativeLeftElement", withBy);
+        try {
+            waitOperations.waitForElementToBeClickable(toLeftoFBy);
+            driver.findElement(RelativeLocator.with(withBy).toLeftOf(findByText(null, toLeftoFBy, textForSearch)
+                    .orElseThrow(
+                            () -> new NoSuchElementException(format(UIELEMENT_ERROR_TEXT, toLeftoFBy, textForSearch)))))
+                    .click();
+        } finally {
+            event.commit();
+        }
     }
 
     /**
      * Searches for text within a table and types a value in an input field to the right of the found cell.
      * This method is specifically designed for table interactions where you need to find a specific
-     * cell and then interact with an adjacent input field.
+     * cell and then interact with an adjacent input field. The cell and the input in the same row are
+     * found with one script call; if no input follows the cell in its row, Selenium's relative
+     * locator is used to look for one elsewhere on the page.
      * 
      * @param by The locator strategy used to find table rows or cells
      * @param textForSearch The text to search for within table cells
@@ -216,13 +352,223 @@ public class WebElementInteractor extends BaseAction implements WebElementIntera
      */
     @Override
     public void searchAndClickTableByText(By by, String textForSearch, String value) {
-        webDriverWait.until(ExpectedConditions.elementToBeClickable(by));
-        WebElement webElement = driver.findElements(by).stream()
-                .flatMap(row -> row.findElements(By.tagName("td")).stream())
-                .filter(column -> column.getText().toLowerCase().contains(textForSearch.toLowerCase())).findFirst()
-                .orElseThrow(() -> new NoSuchElementException(format(UIELEMENT_ERROR_TEXT, by, textForSearch)));
-        driver.findElement(RelativeLocator.with(By.tagName("input")).toRightOf(webElement)).sendKeys(value);
+        ActionEvent event = ActionEvent.begin("searchAndClickTableByText", by);
+        try {
+            waitOperations.waitForElementToBeClickable(by);
+            try {
+                WebElement input = (WebElement) javascriptExecutor().executeScript(TABLE_INPUT_RIGHT_OF_TEXT,
+                        interactionHelper.toScriptLocator(by), textForSearch);
+                if (input != null) {
+                    input.sendKeys(value);
+                    return;
+                }
+            } catch (IllegalArgumentException | JavascriptException e) {
+                log.debug("In-browser table search unavailable for {}: {}", by, e.getMessage());
+            }
+            WebElement webElement = driver.findElements(by).stream()
+                    .flatMap(row -> row.findElements(By.tagName("td")).stream())
+                    .filter(column -> column.getText().toLowerCase().contains(textForSearch.toLowerCase())).findFirst()
+                    .orElseThrow(() -> new NoSuchElementException(format(UIELEMENT_ERROR_TEXT, by, textForSearch)));
+            driver.findElement(RelativeLocator.with(By.tagName("input")).toRightOf(webElement)).sendKeys(value);
+        } finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * Reads the header and cell texts of a whole table in a single browser call.
+     * If the table has not rendered yet, waits for it to be present and reads it again.
+     * 
+     * @param table The locator of the table element
+     * @return Snapshot of the table with zero-based data rows and columns
+     * 
+     * @throws org.openqa.selenium.TimeoutException if the table is not present within the explicit timeout
+     * @throws NoSuchElementException if the table is gone again before it is read
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public TableSnapshot readTable(By table) {
+        ActionEvent event = ActionEvent.begin("readTable", table);
+        try {
+            Map<String, Object> locator = interactionHelper.toScriptLocator(table);
+            Map<String, List<?>> model = (Map<String, List<?>>) javascriptExecutor().executeScript(TABLE_SNAPSHOT,
+                    locator);
+            if (model == null) {
+                waitOperations.waitForElementToBePresent(table);
+                model = (Map<String, List<?>>) javascriptExecutor().executeScript(TABLE_SNAPSHOT, locator);
+            }
+            if (model == null) {
+                throw new NoSuchElementException("No table found with locator " + table);
+            }
+            TableSnapshot snapshot = new TableSnapshot((List<String>) model.get("headers"),
+                    (List<List<String>>) model.get("rows"));
+            log.debug("Read table {} with {} rows", table, snapshot.getRowCount());
+            return snapshot;
+        } finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * Clicks a table cell addressed by data row and column.
+     * 
+     * @param table The locator of the table element
+     * @param row The zero-based data row index
+     * @param column The zero-based column index
+     * 
+     * @throws NoSuchElementException if the table or the cell does not exist
+     */
+    @Override
+    public void clickTableCell(By table, int row, int column) {
+        ActionEvent event = ActionEvent.begin("clickTableCell", table);
+        try {
+            tableElement(table, row, column, null).click();
+            log.debug("Clicked on table cell [{}, {}]", row, column);
+        } finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * Clicks an element inside a table cell addressed by data row and column.
+     * 
+     * @param table The locator of the table element
+     * @param row The zero-based data row index
+     * @param column The zero-based column index
+     * @param target The locator of the element to click, searched within the cell
+     * 
+     * @throws NoSuchElementException if the table, the cell or the target does not exist
+     */
+    @Override
+    public void clickTableCell(By table, int row, int column, By target) {
+        ActionEvent event = ActionEvent.begin("clickTableCell", table);
+        try {
+            tableElement(table, row, column, target).click();
+            log.debug("Clicked on {} in table cell [{}, {}]", target, row, column);
+        } finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * Types a value into the input or text area inside a table cell addressed by data row and column.
+     * 
+     * @param table The locator of the table element
+     * @param row The zero-based data row index
+     * @param column The zero-based column index
+     * @param value The value to type
+     * 
+     * @throws NoSuchElementException if the table, the cell or the input does not exist
+     */
+    @Override
+    public void sendKeysToTableCell(By table, int row, int column, String value) {
+        ActionEvent event = ActionEvent.begin("sendKeysToTableCell", table);
+        try {
+            WebElement input = tableElement(table, row, column, TABLE_CELL_INPUT);
+            input.clear();
+            input.sendKeys(value);
+            log.debug("Typed in table cell [{}, {}] : {}", row, column, value);
+        } finally {
+            event.commit();
+        }
+    }
 
+    /**
+     * Resolves a table cell, or an element within it, with one script call.
+     * 
+     * @param table The locator of the table element
+     * @param row The zero-based data row index
+     * @param column The zero-based column index
+     * @param target Locator searched within the cell, or null for the cell itself
+     * @return The resolved element
+     * 
+     * @throws NoSuchElementException if the element does not exist
+     */
+    private WebElement tableElement(By table, int row, int column, By target) {
+        WebElement element = (WebElement) javascriptExecutor().executeScript(TABLE_CELL,
+                interactionHelper.toScriptLocator(table), row, column,
+                target == null ? null : interactionHelper.toScriptLocator(target));
+        if (element == null) {
+            throw new NoSuchElementException(format("No %s in cell [%d, %d] of table %s",
+                    target == null ? "cell" : target, row, column, table));
+        }
+        return element;
+    }
+
+    /**
+     * Returns the current browser session as a JavascriptExecutor.
+     * 
+     * @return The JavascriptExecutor of the current thread's WebDriver
+     */
+    private JavascriptExecutor javascriptExecutor() {
+        return (JavascriptExecutor) applicationContext.getBean(WebDriver.class);
+    }
+
+    /**
+     * Resolves a clickable, scrolled-into-view element and applies the action to it.
+     * A cached element is reused if it is still displayed and enabled; otherwise the
+     * locator is resolved through the clickable wait and the result is cached. If the
+     * element goes stale during the action, the cache entry is dropped and the action
+     * is retried once with a freshly resolved element.
+     * 
+     * @param by The locator strategy used to find the element
+     * @param action The interaction to perform on the element
+     */
+    private void withClickableElement(By by, Consumer<WebElement> action) {
+        try {
+            action.accept(clickableElement(by));
+        } catch (StaleElementReferenceException e) {
+            log.debug("Cached element for {} went stale, resolving again", by);
+            elementCache.invalidate(by);
+            action.accept(clickableElement(by));
+        }
+    }
+
+    /**
+     * Returns the clickable element for the locator, scrolled into view, using the element cache.
+     * 
+     * @param by The locator strategy used to find the element
+     * @return The clickable element
+     */
+    private WebElement clickableElement(By by) {
+        WebElement element = elementCache.get(by);
+        if (element != null) {
+            try {
+                if (element.isDisplayed() && element.isEnabled()) {
+                    interactionHelper.scrollIntoView(applicationContext, element);
+                    return element;
+                }
+            } catch (StaleElementReferenceException e) {
+                elementCache.invalidate(by);
+            }
+        }
+        element = interactionHelper.scrollIntoView(applicationContext, waitOperations.waitForElementToBeClickable(by));
+        elementCache.put(by, element);
+        return element;
+    }
+
+    /**
+     * Finds the first element matching the locator whose visible text contains the search text,
+     * ignoring case. The search runs inside the browser with a single script call, so the cost
+     * does not grow with the number of candidates. If the locator cannot be evaluated in the
+     * browser or the script fails, the candidates are fetched and filtered on the Java side.
+     * 
+     * @param root The element to search within, or null to search the whole page
+     * @param by The locator strategy used to find the candidate elements
+     * @param textForSearch The text to search for within element content
+     * @return The first matching element, or empty if none matches
+     */
+    private Optional<WebElement> findByText(WebElement root, By by, String textForSearch) {
+        try {
+            Object element = javascriptExecutor().executeScript(FIND_BY_TEXT, interactionHelper.toScriptLocator(by),
+                    textForSearch, root);
+            return Optional.ofNullable((WebElement) element);
+        } catch (IllegalArgumentException | JavascriptException e) {
+            log.debug("In-browser text search unavailable for {}: {}", by, e.getMessage());
+        }
+        SearchContext searchContext = root == null ? driver : root;
+        return searchContext.findElements(by).stream()
+                .filter(element -> element.getText().toLowerCase().contains(textForSearch.toLowerCase())).findFirst();
     }
 
     /**
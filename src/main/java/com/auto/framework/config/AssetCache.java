@@ -0,0 +1,564 @@
+package com.auto.framework.config;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.openqa.selenium.json.Json;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Disk-backed LRU cache of static assets (scripts, style sheets, fonts and images) shared by every
+ *                  browser session of the JVM and kept between runs. Entries follow the freshness and validator
+ *                  headers of their responses, with hit ratio reporting at suite end.
+ * @Version : 1.1
+ ************************************************************************************************************************/
+
+/**
+ * Shared cache of static asset responses.
+ *
+ * <p>Responses are stored in {@code my.properties.asset-cache-dir}, one file per URL named by
+ * the SHA-256 hash of the URL and holding the status, headers, expiry and body. Entries are
+ * written to a temporary file and moved into place, so that sessions and JVMs sharing the
+ * directory never read a partial entry. The total size of the entries is kept below
+ * {@code my.properties.asset-cache-max-size} by evicting the least recently used ones; the
+ * recency order survives restarts through the files' modification times.</p>
+ *
+ * <p>Entries are fresh for the lifetime their response allows, as a shared HTTP cache would
+ * compute it from {@code Cache-Control}, {@code Expires}, {@code Age} and {@code Last-Modified},
+ * and never longer than {@code my.properties.asset-cache-max-age}. A stale entry with an
+ * {@code ETag} or {@code Last-Modified} validator is revalidated by the
+ * {@link NetworkInterceptor} with a conditional request; a {@code 304} refreshes it through
+ * {@link #revalidate(String, List)}.</p>
+ *
+ * <p>Only complete {@code 200} responses to {@code GET} requests are stored, and never
+ * responses that set cookies, are marked {@code no-store} or {@code private}, vary on other
+ * request headers than {@code Accept-Encoding}, or must be revalidated without carrying a
+ * validator.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.1
+ * @since 1.3
+ * @see com.auto.framework.config.NetworkInterceptor
+ */
+@Slf4j
+@Component
+public class AssetCache {
+
+    /**
+     * Response headers that no longer describe the body once it was decoded by the browser.
+     */
+    private static final List<String> DROPPED_HEADERS = List.of("content-encoding", "content-length",
+            "transfer-encoding");
+
+    /**
+     * File name suffix of cache entries.
+     */
+    private static final String SUFFIX = ".asset";
+
+    @Autowired
+    public FrameworkProperties frameworkProperties;
+
+    /**
+     * Entry sizes keyed by URL hash, in access order.
+     */
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidated = new LongAdder();
+    private final LongAdder stored = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    private final LongAdder bytesServed = new LongAdder();
+
+    /**
+     * Total size of the cached entries in bytes, guarded by {@code entries}.
+     */
+    private long totalBytes;
+
+    /**
+     * A cached response.
+     *
+     * @param status The HTTP status code
+     * @param headers The response headers as DevTools {@code name}/{@code value} entries
+     * @param body The response body
+     * @param expires The time in epoch milliseconds at which the entry becomes stale
+     */
+    public record CachedAsset(int status, List<Map<String, String>> headers, byte[] body, long expires) {
+
+        /**
+         * Returns true if the entry can be served without asking the server.
+         *
+         * @return true before the expiry time
+         */
+        public boolean isFresh() {
+            return System.currentTimeMillis() < expires;
+        }
+
+        /**
+         * Returns the conditional request headers that revalidate the entry.
+         *
+         * @return {@code If-None-Match} and {@code If-Modified-Since} as DevTools header entries,
+         *         empty if the response carried no validator
+         */
+        public List<Map<String, String>> validators() {
+            Map<String, String> index = index(headers);
+            List<Map<String, String>> validators = new ArrayList<>();
+            if (index.containsKey("etag")) {
+                validators.add(Map.of("name", "If-None-Match", "value", index.get("etag")));
+            }
+            if (index.containsKey("last-modified")) {
+                validators.add(Map.of("name", "If-Modified-Since", "value", index.get("last-modified")));
+            }
+            return validators;
+        }
+    }
+
+    /**
+     * Returns true if the cache is enabled.
+     *
+     * @return The value of {@code my.properties.asset-cache}
+     */
+    public boolean isEnabled() {
+        return frameworkProperties.isAssetCache();
+    }
+
+    /**
+     * Loads the index of the cache directory, oldest entries first.
+     */
+    @PostConstruct
+    public void load() {
+        if (!isEnabled()) {
+            return;
+        }
+        Path dir = directory();
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            synchronized (entries) {
+                files.filter(file -> file.getFileName().toString().endsWith(SUFFIX))
+                        .sorted(Comparator.comparing(AssetCache::lastModified))
+                        .forEach(file -> {
+                            String key = file.getFileName().toString().replace(SUFFIX, "");
+                            long size = file.toFile().length();
+                            entries.put(key, size);
+                            totalBytes += size;
+                        });
+                evict();
+            }
+        } catch (IOException e) {
+            log.warn("Could not read asset cache {}: {}", dir, e.getMessage());
+        }
+        log.info("Asset cache {} holds {} entries, {} KB", dir, entries.size(), totalBytes / 1024);
+    }
+
+    /**
+     * Looks up a cached response. Fresh entries count as hits; missing entries and stale
+     * entries count as misses, and stale entries without a validator are dropped.
+     *
+     * @param url The request URL
+     * @return The cached response, fresh or stale, or empty if not cached
+     */
+    public Optional<CachedAsset> lookup(String url) {
+        String key = key(url);
+        synchronized (entries) {
+            if (entries.get(key) == null) {
+                misses.increment();
+                return Optional.empty();
+            }
+        }
+        Optional<CachedAsset> asset = read(key, url);
+        if (asset.isPresent() && asset.get().isFresh()) {
+            hits.increment();
+            bytesServed.add(asset.get().body().length);
+            return asset;
+        }
+        misses.increment();
+        if (asset.isPresent() && asset.get().validators().isEmpty()) {
+            remove(key);
+            return Optional.empty();
+        }
+        return asset;
+    }
+
+    /**
+     * Refreshes a stale entry after the server answered its conditional request with
+     * {@code 304 Not Modified}. Headers of the {@code 304} replace the stored ones of the same
+     * name, and the new lifetime is computed from the merged headers.
+     *
+     * @param url The request URL
+     * @param headers The headers of the {@code 304} response
+     * @return The refreshed entry to serve, or empty if it is no longer cached
+     */
+    public Optional<CachedAsset> revalidate(String url, List<Map<String, String>> headers) {
+        String key = key(url);
+        Optional<CachedAsset> asset = read(key, url);
+        if (asset.isEmpty()) {
+            return asset;
+        }
+        Map<String, Map<String, String>> merged = new TreeMap<>();
+        for (Map<String, String> header : asset.get().headers()) {
+            merged.put(header.get("name").toLowerCase(Locale.ROOT), header);
+        }
+        for (Map<String, String> header : headers) {
+            String name = header.get("name").toLowerCase(Locale.ROOT);
+            if (!DROPPED_HEADERS.contains(name)) {
+                merged.put(name, header);
+            }
+        }
+        List<Map<String, String>> kept = List.copyOf(merged.values());
+        CachedAsset refreshed = new CachedAsset(asset.get().status(), kept, asset.get().body(),
+                expiry(kept, Instant.now()));
+        write(key, url, refreshed);
+        revalidated.increment();
+        bytesServed.add(refreshed.body().length);
+        return Optional.of(refreshed);
+    }
+
+    /**
+     * Stores a response if it is cacheable.
+     *
+     * @param url The request URL
+     * @param method The request method
+     * @param status The HTTP status code
+     * @param headers The response headers as DevTools {@code name}/{@code value} entries
+     * @param body The decoded response body
+     */
+    public void store(String url, String method, int status, List<Map<String, String>> headers, byte[] body) {
+        if (!"GET".equals(method) || status != 200 || body.length > frameworkProperties.getAssetCacheMaxSize()
+                .toBytes() / 10 || !isStorable(headers)) {
+            return;
+        }
+        List<Map<String, String>> kept = headers.stream()
+                .filter(header -> !DROPPED_HEADERS.contains(header.get("name").toLowerCase(Locale.ROOT))).toList();
+        CachedAsset asset = new CachedAsset(status, kept, body, expiry(kept, Instant.now()));
+        if (!asset.isFresh() && asset.validators().isEmpty()) {
+            return;
+        }
+        write(key(url), url, asset);
+    }
+
+    /**
+     * Logs the hit ratio of the run when the Spring context closes.
+     */
+    @PreDestroy
+    public void logSummary() {
+        long lookups = hits.sum() + misses.sum();
+        if (lookups == 0) {
+            return;
+        }
+        log.info(String.format(Locale.ROOT, "Asset cache: %d hits, %d misses (%.1f%% hit ratio), %d revalidated, "
+                + "%d KB served from cache, %d stored, %d evicted, %d KB on disk", hits.sum(), misses.sum(),
+                100.0 * hits.sum() / lookups, revalidated.sum(), bytesServed.sum() / 1024, stored.sum(),
+                evicted.sum(), totalBytes / 1024));
+    }
+
+    /**
+     * Returns true if a shared cache may store a response with the given headers.
+     *
+     * @param headers The response headers
+     * @return false for responses setting cookies, marked {@code no-store} or {@code private},
+     *         or varying on request headers other than {@code Accept-Encoding}
+     */
+    static boolean isStorable(List<Map<String, String>> headers) {
+        Map<String, String> index = index(headers);
+        if (index.containsKey("set-cookie")) {
+            return false;
+        }
+        Map<String, String> cacheControl = cacheControl(index.get("cache-control"));
+        if (cacheControl.containsKey("no-store") || cacheControl.containsKey("private")) {
+            return false;
+        }
+        for (String field : index.getOrDefault("vary", "").split(",")) {
+            String name = field.trim().toLowerCase(Locale.ROOT);
+            if (!name.isEmpty() && !"accept-encoding".equals(name)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the time a response stops being fresh: {@code no-cache} makes it stale at once,
+     * {@code s-maxage} or {@code max-age} and then {@code Expires} give its lifetime, less its
+     * {@code Age}; without them a tenth of the time since {@code Last-Modified} is assumed. The
+     * lifetime never exceeds {@code my.properties.asset-cache-max-age}.
+     *
+     * @param headers The response headers
+     * @param now The time the response was received
+     * @return The expiry time in epoch milliseconds
+     */
+    long expiry(List<Map<String, String>> headers, Instant now) {
+        Map<String, String> index = index(headers);
+        Map<String, String> cacheControl = cacheControl(index.get("cache-control"));
+        Duration lifetime;
+        if (cacheControl.containsKey("no-cache")) {
+            lifetime = Duration.ZERO;
+        } else if (seconds(cacheControl.get("s-maxage")) >= 0) {
+            lifetime = Duration.ofSeconds(seconds(cacheControl.get("s-maxage")));
+        } else if (seconds(cacheControl.get("max-age")) >= 0) {
+            lifetime = Duration.ofSeconds(seconds(cacheControl.get("max-age")));
+        } else if (index.containsKey("expires")) {
+            Instant expires = date(index.get("expires"));
+            lifetime = expires == null ? Duration.ZERO
+                    : Duration.between(Optional.ofNullable(date(index.get("date"))).orElse(now), expires);
+        } else if (date(index.get("last-modified")) != null) {
+            Instant date = Optional.ofNullable(date(index.get("date"))).orElse(now);
+            lifetime = Duration.between(date(index.get("last-modified")), date).dividedBy(10);
+        } else {
+            lifetime = Duration.ZERO;
+        }
+        lifetime = lifetime.minusSeconds(Math.max(0, seconds(index.get("age"))));
+        if (lifetime.compareTo(frameworkProperties.getAssetCacheMaxAge()) > 0) {
+            lifetime = frameworkProperties.getAssetCacheMaxAge();
+        }
+        return lifetime.isNegative() ? now.toEpochMilli() : now.plus(lifetime).toEpochMilli();
+    }
+
+    /**
+     * Writes an entry and adds it to the index.
+     *
+     * @param key The URL hash
+     * @param url The request URL
+     * @param asset The entry
+     */
+    private void write(String key, String url, CachedAsset asset) {
+        Path dir = directory();
+        long size;
+        try {
+            byte[] meta = new Json().toJson(Map.of("url", url, "status", asset.status(), "headers", asset.headers(),
+                    "expires", asset.expires())).getBytes(StandardCharsets.UTF_8);
+            ByteArrayOutputStream content = new ByteArrayOutputStream(4 + meta.length + asset.body().length);
+            try (DataOutputStream out = new DataOutputStream(content)) {
+                out.writeInt(meta.length);
+                out.write(meta);
+                out.write(asset.body());
+            }
+            Files.createDirectories(dir);
+            Path temp = Files.createTempFile(dir, "asset", ".tmp");
+            try {
+                Files.write(temp, content.toByteArray());
+                Files.move(temp, dir.resolve(key + SUFFIX), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            size = content.size();
+        } catch (IOException e) {
+            log.debug("Could not cache {}: {}", url, e.getMessage());
+            return;
+        }
+        stored.increment();
+        synchronized (entries) {
+            Long previous = entries.put(key, size);
+            totalBytes += size - (previous == null ? 0 : previous);
+            evict();
+        }
+    }
+
+    /**
+     * Reads an entry and marks it as recently used. Unreadable entries are dropped.
+     *
+     * @param key The URL hash
+     * @param url The request URL
+     * @return The entry, or empty if it is missing or unreadable
+     */
+    @SuppressWarnings("unchecked")
+    private Optional<CachedAsset> read(String key, String url) {
+        Path file = directory().resolve(key + SUFFIX);
+        try (InputStream in = Files.newInputStream(file); DataInputStream data = new DataInputStream(in)) {
+            byte[] meta = new byte[data.readInt()];
+            data.readFully(meta);
+            Map<String, Object> fields = new Json().toType(new String(meta, StandardCharsets.UTF_8), Json.MAP_TYPE);
+            byte[] body = data.readAllBytes();
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+            return Optional.of(new CachedAsset(((Number) fields.get("status")).intValue(),
+                    (List<Map<String, String>>) fields.get("headers"), body,
+                    ((Number) fields.get("expires")).longValue()));
+        } catch (IOException | RuntimeException e) {
+            log.debug("Dropping unreadable asset cache entry for {}: {}", url, e.getMessage());
+            remove(key);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Evicts least recently used entries until the cache fits its size limit.
+     * Must be called while holding the lock on {@code entries}.
+     */
+    private void evict() {
+        long limit = frameworkProperties.getAssetCacheMaxSize().toBytes();
+        Iterator<Map.Entry<String, Long>> eldest = entries.entrySet().iterator();
+        while (totalBytes > limit && eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            eldest.remove();
+            totalBytes -= entry.getValue();
+            deleteFile(entry.getKey());
+            evicted.increment();
+        }
+    }
+
+    /**
+     * Removes an entry and its file.
+     *
+     * @param key The URL hash
+     */
+    private void remove(String key) {
+        synchronized (entries) {
+            Long size = entries.remove(key);
+            if (size != null) {
+                totalBytes -= size;
+            }
+        }
+        deleteFile(key);
+    }
+
+    /**
+     * Deletes the file of an entry.
+     *
+     * @param key The URL hash
+     */
+    private void deleteFile(String key) {
+        try {
+            Files.deleteIfExists(directory().resolve(key + SUFFIX));
+        } catch (IOException e) {
+            log.debug("Could not delete asset cache entry {}: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the cache directory.
+     *
+     * @return The configured cache directory
+     */
+    private Path directory() {
+        return Path.of(frameworkProperties.getAssetCacheDir());
+    }
+
+    /**
+     * Returns the modification time of a file.
+     *
+     * @param file The file
+     * @return The modification time, or the epoch if it cannot be read
+     */
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    /**
+     * Indexes headers by lower-case name; repeated headers are joined with commas.
+     *
+     * @param headers The headers as DevTools {@code name}/{@code value} entries
+     * @return The header values by name
+     */
+    private static Map<String, String> index(List<Map<String, String>> headers) {
+        Map<String, String> index = new TreeMap<>();
+        for (Map<String, String> header : headers) {
+            index.merge(header.get("name").toLowerCase(Locale.ROOT), header.get("value"),
+                    (first, second) -> first + ", " + second);
+        }
+        return index;
+    }
+
+    /**
+     * Parses a {@code Cache-Control} header.
+     *
+     * @param value The header value, or null
+     * @return The lower-case directives mapped to their unquoted arguments, or to an empty string
+     */
+    private static Map<String, String> cacheControl(String value) {
+        Map<String, String> directives = new TreeMap<>();
+        if (value == null) {
+            return directives;
+        }
+        for (String directive : value.split(",")) {
+            String[] parts = directive.trim().split("=", 2);
+            if (!parts[0].isEmpty()) {
+                directives.put(parts[0].toLowerCase(Locale.ROOT),
+                        parts.length > 1 ? parts[1].trim().replace("\"", "") : "");
+            }
+        }
+        return directives;
+    }
+
+    /**
+     * Parses a number of seconds.
+     *
+     * @param value The value, or null
+     * @return The seconds, or -1 if the value is missing or not a number
+     */
+    private static long seconds(String value) {
+        try {
+            return value == null ? -1 : Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Parses an HTTP date.
+     *
+     * @param value The value, or null
+     * @return The date, or null if the value is missing or not an HTTP date
+     */
+    private static Instant date(String value) {
+        try {
+            return value == null ? null : ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME)
+                    .toInstant();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the cache key of a URL.
+     *
+     * @param url The request URL
+     * @return The SHA-256 hash of the URL as lower-case hex
+     */
+    private static String key(String url) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(url.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
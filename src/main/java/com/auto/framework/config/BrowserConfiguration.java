@@ -2,10 +2,15 @@ package com.auto.framework.config;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
+import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.remote.CapabilityType;
 import org.openqa.selenium.remote.DesiredCapabilities;
 import org.openqa.selenium.remote.LocalFileDetector;
 import org.openqa.selenium.remote.RemoteWebDriver;
@@ -17,7 +22,10 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Scope;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.auto.framework.driverscope.DriverSessionPool;
+import com.auto.framework.jfr.DriverEvent;
+import com.auto.framework.simulator.SimulatedWebDriver;
+
 import lombok.extern.slf4j.Slf4j;
 
 /************************************************************************************************************************
@@ -25,7 +33,11 @@ import lombok.extern.slf4j.Slf4j;
  * @Description : Bean configuration for WebDriver and WebDriverWait objects based on browser type and
  *                  execution environment. This configuration class supports both local Chrome driver and
  *                  Selenium Grid execution with automatic browser maximization and debugging capabilities.
- * @Version : 1.2
+ *                  Browser sessions are leased from a pre-warmed session pool instead of being started per test,
+ *                  and the chromedriver binary is resolved once per JVM. The in-memory WebDriver simulator can
+ *                  replace Chrome to measure the overhead of the framework without a browser. Session starts and
+ *                  ends are recorded as Java Flight Recorder events.
+ * @Version : 1.6
  ************************************************************************************************************************/
 
 /**
@@ -34,15 +46,19 @@ import lombok.extern.slf4j.Slf4j;
  * and execution environments (local vs Selenium Grid).
  * 
  * <p>Features include automatic browser maximization, remote debugging support,
- * and proper scope management for parallel test execution.</p>
+ * and proper scope management for parallel test execution. WebDriver beans are leased
+ * from a {@link DriverSessionPool} so that browsers are reused across tests. Local sessions
+ * use the chromedriver binary resolved once by {@link DriverBinaryResolver}. With
+ * {@code my.properties.browser=simulator} the sessions are {@link SimulatedWebDriver}s.</p>
  * 
  * @author Ravi Kukreja
- * @version 1.2
+ * @version 1.6
  * @since 1.0
  * @see org.openqa.selenium.WebDriver
  * @see org.openqa.selenium.chrome.ChromeDriver
  * @see org.openqa.selenium.remote.RemoteWebDriver
- * @see io.github.bonigarcia.wdm.WebDriverManager
+ * @see com.auto.framework.config.DriverBinaryResolver
+ * @see com.auto.framework.simulator.SimulatedWebDriver
  */
 @Slf4j
 @Configuration
@@ -55,71 +71,319 @@ public class BrowserConfiguration {
     private FrameworkProperties frameworkProperties;
 
     /**
-     * Creates and configures a Chrome WebDriver bean for local execution.
+     * Allocator handing each local Chrome session its own remote-debugging port.
+     */
+    @Autowired
+    private DebugPortAllocator debugPortAllocator;
+
+    /**
+     * Resolver of the chromedriver binary, shared by all local Chrome sessions.
+     */
+    @Autowired
+    private DriverBinaryResolver driverBinaryResolver;
+
+    /**
+     * Applies the configured browser profile to new sessions.
+     */
+    @Autowired
+    private BrowserProfileCustomizer browserProfileCustomizer;
+
+    /**
+     * Network block-list and asset cache applied to every new session.
+     */
+    @Autowired
+    private NetworkInterceptor networkInterceptor;
+
+    /**
+     * Creates the browser session pool for local Chrome execution.
+     * Sessions are started with {@link #createChromeDriver()} and warmed up in the background.
+     * 
+     * @return Session pool backing the Chrome 'driverscope' WebDriver bean
+     */
+    @Bean(initMethod = "warmUp", destroyMethod = "shutdown")
+    @ConditionalOnExpression("'${my.properties.grid}'.equals('false') and '${my.properties.browser}'.equals('chrome')")
+    public DriverSessionPool chromeSessionPool() {
+        return newSessionPool(this::createChromeDriver, driver -> {
+            networkInterceptor.detach(driver);
+            try {
+                driver.quit();
+            } finally {
+                debugPortAllocator.release(driver);
+            }
+        });
+    }
+
+    /**
+     * Provides the Chrome WebDriver bean for local execution by leasing a session from the pool.
      * This bean is created when Selenium Grid is disabled and browser is set to Chrome.
+     * The session goes back to the pool when the driverscope of the test thread is reset.
      * 
-     * @return Configured Chrome WebDriver instance with maximized window and debugging support
+     * @return Chrome WebDriver session leased to the current test thread
      */
-    @Bean
+    @Bean(destroyMethod = "")
     @ConditionalOnExpression("'${my.properties.grid}'.equals('false') and '${my.properties.browser}'.equals('chrome')")
     @Scope("driverscope")
     public WebDriver getChromeDriver() {
-        log.info("Creating Driver");
-        ChromeOptions options = new ChromeOptions();
-        options.addArguments("--remote-debugging-port=9222");
-        options.addArguments("--remote-allow-origins=*");
-        options.addArguments("--start-maximized");
-        WebDriverManager.chromedriver().setup();
-        return new ChromeDriver(options);
+        return chromeSessionPool().lease();
     }
 
     /**
      * Creates a WebDriverWait bean for local Chrome driver execution.
      * This bean is created when Selenium Grid is disabled and browser is set to Chrome.
      * 
-     * @return WebDriverWait instance configured with the explicit timeout from properties
+     * @return WebDriverWait instance configured with the explicit timeout and polling interval from properties
      */
     @Bean
     @ConditionalOnExpression("'${my.properties.grid}'.equals('false') and '${my.properties.browser}'.equals('chrome')")
     @Scope("driverscope")
     public WebDriverWait getChromeDriverWait() {
-        return new WebDriverWait(getChromeDriver(), frameworkProperties.getExplicitTimeout());
+        return new WebDriverWait(getChromeDriver(), frameworkProperties.getExplicitTimeout(),
+                frameworkProperties.getPollingInterval());
     }
 
 	/**
-	 * Creates and configures a RemoteWebDriver bean for Selenium Grid execution.
+	 * Creates the browser session pool for Selenium Grid execution.
+	 * Sessions are started with {@link #createGridDriver()} and warmed up in the background.
+	 * 
+	 * @return Session pool backing the Grid 'driverscope' WebDriver bean
+	 */
+	@Bean(initMethod = "warmUp", destroyMethod = "shutdown")
+	@ConditionalOnProperty(name = "my.properties.grid", havingValue = "true")
+	public DriverSessionPool gridSessionPool() {
+		return newSessionPool(this::createGridDriver, driver -> {
+			networkInterceptor.detach(driver);
+			driver.quit();
+		});
+	}
+
+	/**
+	 * Provides the RemoteWebDriver bean for Selenium Grid execution by leasing a session from the pool.
 	 * This bean is created when Selenium Grid is enabled, regardless of browser type.
 	 * 
-	 * @return Configured RemoteWebDriver instance with file detection and window maximization
-	 * @throws MalformedURLException if the grid URL is malformed
+	 * @return Grid WebDriver session leased to the current test thread
 	 */
-	@Bean
+	@Bean(destroyMethod = "")
 	@ConditionalOnProperty(name = "my.properties.grid", havingValue = "true")
 	@Scope("driverscope")
-	public WebDriver getGridDriver() throws MalformedURLException {
-		DesiredCapabilities dc = new DesiredCapabilities();
-		dc.setBrowserName(frameworkProperties.getBrowser());
-		dc.setCapability("e34:token", frameworkProperties.getGridToken());
-		log.info("Creating Driver");
-		WebDriver driver = new RemoteWebDriver(new URL(frameworkProperties.getGridUrl()), dc);
-		((RemoteWebDriver) driver).setFileDetector(new LocalFileDetector());
-		driver.manage().window().maximize();
-		return driver;
+	public WebDriver getGridDriver() {
+		return gridSessionPool().lease();
 	}
 
 	/**
 	 * Creates a WebDriverWait bean for Selenium Grid driver execution.
 	 * This bean is created when Selenium Grid is enabled, regardless of browser type.
 	 * 
-	 * @return WebDriverWait instance configured with the explicit timeout from properties
-	 * @throws MalformedURLException if the grid URL is malformed
+	 * @return WebDriverWait instance configured with the explicit timeout and polling interval from properties
 	 */
 	@Bean
 	@ConditionalOnProperty(name = "my.properties.grid", havingValue = "true")
 	@Scope("driverscope")
-	public WebDriverWait getGridDriverWait() throws MalformedURLException {
-		return new WebDriverWait(getGridDriver(), frameworkProperties.getExplicitTimeout());
+	public WebDriverWait getGridDriverWait() {
+		return new WebDriverWait(getGridDriver(), frameworkProperties.getExplicitTimeout(),
+				frameworkProperties.getPollingInterval());
 	}
 
+    /**
+     * Creates the session pool for the in-memory WebDriver simulator.
+     * Sessions are started with {@link #createSimulatedDriver()} and warmed up in the background.
+     * 
+     * @return Session pool backing the simulator 'driverscope' WebDriver bean
+     */
+    @Bean(initMethod = "warmUp", destroyMethod = "shutdown")
+    @ConditionalOnExpression("'${my.properties.grid}'.equals('false') and '${my.properties.browser}'.equals('simulator')")
+    public DriverSessionPool simulatorSessionPool() {
+        return newSessionPool(this::createSimulatedDriver, WebDriver::quit);
+    }
+
+    /**
+     * Provides the simulated WebDriver bean by leasing a session from the pool.
+     * This bean is created when Selenium Grid is disabled and browser is set to simulator.
+     * 
+     * @return Simulated WebDriver session leased to the current test thread
+     */
+    @Bean(destroyMethod = "")
+    @ConditionalOnExpression("'${my.properties.grid}'.equals('false') and '${my.properties.browser}'.equals('simulator')")
+    @Scope("driverscope")
+    public WebDriver getSimulatedDriver() {
+        return simulatorSessionPool().lease();
+    }
+
+    /**
+     * Creates a WebDriverWait bean for the simulated WebDriver.
+     * This bean is created when Selenium Grid is disabled and browser is set to simulator.
+     * 
+     * @return WebDriverWait instance configured with the explicit timeout and polling interval from properties
+     */
+    @Bean
+    @ConditionalOnExpression("'${my.properties.grid}'.equals('false') and '${my.properties.browser}'.equals('simulator')")
+    @Scope("driverscope")
+    public WebDriverWait getSimulatedDriverWait() {
+        return new WebDriverWait(getSimulatedDriver(), frameworkProperties.getExplicitTimeout(),
+                frameworkProperties.getPollingInterval());
+    }
+
+    /**
+     * Starts a new local Chrome browser session on its own remote-debugging port.
+     * If the browser fails to start or to be configured, a started browser is quit and the
+     * port is returned to the allocator.
+     * The chromedriver binary is resolved on the first session only, and the configured
+     * browser profile and network block-list are applied before and after the browser starts.
+     * 
+     * @return Configured Chrome WebDriver instance with maximized window and debugging support
+     */
+    private WebDriver createChromeDriver() {
+        int debugPort = debugPortAllocator.acquire();
+        log.info("Creating Driver on remote-debugging port {}", debugPort);
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--remote-debugging-port=" + debugPort);
+        options.addArguments("--remote-allow-origins=*");
+        options.setPageLoadStrategy(frameworkProperties.getPageLoadStrategy());
+        browserProfileCustomizer.customize(options);
+        WebDriver driver = null;
+        try {
+            driver = new ChromeDriver(driverBinaryResolver.chromeDriverService(), options);
+            configureTimeouts(driver);
+            browserProfileCustomizer.afterStart(driver);
+            networkInterceptor.attach(driver);
+            debugPortAllocator.assign(driver, debugPort);
+            return driver;
+        } catch (RuntimeException e) {
+            quitFailedSession(driver, e);
+            debugPortAllocator.release(debugPort);
+            throw e;
+        }
+    }
+
+	/**
+	 * Starts a new Selenium Grid browser session.
+	 * Chrome sessions get the switches of the performance profile when it is selected, and the
+	 * network block-list is applied if the grid exposes DevTools.
+	 * 
+	 * @return Configured RemoteWebDriver instance with file detection and window maximization
+	 * @throws IllegalStateException if the grid URL is malformed
+	 */
+	private WebDriver createGridDriver() {
+		DesiredCapabilities dc = new DesiredCapabilities();
+		dc.setBrowserName(frameworkProperties.getBrowser());
+		dc.setCapability("e34:token", frameworkProperties.getGridToken());
+		dc.setCapability(CapabilityType.PAGE_LOAD_STRATEGY, frameworkProperties.getPageLoadStrategy());
+		Capabilities capabilities = dc;
+		if (browserProfileCustomizer.isPerformance() && "chrome".equalsIgnoreCase(frameworkProperties.getBrowser())) {
+			capabilities = browserProfileCustomizer.customize(new ChromeOptions()).merge(dc);
+		}
+		log.info("Creating Driver");
+		WebDriver driver;
+		try {
+			driver = new RemoteWebDriver(new URL(frameworkProperties.getGridUrl()), capabilities);
+		} catch (MalformedURLException e) {
+			throw new IllegalStateException("Invalid grid URL: " + frameworkProperties.getGridUrl(), e);
+		}
+		try {
+			((RemoteWebDriver) driver).setFileDetector(new LocalFileDetector());
+			if (!browserProfileCustomizer.isPerformance()) {
+				driver.manage().window().maximize();
+			}
+			configureTimeouts(driver);
+			networkInterceptor.attach(driver);
+			return driver;
+		} catch (RuntimeException e) {
+			quitFailedSession(driver, e);
+			throw e;
+		}
+	}
+
+    /**
+     * Starts a new in-memory WebDriver session with the configured page directory and command latencies.
+     * The network block-list and asset cache do not apply, as the simulator makes no requests.
+     * 
+     * @return Simulated WebDriver instance showing about:blank
+     */
+    private WebDriver createSimulatedDriver() {
+        log.info("Creating simulated Driver");
+        WebDriver driver = new SimulatedWebDriver(Path.of(frameworkProperties.getSimulatorPages()),
+                frameworkProperties.getSimulatorLatency(), frameworkProperties.getSimulatorCommandLatency());
+        try {
+            configureTimeouts(driver);
+            return driver;
+        } catch (RuntimeException e) {
+            quitFailedSession(driver, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Quits a browser session that was started but could not be configured, so that its browser
+     * and driver processes do not outlive the failed start.
+     * 
+     * @param driver The started session, or null if the session did not start
+     * @param failure The failure of the start, to which a failure to quit is added as suppressed
+     */
+    private void quitFailedSession(WebDriver driver, RuntimeException failure) {
+        if (driver == null) {
+            return;
+        }
+        try {
+            networkInterceptor.detach(driver);
+            driver.quit();
+        } catch (RuntimeException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Raises the script timeout above the explicit wait timeout so that event-driven
+     * waits, which run as asynchronous scripts, are not cut short by the browser.
+     * 
+     * @param driver The new browser session
+     */
+    private void configureTimeouts(WebDriver driver) {
+        driver.manage().timeouts().scriptTimeout(frameworkProperties.getExplicitTimeout().plusSeconds(5));
+    }
+
+    /**
+     * Creates a session pool sized from the framework properties.
+     * Starting and ending a session are recorded as {@link DriverEvent}s of the Java Flight Recorder.
+     * 
+     * @param sessionFactory Factory used by the pool to start new browser sessions
+     * @param sessionDisposer Callback used by the pool to end browser sessions
+     * @return New session pool
+     */
+    private DriverSessionPool newSessionPool(Supplier<WebDriver> sessionFactory,
+            Consumer<WebDriver> sessionDisposer) {
+        String environment = "true".equals(frameworkProperties.getGrid()) ? "grid:" + frameworkProperties.getBrowser()
+                : frameworkProperties.getBrowser();
+        Supplier<WebDriver> recordedFactory = () -> {
+            DriverEvent event = DriverEvent.begin(DriverEvent.CREATE, environment);
+            try {
+                WebDriver driver = sessionFactory.get();
+                event.session = sessionId(driver);
+                return driver;
+            } finally {
+                event.commit();
+            }
+        };
+        Consumer<WebDriver> recordedDisposer = driver -> {
+            DriverEvent event = DriverEvent.begin(DriverEvent.QUIT, environment);
+            event.session = sessionId(driver);
+            try {
+                sessionDisposer.accept(driver);
+            } finally {
+                event.commit();
+            }
+        };
+        return new DriverSessionPool(recordedFactory, recordedDisposer, frameworkProperties.getSessionPoolSize(),
+                frameworkProperties.getSessionPoolWarmSize(), frameworkProperties.getSessionMaxAge(),
+                frameworkProperties.getSessionLeaseTimeout());
+    }
+
+    /**
+     * Returns the identifier of a browser session for flight recorder events.
+     * 
+     * @param driver The browser session
+     * @return The WebDriver session id, or the session's description for sessions without one
+     */
+    private static String sessionId(WebDriver driver) {
+        return driver instanceof RemoteWebDriver remote ? String.valueOf(remote.getSessionId()) : driver.toString();
+    }
 
 }
@@ -0,0 +1,30 @@
+package com.auto.framework.config;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Named browser profiles selectable through 'my.properties.browser-profile'. A profile decides how
+ *                  the browser is started and which rendering work is switched off for test runs.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Browser profile used when starting browser sessions.
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.config.BrowserProfileCustomizer
+ */
+public enum BrowserProfile {
+
+    /**
+     * Headed, maximized browser with default settings, as a user would see the application.
+     */
+    DEFAULT,
+
+    /**
+     * Headless browser with a fixed viewport, no images or web fonts, no GPU, no background
+     * throttling, and CSS transitions and animations turned off.
+     */
+    PERFORMANCE
+}
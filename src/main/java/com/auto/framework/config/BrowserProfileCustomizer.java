@@ -0,0 +1,100 @@
+package com.auto.framework.config;
+
+import static com.auto.framework.constants.JavaScripts.DISABLE_ANIMATIONS;
+
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Applies the configured browser profile to new browser sessions: Chrome command-line switches and
+ *                  preferences before the browser starts, and DevTools settings once the session is up.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Applies the {@link BrowserProfile} selected with {@code my.properties.browser-profile}.
+ *
+ * <p>The {@link BrowserProfile#PERFORMANCE} profile starts Chrome headless with a fixed
+ * viewport of {@code my.properties.viewport}, without GPU, images or background throttling.
+ * Once a local session is started, web fonts are blocked, reduced motion is emulated and a
+ * style sheet turning off CSS transitions and animations is injected into every document.
+ * The DevTools settings need a local Chromium session; on a grid only the switches apply.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.config.BrowserConfiguration
+ */
+@Slf4j
+@Component
+public class BrowserProfileCustomizer {
+
+    /**
+     * URL patterns of web fonts, blocked by the performance profile.
+     */
+    private static final List<String> FONT_URLS = List.of("*.woff", "*.woff2", "*.ttf", "*.otf", "*.eot");
+
+    @Autowired
+    public FrameworkProperties frameworkProperties;
+
+    /**
+     * Returns true if the performance profile is selected.
+     *
+     * @return true for {@link BrowserProfile#PERFORMANCE}
+     */
+    public boolean isPerformance() {
+        return frameworkProperties.getBrowserProfile() == BrowserProfile.PERFORMANCE;
+    }
+
+    /**
+     * Adds the profile's switches and preferences to the options of a new Chrome session.
+     *
+     * @param options The options the browser will be started with
+     * @return The same options, for chaining
+     */
+    public ChromeOptions customize(ChromeOptions options) {
+        if (!isPerformance()) {
+            options.addArguments("--start-maximized");
+            return options;
+        }
+        options.addArguments("--headless=new");
+        options.addArguments("--window-size=" + frameworkProperties.getViewport().replace('x', ','));
+        options.addArguments("--disable-gpu");
+        options.addArguments("--blink-settings=imagesEnabled=false");
+        options.addArguments("--disable-background-timer-throttling");
+        options.addArguments("--disable-backgrounding-occluded-windows");
+        options.addArguments("--disable-renderer-backgrounding");
+        options.addArguments("--disable-extensions");
+        options.addArguments("--no-first-run");
+        options.setExperimentalOption("prefs", Map.of("profile.managed_default_content_settings.images", 2));
+        return options;
+    }
+
+    /**
+     * Applies the profile's DevTools settings to a newly started session.
+     * Sessions that are not local Chromium sessions are left unchanged.
+     *
+     * @param driver The new browser session
+     */
+    public void afterStart(WebDriver driver) {
+        if (!isPerformance() || !(driver instanceof ChromiumDriver chromiumDriver)) {
+            return;
+        }
+        chromiumDriver.executeCdpCommand("Network.enable", Map.of());
+        chromiumDriver.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", FONT_URLS));
+        chromiumDriver.executeCdpCommand("Emulation.setEmulatedMedia",
+                Map.of("features", List.of(Map.of("name", "prefers-reduced-motion", "value", "reduce"))));
+        chromiumDriver.executeCdpCommand("Page.addScriptToEvaluateOnNewDocument", Map.of("source",
+                DISABLE_ANIMATIONS));
+        log.debug("Applied performance profile to session");
+    }
+}
@@ -0,0 +1,129 @@
+package com.auto.framework.config;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.WebDriver;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Allocator for Chrome remote-debugging ports. Each browser session gets its own free port from
+ *                  the configured range, so parallel sessions no longer compete for a single fixed port.
+ * @Version : 1.1
+ ************************************************************************************************************************/
+
+/**
+ * Hands out free remote-debugging ports to local Chrome sessions.
+ *
+ * <p>Ports are taken from the range configured by {@code my.properties.debug-port-from}
+ * and {@code my.properties.debug-port-to}. A port is only handed out if it is not used
+ * by another session of this JVM and can be bound on the loopback interface when it is
+ * handed out. The port is returned to the range when the session it was assigned to is
+ * quit.</p>
+ *
+ * <p>The allocator cannot reserve a port against other processes: two JVMs starting
+ * browsers at the same moment may both find a port free. JVMs of one machine therefore
+ * need ranges of their own, as {@code run-shards.sh} and {@code run-workers.sh} give
+ * them.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.1
+ * @since 1.3
+ * @see com.auto.framework.config.BrowserConfiguration
+ */
+@Slf4j
+@Component
+public class DebugPortAllocator {
+
+    /**
+     * Configuration properties providing the port range.
+     */
+    @Autowired
+    private FrameworkProperties frameworkProperties;
+
+    /**
+     * Ports currently in use, as offsets from the start of the range.
+     */
+    private final BitSet usedPorts = new BitSet();
+
+    /**
+     * Port assigned to each running session.
+     */
+    private final Map<WebDriver, Integer> sessionPorts = new ConcurrentHashMap<>();
+
+    /**
+     * Reserves a free port from the configured range.
+     *
+     * @return A port that is free on this machine
+     * @throws IllegalStateException if every port in the range is in use
+     */
+    public synchronized int acquire() {
+        int from = frameworkProperties.getDebugPortFrom();
+        int rangeSize = frameworkProperties.getDebugPortTo() - from + 1;
+        for (int offset = usedPorts.nextClearBit(0); offset < rangeSize; offset = usedPorts.nextClearBit(offset + 1)) {
+            if (isBindable(from + offset)) {
+                usedPorts.set(offset);
+                return from + offset;
+            }
+        }
+        throw new IllegalStateException(String.format("No free remote-debugging port in range %d-%d", from,
+                frameworkProperties.getDebugPortTo()));
+    }
+
+    /**
+     * Returns a port to the range.
+     *
+     * @param port The port obtained from {@link #acquire()}
+     */
+    public synchronized void release(int port) {
+        usedPorts.clear(port - frameworkProperties.getDebugPortFrom());
+    }
+
+    /**
+     * Records the port used by a started session so that it can be released with the session.
+     *
+     * @param driver The started session
+     * @param port The port the session was started with
+     */
+    public void assign(WebDriver driver, int port) {
+        sessionPorts.put(driver, port);
+    }
+
+    /**
+     * Releases the port assigned to a session, if any.
+     *
+     * @param driver The session that has been quit
+     */
+    public void release(WebDriver driver) {
+        Integer port = sessionPorts.remove(driver);
+        if (port != null) {
+            release(port);
+        }
+    }
+
+    /**
+     * Checks that the port can be bound on the loopback interface at this moment. The probe
+     * socket is closed before Chrome starts, so another process may still take the port first.
+     *
+     * @param port The port to check
+     * @return true if the port could be bound on the loopback interface
+     */
+    private boolean isBindable(int port) {
+        try (ServerSocket socket = new ServerSocket()) {
+            socket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1);
+            return true;
+        } catch (IOException e) {
+            log.debug("Remote-debugging port {} is busy", port);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.auto.framework.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import lombok.extern.slf4j.Slf4j;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Resolves the chromedriver binary once per JVM and keeps it in a local content-addressed cache keyed
+ *                  by the installed browser's major version, so that starting a browser session never repeats the
+ *                  version lookup or downloads, and runs on machines without network access.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * One-time driver binary resolution for local Chrome sessions.
+ *
+ * <p>The binary is resolved on the first session and reused by every later one, in the
+ * following order:</p>
+ * <ol>
+ * <li>{@code my.properties.chromedriver-path}, if set, is used as is.</li>
+ * <li>The local cache in {@code my.properties.driver-cache-dir} is looked up by the major
+ * version of the installed Chrome. Binaries are stored under their SHA-256 hash and
+ * verified on use; an index file maps the browser version to the hash.</li>
+ * <li>Unless {@code my.properties.driver-offline} is true, WebDriverManager downloads the
+ * matching driver, which is then added to the cache.</li>
+ * </ol>
+ *
+ * <p>A failed resolution is remembered as well, so an offline machine with an empty cache
+ * fails every session immediately with the same message instead of retrying.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.config.BrowserConfiguration
+ * @see io.github.bonigarcia.wdm.WebDriverManager
+ */
+@Slf4j
+@Component
+public class DriverBinaryResolver {
+
+    /**
+     * Major version in the output of {@code chrome --version}.
+     */
+    private static final Pattern MAJOR_VERSION = Pattern.compile("(\\d+)\\.\\d+");
+
+    @Autowired
+    public FrameworkProperties frameworkProperties;
+
+    /**
+     * Resolved chromedriver binary, or null until resolved.
+     */
+    private volatile Path chromeDriver;
+
+    /**
+     * Failure of the first resolution, rethrown for every later session.
+     */
+    private volatile RuntimeException resolutionFailure;
+
+    /**
+     * Returns a driver service for a new Chrome session, using the resolved binary on any free port.
+     *
+     * @return A driver service that is not started yet
+     * @throws IllegalStateException if no chromedriver binary can be resolved
+     */
+    public ChromeDriverService chromeDriverService() {
+        return new ChromeDriverService.Builder().usingDriverExecutable(chromeDriver().toFile()).usingAnyFreePort()
+                .build();
+    }
+
+    /**
+     * Returns the chromedriver binary, resolving it on first call.
+     *
+     * @return Path of the chromedriver executable
+     * @throws IllegalStateException if no chromedriver binary can be resolved
+     */
+    public Path chromeDriver() {
+        Path resolved = chromeDriver;
+        if (resolved != null) {
+            return resolved;
+        }
+        synchronized (this) {
+            if (chromeDriver == null && resolutionFailure == null) {
+                long start = System.nanoTime();
+                try {
+                    chromeDriver = resolveChromeDriver();
+                    log.info("Resolved chromedriver {} in {} ms", chromeDriver,
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                } catch (RuntimeException e) {
+                    resolutionFailure = e;
+                }
+            }
+            if (resolutionFailure != null) {
+                throw resolutionFailure;
+            }
+            return chromeDriver;
+        }
+    }
+
+    /**
+     * Resolves the chromedriver binary from the configured path, the local cache or a download.
+     *
+     * @return Path of the chromedriver executable
+     */
+    private Path resolveChromeDriver() {
+        if (StringUtils.hasText(frameworkProperties.getChromedriverPath())) {
+            Path configured = Path.of(frameworkProperties.getChromedriverPath());
+            if (!Files.isExecutable(configured)) {
+                throw new IllegalStateException("my.properties.chromedriver-path is not executable: " + configured);
+            }
+            return configured;
+        }
+        String browserVersion = detectChromeVersion().orElse("unknown");
+        Path cacheDir = Path.of(frameworkProperties.getDriverCacheDir());
+        Path index = cacheDir.resolve("chromedriver-" + browserVersion + ".sha256");
+        Optional<Path> cached = lookup(cacheDir, index);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        if (frameworkProperties.isDriverOffline()) {
+            throw new IllegalStateException(String.format("No cached chromedriver for Chrome %s in %s and "
+                    + "my.properties.driver-offline is set. Seed the cache with one online run or set "
+                    + "my.properties.chromedriver-path.", browserVersion, cacheDir));
+        }
+        WebDriverManager manager = WebDriverManager.chromedriver();
+        if (!"unknown".equals(browserVersion)) {
+            manager.browserVersion(browserVersion);
+        }
+        manager.avoidExport().setup();
+        return store(Path.of(manager.getDownloadedDriverPath()), cacheDir, index);
+    }
+
+    /**
+     * Looks up a cached binary through its index file and verifies its hash.
+     *
+     * @param cacheDir The cache directory
+     * @param index The index file of the browser version
+     * @return The cached binary, or empty if missing or corrupt
+     */
+    private Optional<Path> lookup(Path cacheDir, Path index) {
+        if (!Files.isReadable(index)) {
+            return Optional.empty();
+        }
+        try {
+            String hash = Files.readString(index, StandardCharsets.UTF_8).trim();
+            Path binary = blob(cacheDir, hash);
+            if (Files.isExecutable(binary) && hash.equals(sha256(binary))) {
+                return Optional.of(binary);
+            }
+            log.warn("Ignoring corrupt cached chromedriver {}", binary);
+        } catch (IOException e) {
+            log.warn("Could not read driver cache index {}: {}", index, e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Copies a downloaded binary into the cache under its hash and points the index at it.
+     * The cache is only an optimisation: if it cannot be written, the downloaded binary is used directly.
+     *
+     * @param downloaded The downloaded binary
+     * @param cacheDir The cache directory
+     * @param index The index file of the browser version
+     * @return The cached binary, or the downloaded one if caching failed
+     */
+    private Path store(Path downloaded, Path cacheDir, Path index) {
+        try {
+            String hash = sha256(downloaded);
+            Path binary = blob(cacheDir, hash);
+            if (!Files.exists(binary)) {
+                Files.createDirectories(binary.getParent());
+                Path temp = Files.createTempFile(binary.getParent(), "chromedriver", ".tmp");
+                Files.copy(downloaded, temp, StandardCopyOption.REPLACE_EXISTING);
+                temp.toFile().setExecutable(true);
+                Files.move(temp, binary, StandardCopyOption.ATOMIC_MOVE);
+            }
+            Path tempIndex = Files.createTempFile(cacheDir, "index", ".tmp");
+            Files.writeString(tempIndex, hash, StandardCharsets.UTF_8);
+            Files.move(tempIndex, index, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return binary;
+        } catch (IOException e) {
+            log.warn("Could not cache chromedriver in {}: {}", cacheDir, e.getMessage());
+            return downloaded;
+        }
+    }
+
+    /**
+     * Returns the location of a binary in the cache.
+     *
+     * @param cacheDir The cache directory
+     * @param hash The binary's SHA-256 hash
+     * @return Path of the cached binary
+     */
+    private static Path blob(Path cacheDir, String hash) {
+        String name = System.getProperty("os.name").toLowerCase().contains("win") ? "chromedriver.exe"
+                : "chromedriver";
+        return cacheDir.resolve("sha256").resolve(hash).resolve(name);
+    }
+
+    /**
+     * Detects the major version of the locally installed Chrome without network access.
+     *
+     * @return The major version, or empty if Chrome or its version cannot be found
+     */
+    private static Optional<String> detectChromeVersion() {
+        Optional<Path> browser = WebDriverManager.chromedriver().getBrowserPath();
+        if (browser.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            Process process = new ProcessBuilder(browser.get().toString(), "--version").redirectErrorStream(true)
+                    .start();
+            String output;
+            try (InputStream in = process.getInputStream()) {
+                output = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            process.waitFor(10, TimeUnit.SECONDS);
+            Matcher matcher = MAJOR_VERSION.matcher(output);
+            return matcher.find() ? Optional.of(matcher.group(1)) : Optional.empty();
+        } catch (IOException e) {
+            log.warn("Could not detect Chrome version: {}", e.getMessage());
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Computes the SHA-256 hash of a file.
+     *
+     * @param file The file to hash
+     * @return The hash as lower-case hex
+     * @throws IOException if the file cannot be read
+     */
+    private static String sha256(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[64 * 1024];
+            for (int read = in.read(buffer); read > 0; read = in.read(buffer)) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
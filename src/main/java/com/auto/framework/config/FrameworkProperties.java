@@ -1,9 +1,18 @@
 package com.auto.framework.config;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
+import org.openqa.selenium.PageLoadStrategy;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.auto.framework.fixtures.FixtureMode;
+import com.auto.framework.reporting.ScreenshotTrigger;
 
 import lombok.Data;
 
@@ -12,7 +21,7 @@ import lombok.Data;
  * @Description : Framework properties class for configuration management. This class maps application.properties
  *                  prefixed with 'my.properties' to provide centralized configuration access throughout
  *                  the framework including browser settings, timeouts, and Selenium Grid configuration.
- * @Version : 1.2
+ * @Version : 1.3
  ************************************************************************************************************************/
 
 /**
@@ -24,7 +33,7 @@ import lombok.Data;
  * and application URLs for test execution.</p>
  * 
  * @author Ravi Kukreja
- * @version 1.2
+ * @version 1.3
  * @since 1.0
  * @see org.springframework.boot.context.properties.ConfigurationProperties
  */
@@ -35,7 +44,7 @@ public class FrameworkProperties {
     
     /**
      * The browser type to be used for test execution.
-     * Supported values: chrome, firefox
+     * Supported values: chrome, firefox, simulator (in-memory WebDriver, local execution only)
      */
     private String browser;
     
@@ -44,6 +53,163 @@ public class FrameworkProperties {
      * Configured as a Duration object for flexible time specification.
      */
     private Duration explicitTimeout;
+
+    /**
+     * Page-load strategy of every session: normal waits for all subresources, eager for the
+     * parsed DOM and none returns at once; page readiness conditions complete the wait.
+     */
+    private PageLoadStrategy pageLoadStrategy = PageLoadStrategy.NORMAL;
+
+    /**
+     * Whether explicit waits watch the condition inside the browser (MutationObserver)
+     * instead of polling it through WebDriver. Polling remains the fallback.
+     */
+    private boolean eventDrivenWaits = true;
+
+    /**
+     * Interval between condition checks of polling (WebDriverWait) waits.
+     */
+    private Duration pollingInterval = Duration.ofMillis(500);
+
+    /**
+     * Whether clickable waits use a timeout learned from the recorded readiness times of
+     * the locator on the current page instead of the global explicit timeout. Off by default:
+     * the history is machine-local, and a slower agent or deploy would hit the learned timeout.
+     * Readiness times measured in the browser are recorded either way.
+     */
+    private boolean adaptiveTimeouts;
+
+    /**
+     * Multiplier applied to the 99th percentile readiness time to get the adaptive timeout.
+     */
+    private double adaptiveTimeoutFactor = 3.0;
+
+    /**
+     * Lower bound of adaptive timeouts. The explicit timeout is the upper bound.
+     */
+    private Duration adaptiveTimeoutMin = Duration.ofSeconds(2);
+
+    /**
+     * Number of recorded waits a locator needs before its timeout is adapted.
+     */
+    private int adaptiveTimeoutMinSamples = 5;
+
+    /**
+     * File the readiness history is loaded from at startup and saved to at shutdown.
+     */
+    private String waitHistoryFile = "wait-history.properties";
+
+    /**
+     * Whether the DurationAwareScheduler starts the test methods of a parallel run longest first. Off by
+     * default: the durations are machine-local, so the order would differ between machines and runs.
+     * Durations are recorded either way.
+     */
+    private boolean durationScheduling;
+
+    /**
+     * File the durations of test methods are kept in between runs.
+     */
+    private String testDurationFile = "test-durations.properties";
+
+    /**
+     * Number of JVMs the suite is split over; 1 runs the whole suite.
+     */
+    private int shardCount = 1;
+
+    /**
+     * Zero-based shard this JVM runs, when the suite is split over several JVMs.
+     */
+    private int shardIndex = 0;
+
+    /**
+     * Durations file the shards are planned from; blank plans from the test duration file. All shards must plan
+     * from the same durations, so a sharded run can pin them to a copy taken before the shards start.
+     */
+    private String shardDurationsFile = "";
+
+    /**
+     * URL of the WorkCoordinator; the coordinator listens on its port, workers pull tests from it.
+     */
+    private String coordinatorUrl = "http://localhost:8090";
+
+    /**
+     * Address the WorkCoordinator listens on; blank listens on loopback only. Workers on other machines need an
+     * address they can reach, such as 0.0.0.0, and a coordinator token.
+     */
+    private String coordinatorBindAddress = "";
+
+    /**
+     * Shared secret every request to the WorkCoordinator must carry; required when it listens beyond loopback.
+     */
+    private String coordinatorToken = "";
+
+    /**
+     * Tests a worker JVM runs at the same time. Keep 1 with Allure, whose test context is lost when
+     * TestNG runs of one JVM overlap; start more worker JVMs instead.
+     */
+    private int workerSlots = 1;
+
+    /**
+     * Interval at which a worker tells the coordinator it is alive.
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(2);
+
+    /**
+     * Time without heartbeat after which the coordinator hands a worker's tests to other workers.
+     */
+    private Duration heartbeatTimeout = Duration.ofSeconds(15);
+
+    /**
+     * Times a test is handed out before the coordinator gives up on it, when its workers keep dying.
+     */
+    private int maxTestAttempts = 2;
+
+    /**
+     * Rows the 'User Data' provider gives each of its tests.
+     */
+    private int userDataRows = 2;
+
+    /**
+     * Whether the rows of the 'User Data' provider run in parallel. TestNG reads all rows of a parallel provider
+     * before the first one runs; false streams them one at a time.
+     */
+    private boolean userDataParallel = true;
+
+    /**
+     * Seed of the generated user data, so that runs get the same rows; unset draws a new seed every run.
+     */
+    private Long userDataSeed;
+
+    /**
+     * Binary file of pre-generated user data, memory-mapped and read row by row; written when missing or too short.
+     * Blank generates the rows as the tests read them.
+     */
+    private String userDataFile = "";
+
+    /**
+     * Test outcomes on which a screenshot is taken at teardown.
+     */
+    private List<ScreenshotTrigger> screenshotOn = List.of(ScreenshotTrigger.FAIL);
+
+    /**
+     * Format of screenshot attachments: png, or jpg for smaller reports.
+     */
+    private String screenshotFormat = "png";
+
+    /**
+     * JPEG quality between 0 and 1, used when the screenshot format is jpg.
+     */
+    private float screenshotJpegQuality = 0.8f;
+
+    /**
+     * Number of background threads encoding and writing screenshot attachments.
+     */
+    private int screenshotThreads = 2;
+
+    /**
+     * Maximum number of screenshots waiting to be written before the test thread writes its own.
+     */
+    private int screenshotQueueSize = 50;
     
     /**
      * The URL of the Selenium Grid hub when running tests in distributed mode.
@@ -74,5 +240,171 @@ public class FrameworkProperties {
     /**
      * The base URL of the demo application for testing.
      */
-    private String demoUrl;	
+    private String demoUrl;
+
+    /**
+     * Maximum number of browser sessions leased from the session pool at the same time.
+     * Sessions are reset and reused between tests; 0 disables pooling so that every
+     * test starts and quits its own browser.
+     */
+    private int sessionPoolSize;
+
+    /**
+     * Number of browser sessions started in the background when the Spring context starts.
+     * Capped at the pool size.
+     */
+    private int sessionPoolWarmSize;
+
+    /**
+     * Age after which a pooled browser session is quit instead of being reused.
+     */
+    private Duration sessionMaxAge = Duration.ofMinutes(30);
+
+    /**
+     * Maximum time a test waits for a free browser session before failing.
+     */
+    private Duration sessionLeaseTimeout = Duration.ofMinutes(5);
+
+    /**
+     * First port of the range from which local Chrome sessions get their remote-debugging port.
+     */
+    private int debugPortFrom = 9222;
+
+    /**
+     * Last port (inclusive) of the remote-debugging port range.
+     * The range size bounds the number of concurrent local Chrome sessions.
+     */
+    private int debugPortTo = 9322;
+
+    /**
+     * Explicit chromedriver executable. When set, no driver resolution takes place.
+     */
+    private String chromedriverPath;
+
+    /**
+     * Directory of the content-addressed chromedriver cache, keyed by browser major version.
+     */
+    private String driverCacheDir = System.getProperty("user.home") + "/.cache/auto-framework/drivers";
+
+    /**
+     * Never download drivers; only the configured path or the local cache is used.
+     */
+    private boolean driverOffline;
+
+    /**
+     * Browser profile sessions are started with: default, or performance for headless runs
+     * without images, fonts and animations.
+     */
+    private BrowserProfile browserProfile = BrowserProfile.DEFAULT;
+
+    /**
+     * Window size of headless sessions, as WIDTHxHEIGHT.
+     */
+    private String viewport = "1920x1080";
+
+    /**
+     * Whether to record per-test wall times for comparing browser profiles.
+     */
+    private boolean benchmark;
+
+    /**
+     * Directory the benchmark results of each profile and their comparison are written to.
+     */
+    private String benchmarkDir = "target/benchmark";
+
+    /**
+     * Whether the framework actions called by page objects are timed into latency histograms.
+     */
+    private boolean actionMetrics = true;
+
+    /**
+     * Directory the action latency report is written to when the suite ends.
+     */
+    private String actionMetricsDir = "target/action-metrics";
+
+    /**
+     * Whether a Java Flight Recorder recording of the whole suite is written.
+     */
+    private boolean jfr;
+
+    /**
+     * File the flight recording is written to when the suite ends.
+     */
+    private String jfrFile = "target/jfr/suite.jfr";
+
+    /**
+     * JDK recording settings used besides the framework events: default or profile.
+     */
+    private String jfrSettings = "default";
+
+    /**
+     * Whether the time breakdown of the suite and of every test is written when the suite ends.
+     */
+    private boolean suiteProfile = true;
+
+    /**
+     * Directory the suite profile is written to, next to allure-results.
+     */
+    private String suiteProfileDir = "suite-profile";
+
+    /**
+     * URL patterns (DevTools wildcards) of requests blocked in every session, e.g. ads and analytics.
+     */
+    private List<String> blockedUrls = new ArrayList<>();
+
+    /**
+     * URL patterns let through even if they match the block-list.
+     */
+    private List<String> allowedUrls = new ArrayList<>();
+
+    /**
+     * Serves static assets of every session from a shared disk cache. Off by default: a cache kept
+     * between runs is only as current as the freshness headers of the application under test.
+     */
+    private boolean assetCache;
+
+    /**
+     * Directory of the shared asset cache, kept between runs.
+     */
+    private String assetCacheDir = System.getProperty("user.home") + "/.cache/auto-framework/assets";
+
+    /**
+     * Size limit of the asset cache; least recently used assets are evicted beyond it.
+     */
+    private DataSize assetCacheMaxSize = DataSize.ofMegabytes(500);
+
+    /**
+     * Longest time a cached asset is served without asking the server, whatever its freshness headers allow.
+     */
+    private Duration assetCacheMaxAge = Duration.ofDays(1);
+
+    /**
+     * DevTools resource types served from the asset cache.
+     */
+    private List<String> assetCacheTypes = new ArrayList<>(List.of("Script", "Stylesheet", "Font", "Image"));
+
+    /**
+     * Whether responses are recorded to, or replayed from, the fixture archive.
+     */
+    private FixtureMode fixtureMode = FixtureMode.OFF;
+
+    /**
+     * ZIP archive of the recorded responses.
+     */
+    private String fixtureArchive = "src/test/resources/fixtures/demoqa.zip";
+
+    /**
+     * Directory holding the page sources the WebDriver simulator serves for HTTP URLs.
+     */
+    private String simulatorPages = "src/test/resources/simulator";
+
+    /**
+     * Latency the WebDriver simulator adds to every command.
+     */
+    private Duration simulatorLatency = Duration.ZERO;
+
+    /**
+     * Latencies of individual simulator commands, keyed by WebDriver command name, e.g. findElement.
+     */
+    private Map<String, Duration> simulatorCommandLatency = new HashMap<>();
 }
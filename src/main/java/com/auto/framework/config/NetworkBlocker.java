@@ -0,0 +1,180 @@
+package com.auto.framework.config;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.openqa.selenium.WebDriver;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.auto.framework.model.NetworkStats;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Block-list and allow-list of request URLs, used to keep third-party requests such as ads and
+ *                  analytics out of every browser session, with per-session counters of the blocked requests.
+ * @Version : 1.1
+ ************************************************************************************************************************/
+
+/**
+ * Network block-list for browser sessions.
+ *
+ * <p>Requests matching {@code my.properties.blocked-urls} are intercepted by the
+ * {@link NetworkInterceptor} and failed with {@code BlockedByClient}, unless they also
+ * match {@code my.properties.allowed-urls}. Patterns use the DevTools wildcard syntax:
+ * {@code *} matches any sequence of characters and {@code ?} a single character.</p>
+ *
+ * <p>Blocked requests are never sent, so their size is unknown; the counters report the
+ * number of blocked requests per host instead. Counters of a session are logged when it
+ * is quit, and the totals of all sessions when the Spring context closes.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.1
+ * @since 1.3
+ * @see com.auto.framework.model.NetworkStats
+ * @see com.auto.framework.config.NetworkInterceptor
+ */
+@Slf4j
+@Component
+public class NetworkBlocker {
+
+    @Autowired
+    public FrameworkProperties frameworkProperties;
+
+    /**
+     * Counters of each running session.
+     */
+    private final Map<WebDriver, NetworkStats> sessionStats = new ConcurrentHashMap<>();
+
+    /**
+     * Counters of all sessions that have been quit.
+     */
+    private final NetworkStats totals = new NetworkStats();
+
+    /**
+     * Compiled block-list patterns.
+     */
+    private List<Pattern> blocked;
+
+    /**
+     * Compiled allow-list patterns.
+     */
+    private List<Pattern> allowed;
+
+    /**
+     * Compiles the configured patterns.
+     */
+    @PostConstruct
+    public void compilePatterns() {
+        blocked = frameworkProperties.getBlockedUrls().stream().map(NetworkBlocker::toRegex).toList();
+        allowed = frameworkProperties.getAllowedUrls().stream().map(NetworkBlocker::toRegex).toList();
+    }
+
+    /**
+     * Returns the configured block-list patterns, in DevTools wildcard syntax.
+     *
+     * @return The block-list patterns
+     */
+    public List<String> getPatterns() {
+        return frameworkProperties.getBlockedUrls();
+    }
+
+    /**
+     * Decides whether a request is blocked and updates the session's counters.
+     *
+     * @param driver The browser session the request belongs to
+     * @param url The request URL
+     * @return true if the request must be failed
+     */
+    public boolean block(WebDriver driver, String url) {
+        if (blocked.stream().noneMatch(pattern -> pattern.matcher(url).matches())) {
+            return false;
+        }
+        NetworkStats stats = sessionStats.computeIfAbsent(driver, key -> new NetworkStats());
+        if (allowed.stream().anyMatch(pattern -> pattern.matcher(url).matches())) {
+            stats.recordAllowed();
+            return false;
+        }
+        stats.recordBlocked(host(url));
+        log.debug("Blocked {}", url);
+        return true;
+    }
+
+    /**
+     * Returns the counters of a running session.
+     *
+     * @param driver The browser session
+     * @return The session's counters, or empty counters if nothing was intercepted yet
+     */
+    public NetworkStats statsFor(WebDriver driver) {
+        return sessionStats.computeIfAbsent(driver, key -> new NetworkStats());
+    }
+
+    /**
+     * Logs and forgets the counters of a session that is being quit.
+     *
+     * @param driver The browser session
+     */
+    public void detach(WebDriver driver) {
+        NetworkStats stats = sessionStats.remove(driver);
+        if (stats != null && stats.getBlockedRequests() > 0) {
+            log.info("Session blocked {} requests: {}", stats.getBlockedRequests(), stats.getBlockedByHost());
+        }
+        if (stats != null) {
+            totals.add(stats);
+        }
+    }
+
+    /**
+     * Logs the counters of all sessions when the Spring context closes.
+     */
+    @PreDestroy
+    public void logSummary() {
+        sessionStats.values().forEach(totals::add);
+        sessionStats.clear();
+        if (totals.getBlockedRequests() > 0 || totals.getAllowedRequests() > 0) {
+            log.info("Network block-list: {} requests blocked, {} let through by allow-list, by host {}",
+                    totals.getBlockedRequests(), totals.getAllowedRequests(), totals.getBlockedByHost());
+        }
+    }
+
+    /**
+     * Returns the host of a URL.
+     *
+     * @param url The request URL
+     * @return The host, or the URL itself if it has none
+     */
+    private static String host(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host == null ? url : host;
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+
+    /**
+     * Converts a DevTools wildcard pattern into a regular expression.
+     *
+     * @param pattern The wildcard pattern
+     * @return The equivalent regular expression
+     */
+    static Pattern toRegex(String pattern) {
+        StringBuilder regex = new StringBuilder();
+        for (char c : pattern.toCharArray()) {
+            switch (c) {
+                case '*' -> regex.append(".*");
+                case '?' -> regex.append('.');
+                default -> regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+}
@@ -0,0 +1,332 @@
+package com.auto.framework.config;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.Augmenter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.auto.framework.config.AssetCache.CachedAsset;
+import com.auto.framework.fixtures.FixtureArchive;
+import com.auto.framework.fixtures.FixtureArchive.Fixture;
+import com.auto.framework.fixtures.FixtureMode;
+import com.auto.framework.fixtures.FixtureServer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Routes the requests of every browser session through the framework over DevTools, where the
+ *                  network block-list fails third-party requests, static assets are served from the shared
+ *                  asset cache, and responses are recorded to or replayed from the fixture archive.
+ * @Version : 1.2
+ ************************************************************************************************************************/
+
+/**
+ * DevTools request interception for browser sessions.
+ *
+ * <p>Every session started by {@link BrowserConfiguration} is attached once. A single
+ * {@code Fetch.enable} call registers the patterns of both features, since a later call
+ * would replace the patterns of an earlier one:</p>
+ * <ul>
+ * <li>requests matching the {@link NetworkBlocker} block-list are paused before they are
+ * sent and failed with {@code BlockedByClient};</li>
+ * <li>requests for the resource types in {@code my.properties.asset-cache-types} are paused
+ * before they are sent, and fulfilled from the {@link AssetCache} while the cached response is
+ * fresh. A stale response is revalidated: the request is sent with its validators, and a
+ * {@code 304} is answered with the cached body. Otherwise the response is paused once it
+ * arrives and stored in the cache.</li>
+ * <li>in {@link FixtureMode#RECORD} mode every response is paused and added to the
+ * {@link FixtureArchive}; the asset cache is bypassed so that nothing is missed.</li>
+ * <li>in {@link FixtureMode#REPLAY} mode every request not addressed to the
+ * {@link FixtureServer} is answered from the archive, or failed if it was not recorded.</li>
+ * </ul>
+ *
+ * <p>Interception happens inside the browser, so HTTPS assets are cached without decrypting
+ * traffic in a proxy and without certificate set-up. Grid sessions are intercepted only if
+ * the grid exposes DevTools.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.2
+ * @since 1.3
+ * @see com.auto.framework.config.NetworkBlocker
+ * @see com.auto.framework.config.AssetCache
+ * @see com.auto.framework.fixtures.FixtureArchive
+ */
+@Slf4j
+@Component
+public class NetworkInterceptor {
+
+    @Autowired
+    public FrameworkProperties frameworkProperties;
+
+    @Autowired
+    public NetworkBlocker networkBlocker;
+
+    @Autowired
+    public AssetCache assetCache;
+
+    @Autowired
+    public FixtureArchive fixtureArchive;
+
+    @Autowired
+    public FixtureServer fixtureServer;
+
+    /**
+     * Ids of the requests sent with the validators of a stale cache entry.
+     */
+    private final Set<String> revalidating = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Starts intercepting the requests of a new session.
+     * Sessions without DevTools support are left unchanged.
+     *
+     * @param driver The new browser session
+     */
+    public void attach(WebDriver driver) {
+        List<Map<String, String>> patterns = patterns();
+        if (patterns.isEmpty()) {
+            return;
+        }
+        DevTools devTools;
+        try {
+            WebDriver devToolsDriver = driver instanceof HasDevTools ? driver : new Augmenter().augment(driver);
+            if (!(devToolsDriver instanceof HasDevTools hasDevTools)) {
+                log.warn("Session has no DevTools support, network interception not applied");
+                return;
+            }
+            devTools = hasDevTools.getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+        } catch (WebDriverException e) {
+            log.warn("Could not open DevTools session, network interception not applied: {}", e.getMessage());
+            return;
+        }
+        devTools.addListener(new Event<Map<String, Object>>("Fetch.requestPaused", input -> input.read(Json.MAP_TYPE)),
+                paused -> onRequestPaused(driver, devTools, paused));
+        devTools.send(new Command<>("Fetch.enable", Map.of("patterns", patterns)));
+    }
+
+    /**
+     * Stops tracking a session that is being quit.
+     *
+     * @param driver The browser session
+     */
+    public void detach(WebDriver driver) {
+        networkBlocker.detach(driver);
+    }
+
+    /**
+     * Returns the {@code Fetch.enable} patterns of the block-list, the fixture archive and the asset cache.
+     *
+     * @return The request patterns, empty if no feature is configured
+     */
+    private List<Map<String, String>> patterns() {
+        List<Map<String, String>> patterns = new ArrayList<>();
+        networkBlocker.getPatterns().forEach(pattern -> patterns.add(Map.of("urlPattern", pattern,
+                "requestStage", "Request")));
+        if (fixtureArchive.getMode() == FixtureMode.RECORD) {
+            patterns.add(Map.of("urlPattern", "*", "requestStage", "Response"));
+        } else if (fixtureArchive.getMode() == FixtureMode.REPLAY) {
+            patterns.add(Map.of("urlPattern", "*", "requestStage", "Request"));
+        }
+        if (assetCache.isEnabled()) {
+            for (String type : frameworkProperties.getAssetCacheTypes()) {
+                patterns.add(Map.of("urlPattern", "*", "resourceType", type, "requestStage", "Request"));
+                patterns.add(Map.of("urlPattern", "*", "resourceType", type, "requestStage", "Response"));
+            }
+        }
+        return patterns;
+    }
+
+    /**
+     * Resolves a paused request: blocks it, answers it from the cache, or lets it through.
+     *
+     * @param driver The browser session the request belongs to
+     * @param devTools The session's DevTools connection
+     * @param paused The {@code Fetch.requestPaused} event
+     */
+    @SuppressWarnings("unchecked")
+    private void onRequestPaused(WebDriver driver, DevTools devTools, Map<String, Object> paused) {
+        String requestId = String.valueOf(paused.get("requestId"));
+        Map<String, Object> request = (Map<String, Object>) paused.get("request");
+        String url = String.valueOf(request.get("url"));
+        String method = String.valueOf(request.get("method"));
+        boolean responseStage = paused.containsKey("responseStatusCode") || paused.containsKey("responseErrorReason");
+        try {
+            if (responseStage) {
+                if (revalidating.remove(requestId) && paused.get("responseStatusCode") instanceof Number code
+                        && code.intValue() == 304) {
+                    Optional<CachedAsset> cached = assetCache.revalidate(url, (List<Map<String, String>>) paused
+                            .getOrDefault("responseHeaders", List.of()));
+                    if (cached.isPresent()) {
+                        fulfill(devTools, requestId, cached.get());
+                        return;
+                    }
+                }
+                storeResponse(devTools, paused, url, method);
+            } else if (networkBlocker.block(driver, url)) {
+                devTools.send(new Command<>("Fetch.failRequest",
+                        Map.of("requestId", requestId, "errorReason", "BlockedByClient")));
+                return;
+            } else if (fixtureArchive.getMode() == FixtureMode.REPLAY && !fixtureServer.isLocal(url)) {
+                replay(devTools, requestId, method, url);
+                return;
+            } else if (fixtureArchive.getMode() != FixtureMode.RECORD && isCacheable(paused, method)) {
+                Optional<CachedAsset> cached = assetCache.lookup(url);
+                if (cached.isPresent() && cached.get().isFresh()) {
+                    fulfill(devTools, requestId, cached.get());
+                    return;
+                }
+                if (cached.isPresent()) {
+                    revalidating.add(requestId);
+                    devTools.send(new Command<>("Fetch.continueRequest", Map.of("requestId", requestId,
+                            "headers", conditionalHeaders(request, cached.get()))));
+                    return;
+                }
+            }
+            devTools.send(new Command<>("Fetch.continueRequest", Map.of("requestId", requestId)));
+        } catch (WebDriverException e) {
+            log.debug("Could not resolve intercepted request {}: {}", url, e.getMessage());
+        }
+    }
+
+    /**
+     * Answers a paused request with a cached response.
+     *
+     * @param devTools The session's DevTools connection
+     * @param requestId The id of the paused request
+     * @param cached The cached response
+     */
+    private static void fulfill(DevTools devTools, String requestId, CachedAsset cached) {
+        devTools.send(new Command<>("Fetch.fulfillRequest", Map.of("requestId", requestId,
+                "responseCode", cached.status(), "responseHeaders", cached.headers(),
+                "body", Base64.getEncoder().encodeToString(cached.body()))));
+    }
+
+    /**
+     * Returns the headers of a request with the validators of a stale cache entry in place of
+     * any conditional headers the browser sent.
+     *
+     * @param request The paused request
+     * @param cached The stale cache entry
+     * @return The request headers as DevTools {@code name}/{@code value} entries
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, String>> conditionalHeaders(Map<String, Object> request, CachedAsset cached) {
+        List<Map<String, String>> headers = new ArrayList<>();
+        ((Map<String, Object>) request.getOrDefault("headers", Map.of())).forEach((name, value) -> {
+            if (!name.equalsIgnoreCase("If-None-Match") && !name.equalsIgnoreCase("If-Modified-Since")) {
+                headers.add(Map.of("name", name, "value", String.valueOf(value)));
+            }
+        });
+        headers.addAll(cached.validators());
+        return headers;
+    }
+
+    /**
+     * Stores the response of a paused request in the fixture archive when recording, and in
+     * the asset cache if it is a cacheable asset. The body is read at most once.
+     * The request is continued by the caller whether or not the response could be stored.
+     *
+     * @param devTools The session's DevTools connection
+     * @param paused The {@code Fetch.requestPaused} event at response stage
+     * @param url The request URL
+     * @param method The request method
+     */
+    @SuppressWarnings("unchecked")
+    private void storeResponse(DevTools devTools, Map<String, Object> paused, String url, String method) {
+        if (!(paused.get("responseStatusCode") instanceof Number code)) {
+            return;
+        }
+        int status = code.intValue();
+        boolean recording = fixtureArchive.getMode() == FixtureMode.RECORD;
+        boolean caching = status == 200 && isCacheable(paused, method);
+        if (!recording && !caching) {
+            return;
+        }
+        List<Map<String, String>> headers = (List<Map<String, String>>) paused.getOrDefault("responseHeaders",
+                List.of());
+        byte[] bytes = status >= 300 && status < 400 ? new byte[0] : responseBody(devTools, paused, url);
+        if (bytes == null) {
+            return;
+        }
+        if (recording) {
+            fixtureArchive.record(method, url, status, headers, bytes);
+        }
+        if (caching) {
+            assetCache.store(url, method, status, headers, bytes);
+        }
+    }
+
+    /**
+     * Reads the body of a response paused at response stage.
+     *
+     * @param devTools The session's DevTools connection
+     * @param paused The {@code Fetch.requestPaused} event at response stage
+     * @param url The request URL
+     * @return The decoded body, or null if it cannot be read
+     */
+    private static byte[] responseBody(DevTools devTools, Map<String, Object> paused, String url) {
+        Map<String, Object> response;
+        try {
+            response = devTools.send(new Command<Map<String, Object>>("Fetch.getResponseBody",
+                    Map.of("requestId", paused.get("requestId")), input -> input.read(Json.MAP_TYPE)));
+        } catch (WebDriverException e) {
+            log.debug("Could not read response body of {}: {}", url, e.getMessage());
+            return null;
+        }
+        String body = String.valueOf(response.get("body"));
+        return Boolean.TRUE.equals(response.get("base64Encoded")) ? Base64.getDecoder().decode(body)
+                : body.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Answers a request to another origin from the fixture archive in replay mode.
+     * Requests that were not recorded fail as if the network were down.
+     *
+     * @param devTools The session's DevTools connection
+     * @param requestId The id of the paused request
+     * @param method The request method
+     * @param url The request URL
+     */
+    private void replay(DevTools devTools, String requestId, String method, String url) {
+        Optional<Fixture> fixture = fixtureArchive.find(method, url);
+        if (fixture.isEmpty()) {
+            log.debug("No recorded response for {} {}", method, url);
+            devTools.send(new Command<>("Fetch.failRequest",
+                    Map.of("requestId", requestId, "errorReason", "InternetDisconnected")));
+            return;
+        }
+        List<Map<String, String>> headers = fixture.get().headers().entrySet().stream()
+                .map(header -> Map.of("name", header.getKey(), "value", header.getValue())).toList();
+        devTools.send(new Command<>("Fetch.fulfillRequest", Map.of("requestId", requestId,
+                "responseCode", fixture.get().status(), "responseHeaders", headers,
+                "body", Base64.getEncoder().encodeToString(fixture.get().body()))));
+    }
+
+    /**
+     * Returns true if a paused request is for a static asset the cache handles.
+     *
+     * @param paused The {@code Fetch.requestPaused} event
+     * @param method The request method
+     * @return true for cached resource types requested with {@code GET}
+     */
+    private boolean isCacheable(Map<String, Object> paused, String method) {
+        return assetCache.isEnabled() && "GET".equals(method)
+                && frameworkProperties.getAssetCacheTypes().contains(String.valueOf(paused.get("resourceType")));
+    }
+}
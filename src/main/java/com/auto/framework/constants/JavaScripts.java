@@ -0,0 +1,323 @@
+package com.auto.framework.constants;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Final class holding the JavaScript snippets injected into the browser by the action classes.
+ *                  Scripts that resolve locators in the page share a common prelude so that a Selenium locator
+ *                  behaves the same in the browser as it does through findElement.
+ * @Version : 1.2
+ ************************************************************************************************************************/
+
+/**
+ * JavaScript snippets executed through {@link org.openqa.selenium.JavascriptExecutor}.
+ *
+ * <p>Locators are passed to the scripts as {@code {using, value}} objects built from
+ * {@link org.openqa.selenium.By.Remotable#getRemoteParameters()}, i.e. the W3C locator
+ * strategies "css selector", "xpath", "tag name", "link text" and "partial link text".</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.2
+ * @since 1.3
+ */
+public final class JavaScripts {
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     *
+     * @throws IllegalStateException always, to prevent instantiation
+     */
+    private JavaScripts() {
+        throw new IllegalStateException("JavaScripts Class");
+    }
+
+    /**
+     * Prelude defining {@code findAll(locator, root)} and {@code findFirst(locator, root)}
+     * for W3C locator objects, and {@code textOf(element)} approximating WebElement.getText().
+     */
+    public static final String LOCATOR_FUNCTIONS = """
+            function findAll(loc, root) {
+              root = root || document;
+              switch (loc.using) {
+                case 'css selector':
+                  return Array.from(root.querySelectorAll(loc.value));
+                case 'xpath': {
+                  var found = [];
+                  var it = document.evaluate(loc.value, root, null,
+                      XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+                  for (var i = 0; i < it.snapshotLength; i++) { found.push(it.snapshotItem(i)); }
+                  return found;
+                }
+                case 'tag name':
+                  return Array.from(root.getElementsByTagName(loc.value));
+                case 'link text':
+                  return Array.from(root.querySelectorAll('a'))
+                      .filter(function (a) { return textOf(a) === loc.value; });
+                case 'partial link text':
+                  return Array.from(root.querySelectorAll('a'))
+                      .filter(function (a) { return textOf(a).indexOf(loc.value) >= 0; });
+                default:
+                  throw new Error('Unsupported locator strategy: ' + loc.using);
+              }
+            }
+            function findFirst(loc, root) {
+              var found = findAll(loc, root);
+              return found.length ? found[0] : null;
+            }
+            function textOf(el) {
+              return (el.innerText === undefined ? el.textContent : el.innerText).replace(/\\u00a0/g, ' ').trim();
+            }
+            """;
+
+    /**
+     * Reads the text and the requested attributes of several elements in one call.
+     * Arguments: a map of key to locator, and a list of attribute names.
+     * Returns a map of key to {@code {text, attributes}}, or key to null for elements that were not found.
+     */
+    public static final String ELEMENT_SNAPSHOT = LOCATOR_FUNCTIONS + """
+            var locators = arguments[0], attributeNames = arguments[1], result = {};
+            Object.keys(locators).forEach(function (key) {
+              var el = findFirst(locators[key]);
+              if (!el) { result[key] = null; return; }
+              var attributes = {};
+              attributeNames.forEach(function (name) { attributes[name] = el.getAttribute(name); });
+              result[key] = { text: textOf(el), attributes: attributes };
+            });
+            return result;
+            """;
+
+    /**
+     * Finds the first rendered element matching a locator whose visible text contains the
+     * search text, ignoring case. Arguments: the locator, the search text and an optional
+     * root element to search within. Returns the element, or null if none matches.
+     */
+    public static final String FIND_BY_TEXT = LOCATOR_FUNCTIONS + """
+            var loc = arguments[0], needle = arguments[1].toLowerCase(), root = arguments[2];
+            var found = findAll(loc, root);
+            for (var i = 0; i < found.length; i++) {
+              var el = found[i];
+              if (el.getClientRects().length > 0 && textOf(el).toLowerCase().indexOf(needle) >= 0) {
+                return el;
+              }
+            }
+            return null;
+            """;
+
+    /**
+     * Prelude defining {@code tableModel(table)}, which splits a table into header cells and
+     * data rows of cells. Both HTML tables and ARIA grids (role=row / gridcell / columnheader)
+     * are supported. Rows without any text or form control, such as padding rows, are skipped.
+     */
+    public static final String TABLE_FUNCTIONS = LOCATOR_FUNCTIONS + """
+            var CELL = 'td, th, [role=gridcell], [role=cell], [role=columnheader], [role=rowheader]';
+            var HEADER_CELL = 'th, [role=columnheader]';
+            function tableModel(table) {
+              var headers = [], rows = [];
+              Array.from(table.querySelectorAll('tr, [role=row]')).forEach(function (row) {
+                var cells = Array.from(row.children).filter(function (c) { return c.matches(CELL); });
+                if (!cells.length) { return; }
+                if (cells.every(function (c) { return c.matches(HEADER_CELL); })) {
+                  if (!headers.length) { headers = cells; }
+                  return;
+                }
+                var blank = cells.every(function (c) {
+                  return textOf(c) === '' && !c.querySelector('input, select, textarea, button, a');
+                });
+                if (!blank) { rows.push(cells); }
+              });
+              return { headers: headers, rows: rows };
+            }
+            """;
+
+    /**
+     * Reads a whole table in one call. Argument: the table locator.
+     * Returns {@code {headers: [text], rows: [[text]]}}, or null if the table is not found.
+     */
+    public static final String TABLE_SNAPSHOT = TABLE_FUNCTIONS + """
+            var table = findFirst(arguments[0]);
+            if (!table) { return null; }
+            var model = tableModel(table);
+            return {
+              headers: model.headers.map(textOf),
+              rows: model.rows.map(function (cells) { return cells.map(textOf); })
+            };
+            """;
+
+    /**
+     * Resolves a table cell, or an element inside it, by data-row and column index.
+     * Arguments: the table locator, the row index, the column index and an optional locator
+     * searched within the cell. Returns the element, or null if it does not exist.
+     */
+    public static final String TABLE_CELL = TABLE_FUNCTIONS + """
+            var table = findFirst(arguments[0]), row = arguments[1], column = arguments[2], target = arguments[3];
+            if (!table) { return null; }
+            var cells = tableModel(table).rows[row];
+            var cell = cells ? cells[column] : null;
+            if (!cell) { return null; }
+            return target ? findFirst(target, cell) : cell;
+            """;
+
+    /**
+     * Finds the first td cell, across the rows matched by a locator, whose text contains the
+     * search text (ignoring case), and returns the first input in a later cell of the same row.
+     * Arguments: the row locator and the search text. Returns the input, or null if none is found.
+     */
+    public static final String TABLE_INPUT_RIGHT_OF_TEXT = LOCATOR_FUNCTIONS + """
+            var rows = findAll(arguments[0]), needle = arguments[1].toLowerCase();
+            for (var i = 0; i < rows.length; i++) {
+              var cells = Array.from(rows[i].getElementsByTagName('td'));
+              for (var j = 0; j < cells.length; j++) {
+                if (textOf(cells[j]).toLowerCase().indexOf(needle) >= 0) {
+                  for (var k = j + 1; k < cells.length; k++) {
+                    var input = cells[k].querySelector('input');
+                    if (input) { return input; }
+                  }
+                  return null;
+                }
+              }
+            }
+            return null;
+            """;
+
+    /**
+     * Asynchronous wait until the first element matching a locator is clickable (rendered,
+     * visible and enabled). The condition is re-checked on every DOM mutation and on a short
+     * in-browser timer, so the script returns as soon as the element is ready without any
+     * WebDriver polling. Arguments: the locator, the default timeout in milliseconds and a
+     * map of page path to timeout that overrides the default on matching pages.
+     * Returns {@code {element, readyAfter, page, timeout}}; element is null if the timeout
+     * elapsed, readyAfter is the time in milliseconds the condition took to hold in the
+     * browser, and page and timeout are the page path and the timeout that applied.
+     */
+    public static final String WAIT_FOR_CLICKABLE = LOCATOR_FUNCTIONS + """
+            var loc = arguments[0], pageTimeouts = arguments[2] || {}, done = arguments[arguments.length - 1];
+            var page = location.pathname;
+            var timeout = pageTimeouts.hasOwnProperty(page) ? pageTimeouts[page] : arguments[1];
+            var start = performance.now(), observer = null, timer = null, finished = false;
+            function clickable(el) {
+              if (!el || el.disabled) { return false; }
+              var style = window.getComputedStyle(el);
+              return el.getClientRects().length > 0 && style.visibility !== 'hidden' && style.opacity !== '0';
+            }
+            function finish(el) {
+              finished = true;
+              if (observer) { observer.disconnect(); }
+              clearInterval(timer);
+              done({ element: el, readyAfter: performance.now() - start, page: page, timeout: timeout });
+            }
+            function check() {
+              if (finished) { return; }
+              var el = findFirst(loc);
+              if (clickable(el)) { finish(el); }
+              else if (performance.now() - start >= timeout) { finish(null); }
+            }
+            check();
+            if (!finished) {
+              observer = new MutationObserver(check);
+              observer.observe(document, { childList: true, subtree: true, attributes: true, characterData: true });
+              timer = setInterval(check, 50);
+            }
+            """;
+
+    /**
+     * Marks the document currently loaded, so that a readiness check started right after a
+     * navigation can tell the old document from the new one.
+     */
+    public static final String MARK_DOCUMENT = "window.__autoFrameworkPreviousDocument = true;";
+
+    /**
+     * Asynchronous wait until a page is ready: the document is parsed, every element locator
+     * matches, every predicate is truthy and, if a quiet period is given, no request has been
+     * in flight or completed for that long. Requests are tracked through resource timing
+     * entries and by counting pending fetch and XMLHttpRequest calls started after the script
+     * first runs on the page. The script must be prefixed with a declaration of
+     * {@code predicates}, an array of functions returning the custom conditions. Arguments: the
+     * element locators, the quiet period in milliseconds (0 to skip) and the timeout in
+     * milliseconds. Returns {@code {ready, previous, readyAfter, pending}}; previous is true if
+     * the document marked by {@link #MARK_DOCUMENT} is still loaded, and pending lists the
+     * conditions that did not hold when the timeout elapsed.
+     */
+    public static final String WAIT_FOR_PAGE_READY = LOCATOR_FUNCTIONS + """
+            var locators = arguments[0], quiet = arguments[1], timeout = arguments[2];
+            var done = arguments[arguments.length - 1];
+            if (window.__autoFrameworkPreviousDocument) { done({ ready: false, previous: true }); return; }
+            if (!window.__autoFrameworkNetwork) {
+              var net = window.__autoFrameworkNetwork = { inFlight: 0, last: performance.now() };
+              var settle = function () { net.inFlight--; net.last = performance.now(); };
+              if (window.fetch) {
+                var originalFetch = window.fetch;
+                window.fetch = function () {
+                  net.inFlight++;
+                  return originalFetch.apply(this, arguments).finally(settle);
+                };
+              }
+              var originalSend = XMLHttpRequest.prototype.send;
+              XMLHttpRequest.prototype.send = function () {
+                net.inFlight++;
+                this.addEventListener('loadend', settle);
+                return originalSend.apply(this, arguments);
+              };
+            }
+            var network = window.__autoFrameworkNetwork;
+            var start = performance.now(), observer = null, timer = null, finished = false;
+            function lastResource() {
+              var entries = performance.getEntriesByType('resource');
+              return entries.length ? entries[entries.length - 1].responseEnd : 0;
+            }
+            function pending() {
+              var open = [];
+              if (document.readyState === 'loading') { open.push('document'); }
+              locators.forEach(function (loc) { if (!findFirst(loc)) { open.push(loc.using + '=' + loc.value); } });
+              predicates.forEach(function (predicate, i) {
+                var holds = false;
+                try { holds = !!predicate(); } catch (e) { holds = false; }
+                if (!holds) { open.push('script[' + i + ']'); }
+              });
+              if (quiet > 0) {
+                var last = Math.max(network.last, lastResource());
+                if (network.inFlight > 0 || performance.now() - last < quiet) { open.push('network'); }
+              }
+              return open;
+            }
+            function finish(open) {
+              finished = true;
+              if (observer) { observer.disconnect(); }
+              clearInterval(timer);
+              done({ ready: open.length === 0, previous: false, readyAfter: performance.now() - start, pending: open });
+            }
+            function check() {
+              if (finished) { return; }
+              var open = pending();
+              if (open.length === 0 || performance.now() - start >= timeout) { finish(open); }
+            }
+            check();
+            if (!finished) {
+              observer = new MutationObserver(check);
+              observer.observe(document, { childList: true, subtree: true, attributes: true, characterData: true });
+              timer = setInterval(check, 50);
+            }
+            """;
+
+    /**
+     * Script registered to run before any page script on every new document. It adds a
+     * style sheet that turns off CSS transitions, animations and smooth scrolling, so
+     * elements reach their final state as soon as they are inserted.
+     */
+    public static final String DISABLE_ANIMATIONS = """
+            (function () {
+              var css = '*, *::before, *::after { transition: none !important; animation: none !important;'
+                  + ' scroll-behavior: auto !important; caret-color: transparent !important; }';
+              function addStyle() {
+                var style = document.createElement('style');
+                style.textContent = css;
+                (document.head || document.documentElement).appendChild(style);
+              }
+              if (document.documentElement) {
+                addStyle();
+              } else {
+                new MutationObserver(function (mutations, observer) {
+                  if (document.documentElement) { observer.disconnect(); addStyle(); }
+                }).observe(document, { childList: true });
+              }
+            })();
+            """;
+}
@@ -0,0 +1,136 @@
+package com.auto.framework.distributed;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : HTTP client of a worker JVM for the WorkCoordinator: claims tests, reports their outcome and sends
+ *                  heartbeats.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Client of the {@link WorkCoordinator} protocol.
+ *
+ * <p>Every call is a {@code POST} with the worker id, and the test where needed, as query
+ * parameters, and the coordinator token, if any, as a header. A claim is answered with the
+ * test in the body (200), no test for now (204: the remaining tests run on other workers and
+ * may still be handed back) or the end of the run (410).</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.distributed.DistributedWorker
+ */
+final class CoordinatorClient {
+
+    /**
+     * Answer to a claim when every test has finished.
+     */
+    static final String FINISHED = "";
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    private final URI coordinator;
+
+    private final String worker;
+
+    private final String token;
+
+    /**
+     * Creates a client.
+     *
+     * @param coordinator The URL of the coordinator
+     * @param worker The id of this worker
+     * @param token The coordinator token, or blank if the coordinator has none
+     */
+    CoordinatorClient(String coordinator, String worker, String token) {
+        this.coordinator = URI.create(coordinator.endsWith("/") ? coordinator : coordinator + "/");
+        this.worker = worker;
+        this.token = token;
+    }
+
+    /**
+     * Asks for the next test.
+     *
+     * @return The test, null if there is none for now, or {@link #FINISHED} when the run is over
+     * @throws IOException if the coordinator cannot be reached
+     */
+    String claim() throws IOException {
+        HttpResponse<String> response = post("claim", null, null);
+        return switch (response.statusCode()) {
+            case 200 -> response.body();
+            case 204 -> null;
+            case 410 -> FINISHED;
+            default -> throw new IOException("Coordinator answered " + response.statusCode() + " to a claim");
+        };
+    }
+
+    /**
+     * Reports the outcome of a test.
+     *
+     * @param test The test
+     * @param passed Whether it passed
+     * @throws IOException if the coordinator cannot be reached
+     */
+    void complete(String test, boolean passed) throws IOException {
+        post("complete", test, passed ? "pass" : "fail");
+    }
+
+    /**
+     * Tells the coordinator this worker is alive.
+     *
+     * @throws IOException if the coordinator cannot be reached
+     */
+    void heartbeat() throws IOException {
+        post("heartbeat", null, null);
+    }
+
+    /**
+     * Sends a request to the coordinator.
+     *
+     * @param action claim, complete or heartbeat
+     * @param test The test, or null
+     * @param status The outcome, or null
+     * @return The response
+     * @throws IOException if the coordinator cannot be reached
+     */
+    private HttpResponse<String> post(String action, String test, String status) throws IOException {
+        StringBuilder query = new StringBuilder("worker=").append(encode(worker));
+        if (test != null) {
+            query.append("&test=").append(encode(test)).append("&status=").append(status);
+        }
+        HttpRequest.Builder request = HttpRequest.newBuilder(coordinator.resolve(action + "?" + query))
+                .timeout(Duration.ofSeconds(10)).POST(HttpRequest.BodyPublishers.noBody());
+        if (!token.isBlank()) {
+            request.header(WorkCoordinator.TOKEN_HEADER, token);
+        }
+        try {
+            HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() == 403) {
+                throw new IOException("Coordinator refused the request: check my.properties.coordinator-token");
+            }
+            return response;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while calling the coordinator", e);
+        }
+    }
+
+    /**
+     * Encodes a query parameter value.
+     *
+     * @param value The value
+     * @return The URL-encoded value
+     */
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
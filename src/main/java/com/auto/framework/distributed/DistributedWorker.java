@@ -0,0 +1,244 @@
+package com.auto.framework.distributed;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.testng.ITestObjectFactory;
+import org.testng.TestNG;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import com.auto.framework.config.FrameworkProperties;
+import com.auto.framework.execution.DurationAwareScheduler;
+
+import lombok.extern.slf4j.Slf4j;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Worker JVM of a distributed run: every slot pulls the next test from the WorkCoordinator as soon as
+ *                  its previous test, and with it its browser session, is done, runs it with TestNG on the shared
+ *                  Spring context, and reports the outcome; a heartbeat keeps the worker's tests assigned to it.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Worker of a distributed run.
+ *
+ * <p>Started on the test classpath, with the same JVM options as the surefire tests:</p>
+ * <pre>
+ * java -javaagent:aspectjweaver.jar -cp ... com.auto.framework.distributed.DistributedWorker
+ * </pre>
+ *
+ * <p>The worker has {@code my.properties.worker-slots} slots, one by default. Each slot
+ * claims a test from {@code my.properties.coordinator-url}, runs it in its own TestNG run
+ * and claims the next one when it is done, so a worker is never idle while the queue has
+ * work. TestNG runs of one JVM share the Spring test context, which is started once per
+ * worker. A {@link DurationAwareScheduler} shared by the runs records the durations of the
+ * tests, and Allure writes its results as usual. Allure keeps one test context for all
+ * runs of a JVM and loses track of a test when runs overlap, so with Allure reports the
+ * worker runs one test at a time and a machine runs several workers.</p>
+ *
+ * <p>A heartbeat is sent every {@code my.properties.heartbeat-interval}. When the
+ * coordinator has no test for now, the slot asks again after the same interval, since the
+ * tests of a dead worker may come back. The worker exits when the coordinator reports the
+ * end of the run, or cannot be reached for {@code my.properties.heartbeat-timeout}, with
+ * status 0 if all its tests passed.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.distributed.WorkCoordinator
+ */
+@Slf4j
+public final class DistributedWorker {
+
+    private final CoordinatorClient coordinator;
+
+    private final FrameworkProperties frameworkProperties;
+
+    private final DurationAwareScheduler scheduler = new DurationAwareScheduler();
+
+    private final AtomicBoolean passed = new AtomicBoolean(true);
+
+    /**
+     * Creates the test instances of all TestNG runs one at a time: the constructor of a Spring test
+     * bootstraps its test context, which fails when done for the same class on two threads at once.
+     */
+    private final ITestObjectFactory objectFactory = new ITestObjectFactory() {
+
+        @Override
+        public synchronized <T> T newInstance(Constructor<T> constructor, Object... parameters) {
+            return ITestObjectFactory.super.newInstance(constructor, parameters);
+        }
+    };
+
+    /**
+     * Creates a worker.
+     *
+     * @param coordinator The client of the coordinator
+     * @param frameworkProperties The framework properties
+     */
+    DistributedWorker(CoordinatorClient coordinator, FrameworkProperties frameworkProperties) {
+        this.coordinator = coordinator;
+        this.frameworkProperties = frameworkProperties;
+    }
+
+    /**
+     * Runs tests until the coordinator reports the end of the run.
+     *
+     * @param args Not used
+     * @throws IOException if the host name cannot be resolved
+     * @throws InterruptedException if interrupted while running tests
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        FrameworkProperties frameworkProperties = DurationAwareScheduler.loadProperties();
+        String id = ProcessHandle.current().pid() + "@" + InetAddress.getLocalHost().getHostName();
+        DistributedWorker worker = new DistributedWorker(
+                new CoordinatorClient(frameworkProperties.getCoordinatorUrl(), id,
+                        frameworkProperties.getCoordinatorToken()), frameworkProperties);
+        System.exit(worker.run(id) ? 0 : 1);
+    }
+
+    /**
+     * Runs the slots of the worker until the coordinator reports the end of the run.
+     *
+     * @param id The worker id
+     * @return true if all tests run by this worker passed
+     * @throws InterruptedException if interrupted while running tests
+     */
+    boolean run(String id) throws InterruptedException {
+        int slots = Math.max(1, frameworkProperties.getWorkerSlots());
+        long interval = frameworkProperties.getHeartbeatInterval().toMillis();
+        ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "worker-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeat.scheduleWithFixedDelay(() -> {
+            try {
+                coordinator.heartbeat();
+            } catch (IOException e) {
+                log.debug("Heartbeat failed: {}", e.toString());
+            }
+        }, 0, interval, TimeUnit.MILLISECONDS);
+        log.info("Worker {} pulling tests from {} on {} slots", id, frameworkProperties.getCoordinatorUrl(), slots);
+        List<Thread> threads = new ArrayList<>();
+        for (int slot = 1; slot <= slots; slot++) {
+            Thread thread = new Thread(this::pull, "worker-slot-" + slot);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        heartbeat.shutdownNow();
+        log.info("Worker {} finished, {}", id, passed.get() ? "all its tests passed" : "some of its tests failed");
+        return passed.get();
+    }
+
+    /**
+     * Claims and runs tests on the current slot until the run is over.
+     */
+    private void pull() {
+        long interval = frameworkProperties.getHeartbeatInterval().toMillis();
+        long unreachableSince = -1;
+        while (true) {
+            String test;
+            try {
+                test = coordinator.claim();
+                unreachableSince = -1;
+            } catch (IOException e) {
+                long now = System.currentTimeMillis();
+                unreachableSince = unreachableSince < 0 ? now : unreachableSince;
+                if (now - unreachableSince > frameworkProperties.getHeartbeatTimeout().toMillis()) {
+                    log.warn("Coordinator unreachable, stopping slot: {}", e.toString());
+                    return;
+                }
+                test = null;
+            }
+            if (CoordinatorClient.FINISHED.equals(test)) {
+                return;
+            }
+            if (test == null) {
+                try {
+                    Thread.sleep(interval);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                continue;
+            }
+            boolean testPassed = runTest(test);
+            if (!testPassed) {
+                passed.set(false);
+            }
+            report(test, testPassed);
+        }
+    }
+
+    /**
+     * Runs one test in its own TestNG run.
+     *
+     * @param test The work item
+     * @return true if it passed
+     */
+    private boolean runTest(String test) {
+        XmlSuite suite = new XmlSuite();
+        suite.setName(test);
+        XmlTest xmlTest = new XmlTest(suite);
+        xmlTest.setName(test);
+        XmlClass xmlClass = new XmlClass(WorkItems.className(test), false);
+        for (String method : WorkItems.methods(test)) {
+            xmlClass.getIncludedMethods().add(new XmlInclude(method));
+        }
+        xmlTest.getXmlClasses().add(xmlClass);
+        TestNG testng = new TestNG(false);
+        testng.setXmlSuites(List.of(suite));
+        testng.addListener(scheduler);
+        testng.setObjectFactory(objectFactory);
+        testng.setVerbose(0);
+        try {
+            testng.run();
+        } catch (RuntimeException e) {
+            log.error("Could not run {}", test, e);
+            return false;
+        }
+        return !testng.hasFailure() && !testng.hasSkip();
+    }
+
+    /**
+     * Reports the outcome of a test, retrying until the coordinator presumes this worker dead.
+     *
+     * @param test The test
+     * @param testPassed Whether it passed
+     */
+    private void report(String test, boolean testPassed) {
+        long deadline = System.currentTimeMillis() + frameworkProperties.getHeartbeatTimeout().toMillis();
+        while (true) {
+            try {
+                coordinator.complete(test, testPassed);
+                return;
+            } catch (IOException e) {
+                if (System.currentTimeMillis() > deadline) {
+                    log.warn("Could not report {} to the coordinator: {}", test, e.toString());
+                    return;
+                }
+            }
+            try {
+                Thread.sleep(frameworkProperties.getHeartbeatInterval().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
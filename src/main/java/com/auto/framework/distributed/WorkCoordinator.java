@@ -0,0 +1,269 @@
+package com.auto.framework.distributed;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.auto.framework.config.FrameworkProperties;
+import com.auto.framework.execution.DurationAwareScheduler;
+import com.auto.framework.execution.TestDurationHistory;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Coordinator process of a distributed run: serves the tests of a suite from one shared queue,
+ *                  longest first, to worker JVMs that pull the next test whenever a browser session frees up, and
+ *                  hands the tests of workers that stop sending heartbeats to the others.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Work-stealing coordinator of a distributed run.
+ *
+ * <p>Started with the suite file as argument, on the test classpath:</p>
+ * <pre>
+ * java -cp ... com.auto.framework.distributed.WorkCoordinator src/test/resources/Suites.xml
+ * </pre>
+ *
+ * <p>The tests of the suite, as {@link WorkItems}, are queued longest first by the durations in
+ * {@code my.properties.test-duration-file}; the workers record new durations there. The
+ * coordinator listens on the port of {@code my.properties.coordinator-url}, on loopback
+ * unless {@code my.properties.coordinator-bind-address} names another address for workers
+ * on other machines. Beyond loopback every request must carry
+ * {@code my.properties.coordinator-token}. A worker that sent no heartbeat for
+ * {@code my.properties.heartbeat-timeout} is presumed dead and its tests are handed out
+ * again, up to {@code my.properties.max-test-attempts} times per test.</p>
+ *
+ * <p>When every test has finished, the coordinator logs a summary, answers the workers'
+ * claims with the end of the run for a few more seconds, and exits with status 0 if all
+ * tests passed, 1 otherwise.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.distributed.DistributedWorker
+ * @see com.auto.framework.distributed.WorkQueue
+ */
+@Slf4j
+public final class WorkCoordinator {
+
+    /**
+     * Header carrying the coordinator token.
+     */
+    static final String TOKEN_HEADER = "X-Coordinator-Token";
+
+    private final WorkQueue queue;
+
+    private final long heartbeatTimeout;
+
+    private final byte[] token;
+
+    private final CountDownLatch finished = new CountDownLatch(1);
+
+    /**
+     * Creates a coordinator.
+     *
+     * @param queue The queue of tests
+     * @param heartbeatTimeout Time without heartbeat after which a worker is presumed dead, in milliseconds
+     * @param token The token every request must carry, or blank to accept requests without one
+     */
+    WorkCoordinator(WorkQueue queue, long heartbeatTimeout, String token) {
+        this.queue = queue;
+        this.heartbeatTimeout = heartbeatTimeout;
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Runs the coordinator until every test of the suite has finished.
+     *
+     * @param args The suite file, by default src/test/resources/Suites.xml
+     * @throws IOException if the suite file cannot be read or the port cannot be bound
+     * @throws InterruptedException if interrupted while waiting for the tests
+     * @throws IllegalStateException if the coordinator would listen beyond loopback without a token
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String suiteFile = args.length > 0 ? args[0] : "src/test/resources/Suites.xml";
+        FrameworkProperties frameworkProperties = DurationAwareScheduler.loadProperties();
+        InetAddress bindAddress = frameworkProperties.getCoordinatorBindAddress().isBlank()
+                ? InetAddress.getLoopbackAddress()
+                : InetAddress.getByName(frameworkProperties.getCoordinatorBindAddress());
+        if (!bindAddress.isLoopbackAddress() && frameworkProperties.getCoordinatorToken().isBlank()) {
+            throw new IllegalStateException("Set my.properties.coordinator-token to listen on " + bindAddress
+                    + ": without it any host could claim tests or report results");
+        }
+        TestDurationHistory history = new TestDurationHistory(Path.of(frameworkProperties.getTestDurationFile()));
+        List<String> tests = WorkItems.longestFirst(WorkItems.fromSuite(suiteFile), history);
+        if (tests.isEmpty()) {
+            log.warn("No tests found in {}", suiteFile);
+            return;
+        }
+        WorkCoordinator coordinator = new WorkCoordinator(
+                new WorkQueue(tests, frameworkProperties.getMaxTestAttempts()),
+                frameworkProperties.getHeartbeatTimeout().toMillis(), frameworkProperties.getCoordinatorToken());
+        int port = URI.create(frameworkProperties.getCoordinatorUrl()).getPort();
+        System.exit(coordinator.run(new InetSocketAddress(bindAddress, port)) ? 0 : 1);
+    }
+
+    /**
+     * Serves the queue until every test has finished.
+     *
+     * @param address The address and port to listen on
+     * @return true if all tests passed
+     * @throws IOException if the port cannot be bound
+     * @throws InterruptedException if interrupted while waiting for the tests
+     */
+    boolean run(InetSocketAddress address) throws IOException, InterruptedException {
+        HttpServer server = HttpServer.create(address, 0);
+        AtomicInteger threads = new AtomicInteger();
+        ExecutorService executor = Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "coordinator-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        ScheduledExecutorService reaper = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "coordinator-reaper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long started = System.currentTimeMillis();
+        server.start();
+        log.info("Coordinator serving {} tests on {}", queue.getTotal(), address);
+        reaper.scheduleWithFixedDelay(() -> {
+            queue.reap(System.currentTimeMillis(), heartbeatTimeout);
+            if (queue.isDone()) {
+                finished.countDown();
+            }
+        }, heartbeatTimeout / 2, heartbeatTimeout / 2, TimeUnit.MILLISECONDS);
+        finished.await();
+        log.info(String.format(Locale.ROOT, "All %d tests finished in %.1f s: %d failed, %d handed to another "
+                + "worker", queue.getTotal(), (System.currentTimeMillis() - started) / 1000.0, queue.getFailed(),
+                queue.getReassigned()));
+        queue.getCompletedBy().forEach((worker, count) -> log.info("Worker {} ran {} tests", worker, count));
+        reaper.shutdownNow();
+        // Let idle workers learn that the run is over before the port closes
+        Thread.sleep(Math.min(heartbeatTimeout, 5_000));
+        server.stop(0);
+        executor.shutdownNow();
+        return queue.getFailed() == 0;
+    }
+
+    /**
+     * Answers a request of a worker.
+     *
+     * @param exchange The HTTP exchange
+     * @throws IOException if the response cannot be written
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+            String worker = query.get("worker");
+            String path = exchange.getRequestURI().getPath();
+            long now = System.currentTimeMillis();
+            if (!hasToken(exchange)) {
+                log.warn("Refused a request without a valid token from {}", exchange.getRemoteAddress());
+                exchange.sendResponseHeaders(403, -1);
+            } else if (worker == null || !"POST".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(400, -1);
+            } else if (path.equals("/claim")) {
+                claim(exchange, worker, now);
+            } else if (path.equals("/complete") && query.containsKey("test")) {
+                String test = query.get("test");
+                long millis = queue.complete(worker, test, "pass".equals(query.get("status")), now);
+                log.info("{} {} on {}{} ({} of {} done)", test, "pass".equals(query.get("status")) ? "passed"
+                        : "failed", worker, millis < 0 ? "" : " in " + millis + " ms", queue.getDone(),
+                        queue.getTotal());
+                exchange.sendResponseHeaders(204, -1);
+                if (queue.isDone()) {
+                    finished.countDown();
+                }
+            } else if (path.equals("/heartbeat")) {
+                queue.heartbeat(worker, now);
+                exchange.sendResponseHeaders(204, -1);
+            } else {
+                exchange.sendResponseHeaders(404, -1);
+            }
+        }
+    }
+
+    /**
+     * Checks the token of a request in constant time.
+     *
+     * @param exchange The HTTP exchange
+     * @return true if the coordinator has no token or the request carries it
+     */
+    private boolean hasToken(HttpExchange exchange) {
+        if (token.length == 0) {
+            return true;
+        }
+        String sent = exchange.getRequestHeaders().getFirst(TOKEN_HEADER);
+        return sent != null && MessageDigest.isEqual(token, sent.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Answers a claim with the next test, no test for now, or the end of the run.
+     *
+     * @param exchange The HTTP exchange
+     * @param worker The worker id
+     * @param now The current time in epoch milliseconds
+     * @throws IOException if the response cannot be written
+     */
+    private void claim(HttpExchange exchange, String worker, long now) throws IOException {
+        if (queue.isDone()) {
+            exchange.sendResponseHeaders(410, -1);
+            return;
+        }
+        String test = queue.claim(worker, now);
+        if (test == null) {
+            exchange.sendResponseHeaders(204, -1);
+            return;
+        }
+        log.debug("{} claimed {}", worker, test);
+        byte[] body = test.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Parses a query string.
+     *
+     * @param rawQuery The encoded query, or null
+     * @return The decoded parameters
+     */
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null) {
+            return parameters;
+        }
+        for (String parameter : rawQuery.split("&")) {
+            int equals = parameter.indexOf('=');
+            if (equals > 0) {
+                parameters.put(URLDecoder.decode(parameter.substring(0, equals), StandardCharsets.UTF_8),
+                        URLDecoder.decode(parameter.substring(equals + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return parameters;
+    }
+}
@@ -0,0 +1,256 @@
+package com.auto.framework.distributed;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.testng.annotations.Test;
+import org.testng.xml.SuiteXmlParser;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import com.auto.framework.execution.TestDurationHistory;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Work items of a distributed run: the test methods of a TestNG suite file, with methods that depend
+ *                  on each other kept in one item, named so that a worker can run them without the suite file.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * The tests the WorkCoordinator hands out.
+ *
+ * <p>An item is named {@code com.example.SomeTests#method} and holds every data provider
+ * row of the method. Methods linked by {@code dependsOnMethods} form one item,
+ * {@code com.example.SomeTests#first,second}, run by one worker in one TestNG run. The
+ * methods of a class are its {@code @Test} methods, or the methods included in the suite
+ * file; excluded and disabled methods are left out. Group filters of the suite file are
+ * not applied.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.distributed.WorkCoordinator
+ */
+final class WorkItems {
+
+    /**
+     * Not instantiated.
+     */
+    private WorkItems() {
+    }
+
+    /**
+     * Reads the work items of a suite file and of the suite files it includes.
+     *
+     * @param suiteFile The TestNG suite file
+     * @return The items, each once, in suite order
+     * @throws IOException if the suite file cannot be read
+     */
+    static List<String> fromSuite(String suiteFile) throws IOException {
+        Set<String> items = new LinkedHashSet<>();
+        addSuite(Path.of(suiteFile), items, new HashSet<>());
+        return new ArrayList<>(items);
+    }
+
+    /**
+     * Adds the work items of a suite file, then those of the suite files it includes, which are
+     * resolved against its directory as TestNG does.
+     *
+     * @param suiteFile The TestNG suite file
+     * @param items The items found so far
+     * @param read The suite files read so far, so that a file included twice is read once
+     * @throws IOException if a suite file cannot be read
+     */
+    private static void addSuite(Path suiteFile, Set<String> items, Set<Path> read) throws IOException {
+        if (!read.add(suiteFile.toAbsolutePath().normalize())) {
+            return;
+        }
+        XmlSuite suite;
+        try (InputStream in = Files.newInputStream(suiteFile)) {
+            suite = new SuiteXmlParser().parse(suiteFile.toString(), in, true);
+        }
+        for (XmlTest test : suite.getTests()) {
+            for (XmlClass xmlClass : test.getXmlClasses()) {
+                items.addAll(ofClass(xmlClass));
+            }
+        }
+        for (String included : suite.getSuiteFiles()) {
+            addSuite(suiteFile.resolveSibling(included), items, read);
+        }
+    }
+
+    /**
+     * Returns the work items of a class of the suite.
+     *
+     * @param xmlClass The class
+     * @return Its items
+     */
+    private static List<String> ofClass(XmlClass xmlClass) {
+        Class<?> type = xmlClass.getSupportClass();
+        Test classTest = type.getAnnotation(Test.class);
+        Set<String> included = new LinkedHashSet<>();
+        for (XmlInclude include : xmlClass.getIncludedMethods()) {
+            included.add(include.getName());
+        }
+        List<Method> methods = new ArrayList<>();
+        for (Method method : type.getMethods()) {
+            Test test = method.isAnnotationPresent(Test.class) ? method.getAnnotation(Test.class) : classTest;
+            boolean testMethod = method.isAnnotationPresent(Test.class)
+                    || (classTest != null && method.getDeclaringClass() == type && !isConfiguration(method));
+            if (testMethod && test.enabled() && (included.isEmpty() || included.contains(method.getName()))
+                    && !xmlClass.getExcludedMethods().contains(method.getName())) {
+                methods.add(method);
+            }
+        }
+        methods.sort(Comparator.comparing(Method::getName));
+        Map<String, String> unitOf = new HashMap<>();
+        for (Method method : methods) {
+            unitOf.put(method.getName(), method.getName());
+        }
+        for (Method method : methods) {
+            Test test = method.isAnnotationPresent(Test.class) ? method.getAnnotation(Test.class) : classTest;
+            for (String dependency : test.dependsOnMethods()) {
+                String name = dependency.substring(dependency.lastIndexOf('.') + 1);
+                if (unitOf.containsKey(name)) {
+                    join(unitOf, method.getName(), name);
+                }
+            }
+        }
+        Map<String, List<String>> units = new LinkedHashMap<>();
+        for (Method method : methods) {
+            units.computeIfAbsent(unit(unitOf, method.getName()), unit -> new ArrayList<>()).add(method.getName());
+        }
+        List<String> items = new ArrayList<>();
+        for (List<String> unit : units.values()) {
+            items.add(type.getName() + "#" + String.join(",", unit));
+        }
+        return items;
+    }
+
+    /**
+     * Indicates whether a method is a configuration, data provider or factory method, which a
+     * class-level {@code @Test} does not turn into a test.
+     *
+     * @param method The method
+     * @return true if it has such a TestNG annotation
+     */
+    private static boolean isConfiguration(Method method) {
+        return Arrays.stream(method.getAnnotations()).map(annotation -> annotation.annotationType())
+                .filter(annotationType -> annotationType.getPackageName().equals("org.testng.annotations"))
+                .map(Class::getSimpleName).anyMatch(name -> name.startsWith("Before") || name.startsWith("After")
+                        || name.equals("DataProvider") || name.equals("Factory"));
+    }
+
+    /**
+     * Finds the unit of a method.
+     *
+     * @param unitOf The parent of every method
+     * @param method The method name
+     * @return The name of the unit's representative
+     */
+    private static String unit(Map<String, String> unitOf, String method) {
+        String parent = unitOf.get(method);
+        while (!parent.equals(method)) {
+            method = parent;
+            parent = unitOf.get(method);
+        }
+        return method;
+    }
+
+    /**
+     * Joins the units of two methods.
+     *
+     * @param unitOf The parent of every method
+     * @param first A method name
+     * @param second Another method name
+     */
+    private static void join(Map<String, String> unitOf, String first, String second) {
+        String firstUnit = unit(unitOf, first);
+        String secondUnit = unit(unitOf, second);
+        if (firstUnit.compareTo(secondUnit) < 0) {
+            unitOf.put(secondUnit, firstUnit);
+        } else {
+            unitOf.put(firstUnit, secondUnit);
+        }
+    }
+
+    /**
+     * Orders items longest first by their recorded durations. Items without history are
+     * expected to take as long as the longest known item; ties keep their order.
+     *
+     * @param items The items
+     * @param history The recorded durations
+     * @return The items, longest first
+     */
+    static List<String> longestFirst(List<String> items, TestDurationHistory history) {
+        Map<String, Long> estimates = new HashMap<>();
+        long longest = 0;
+        for (String item : items) {
+            long estimate = estimate(item, history);
+            estimates.put(item, estimate);
+            longest = Math.max(longest, estimate);
+        }
+        long unknown = longest;
+        List<String> ordered = new ArrayList<>(items);
+        ordered.sort(Comparator.comparingLong((String item) -> {
+            long estimate = estimates.get(item);
+            return estimate < 0 ? unknown : estimate;
+        }).reversed());
+        return ordered;
+    }
+
+    /**
+     * Returns the expected duration of an item.
+     *
+     * @param item The item
+     * @param history The recorded durations
+     * @return The sum of the estimates of its methods in milliseconds, or -1 if a method has no history
+     */
+    static long estimate(String item, TestDurationHistory history) {
+        long sum = 0;
+        for (String method : methods(item)) {
+            long estimate = history.estimate(className(item) + "." + method);
+            if (estimate < 0) {
+                return -1;
+            }
+            sum += estimate;
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the class of an item.
+     *
+     * @param item The item
+     * @return The fully qualified class name
+     */
+    static String className(String item) {
+        return item.substring(0, item.indexOf('#'));
+    }
+
+    /**
+     * Returns the methods of an item.
+     *
+     * @param item The item
+     * @return The method names
+     */
+    static List<String> methods(String item) {
+        return Arrays.asList(item.substring(item.indexOf('#') + 1).split(","));
+    }
+}
@@ -0,0 +1,232 @@
+package com.auto.framework.distributed;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import lombok.extern.slf4j.Slf4j;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Shared queue of the WorkCoordinator: hands the next test to the worker that asks first, tracks which
+ *                  worker runs what, and puts the tests of workers that stopped sending heartbeats back in front of
+ *                  the queue.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Work-stealing queue of tests.
+ *
+ * <p>A test is a work item as named by {@link WorkItems}. It is pending until a worker
+ * claims it, running until that worker completes it, then done. A worker is alive while
+ * it sends heartbeats; claims and completions count as heartbeats too. When a worker
+ * misses its heartbeats, {@link #reap(long, long)} returns its running tests to the front
+ * of the queue, so the next free slot anywhere picks them up. A test handed out
+ * {@code maxAttempts} times without completing is given up and counted as failed.</p>
+ *
+ * <p>A worker presumed dead may still complete its test later. The first completion of a
+ * test counts; the test is then taken off the queue, or ignored by the worker running it
+ * again.</p>
+ *
+ * <p>All methods are synchronized: the queue is small and every call is short.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.distributed.WorkCoordinator
+ */
+@Slf4j
+final class WorkQueue {
+
+    /**
+     * A test being run by a worker.
+     */
+    private record Assignment(String worker, long since) {
+    }
+
+    private final Deque<String> pending;
+
+    private final int total;
+
+    private final int maxAttempts;
+
+    private final Map<String, Assignment> running = new LinkedHashMap<>();
+
+    private final Map<String, Integer> attempts = new HashMap<>();
+
+    /**
+     * Outcome of every finished test: true if it passed.
+     */
+    private final Map<String, Boolean> done = new LinkedHashMap<>();
+
+    /**
+     * Last sign of life of every live worker, in epoch milliseconds.
+     */
+    private final Map<String, Long> heartbeats = new HashMap<>();
+
+    /**
+     * Number of tests every worker completed.
+     */
+    private final Map<String, Integer> completedBy = new TreeMap<>();
+
+    private int reassigned;
+
+    /**
+     * Creates a queue.
+     *
+     * @param tests The tests, in the order they should be handed out
+     * @param maxAttempts Times a test is handed out before it is given up
+     */
+    WorkQueue(List<String> tests, int maxAttempts) {
+        this.pending = new ArrayDeque<>(tests);
+        this.total = pending.size();
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+    /**
+     * Hands the next pending test to a worker.
+     *
+     * @param worker The worker id
+     * @param now The current time in epoch milliseconds
+     * @return The test, or null if none is pending
+     */
+    synchronized String claim(String worker, long now) {
+        heartbeats.put(worker, now);
+        String test = pending.pollFirst();
+        if (test != null) {
+            running.put(test, new Assignment(worker, now));
+            attempts.merge(test, 1, Integer::sum);
+        }
+        return test;
+    }
+
+    /**
+     * Records that a worker is alive.
+     *
+     * @param worker The worker id
+     * @param now The current time in epoch milliseconds
+     */
+    synchronized void heartbeat(String worker, long now) {
+        heartbeats.put(worker, now);
+    }
+
+    /**
+     * Records the outcome of a test.
+     *
+     * @param worker The worker id
+     * @param test The test
+     * @param passed Whether it passed
+     * @param now The current time in epoch milliseconds
+     * @return The time the worker ran the test in milliseconds, or -1 if the test had already finished
+     */
+    synchronized long complete(String worker, String test, boolean passed, long now) {
+        heartbeats.put(worker, now);
+        if (done.containsKey(test)) {
+            return -1;
+        }
+        Assignment assignment = running.remove(test);
+        pending.remove(test);
+        done.put(test, passed);
+        completedBy.merge(worker, 1, Integer::sum);
+        return assignment == null || !assignment.worker().equals(worker) ? -1 : now - assignment.since();
+    }
+
+    /**
+     * Returns the tests of workers without heartbeat to the front of the queue.
+     *
+     * @param now The current time in epoch milliseconds
+     * @param timeout The time without heartbeat after which a worker is presumed dead, in milliseconds
+     * @return The workers presumed dead
+     */
+    synchronized List<String> reap(long now, long timeout) {
+        List<String> dead = new ArrayList<>();
+        heartbeats.forEach((worker, last) -> {
+            if (now - last > timeout) {
+                dead.add(worker);
+            }
+        });
+        for (String worker : dead) {
+            heartbeats.remove(worker);
+            List<String> orphans = new ArrayList<>();
+            running.forEach((test, assignment) -> {
+                if (assignment.worker().equals(worker)) {
+                    orphans.add(test);
+                }
+            });
+            for (int index = orphans.size() - 1; index >= 0; index--) {
+                String test = orphans.get(index);
+                running.remove(test);
+                if (attempts.getOrDefault(test, 0) >= maxAttempts) {
+                    done.put(test, false);
+                    log.error("Giving up on {} after {} attempts, its workers stopped responding", test,
+                            maxAttempts);
+                } else {
+                    pending.addFirst(test);
+                    reassigned++;
+                }
+            }
+            log.warn("Worker {} sent no heartbeat for {} ms, {} of its tests handed to other workers", worker,
+                    timeout, orphans.size());
+        }
+        return dead;
+    }
+
+    /**
+     * Indicates whether every test finished.
+     *
+     * @return true once all tests are done
+     */
+    synchronized boolean isDone() {
+        return done.size() == total;
+    }
+
+    /**
+     * Returns the number of finished tests.
+     *
+     * @return The tests done so far
+     */
+    synchronized int getDone() {
+        return done.size();
+    }
+
+    /**
+     * Returns the number of tests.
+     *
+     * @return The tests in the queue at the start
+     */
+    int getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the number of failed tests.
+     *
+     * @return Tests that failed or were given up
+     */
+    synchronized int getFailed() {
+        return (int) done.values().stream().filter(passed -> !passed).count();
+    }
+
+    /**
+     * Returns the number of times a test was handed to another worker.
+     *
+     * @return Reassignments so far
+     */
+    synchronized int getReassigned() {
+        return reassigned;
+    }
+
+    /**
+     * Returns the number of tests every worker completed.
+     *
+     * @return Completed tests by worker id
+     */
+    synchronized Map<String, Integer> getCompletedBy() {
+        return new TreeMap<>(completedBy);
+    }
+}
@@ -0,0 +1,167 @@
+package com.auto.framework.driverscope;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.ObjectFactory;
+
+import com.auto.framework.profiler.Phase;
+import com.auto.framework.profiler.SuiteProfiler;
+
+import lombok.extern.slf4j.Slf4j;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : State of one 'driverscope' conversation, i.e. one test's browser session and the beans tied to it.
+ *                  The state is independent of the thread that created it; the thread only references it.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Scoped objects and destruction callbacks of one test's browser session.
+ *
+ * <p>A context is bound to the executing thread by {@link DriverScope}; the thread only
+ * holds a reference to it. Access is guarded by a {@link ReentrantLock}.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.driverscope.DriverScope
+ */
+@Slf4j
+public final class DriverContext {
+
+    /**
+     * Source of context ids.
+     */
+    private static final AtomicLong IDS = new AtomicLong();
+
+    /**
+     * Unique id of this context, used as the scope's conversation id.
+     */
+    private final String id = "driver-context-" + IDS.incrementAndGet();
+
+    /**
+     * Guards the objects and callbacks of this context.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Scoped objects, keyed by bean name.
+     */
+    private final Map<String, Object> scopedObjects = new HashMap<>();
+
+    /**
+     * Destruction callbacks, in registration order.
+     */
+    private final Map<String, Runnable> destructionCallbacks = new LinkedHashMap<>();
+
+    /**
+     * Returns the id of this context.
+     *
+     * @return The context id
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Returns the named object, creating it on first access.
+     * Creation is profiled as the test's {@link Phase#STARTUP}.
+     *
+     * @param name The bean name
+     * @param objectFactory Factory used to create the bean if not yet present
+     * @return The scoped bean instance
+     */
+    Object get(String name, ObjectFactory<?> objectFactory) {
+        lock.lock();
+        try {
+            Object scopedObject = scopedObjects.get(name);
+            if (scopedObject == null) {
+                SuiteProfiler.Span span = SuiteProfiler.enter(Phase.STARTUP);
+                try {
+                    scopedObject = objectFactory.getObject();
+                } finally {
+                    span.exit();
+                }
+                scopedObjects.put(name, scopedObject);
+            }
+            return scopedObject;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the named object without running its destruction callback.
+     *
+     * @param name The bean name
+     * @return The removed bean, or null if none was present
+     */
+    Object remove(String name) {
+        lock.lock();
+        try {
+            destructionCallbacks.remove(name);
+            return scopedObjects.remove(name);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Registers a callback to be run when this context is destroyed.
+     *
+     * @param name The bean name
+     * @param callback The destruction callback
+     */
+    void registerDestructionCallback(String name, Runnable callback) {
+        lock.lock();
+        try {
+            destructionCallbacks.put(name, callback);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Indicates whether this context holds any objects.
+     *
+     * @return true if at least one scoped object exists
+     */
+    public boolean isEmpty() {
+        lock.lock();
+        try {
+            return scopedObjects.isEmpty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Runs the destruction callbacks in reverse registration order and discards all objects.
+     * A failing callback is logged and does not prevent the others from running.
+     */
+    void destroy() {
+        List<Map.Entry<String, Runnable>> callbacks;
+        lock.lock();
+        try {
+            callbacks = new ArrayList<>(destructionCallbacks.entrySet());
+            destructionCallbacks.clear();
+            scopedObjects.clear();
+        } finally {
+            lock.unlock();
+        }
+        for (int i = callbacks.size() - 1; i >= 0; i--) {
+            try {
+                callbacks.get(i).getValue().run();
+            } catch (RuntimeException e) {
+                log.error("Destruction callback for '{}' failed: {}", callbacks.get(i).getKey(), e.getMessage());
+            }
+        }
+    }
+}
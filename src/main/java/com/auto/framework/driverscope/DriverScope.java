@@ -1,28 +1,149 @@
 package com.auto.framework.driverscope;
 
-import org.springframework.context.support.SimpleThreadScope;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.config.Scope;
+import org.springframework.core.NamedThreadLocal;
+
+import com.auto.framework.profiler.Phase;
+import com.auto.framework.profiler.SuiteProfiler;
 
 /************************************************************************************************************************
  * @Author : Ravi Kukreja
- * @Description : Configuration class to register driver as simple thread scope for parallel test execution.
- *                  This class extends SimpleThreadScope to provide thread-local WebDriver instances,
- *                  enabling safe parallel test execution with isolated browser sessions per thread.
- * @Version : 1.1
+ * @Description : Custom thread scope for WebDriver beans used in parallel test execution. Each test gets its own
+ *                  isolated browser session, held in a DriverContext that is bound to the executing thread, and
+ *                  the session can be ended explicitly at test teardown so that the next test leases a fresh one.
+ * @Version : 1.4
  ************************************************************************************************************************/
 
 /**
  * Custom scope implementation for WebDriver instances in parallel test execution.
- * This class extends SimpleThreadScope to provide thread-local WebDriver instances,
- * ensuring that each test thread gets its own isolated browser session.
- * 
- * <p>This scope is essential for parallel test execution where multiple threads
- * need to run tests simultaneously without interfering with each other's browser sessions.</p>
- * 
+ * Scoped objects live in a {@link DriverContext}, ensuring that each test gets its own
+ * isolated browser session.
+ *
+ * <p>Unlike {@link org.springframework.context.support.SimpleThreadScope}, this scope
+ * honours destruction callbacks. Calling {@link #reset()} at the end of a test runs
+ * those callbacks (which hand the driver back to the
+ * {@link com.auto.framework.driverscope.DriverSessionPool}) and discards the context,
+ * so the next test on the thread resolves a new session.</p>
+ *
+ * <p>The thread only holds a reference to its context, not the scoped objects
+ * themselves.</p>
+ *
  * @author Ravi Kukreja
- * @version 1.1
+ * @version 1.4
  * @since 1.0
- * @see org.springframework.context.support.SimpleThreadScope
+ * @see org.springframework.beans.factory.config.Scope
  * @see org.openqa.selenium.WebDriver
  */
-public class DriverScope extends SimpleThreadScope {
+public class DriverScope implements Scope {
+
+    /**
+     * Name under which this scope is registered with the bean factory.
+     */
+    public static final String NAME = "driverscope";
+
+    /**
+     * Context bound to the current thread, created on first access.
+     */
+    private final ThreadLocal<DriverContext> boundContext = new NamedThreadLocal<>("DriverScope context");
+
+    /**
+     * Returns the current context's instance of the named bean, creating it on first access.
+     *
+     * @param name The bean name
+     * @param objectFactory Factory used to create the bean if not yet present
+     * @return The scoped bean instance
+     */
+    @Override
+    public Object get(String name, ObjectFactory<?> objectFactory) {
+        return currentContext().get(name, objectFactory);
+    }
+
+    /**
+     * Removes the named bean from the current context without running its destruction callback.
+     *
+     * @param name The bean name
+     * @return The removed bean, or null if none was present
+     */
+    @Override
+    public Object remove(String name) {
+        DriverContext context = boundContext.get();
+        return context == null ? null : context.remove(name);
+    }
+
+    /**
+     * Registers a callback to be run when the current context is reset.
+     *
+     * @param name The bean name
+     * @param callback The destruction callback
+     */
+    @Override
+    public void registerDestructionCallback(String name, Runnable callback) {
+        currentContext().registerDestructionCallback(name, callback);
+    }
+
+    /**
+     * No contextual objects are exposed by this scope.
+     *
+     * @param key The contextual key
+     * @return Always null
+     */
+    @Override
+    public Object resolveContextualObject(String key) {
+        return null;
+    }
+
+    /**
+     * Returns the id of the current context as the conversation id.
+     *
+     * @return The current context id
+     */
+    @Override
+    public String getConversationId() {
+        return currentContext().getId();
+    }
+
+    /**
+     * Returns the context bound to the current thread, creating and binding a new one if none is bound.
+     *
+     * @return The current context
+     */
+    public DriverContext currentContext() {
+        DriverContext context = boundContext.get();
+        if (context == null) {
+            context = new DriverContext();
+            boundContext.set(context);
+        }
+        return context;
+    }
+
+    /**
+     * Indicates whether the current thread has any objects in this scope,
+     * i.e. whether a browser session has been started for the running test.
+     *
+     * @return true if at least one scoped object exists for the current context
+     */
+    public boolean isActive() {
+        DriverContext context = boundContext.get();
+        return context != null && !context.isEmpty();
+    }
+
+    /**
+     * Ends the current context. Destruction callbacks run in reverse
+     * registration order and all scoped objects are discarded.
+     * A failing callback is logged and does not prevent the others from running.
+     * The reset is profiled as the test's {@link Phase#TEARDOWN}.
+     */
+    public void reset() {
+        DriverContext context = boundContext.get();
+        boundContext.remove();
+        if (context != null) {
+            SuiteProfiler.Span span = SuiteProfiler.enter(Phase.TEARDOWN);
+            try {
+                context.destroy();
+            } finally {
+                span.exit();
+            }
+        }
+    }
 }
@@ -1,6 +1,8 @@
 package com.auto.framework.driverscope;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.DestructionAwareBeanPostProcessor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -10,7 +12,7 @@ import org.springframework.context.annotation.Configuration;
  * @Description : Spring configuration class for creating a BeanFactoryPostProcessor to register the custom
  *                  DriverScope. This configuration enables the custom 'driverscope' for thread-local WebDriver
  *                  instances, supporting parallel test execution with isolated browser sessions per thread.
- * @Version : 1.1
+ * @Version : 1.2
  ************************************************************************************************************************/
 
 /**
@@ -22,12 +24,13 @@ import org.springframework.context.annotation.Configuration;
  * needs its own isolated WebDriver instance to prevent interference between tests.</p>
  * 
  * @author Ravi Kukreja
- * @version 1.1
+ * @version 1.2
  * @since 1.0
  * @see org.springframework.beans.factory.config.BeanFactoryPostProcessor
  * @see org.springframework.context.annotation.Configuration
  * @see com.auto.framework.driverscope.DriverScope
  * @see com.auto.framework.driverscope.DriverScopePostProcessor
+ * @see com.auto.framework.driverscope.DriverSessionReleaser
  */
 @Configuration
 public class DriverScopeConfig {
@@ -44,4 +47,17 @@ public class DriverScopeConfig {
         return new DriverScopePostProcessor();
     }
 
+    /**
+     * Creates the post processor that releases 'driverscope' WebDriver beans to the
+     * session pool when the scope of a test thread is reset.
+     * 
+     * @param sessionPool Provider of the session pool bean
+     * @return DestructionAwareBeanPostProcessor for WebDriver beans
+     */
+    @Bean
+    public static DestructionAwareBeanPostProcessor driverSessionReleaser(
+            ObjectProvider<DriverSessionPool> sessionPool) {
+        return new DriverSessionReleaser(sessionPool);
+    }
+
 }
@@ -10,7 +10,7 @@ import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
  *                  This class registers the 'driverscope' with the bean factory to enable thread-local
  *                  WebDriver instances for parallel test execution, ensuring each test thread has its own
  *                  isolated browser session.
- * @Version : 1.1
+ * @Version : 1.2
  ************************************************************************************************************************/
 
 /**
@@ -23,7 +23,7 @@ import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
  * WebDriver beans can be properly scoped to individual threads.</p>
  * 
  * @author Ravi Kukreja
- * @version 1.1
+ * @version 1.2
  * @since 1.0
  * @see org.springframework.beans.factory.config.BeanFactoryPostProcessor
  * @see org.springframework.beans.factory.config.ConfigurableListableBeanFactory
@@ -35,6 +35,8 @@ public class DriverScopePostProcessor implements BeanFactoryPostProcessor {
      * Registers the custom 'driverscope' with the bean factory.
      * This method is called during the bean factory post-processing phase,
      * allowing the registration of custom scopes before bean creation.
+     * The scope instance is also exposed as a singleton so that teardown code
+     * can end the current thread's session.
      * 
      * @param beanFactory The configurable bean factory to register the scope with
      * @throws BeansException if an error occurs during scope registration
@@ -42,7 +44,9 @@ public class DriverScopePostProcessor implements BeanFactoryPostProcessor {
     @Override
     public void postProcessBeanFactory(
             ConfigurableListableBeanFactory beanFactory) throws BeansException {
-        beanFactory.registerScope("driverscope", new DriverScope());
+        DriverScope driverScope = new DriverScope();
+        beanFactory.registerScope(DriverScope.NAME, driverScope);
+        beanFactory.registerSingleton("driverScope", driverScope);
     }
 
 }
@@ -0,0 +1,374 @@
+package com.auto.framework.driverscope;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.ChromiumDriver;
+
+import lombok.extern.slf4j.Slf4j;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Bounded, pre-warmed pool of browser sessions behind the driverscope. Sessions are leased to a
+ *                  test thread, reset to a clean state when returned, and evicted when unhealthy or too old, so
+ *                  tests no longer pay the browser startup cost on every run.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Bounded pool of WebDriver sessions shared by all test threads.
+ *
+ * <p>A session is leased when a 'driverscope' WebDriver bean is first resolved on a
+ * thread and returned when the scope is reset at test teardown. On return the session
+ * is reset (extra tabs closed, cookies and storage cleared, blank page loaded) and put
+ * back in the idle queue. Idle sessions that fail a health check or exceed the maximum
+ * age are quit and replaced on the next lease.</p>
+ *
+ * <p>A pool size of zero disables pooling: every lease starts a new browser and every
+ * release quits it, which is the behaviour of earlier framework versions.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.driverscope.DriverScope
+ * @see com.auto.framework.config.BrowserConfiguration
+ */
+@Slf4j
+public class DriverSessionPool {
+
+    /**
+     * Factory used to start new browser sessions.
+     */
+    private final Supplier<WebDriver> sessionFactory;
+
+    /**
+     * Callback used to end browser sessions, releasing any resources held for them.
+     */
+    private final Consumer<WebDriver> sessionDisposer;
+
+    /**
+     * Maximum number of sessions leased at the same time.
+     */
+    private final int poolSize;
+
+    /**
+     * Number of sessions started in the background when the pool is created.
+     */
+    private final int warmSize;
+
+    /**
+     * Age after which a session is quit instead of being reused.
+     */
+    private final Duration maxAge;
+
+    /**
+     * Maximum time a lease waits for a free slot.
+     */
+    private final Duration leaseTimeout;
+
+    /**
+     * Lease slots; one permit per session currently leased.
+     */
+    private final Semaphore leaseSlots;
+
+    /**
+     * Idle sessions ready to be leased, most recently returned first.
+     */
+    private final BlockingDeque<PooledSession> idleSessions;
+
+    /**
+     * Sessions currently leased, keyed by their driver.
+     */
+    private final Map<WebDriver, PooledSession> leasedSessions = new ConcurrentHashMap<>();
+
+    private final LongAdder leaseCount = new LongAdder();
+    private final LongAdder createdCount = new LongAdder();
+    private final LongAdder evictedCount = new LongAdder();
+    private final LongAdder totalLeaseWaitNanos = new LongAdder();
+    private final AtomicLong maxLeaseWaitNanos = new AtomicLong();
+    private final LongAdder totalStartupNanos = new LongAdder();
+    private final AtomicLong maxStartupNanos = new AtomicLong();
+
+    /**
+     * Creates a session pool.
+     *
+     * @param sessionFactory Factory used to start new browser sessions
+     * @param sessionDisposer Callback used to end browser sessions
+     * @param poolSize Maximum number of sessions leased at the same time; 0 disables pooling
+     * @param warmSize Number of sessions to start in the background on {@link #warmUp()}
+     * @param maxAge Age after which a session is evicted
+     * @param leaseTimeout Maximum time a lease waits for a free slot
+     */
+    public DriverSessionPool(Supplier<WebDriver> sessionFactory, Consumer<WebDriver> sessionDisposer, int poolSize,
+            int warmSize, Duration maxAge, Duration leaseTimeout) {
+        this.sessionFactory = sessionFactory;
+        this.sessionDisposer = sessionDisposer;
+        this.poolSize = Math.max(poolSize, 0);
+        this.warmSize = Math.min(Math.max(warmSize, 0), this.poolSize);
+        this.maxAge = maxAge;
+        this.leaseTimeout = leaseTimeout;
+        this.leaseSlots = new Semaphore(Math.max(this.poolSize, 1), true);
+        this.idleSessions = new LinkedBlockingDeque<>(Math.max(this.poolSize, 1));
+    }
+
+    /**
+     * Indicates whether sessions are reused between tests.
+     *
+     * @return true if the pool size is greater than zero
+     */
+    public boolean isPooling() {
+        return poolSize > 0;
+    }
+
+    /**
+     * Starts the configured number of sessions in the background so that the
+     * first parallel tests find warm browsers in the idle queue.
+     */
+    public void warmUp() {
+        if (!isPooling() || warmSize == 0) {
+            return;
+        }
+        log.info("Warming {} browser session(s)", warmSize);
+        for (int i = 0; i < warmSize; i++) {
+            CompletableFuture.runAsync(() -> {
+                try {
+                    PooledSession session = createSession();
+                    if (!idleSessions.offerLast(session)) {
+                        quietlyQuit(session.driver);
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Session warm-up failed: {}", e.getMessage());
+                }
+            });
+        }
+    }
+
+    /**
+     * Leases a session to the calling thread, reusing a healthy idle session when
+     * one is available and starting a new one otherwise.
+     *
+     * @return A clean WebDriver session owned by the caller until {@link #release(WebDriver)}
+     * @throws IllegalStateException if no slot becomes free within the lease timeout
+     */
+    public WebDriver lease() {
+        if (!isPooling()) {
+            return createSession().driver;
+        }
+        long start = System.nanoTime();
+        try {
+            if (!leaseSlots.tryAcquire(leaseTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException(
+                        "No browser session became free within " + leaseTimeout + " (pool size " + poolSize + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a browser session", e);
+        }
+        PooledSession session;
+        try {
+            session = nextHealthySession();
+        } catch (RuntimeException e) {
+            leaseSlots.release();
+            throw e;
+        }
+        leasedSessions.put(session.driver, session);
+        recordLeaseWait(System.nanoTime() - start);
+        return session.driver;
+    }
+
+    /**
+     * Returns a leased session to the pool. The session is reset before it is made
+     * available again; a session that cannot be reset, or that has exceeded its
+     * maximum age, is quit instead.
+     *
+     * @param driver The driver previously obtained from {@link #lease()}
+     */
+    public void release(WebDriver driver) {
+        if (!isPooling()) {
+            quietlyQuit(driver);
+            return;
+        }
+        PooledSession session = leasedSessions.remove(driver);
+        if (session == null) {
+            log.warn("Released driver was not leased from this pool; quitting it");
+            quietlyQuit(driver);
+            return;
+        }
+        try {
+            if (session.isExpired(maxAge) || !resetSession(driver) || !idleSessions.offerFirst(session)) {
+                evict(session);
+            }
+        } finally {
+            leaseSlots.release();
+        }
+    }
+
+    /**
+     * Quits every idle and leased session and logs the pool statistics.
+     */
+    public void shutdown() {
+        List<PooledSession> sessions = new ArrayList<>(leasedSessions.values());
+        leasedSessions.clear();
+        idleSessions.drainTo(sessions);
+        sessions.forEach(session -> quietlyQuit(session.driver));
+        long created = createdCount.sum();
+        log.info("Browser sessions: {} started, startup avg {} ms / max {} ms", created,
+                created == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalStartupNanos.sum() / created),
+                TimeUnit.NANOSECONDS.toMillis(maxStartupNanos.get()));
+        if (isPooling()) {
+            long leases = leaseCount.sum();
+            log.info("Session pool: {} leases, {} evicted, lease wait avg {} ms / max {} ms", leases,
+                    evictedCount.sum(),
+                    leases == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLeaseWaitNanos.sum() / leases),
+                    TimeUnit.NANOSECONDS.toMillis(maxLeaseWaitNanos.get()));
+        }
+    }
+
+    /**
+     * Takes idle sessions until a healthy one is found, evicting the others,
+     * and starts a new session if the idle queue runs empty.
+     *
+     * @return A healthy session
+     */
+    private PooledSession nextHealthySession() {
+        PooledSession session;
+        while ((session = idleSessions.pollFirst()) != null) {
+            if (!session.isExpired(maxAge) && isHealthy(session.driver)) {
+                return session;
+            }
+            evict(session);
+        }
+        return createSession();
+    }
+
+    /**
+     * Starts a new browser session and records its startup latency.
+     *
+     * @return The new session
+     */
+    private PooledSession createSession() {
+        long start = System.nanoTime();
+        PooledSession session = new PooledSession(sessionFactory.get());
+        long startupNanos = System.nanoTime() - start;
+        createdCount.increment();
+        totalStartupNanos.add(startupNanos);
+        maxStartupNanos.accumulateAndGet(startupNanos, Math::max);
+        log.info("Started browser session in {} ms", TimeUnit.NANOSECONDS.toMillis(startupNanos));
+        return session;
+    }
+
+    /**
+     * Checks that the session still responds to commands.
+     *
+     * @param driver The driver to check
+     * @return true if the browser answered a window-handle query
+     */
+    private boolean isHealthy(WebDriver driver) {
+        try {
+            return !driver.getWindowHandles().isEmpty();
+        } catch (WebDriverException e) {
+            log.debug("Idle session failed health check: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Resets the session to a clean state: extra tabs closed, cookies and web
+     * storage cleared and a blank page loaded.
+     *
+     * @param driver The driver to reset
+     * @return true if the reset succeeded
+     */
+    private boolean resetSession(WebDriver driver) {
+        try {
+            List<String> handles = new ArrayList<>(driver.getWindowHandles());
+            for (int i = 1; i < handles.size(); i++) {
+                driver.switchTo().window(handles.get(i)).close();
+            }
+            driver.switchTo().window(handles.get(0));
+            try {
+                ((JavascriptExecutor) driver)
+                        .executeScript("window.localStorage.clear(); window.sessionStorage.clear();");
+            } catch (WebDriverException e) {
+                log.trace("Web storage not accessible on current page: {}", e.getMessage());
+            }
+            if (driver instanceof ChromiumDriver chromiumDriver) {
+                chromiumDriver.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+            } else {
+                driver.manage().deleteAllCookies();
+            }
+            driver.get("about:blank");
+            return true;
+        } catch (WebDriverException | IndexOutOfBoundsException e) {
+            log.warn("Session reset failed, evicting: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Quits a session and counts it as evicted.
+     *
+     * @param session The session to evict
+     */
+    private void evict(PooledSession session) {
+        evictedCount.increment();
+        quietlyQuit(session.driver);
+    }
+
+    /**
+     * Records the time a caller waited for a lease.
+     *
+     * @param waitNanos The wait time in nanoseconds
+     */
+    private void recordLeaseWait(long waitNanos) {
+        leaseCount.increment();
+        totalLeaseWaitNanos.add(waitNanos);
+        maxLeaseWaitNanos.accumulateAndGet(waitNanos, Math::max);
+        log.debug("Leased browser session after {} ms", TimeUnit.NANOSECONDS.toMillis(waitNanos));
+    }
+
+    /**
+     * Ends the session, ignoring errors from sessions that are already gone.
+     *
+     * @param driver The driver to quit
+     */
+    private void quietlyQuit(WebDriver driver) {
+        try {
+            sessionDisposer.accept(driver);
+        } catch (WebDriverException e) {
+            log.debug("Quit failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * A browser session together with its creation time.
+     */
+    private static final class PooledSession {
+
+        private final WebDriver driver;
+        private final long createdAt = System.nanoTime();
+
+        private PooledSession(WebDriver driver) {
+            this.driver = driver;
+        }
+
+        private boolean isExpired(Duration maxAge) {
+            return System.nanoTime() - createdAt > maxAge.toNanos();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.auto.framework.driverscope;
+
+import org.openqa.selenium.WebDriver;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.DestructionAwareBeanPostProcessor;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Destruction-aware post processor that hands 'driverscope' WebDriver beans back to the session
+ *                  pool when the scope of a test thread is reset.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Releases WebDriver beans to the {@link DriverSessionPool} when they are destroyed.
+ *
+ * <p>Because this post processor requires destruction of every WebDriver bean, Spring
+ * registers a destruction callback with the {@link DriverScope} for each session. When
+ * the scope is reset at test teardown the callback lands here and the session is
+ * released to the pool (which resets or quits it).</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.driverscope.DriverScope
+ * @see com.auto.framework.driverscope.DriverSessionPool
+ */
+public class DriverSessionReleaser implements DestructionAwareBeanPostProcessor {
+
+    /**
+     * Lazily resolved session pool, which is only defined for supported browser setups.
+     */
+    private final ObjectProvider<DriverSessionPool> sessionPool;
+
+    /**
+     * Creates the releaser.
+     *
+     * @param sessionPool Provider of the session pool bean
+     */
+    public DriverSessionReleaser(ObjectProvider<DriverSessionPool> sessionPool) {
+        this.sessionPool = sessionPool;
+    }
+
+    /**
+     * Releases a WebDriver bean to the session pool, or quits it when no pool is defined.
+     *
+     * @param bean The bean being destroyed
+     * @param beanName The name of the bean
+     * @throws BeansException never thrown by this implementation
+     */
+    @Override
+    public void postProcessBeforeDestruction(Object bean, String beanName) throws BeansException {
+        if (bean instanceof WebDriver driver) {
+            DriverSessionPool pool = sessionPool.getIfAvailable();
+            if (pool != null) {
+                pool.release(driver);
+            } else {
+                driver.quit();
+            }
+        }
+    }
+
+    /**
+     * Only WebDriver beans need to be released.
+     *
+     * @param bean The bean instance to check
+     * @return true for WebDriver instances
+     */
+    @Override
+    public boolean requiresDestruction(Object bean) {
+        return bean instanceof WebDriver;
+    }
+}
@@ -0,0 +1,374 @@
+package com.auto.framework.execution;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.support.ResourcePropertySource;
+import org.testng.IConfigurationListener;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.xml.XmlSuite.ParallelMode;
+import org.testng.xml.XmlTest;
+
+import com.auto.framework.config.FrameworkProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : TestNG method interceptor that schedules the test methods of a parallel run longest first, using
+ *                  their durations in earlier runs, so that a long test no longer starts last and holds up the
+ *                  end of the run. Predicted and actual makespan are logged for every test. When the suite is split
+ *                  over several JVMs, it also selects this JVM's duration-balanced shard.
+ * @Version : 1.1
+ ************************************************************************************************************************/
+
+/**
+ * Historical-duration-aware scheduler for TestNG.
+ *
+ * <p>Register it in the suite XML:</p>
+ * <pre>
+ * &lt;listeners&gt;
+ *     &lt;listener class-name="com.auto.framework.execution.DurationAwareScheduler" /&gt;
+ * &lt;/listeners&gt;
+ * </pre>
+ *
+ * <p>Each {@code <test>} is a set of methods that TestNG hands to {@code thread-count}
+ * workers in the order the interceptor returns them, each free worker taking the next one.
+ * Returning the methods longest first makes this the classic longest-processing-time-first
+ * packing: the short methods are left to fill the gaps at the end. The slots are the
+ * {@code thread-count} of a {@code parallel="methods"} test, capped at
+ * {@code my.properties.session-pool-size} browser sessions; other tests have one slot.</p>
+ *
+ * <p>Durations come from a {@link TestDurationHistory} in
+ * {@code my.properties.test-duration-file}, updated after every run. A method's duration
+ * spans all its data provider rows and their {@code @AfterMethod} teardown. The
+ * {@code @BeforeMethod} is left out: the first ones of a run wait for the shared Spring
+ * context, which would make every method look as slow as the context startup. Methods without history are
+ * expected to take as long as the longest known method, so they are started early rather
+ * than risk a long tail. Without any history the declaration order is kept.</p>
+ *
+ * <p>For every test the predicted makespan of the plan, and of the declaration order, is
+ * logged before the methods run, and the actual makespan when they finish. TestNG keeps
+ * the returned order only while its method comparator considers the methods equal; the
+ * surefire configuration sets {@code testng.order=none}, so this also holds across test
+ * classes. Ordering is switched on with {@code my.properties.duration-scheduling=true};
+ * durations are recorded either way. The interceptor runs before the Spring context exists,
+ * so it binds the framework properties itself, from {@code application.properties}, system
+ * properties and environment variables.</p>
+ *
+ * <p>With {@code my.properties.shard-count} above 1, each JVM runs only the methods of shard
+ * {@code my.properties.shard-index} of every test, split by a {@link ShardPlan} balanced on the
+ * same estimates. The JVMs do not talk to each other: each computes the same split, so they
+ * must plan from the same durations, pinned with {@code my.properties.shard-durations-file}.
+ * Without any history the methods are split by count.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.1
+ * @since 1.3
+ * @see org.testng.IMethodInterceptor
+ * @see com.auto.framework.execution.TestDurationHistory
+ */
+@Slf4j
+public class DurationAwareScheduler implements IMethodInterceptor, ITestListener, IConfigurationListener,
+        ISuiteListener {
+
+    private final FrameworkProperties frameworkProperties = loadProperties();
+
+    private final TestDurationHistory history = new TestDurationHistory(
+            Path.of(frameworkProperties.getTestDurationFile()));
+
+    /**
+     * The durations the shards and the order are planned from.
+     */
+    private final TestDurationHistory plan = frameworkProperties.getShardDurationsFile().isBlank() ? history
+            : new TestDurationHistory(Path.of(frameworkProperties.getShardDurationsFile()));
+
+    /**
+     * Time each method occupied a worker in this run, as epoch milliseconds {start, end}, keyed by qualified name.
+     */
+    private final Map<String, long[]> spans = new ConcurrentHashMap<>();
+
+    /**
+     * Methods that ran, i.e. passed or failed, in this run.
+     */
+    private final Set<String> executed = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Predicted makespan in milliseconds, keyed by test name.
+     */
+    private final Map<String, Long> predictions = new ConcurrentHashMap<>();
+
+    /**
+     * Selects the methods of this JVM's shard and orders them longest first.
+     *
+     * @param testMethods The methods of the test, in declaration order
+     * @param context The test
+     * @return The methods to run, in the order they should be started
+     */
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> testMethods, ITestContext context) {
+        Map<IMethodInstance, Long> estimates = new IdentityHashMap<>();
+        long longest = -1;
+        for (IMethodInstance method : testMethods) {
+            long estimate = plan.estimate(method.getMethod().getQualifiedName());
+            estimates.put(method, estimate);
+            longest = Math.max(longest, estimate);
+        }
+        long unknown = Math.max(1, longest);
+        estimates.replaceAll((method, estimate) -> estimate < 0 ? unknown : estimate);
+        List<IMethodInstance> methods = shard(testMethods, estimates, longest >= 0, context);
+        if (methods.size() < 2) {
+            return methods;
+        }
+        if (longest < 0) {
+            log.info("Test '{}': no durations recorded yet, keeping the declaration order", context.getName());
+            return methods;
+        }
+        int slots = slots(context.getCurrentXmlTest());
+        long declared = makespan(methods, estimates, slots);
+        if (!frameworkProperties.isDurationScheduling()) {
+            predictions.put(context.getName(), declared);
+            log.info(String.format(Locale.ROOT, "Test '%s': %d methods in declaration order on %d slots, predicted "
+                    + "makespan %.1f s", context.getName(), methods.size(), slots, declared / 1000.0));
+            return methods;
+        }
+        List<IMethodInstance> scheduled = new ArrayList<>(methods);
+        scheduled.sort(Comparator.comparingLong((IMethodInstance method) -> estimates.get(method)).reversed());
+        long planned = makespan(scheduled, estimates, slots);
+        predictions.put(context.getName(), planned);
+        log.info(String.format(Locale.ROOT, "Test '%s': %d methods scheduled longest first on %d slots, predicted "
+                + "makespan %.1f s (declaration order %.1f s)", context.getName(), methods.size(), slots,
+                planned / 1000.0, declared / 1000.0));
+        for (IMethodInstance method : scheduled) {
+            log.debug("Scheduled {} ({} ms expected)", method.getMethod().getQualifiedName(), estimates.get(method));
+        }
+        return scheduled;
+    }
+
+    /**
+     * Selects the methods of this JVM's shard of a test.
+     *
+     * @param methods The methods of the test, in declaration order
+     * @param estimates Expected duration of every method in milliseconds
+     * @param known Whether the estimates come from recorded durations
+     * @param context The test
+     * @return The methods of the shard in declaration order, or all methods if the suite is not sharded
+     */
+    private List<IMethodInstance> shard(List<IMethodInstance> methods, Map<IMethodInstance, Long> estimates,
+            boolean known, ITestContext context) {
+        int shards = frameworkProperties.getShardCount();
+        if (shards <= 1) {
+            return methods;
+        }
+        int index = frameworkProperties.getShardIndex();
+        if (index < 0 || index >= shards) {
+            throw new IllegalArgumentException("my.properties.shard-index must be between 0 and " + (shards - 1)
+                    + ", was " + index);
+        }
+        ShardPlan shardPlan = new ShardPlan(methods, estimates, shards);
+        List<IMethodInstance> selected = shardPlan.methodsOf(index);
+        if (known) {
+            log.info(String.format(Locale.ROOT, "Test '%s': shard %d of %d runs %d of %d methods, %.1f s of work "
+                    + "(busiest shard %.1f s)", context.getName(), index + 1, shards, selected.size(), methods.size(),
+                    shardPlan.getLoad(index) / 1000.0, shardPlan.getMaxLoad() / 1000.0));
+        } else {
+            log.info("Test '{}': shard {} of {} runs {} of {} methods, split by count without recorded durations",
+                    context.getName(), index + 1, shards, selected.size(), methods.size());
+        }
+        return selected;
+    }
+
+    /**
+     * Records the time a passed test occupied its worker.
+     *
+     * @param result The test result
+     */
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        executed.add(result.getMethod().getQualifiedName());
+        extendSpan(result.getMethod(), result);
+    }
+
+    /**
+     * Records the time a failed test occupied its worker.
+     *
+     * @param result The test result
+     */
+    @Override
+    public void onTestFailure(ITestResult result) {
+        executed.add(result.getMethod().getQualifiedName());
+        extendSpan(result.getMethod(), result);
+    }
+
+    /**
+     * Records the time a skipped test occupied its worker. A method that was only skipped is not
+     * added to the history.
+     *
+     * @param result The test result
+     */
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        extendSpan(result.getMethod(), result);
+    }
+
+    /**
+     * Records the time a failure within the success percentage occupied its worker.
+     *
+     * @param result The test result
+     */
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        onTestFailure(result);
+    }
+
+    /**
+     * Adds a successful {@code @AfterMethod} to its test method's time.
+     *
+     * @param result The configuration result
+     * @param method The test method it ran for, or null for other configuration methods
+     */
+    @Override
+    public void onConfigurationSuccess(ITestResult result, ITestNGMethod method) {
+        if (result.getMethod().isAfterMethodConfiguration()) {
+            extendSpan(method, result);
+        }
+    }
+
+    /**
+     * Adds a failed {@code @AfterMethod} to its test method's time.
+     *
+     * @param result The configuration result
+     * @param method The test method it ran for, or null for other configuration methods
+     */
+    @Override
+    public void onConfigurationFailure(ITestResult result, ITestNGMethod method) {
+        if (result.getMethod().isAfterMethodConfiguration()) {
+            extendSpan(method, result);
+        }
+    }
+
+    /**
+     * Records the durations of the test's methods and logs its predicted and actual makespan.
+     *
+     * @param context The finished test
+     */
+    @Override
+    public void onFinish(ITestContext context) {
+        long start = Long.MAX_VALUE;
+        long end = Long.MIN_VALUE;
+        for (ITestNGMethod method : context.getAllTestMethods()) {
+            long[] span = spans.get(method.getQualifiedName());
+            if (span == null) {
+                continue;
+            }
+            start = Math.min(start, span[0]);
+            end = Math.max(end, span[1]);
+            if (executed.contains(method.getQualifiedName())) {
+                history.record(method.getQualifiedName(), span[1] - span[0]);
+            }
+        }
+        Long predicted = predictions.get(context.getName());
+        if (predicted != null && end >= start) {
+            log.info(String.format(Locale.ROOT, "Test '%s': predicted makespan %.1f s, actual %.1f s",
+                    context.getName(), predicted / 1000.0, (end - start) / 1000.0));
+        }
+    }
+
+    /**
+     * Saves the durations of this run when a suite finishes.
+     *
+     * @param suite The finished suite
+     */
+    @Override
+    public void onFinish(ISuite suite) {
+        history.save();
+    }
+
+    /**
+     * Extends the time a method occupied its worker by a result of the method or of its configuration.
+     *
+     * @param method The test method, or null
+     * @param result The result
+     */
+    private void extendSpan(ITestNGMethod method, ITestResult result) {
+        if (method == null || result.getStartMillis() <= 0 || result.getEndMillis() < result.getStartMillis()) {
+            return;
+        }
+        spans.merge(method.getQualifiedName(), new long[] { result.getStartMillis(), result.getEndMillis() },
+                (span, added) -> new long[] { Math.min(span[0], added[0]), Math.max(span[1], added[1]) });
+    }
+
+    /**
+     * Returns the number of methods of a test that run at the same time.
+     *
+     * @param test The test
+     * @return The thread count of a test running methods in parallel, capped by the browser sessions; otherwise 1
+     */
+    private int slots(XmlTest test) {
+        if (test.getParallel() != ParallelMode.METHODS && test.getParallel() != ParallelMode.INSTANCES) {
+            return 1;
+        }
+        int slots = Math.max(1, test.getThreadCount());
+        int sessions = frameworkProperties.getSessionPoolSize();
+        return sessions > 0 ? Math.min(slots, sessions) : slots;
+    }
+
+    /**
+     * Predicts the makespan of methods started in the given order, each free slot taking the next one.
+     *
+     * @param methods The methods in start order
+     * @param estimates Expected duration of every method in milliseconds
+     * @param slots The number of slots
+     * @return The predicted makespan in milliseconds
+     */
+    static long makespan(List<IMethodInstance> methods, Map<IMethodInstance, Long> estimates, int slots) {
+        long[] loads = new long[slots];
+        for (IMethodInstance method : methods) {
+            int free = 0;
+            for (int slot = 1; slot < slots; slot++) {
+                if (loads[slot] < loads[free]) {
+                    free = slot;
+                }
+            }
+            loads[free] += estimates.get(method);
+        }
+        long makespan = 0;
+        for (long load : loads) {
+            makespan = Math.max(makespan, load);
+        }
+        return makespan;
+    }
+
+    /**
+     * Binds the framework properties outside of the Spring context, from {@code application.properties},
+     * system properties and environment variables, with the context's relaxed binding rules.
+     *
+     * @return The framework properties
+     */
+    public static FrameworkProperties loadProperties() {
+        StandardEnvironment environment = new StandardEnvironment();
+        try {
+            environment.getPropertySources().addLast(new ResourcePropertySource("classpath:application.properties"));
+        } catch (IOException e) {
+            log.warn("Could not read application.properties, using defaults: {}", e.getMessage());
+        }
+        return Binder.get(environment).bindOrCreate("my.properties", FrameworkProperties.class);
+    }
+}
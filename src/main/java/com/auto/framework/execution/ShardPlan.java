@@ -0,0 +1,163 @@
+package com.auto.framework.execution;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.IMethodInstance;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Split of the methods of a test over several JVMs, balanced by their expected durations rather than
+ *                  their count. Every JVM computes the same split from the same durations, so the shards are
+ *                  disjoint and together run every method once, without a coordinator.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Duration-balanced split of test methods over shards.
+ *
+ * <p>Methods that depend on each other through {@code dependsOnMethods} are kept in the same
+ * shard, as one unit. The units are handed out longest first, ties broken by name, each to
+ * the shard with the least work so far, the lowest index on ties: the
+ * longest-processing-time-first packing also used within a shard. The result depends only on
+ * the methods, their estimates and the number of shards, never on the JVM computing it.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.execution.DurationAwareScheduler
+ */
+final class ShardPlan {
+
+    private final List<IMethodInstance> methods;
+
+    /**
+     * Shard of every method, by position in {@link #methods}.
+     */
+    private final int[] shardOf;
+
+    /**
+     * Expected work of every shard in milliseconds.
+     */
+    private final long[] loads;
+
+    /**
+     * Splits methods over shards.
+     *
+     * @param methods The methods of a test, in declaration order
+     * @param estimates Expected duration of every method in milliseconds
+     * @param shards The number of shards
+     */
+    ShardPlan(List<IMethodInstance> methods, Map<IMethodInstance, Long> estimates, int shards) {
+        this.methods = methods;
+        this.shardOf = new int[methods.size()];
+        this.loads = new long[shards];
+        List<List<Integer>> units = new ArrayList<>(units(methods).values());
+        Map<List<Integer>, Long> unitEstimates = new HashMap<>();
+        for (List<Integer> unit : units) {
+            unitEstimates.put(unit, unit.stream().mapToLong(index -> estimates.get(methods.get(index))).sum());
+        }
+        units.sort(Comparator.comparingLong((List<Integer> unit) -> unitEstimates.get(unit)).reversed()
+                .thenComparing(unit -> methods.get(unit.get(0)).getMethod().getQualifiedName()));
+        for (List<Integer> unit : units) {
+            int lightest = 0;
+            for (int shard = 1; shard < shards; shard++) {
+                if (loads[shard] < loads[lightest]) {
+                    lightest = shard;
+                }
+            }
+            loads[lightest] += unitEstimates.get(unit);
+            for (int index : unit) {
+                shardOf[index] = lightest;
+            }
+        }
+    }
+
+    /**
+     * Groups methods that depend on each other, directly or indirectly.
+     *
+     * @param methods The methods
+     * @return The positions of the methods of every unit, in declaration order, by the unit's first method
+     */
+    private static Map<Integer, List<Integer>> units(List<IMethodInstance> methods) {
+        int[] parent = new int[methods.size()];
+        Map<String, Integer> byName = new HashMap<>();
+        for (int index = 0; index < methods.size(); index++) {
+            parent[index] = index;
+            byName.putIfAbsent(methods.get(index).getMethod().getQualifiedName(), index);
+        }
+        for (int index = 0; index < methods.size(); index++) {
+            for (String dependency : methods.get(index).getMethod().getMethodsDependedUpon()) {
+                Integer other = byName.get(dependency);
+                if (other != null) {
+                    int root = root(parent, index);
+                    int otherRoot = root(parent, other);
+                    parent[Math.max(root, otherRoot)] = Math.min(root, otherRoot);
+                }
+            }
+        }
+        Map<Integer, List<Integer>> units = new LinkedHashMap<>();
+        for (int index = 0; index < methods.size(); index++) {
+            units.computeIfAbsent(root(parent, index), root -> new ArrayList<>()).add(index);
+        }
+        return units;
+    }
+
+    /**
+     * Finds the representative of a method's unit, its first method.
+     *
+     * @param parent The parent of every method
+     * @param index The position of the method
+     * @return The position of the representative
+     */
+    private static int root(int[] parent, int index) {
+        while (parent[index] != index) {
+            parent[index] = parent[parent[index]];
+            index = parent[index];
+        }
+        return index;
+    }
+
+    /**
+     * Returns the methods of a shard.
+     *
+     * @param shard The zero-based shard
+     * @return Its methods, in declaration order
+     */
+    List<IMethodInstance> methodsOf(int shard) {
+        List<IMethodInstance> selected = new ArrayList<>();
+        for (int index = 0; index < methods.size(); index++) {
+            if (shardOf[index] == shard) {
+                selected.add(methods.get(index));
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Returns the expected work of a shard.
+     *
+     * @param shard The zero-based shard
+     * @return The sum of the estimates of its methods in milliseconds
+     */
+    long getLoad(int shard) {
+        return loads[shard];
+    }
+
+    /**
+     * Returns the expected work of the busiest shard.
+     *
+     * @return Milliseconds
+     */
+    long getMaxLoad() {
+        long max = 0;
+        for (long load : loads) {
+            max = Math.max(max, load);
+        }
+        return max;
+    }
+}
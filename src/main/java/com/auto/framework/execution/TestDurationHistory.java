@@ -0,0 +1,246 @@
+package com.auto.framework.execution;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import lombok.extern.slf4j.Slf4j;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Local store of the durations of test methods in earlier runs, kept in a properties file, from which
+ *                  the expected duration of each method in the next run is estimated. Several JVMs can record
+ *                  into the same file.
+ * @Version : 1.2
+ ************************************************************************************************************************/
+
+/**
+ * Durations of test methods in earlier runs.
+ *
+ * <p>The most recent {@value #MAX_SAMPLES} durations of every method are kept, keyed by the
+ * method's qualified name. A method's duration is the time it occupied a worker: from its
+ * first {@code @BeforeMethod} to its last {@code @AfterMethod}, over all data provider rows.
+ * The estimate of a method is the median of its recent durations, so a single slow or
+ * aborted run does not reorder the suite.</p>
+ *
+ * <p>The file is shared by all runs on a machine, including the shards of a sharded run.
+ * When saving, a JVM locks the file, reads it again and adds only the durations it recorded
+ * since its last save, so concurrent JVMs do not overwrite each other's results. The file is
+ * replaced atomically, so a reader never sees a partial file.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.2
+ * @since 1.3
+ * @see com.auto.framework.execution.DurationAwareScheduler
+ */
+@Slf4j
+public class TestDurationHistory {
+
+    /**
+     * Number of durations kept per method.
+     */
+    static final int MAX_SAMPLES = 10;
+
+    /**
+     * Serializes the saves of this JVM, which the file lock does not: it is held per JVM.
+     */
+    private static final Object SAVE_LOCK = new Object();
+
+    private final Path file;
+
+    /**
+     * Recent durations in milliseconds, oldest first, keyed by qualified method name.
+     */
+    private final Map<String, Deque<Long>> history = new ConcurrentHashMap<>();
+
+    /**
+     * Durations recorded in this run and not saved yet, keyed by qualified method name.
+     * Replaced by an empty map when saved.
+     */
+    private Map<String, Deque<Long>> recorded = new ConcurrentHashMap<>();
+
+    /**
+     * Guards {@code recorded}: recording holds the read lock, so that threads record concurrently,
+     * and saving holds the write lock to take the map, so that no duration is added to a map
+     * that was already taken.
+     */
+    private final ReadWriteLock recordedLock = new ReentrantReadWriteLock();
+
+    /**
+     * Creates the history stored in a file and loads it, if the file exists.
+     *
+     * @param file The properties file
+     */
+    public TestDurationHistory(Path file) {
+        this.file = file.toAbsolutePath();
+        history.putAll(read(this.file));
+        if (!history.isEmpty()) {
+            log.info("Loaded durations of {} test methods from {}", history.size(), this.file);
+        }
+    }
+
+    /**
+     * Returns the expected duration of a method.
+     *
+     * @param method The qualified method name
+     * @return The median of its recent durations in milliseconds, or -1 if it has no history
+     */
+    public long estimate(String method) {
+        Deque<Long> samples = history.get(method);
+        if (samples == null) {
+            return -1;
+        }
+        long[] sorted;
+        synchronized (samples) {
+            if (samples.isEmpty()) {
+                return -1;
+            }
+            sorted = samples.stream().mapToLong(Long::longValue).sorted().toArray();
+        }
+        return sorted[(sorted.length - 1) / 2];
+    }
+
+    /**
+     * Records the duration of a method in this run.
+     *
+     * @param method The qualified method name
+     * @param millis The duration in milliseconds
+     */
+    public void record(String method, long millis) {
+        add(history, method, millis);
+        recordedLock.readLock().lock();
+        try {
+            add(recorded, method, millis);
+        } finally {
+            recordedLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a duration to the samples of a method, dropping the oldest beyond {@value #MAX_SAMPLES}.
+     *
+     * @param durations Durations keyed by method
+     * @param method The qualified method name
+     * @param millis The duration in milliseconds
+     */
+    private static void add(Map<String, Deque<Long>> durations, String method, long millis) {
+        Deque<Long> samples = durations.computeIfAbsent(method, key -> new ArrayDeque<>());
+        synchronized (samples) {
+            samples.addLast(millis);
+            if (samples.size() > MAX_SAMPLES) {
+                samples.removeFirst();
+            }
+        }
+    }
+
+    /**
+     * Reads a history file.
+     *
+     * @param file The properties file
+     * @return Durations keyed by method, empty if the file does not exist or cannot be read
+     */
+    private static Map<String, Deque<Long>> read(Path file) {
+        Map<String, Deque<Long>> durations = new HashMap<>();
+        if (!Files.isReadable(file)) {
+            return durations;
+        }
+        Properties stored = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            stored.load(reader);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Ignoring unreadable test duration history {}: {}", file, e.getMessage());
+            return durations;
+        }
+        stored.stringPropertyNames().forEach(key -> {
+            try {
+                Deque<Long> samples = Arrays.stream(stored.getProperty(key).split(",")).map(String::trim)
+                        .filter(value -> !value.isEmpty()).map(Long::valueOf)
+                        .collect(Collectors.toCollection(ArrayDeque::new));
+                while (samples.size() > MAX_SAMPLES) {
+                    samples.removeFirst();
+                }
+                durations.put(key, samples);
+            } catch (NumberFormatException e) {
+                log.warn("Ignoring test duration entry [{}]: {}", key, e.getMessage());
+            }
+        });
+        return durations;
+    }
+
+    /**
+     * Adds the durations recorded since the last save to the history file. The file is locked
+     * while it is read and rewritten, and replaced atomically where the file system supports it.
+     */
+    public void save() {
+        Map<String, Deque<Long>> unsaved;
+        recordedLock.writeLock().lock();
+        try {
+            unsaved = recorded;
+            recorded = new ConcurrentHashMap<>();
+        } finally {
+            recordedLock.writeLock().unlock();
+        }
+        if (unsaved.isEmpty()) {
+            return;
+        }
+        Path lock = file.resolveSibling(file.getFileName() + ".lock");
+        try {
+            Files.createDirectories(file.getParent());
+            synchronized (SAVE_LOCK) {
+                try (FileChannel channel = FileChannel.open(lock, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE)) {
+                    // released when the channel is closed
+                    channel.lock();
+                    Map<String, Deque<Long>> merged = read(file);
+                    unsaved.forEach((key, samples) -> {
+                        Deque<Long> mergedSamples = merged.computeIfAbsent(key, k -> new ArrayDeque<>());
+                        mergedSamples.addAll(samples);
+                        while (mergedSamples.size() > MAX_SAMPLES) {
+                            mergedSamples.removeFirst();
+                        }
+                    });
+                    write(merged);
+                    log.info("Saved durations of {} test methods to {}", unsaved.size(), file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not save test duration history to {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Replaces the history file.
+     *
+     * @param durations Durations keyed by method
+     * @throws IOException if the file cannot be written
+     */
+    private void write(Map<String, Deque<Long>> durations) throws IOException {
+        Properties stored = new Properties();
+        durations.forEach((key, samples) -> stored.setProperty(key,
+                samples.stream().map(String::valueOf).collect(Collectors.joining(","))));
+        Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp)) {
+            stored.store(writer, "Durations in ms per test method, oldest first");
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
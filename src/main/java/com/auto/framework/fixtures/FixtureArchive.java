@@ -0,0 +1,260 @@
+package com.auto.framework.fixtures;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import org.openqa.selenium.json.Json;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.auto.framework.config.FrameworkProperties;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Compact on-disk archive of the HTTP responses received by the browser sessions, written in record
+ *                  mode and served by the fixture server in replay mode.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Archive of recorded HTTP responses, keyed by request method and URL.
+ *
+ * <p>The archive in {@code my.properties.fixture-archive} is a ZIP file holding an
+ * {@code index.json} with the method, URL, status and headers of every response, and the
+ * decoded response bodies under {@code bodies/<sha256>}. Identical bodies are stored once
+ * and all entries are deflated.</p>
+ *
+ * <p>In {@link FixtureMode#RECORD} mode responses are collected in memory and the archive is
+ * replaced when the Spring context closes, so a recording run always yields a complete and
+ * consistent archive. In {@link FixtureMode#REPLAY} mode the archive is loaded when the
+ * context starts.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.fixtures.FixtureServer
+ * @see com.auto.framework.config.NetworkInterceptor
+ */
+@Slf4j
+@Component
+public class FixtureArchive {
+
+    /**
+     * Name of the index entry in the archive.
+     */
+    private static final String INDEX = "index.json";
+
+    /**
+     * Response headers that no longer describe the body once it was decoded by the browser.
+     */
+    private static final Set<String> DROPPED_HEADERS = Set.of("content-encoding", "content-length",
+            "transfer-encoding");
+
+    @Autowired
+    public FrameworkProperties frameworkProperties;
+
+    /**
+     * Recorded responses keyed by method and URL.
+     */
+    private final Map<String, Fixture> fixtures = new ConcurrentHashMap<>();
+
+    /**
+     * A recorded response.
+     *
+     * @param status The HTTP status code
+     * @param headers The response headers, without transfer-specific ones
+     * @param body The decoded response body
+     */
+    public record Fixture(int status, Map<String, String> headers, byte[] body) {
+    }
+
+    /**
+     * Returns the configured fixture mode.
+     *
+     * @return The value of {@code my.properties.fixture-mode}
+     */
+    public FixtureMode getMode() {
+        return frameworkProperties.getFixtureMode();
+    }
+
+    /**
+     * Loads the archive in replay mode.
+     *
+     * @throws IllegalStateException if the archive cannot be read in replay mode
+     */
+    @PostConstruct
+    public void load() {
+        if (getMode() != FixtureMode.REPLAY) {
+            return;
+        }
+        Path archive = Path.of(frameworkProperties.getFixtureArchive());
+        try {
+            read(archive);
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalStateException("Cannot replay fixtures: archive " + archive + " is missing or "
+                    + "unreadable. Record it first with my.properties.fixture-mode=record.", e);
+        }
+        log.info("Replaying {} recorded responses from {}", fixtures.size(), archive);
+    }
+
+    /**
+     * Records a response in record mode. A later response to the same request replaces an earlier one.
+     *
+     * @param method The request method
+     * @param url The request URL
+     * @param status The HTTP status code
+     * @param headers The response headers as DevTools {@code name}/{@code value} entries
+     * @param body The decoded response body
+     */
+    public void record(String method, String url, int status, List<Map<String, String>> headers, byte[] body) {
+        if (getMode() != FixtureMode.RECORD) {
+            return;
+        }
+        Map<String, String> kept = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.stream().filter(header -> !DROPPED_HEADERS.contains(header.get("name").toLowerCase(Locale.ROOT)))
+                .forEach(header -> kept.merge(header.get("name"), header.get("value"), (a, b) -> a + ", " + b));
+        fixtures.put(key(method, url), new Fixture(status, kept, body));
+    }
+
+    /**
+     * Looks up the recorded response to a request.
+     *
+     * @param method The request method; HEAD requests are answered from GET responses
+     * @param url The request URL
+     * @return The recorded response, or empty if the request was not recorded
+     */
+    public Optional<Fixture> find(String method, String url) {
+        String lookup = "HEAD".equals(method) ? "GET" : method;
+        return Optional.ofNullable(fixtures.get(key(lookup, url)));
+    }
+
+    /**
+     * Writes the archive at the end of a recording run.
+     */
+    @PreDestroy
+    public void save() {
+        if (getMode() != FixtureMode.RECORD || fixtures.isEmpty()) {
+            return;
+        }
+        Path archive = Path.of(frameworkProperties.getFixtureArchive()).toAbsolutePath();
+        try {
+            Files.createDirectories(archive.getParent());
+            Path temp = Files.createTempFile(archive.getParent(), "fixtures", ".tmp");
+            write(temp);
+            Files.move(temp, archive, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Recorded {} responses to {} ({} KB)", fixtures.size(), archive, Files.size(archive) / 1024);
+        } catch (IOException e) {
+            log.warn("Could not write fixture archive {}: {}", archive, e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the index and the deduplicated bodies to a ZIP file.
+     *
+     * @param file The file to write
+     * @throws IOException if the file cannot be written
+     */
+    private void write(Path file) throws IOException {
+        List<Map<String, Object>> index = new ArrayList<>();
+        Set<String> written = new HashSet<>();
+        try (OutputStream out = Files.newOutputStream(file); ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (Map.Entry<String, Fixture> entry : new TreeMap<>(fixtures).entrySet()) {
+                Fixture fixture = entry.getValue();
+                String hash = sha256(fixture.body());
+                if (written.add(hash)) {
+                    zip.putNextEntry(new ZipEntry("bodies/" + hash));
+                    zip.write(fixture.body());
+                    zip.closeEntry();
+                }
+                String[] request = entry.getKey().split(" ", 2);
+                index.add(Map.of("method", request[0], "url", request[1], "status", fixture.status(), "headers",
+                        fixture.headers(), "body", hash));
+            }
+            zip.putNextEntry(new ZipEntry(INDEX));
+            zip.write(new Json().toJson(index).getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+    }
+
+    /**
+     * Reads the index and the bodies of a ZIP file.
+     *
+     * @param file The archive to read
+     * @throws IOException if the archive cannot be read
+     */
+    @SuppressWarnings("unchecked")
+    private void read(Path file) throws IOException {
+        Map<String, byte[]> bodies = new HashMap<>();
+        List<Map<String, Object>> index = null;
+        try (InputStream in = Files.newInputStream(file); ZipInputStream zip = new ZipInputStream(in)) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                byte[] content = zip.readAllBytes();
+                if (INDEX.equals(entry.getName())) {
+                    index = new Json().toType(new String(content, StandardCharsets.UTF_8), List.class);
+                } else {
+                    bodies.put(entry.getName().substring("bodies/".length()), content);
+                }
+            }
+        }
+        if (index == null) {
+            throw new IOException("No " + INDEX + " in " + file);
+        }
+        for (Map<String, Object> entry : index) {
+            Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            headers.putAll((Map<String, String>) entry.get("headers"));
+            fixtures.put(key((String) entry.get("method"), (String) entry.get("url")), new Fixture(
+                    ((Number) entry.get("status")).intValue(), headers, bodies.get((String) entry.get("body"))));
+        }
+    }
+
+    /**
+     * Returns the key of a request.
+     *
+     * @param method The request method
+     * @param url The request URL, without fragment
+     * @return The key
+     */
+    private static String key(String method, String url) {
+        int fragment = url.indexOf('#');
+        return method + " " + (fragment < 0 ? url : url.substring(0, fragment));
+    }
+
+    /**
+     * Computes the SHA-256 hash of a body.
+     *
+     * @param body The body
+     * @return The hash as lower-case hex
+     */
+    private static String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
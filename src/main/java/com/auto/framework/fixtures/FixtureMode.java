@@ -0,0 +1,37 @@
+package com.auto.framework.fixtures;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Modes of the HTTP fixture archive, selected through 'my.properties.fixture-mode': browse the live
+ *                  application, record its responses, or replay them from the archive without network access.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Mode of the HTTP fixture archive.
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.fixtures.FixtureArchive
+ * @see com.auto.framework.fixtures.FixtureServer
+ */
+public enum FixtureMode {
+
+    /**
+     * Tests run against the live application; nothing is recorded.
+     */
+    OFF,
+
+    /**
+     * Tests run against the live application and every response the browser receives is
+     * written to the archive when the Spring context closes.
+     */
+    RECORD,
+
+    /**
+     * Tests run against the local fixture server, which serves the recorded responses.
+     * Requests that were not recorded fail instead of reaching the network.
+     */
+    REPLAY
+}
@@ -0,0 +1,198 @@
+package com.auto.framework.fixtures;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.auto.framework.config.FrameworkProperties;
+import com.auto.framework.fixtures.FixtureArchive.Fixture;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Embedded HTTP server standing in for the application under test in replay mode. It serves the
+ *                  recorded responses of the application's origin on the Spring 'server.port', so suites run at
+ *                  local-disk speed and on agents without network access.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Local stand-in for the application under test.
+ *
+ * <p>In {@link FixtureMode#REPLAY} mode the server listens on the loopback interface on
+ * {@code server.port}. URLs of the origin of {@code my.properties.demo-url} are mapped onto
+ * it by {@link #localUrl(String)}, which {@code openURL} applies to every navigation;
+ * relative and root-relative subresources then resolve to the server as well. Requests of
+ * the page to other origins are answered from the archive through DevTools by the
+ * {@link com.auto.framework.config.NetworkInterceptor}.</p>
+ *
+ * <p>Requests that were not recorded get a {@code 404}; their count is logged when the
+ * Spring context closes, as a hint that the archive should be recorded again.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.fixtures.FixtureArchive
+ */
+@Slf4j
+@Component
+public class FixtureServer {
+
+    @Autowired
+    public FrameworkProperties frameworkProperties;
+
+    @Autowired
+    public FixtureArchive fixtureArchive;
+
+    /**
+     * Port of the server, shared with the Spring {@code server.port} setting.
+     */
+    @Value("${server.port:8081}")
+    private int port;
+
+    private final LongAdder served = new LongAdder();
+    private final LongAdder missing = new LongAdder();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * Origin of the recorded application, e.g. {@code https://demoqa.com}.
+     */
+    private String recordedOrigin;
+
+    /**
+     * Starts the server in replay mode.
+     *
+     * @throws IllegalStateException if the server cannot be bound to its port
+     */
+    @PostConstruct
+    public void start() {
+        if (!isReplaying()) {
+            return;
+        }
+        recordedOrigin = origin(frameworkProperties.getDemoUrl());
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot start fixture server on port " + port, e);
+        }
+        AtomicInteger threads = new AtomicInteger();
+        executor = Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "fixture-server-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+        log.info("Fixture server replaying {} on http://localhost:{}", recordedOrigin, port);
+    }
+
+    /**
+     * Returns true if tests run against the fixture server.
+     *
+     * @return true in {@link FixtureMode#REPLAY} mode
+     */
+    public boolean isReplaying() {
+        return fixtureArchive.getMode() == FixtureMode.REPLAY;
+    }
+
+    /**
+     * Maps a URL of the recorded application onto the fixture server in replay mode.
+     *
+     * @param url The URL to navigate to
+     * @return The URL on the fixture server, or the URL unchanged if not replaying or of another origin
+     */
+    public String localUrl(String url) {
+        if (!isReplaying() || !url.startsWith(recordedOrigin)) {
+            return url;
+        }
+        return "http://localhost:" + port + url.substring(recordedOrigin.length());
+    }
+
+    /**
+     * Returns true if a URL is addressed to the fixture server.
+     *
+     * @param url The request URL
+     * @return true for URLs on the server's port of localhost
+     */
+    public boolean isLocal(String url) {
+        return url.startsWith("http://localhost:" + port + "/");
+    }
+
+    /**
+     * Stops the server and logs how many requests were answered.
+     */
+    @PreDestroy
+    public void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        executor.shutdownNow();
+        log.info("Fixture server served {} requests, {} not recorded", served.sum(), missing.sum());
+    }
+
+    /**
+     * Answers a request from the archive.
+     *
+     * @param exchange The HTTP exchange
+     * @throws IOException if the response cannot be written
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            String url = recordedOrigin + exchange.getRequestURI().toString();
+            Optional<Fixture> fixture = fixtureArchive.find(method, url);
+            if (fixture.isEmpty()) {
+                missing.increment();
+                log.debug("No recorded response for {} {}", method, url);
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            served.increment();
+            for (Map.Entry<String, String> header : fixture.get().headers().entrySet()) {
+                String value = "location".equalsIgnoreCase(header.getKey()) ? localUrl(header.getValue())
+                        : header.getValue();
+                exchange.getResponseHeaders().add(header.getKey(), value);
+            }
+            byte[] body = fixture.get().body();
+            boolean noBody = "HEAD".equals(method) || body == null || body.length == 0;
+            exchange.sendResponseHeaders(fixture.get().status(), noBody ? -1 : body.length);
+            if (!noBody) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the origin of a URL.
+     *
+     * @param url The URL
+     * @return Scheme, host and port of the URL, without trailing slash
+     */
+    private static String origin(String url) {
+        URI uri = URI.create(url);
+        return uri.getScheme() + "://" + uri.getRawAuthority();
+    }
+}
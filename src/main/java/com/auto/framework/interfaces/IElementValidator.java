@@ -1,25 +1,31 @@
 package com.auto.framework.interfaces;
 
+import java.util.List;
+import java.util.Map;
+
 import org.openqa.selenium.By;
 
+import com.auto.framework.model.ElementSnapshot;
+
 /************************************************************************************************************************
  * @Author : Ravi Kukreja
  * @Description : Element validator interface defining the contract for retrieving page information
  *                  and element text content. This interface provides methods for page title verification and
  *                  element text extraction to support test assertions and validation.
- * @Version : 1.2
+ * @Version : 1.3
  ************************************************************************************************************************/
 
 /**
  * Interface defining the contract for element verification operations in web automation.
  * This interface provides methods for retrieving page titles and element text content,
- * essential for test assertions and validation in automated testing.
+ * essential for test assertions and validation in automated testing. Bulk methods read
+ * several elements in one browser round trip.
  * 
  * <p>Implementations should include proper logging and error handling for debugging
  * and test reporting purposes.</p>
  * 
  * @author Ravi Kukreja
- * @version 1.2
+ * @version 1.3
  * @since 1.0
  * @see org.openqa.selenium.WebDriver
  * @see org.openqa.selenium.By
@@ -43,4 +49,36 @@ public interface IElementValidator {
      */
     public String getText(By by);
 
+    /**
+     * Reads the text and the given attributes of several elements in a single browser call.
+     * Use this to snapshot a result panel instead of calling {@link #getText(By)} per element.
+     * 
+     * @param locators Locators keyed by a caller-chosen name; iteration order is preserved in the result
+     * @param attributeNames Names of the DOM attributes to read from every element
+     * @return Snapshot of each element keyed by the same names as the locators
+     * 
+     * @throws org.openqa.selenium.NoSuchElementException if any of the elements is not found
+     */
+    public Map<String, ElementSnapshot> getSnapshots(Map<String, By> locators, String... attributeNames);
+
+    /**
+     * Retrieves the text content of several elements in a single browser call.
+     * 
+     * @param locators Locators keyed by a caller-chosen name
+     * @return The text content of each element keyed by the same names as the locators
+     * 
+     * @throws org.openqa.selenium.NoSuchElementException if any of the elements is not found
+     */
+    public Map<String, String> getTexts(Map<String, By> locators);
+
+    /**
+     * Retrieves the text content of several elements in a single browser call.
+     * 
+     * @param locators The locators of the elements
+     * @return The text content of each element, in the order of the locators
+     * 
+     * @throws org.openqa.selenium.NoSuchElementException if any of the elements is not found
+     */
+    public List<String> getTexts(List<By> locators);
+
 }
@@ -3,12 +3,15 @@ package com.auto.framework.interfaces;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 
+import com.auto.framework.model.PageReadiness;
+
 /************************************************************************************************************************
  * @Author : Ravi Kukreja
  * @Description : Wait operations interface defining the contract for waiting until elements are in specific
  *                  states before proceeding with test actions. This interface provides methods for handling
- *                  dynamic web pages where elements may take time to load or become interactive.
- * @Version : 1.2
+ *                  dynamic web pages where elements may take time to load or become interactive, and for pages
+ *                  to become ready after navigation.
+ * @Version : 1.5
  ************************************************************************************************************************/
 
 /**
@@ -20,7 +23,7 @@ import org.openqa.selenium.WebElement;
  * may take time to load or become interactive, improving test reliability.</p>
  * 
  * @author Ravi Kukreja
- * @version 1.2
+ * @version 1.5
  * @since 1.0
  * @see org.openqa.selenium.support.ui.ExpectedConditions
  * @see org.openqa.selenium.support.ui.WebDriverWait
@@ -31,7 +34,8 @@ public interface WaitOperations {
     
     /**
      * Waits for an element to be clickable before proceeding.
-     * This method polls the DOM until the element is both visible and enabled.
+     * Returns as soon as the element is both visible and enabled, either by watching the
+     * DOM inside the browser or by polling it, depending on configuration.
      * 
      * @param by The locator strategy used to find the element
      * @return The WebElement that is clickable
@@ -40,4 +44,26 @@ public interface WaitOperations {
      * @throws org.openqa.selenium.NoSuchElementException if the element is not found
      */
     public WebElement waitForElementToBeClickable(By by);
+
+    /**
+     * Waits for an element to be present in the DOM, whether or not it is visible.
+     * Used before reading elements, such as whole tables, that need not be interactive.
+     * 
+     * @param by The locator strategy used to find the element
+     * @return The WebElement once present
+     * 
+     * @throws org.openqa.selenium.TimeoutException if the element is not present within the explicit timeout
+     */
+    public WebElement waitForElementToBePresent(By by);
+
+    /**
+     * Waits until a newly opened page satisfies its declared readiness condition.
+     * The condition is watched inside the browser, so the wait returns as soon as it holds.
+     * 
+     * @param readiness The condition declared by the page object
+     * 
+     * @throws org.openqa.selenium.TimeoutException if the condition does not hold within the explicit timeout
+     * @throws IllegalArgumentException if a locator of the condition cannot be evaluated in the browser
+     */
+    public void waitForPageReady(PageReadiness readiness);
 }
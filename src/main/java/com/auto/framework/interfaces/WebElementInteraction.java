@@ -5,12 +5,16 @@ import java.util.List;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 
+import com.auto.framework.model.PageReadiness;
+import com.auto.framework.model.TableSnapshot;
+
 /************************************************************************************************************************
  * @Author : Ravi Kukreja
  * @Description : Interface for web element interactions defining the contract for web element interactions.
  *                  This interface provides methods for basic operations like click and sendKeys, as well as
- *                  advanced operations like nested menu navigation, relative locators, and table interactions.
- * @Version : 1.2
+ *                  advanced operations like nested menu navigation, relative locators, and table interactions
+ *                  backed by single-call table snapshots, and navigation with page readiness conditions.
+ * @Version : 1.4
  ************************************************************************************************************************/
 
 /**
@@ -22,7 +26,7 @@ import org.openqa.selenium.WebDriver;
  * elements are visible before interaction and include proper error handling.</p>
  * 
  * @author Ravi Kukreja
- * @version 1.2
+ * @version 1.4
  * @since 1.0
  * @see org.openqa.selenium.WebDriver
  * @see org.openqa.selenium.WebElement
@@ -65,6 +69,17 @@ public interface WebElementInteraction {
      */
     void openURL(String url);
 
+    /**
+     * Navigates to the specified URL and returns as soon as the page satisfies the given
+     * readiness condition, independently of the configured page-load strategy.
+     * 
+     * @param url The URL to navigate to
+     * @param readiness The condition telling when the page is ready for the test
+     * 
+     * @throws org.openqa.selenium.TimeoutException if the page is not ready within the explicit timeout
+     */
+    void openURL(String url, PageReadiness readiness);
+
     /**
      * Searches for an element containing the specified text and clicks on it.
      * This method finds the first element that contains the search text (case-insensitive).
@@ -142,4 +157,53 @@ public interface WebElementInteraction {
      */
     void clickRelativeLeftElement(By toLeftoFBy, By withBy);
 
+    /**
+     * Reads the header and cell texts of a whole table in a single browser call.
+     * Both HTML tables and ARIA grids are supported; rows without text or form controls are skipped.
+     * A table that has not rendered yet is waited for up to the explicit timeout.
+     * 
+     * @param table The locator of the table element
+     * @return Snapshot of the table with zero-based data rows and columns
+     * 
+     * @throws org.openqa.selenium.TimeoutException if the table is not present within the explicit timeout
+     * @throws NoSuchElementException if the table is gone again before it is read
+     */
+    TableSnapshot readTable(By table);
+
+    /**
+     * Clicks a table cell addressed by data row and column, as numbered in {@link #readTable(By)}.
+     * 
+     * @param table The locator of the table element
+     * @param row The zero-based data row index
+     * @param column The zero-based column index
+     * 
+     * @throws NoSuchElementException if the table or the cell does not exist
+     */
+    void clickTableCell(By table, int row, int column);
+
+    /**
+     * Clicks an element inside a table cell addressed by data row and column,
+     * e.g. an edit or delete button in an action column.
+     * 
+     * @param table The locator of the table element
+     * @param row The zero-based data row index
+     * @param column The zero-based column index
+     * @param target The locator of the element to click, searched within the cell
+     * 
+     * @throws NoSuchElementException if the table, the cell or the target does not exist
+     */
+    void clickTableCell(By table, int row, int column, By target);
+
+    /**
+     * Types a value into the input or text area inside a table cell addressed by data row and column.
+     * 
+     * @param table The locator of the table element
+     * @param row The zero-based data row index
+     * @param column The zero-based column index
+     * @param value The value to type
+     * 
+     * @throws NoSuchElementException if the table, the cell or the input does not exist
+     */
+    void sendKeysToTableCell(By table, int row, int column, String value);
+
 }
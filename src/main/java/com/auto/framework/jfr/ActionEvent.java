@@ -0,0 +1,54 @@
+package com.auto.framework.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Java Flight Recorder event of a user interaction performed by the WebElementInteractor.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Flight recorder event spanning one interaction, such as a click or typing into a field,
+ * including the waits and browser commands it issues.
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.actions.WebElementInteractor
+ */
+@Name("com.auto.framework.Action")
+@Label("Action")
+@Category({ "Test Automation", "Actions" })
+@Description("User interaction performed by the framework")
+@StackTrace(false)
+public class ActionEvent extends Event {
+
+    @Label("Action")
+    public String action;
+
+    @Label("Locator")
+    public String locator;
+
+    /**
+     * Creates and begins the event of an interaction.
+     *
+     * @param action The name of the interaction
+     * @param locator The locator of the element, or null
+     * @return The begun event, to be committed when the interaction ends
+     */
+    public static ActionEvent begin(String action, Object locator) {
+        ActionEvent event = new ActionEvent();
+        if (event.isEnabled()) {
+            event.action = action;
+            event.locator = locator == null ? null : locator.toString();
+            event.begin();
+        }
+        return event;
+    }
+}
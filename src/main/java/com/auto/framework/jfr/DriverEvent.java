@@ -0,0 +1,66 @@
+package com.auto.framework.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Java Flight Recorder event of a browser session being started or ended.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Flight recorder event spanning the start or the end of a browser session.
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.config.BrowserConfiguration
+ */
+@Name("com.auto.framework.Driver")
+@Label("Driver Lifecycle")
+@Category({ "Test Automation", "Driver" })
+@Description("Browser session started or ended")
+@StackTrace(false)
+public class DriverEvent extends Event {
+
+    /**
+     * Operation of a session being started.
+     */
+    public static final String CREATE = "create";
+
+    /**
+     * Operation of a session being ended.
+     */
+    public static final String QUIT = "quit";
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Browser")
+    public String browser;
+
+    @Label("Session")
+    public String session;
+
+    /**
+     * Creates and begins the event of a session operation.
+     *
+     * @param operation The operation
+     * @param browser The browser or execution environment
+     * @return The begun event, to be committed when the operation ends
+     */
+    public static DriverEvent begin(String operation, String browser) {
+        DriverEvent event = new DriverEvent();
+        if (event.isEnabled()) {
+            event.operation = operation;
+            event.browser = browser;
+            event.begin();
+        }
+        return event;
+    }
+}
@@ -0,0 +1,108 @@
+package com.auto.framework.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.auto.framework.config.FrameworkProperties;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Java Flight Recorder recording of a whole suite, started with the Spring context and written to
+ *                  a .jfr file when the context closes, combining the framework events with GC, thread and
+ *                  allocation data of the JVM.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Suite-wide flight recording.
+ *
+ * <p>Enabled with {@code my.properties.jfr=true}. The recording uses the JDK's
+ * {@code my.properties.jfr-settings} configuration, {@code default} by default, which keeps
+ * the overhead around one percent, plus every framework event: {@link ActionEvent},
+ * {@link NavigationEvent}, {@link WaitEvent}, {@link DriverEvent}, {@link ScreenshotEvent}
+ * and {@link TeardownEvent}. The file is written to {@code my.properties.jfr-file} when the
+ * context closes, or when the JVM exits early. Open it in JDK Mission Control to see the
+ * framework events on the same per-thread timeline as garbage collections and blocked threads.</p>
+ *
+ * <p>The framework events are also recorded by recordings started in other ways, e.g. with
+ * {@code -XX:StartFlightRecording}, which covers the Spring context startup as well.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see jdk.jfr.Recording
+ */
+@Slf4j
+@Component
+public class FlightRecording {
+
+    /**
+     * The framework's event types.
+     */
+    private static final List<Class<? extends Event>> EVENTS = List.of(ActionEvent.class, NavigationEvent.class,
+            WaitEvent.class, DriverEvent.class, ScreenshotEvent.class, TeardownEvent.class);
+
+    @Autowired
+    public FrameworkProperties frameworkProperties;
+
+    private Recording recording;
+
+    /**
+     * Starts the recording if it is enabled.
+     */
+    @PostConstruct
+    public void start() {
+        if (!frameworkProperties.isJfr()) {
+            return;
+        }
+        Path file = Path.of(frameworkProperties.getJfrFile()).toAbsolutePath();
+        try {
+            Files.createDirectories(file.getParent());
+            recording = new Recording(Configuration.getConfiguration(frameworkProperties.getJfrSettings()));
+            recording.setName("Test Automation Suite");
+            for (Class<? extends Event> event : EVENTS) {
+                recording.enable(event).withoutStackTrace();
+            }
+            recording.setToDisk(true);
+            recording.setDestination(file);
+            recording.setDumpOnExit(true);
+            recording.start();
+            log.info("Flight recording started, writing to {}", file);
+        } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+            log.warn("Could not start flight recording to {}: {}", file, e.getMessage());
+            recording = null;
+        }
+    }
+
+    /**
+     * Stops the recording, which writes it to the configured file.
+     */
+    @PreDestroy
+    public void stop() {
+        if (recording == null) {
+            return;
+        }
+        try {
+            recording.stop();
+            log.info("Flight recording written to {}", recording.getDestination());
+        } catch (IllegalStateException e) {
+            log.warn("Could not stop flight recording: {}", e.getMessage());
+        } finally {
+            recording.close();
+            recording = null;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.auto.framework.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Java Flight Recorder event of a page navigation, from the request until the page is ready.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Flight recorder event spanning the load of a URL and the wait for its readiness condition.
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.actions.WebElementInteractor#openURL(String, com.auto.framework.model.PageReadiness)
+ */
+@Name("com.auto.framework.Navigation")
+@Label("Navigation")
+@Category({ "Test Automation", "Navigation" })
+@Description("Page load and readiness wait")
+@StackTrace(false)
+public class NavigationEvent extends Event {
+
+    @Label("URL")
+    public String url;
+
+    @Label("Readiness Condition")
+    public String readiness;
+
+    @Label("Blocked Requests")
+    public long blockedRequests;
+}
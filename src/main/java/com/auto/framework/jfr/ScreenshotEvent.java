@@ -0,0 +1,39 @@
+package com.auto.framework.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Java Flight Recorder event of a screenshot being fetched from the browser.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Flight recorder event spanning the capture of a screenshot on the test thread. Encoding and
+ * writing the attachment happen afterwards on the screenshot pipeline's threads.
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.reporting.ScreenshotPipeline
+ */
+@Name("com.auto.framework.Screenshot")
+@Label("Screenshot")
+@Category({ "Test Automation", "Teardown" })
+@Description("Screenshot fetched from the browser")
+@StackTrace(false)
+public class ScreenshotEvent extends Event {
+
+    @Label("Name")
+    public String name;
+
+    @Label("Size")
+    @DataAmount
+    public long size;
+}
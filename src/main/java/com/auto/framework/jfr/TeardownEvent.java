@@ -0,0 +1,61 @@
+package com.auto.framework.jfr;
+
+import org.testng.ITestResult;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Java Flight Recorder events of test teardown: the teardown itself and the screenshot it captures.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Flight recorder event spanning the teardown of a test, including the screenshot capture
+ * and the release of the browser session.
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.jfr.ScreenshotEvent
+ */
+@Name("com.auto.framework.Teardown")
+@Label("Teardown")
+@Category({ "Test Automation", "Teardown" })
+@Description("Test teardown and browser session release")
+@StackTrace(false)
+public class TeardownEvent extends Event {
+
+    @Label("Test")
+    public String test;
+
+    @Label("Status")
+    public String status;
+
+    /**
+     * Creates and begins the teardown event of a test.
+     *
+     * @param result The result of the test method, or null
+     * @return The begun event, to be committed when the teardown ends
+     */
+    public static TeardownEvent begin(ITestResult result) {
+        TeardownEvent event = new TeardownEvent();
+        if (event.isEnabled() && result != null) {
+            event.test = result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod()
+                    .getMethodName();
+            event.status = switch (result.getStatus()) {
+                case ITestResult.SUCCESS -> "success";
+                case ITestResult.FAILURE, ITestResult.SUCCESS_PERCENTAGE_FAILURE -> "failure";
+                case ITestResult.SKIP -> "skip";
+                default -> "unknown";
+            };
+        }
+        event.begin();
+        return event;
+    }
+}
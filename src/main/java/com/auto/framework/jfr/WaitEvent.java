@@ -0,0 +1,80 @@
+package com.auto.framework.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Java Flight Recorder event of an explicit wait performed by the WaitManager.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Flight recorder event spanning one explicit wait. The readiness is the time the condition
+ * took to hold in the browser, when the wait ran there; the rest of the duration is overhead.
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.actions.WaitManager
+ */
+@Name("com.auto.framework.Wait")
+@Label("Wait")
+@Category({ "Test Automation", "Waits" })
+@Description("Explicit wait for an element or a page")
+@StackTrace(false)
+public class WaitEvent extends Event {
+
+    /**
+     * Mode of a wait for an element to be clickable inside the browser.
+     */
+    public static final String EVENT_DRIVEN = "event-driven";
+
+    /**
+     * Mode of a wait polled by WebDriverWait.
+     */
+    public static final String POLLING = "polling";
+
+    /**
+     * Mode of a wait for a page readiness condition.
+     */
+    public static final String PAGE_READY = "page-ready";
+
+    @Label("Mode")
+    public String mode;
+
+    @Label("Condition")
+    public String condition;
+
+    @Label("Page")
+    public String page;
+
+    /**
+     * Time the condition took to hold in the browser; Long.MIN_VALUE, shown as N/A, if unknown.
+     */
+    @Label("Readiness")
+    @Timespan(Timespan.NANOSECONDS)
+    public long readiness = Long.MIN_VALUE;
+
+    /**
+     * Creates and begins the event of a wait.
+     *
+     * @param mode The wait mode
+     * @param condition The locator or readiness condition waited for
+     * @return The begun event, to be committed when the wait ends
+     */
+    public static WaitEvent begin(String mode, Object condition) {
+        WaitEvent event = new WaitEvent();
+        if (event.isEnabled()) {
+            event.mode = mode;
+            event.condition = String.valueOf(condition);
+            event.begin();
+        }
+        return event;
+    }
+}
@@ -1,39 +1,40 @@
 package com.auto.framework.listeners;
 
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
-import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebDriverException;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 import org.testng.ITestResult;
 import org.testng.TestListenerAdapter;
 import org.testng.internal.TestResult;
 
+import com.auto.framework.profiler.SuiteProfiler;
+
 import io.qameta.allure.Allure;
 import io.qameta.allure.AllureLifecycle;
-import io.qameta.allure.Attachment;
 import lombok.extern.slf4j.Slf4j;
 
 /************************************************************************************************************************
  * @Author : Ravi Kukreja
  * @Description : Test execution listener implementation to manage driver lifecycle and log test results with Allure
  *                  reporting integration. This class extends TestListenerAdapter to provide custom test
- *                  execution handling including driver cleanup, screenshot capture on failure, and
- *                  comprehensive test logging for debugging and reporting purposes.
- * @Version : 1.2
+ *                  execution handling including driver cleanup and comprehensive test logging for debugging
+ *                  and reporting purposes. Screenshots are taken once, at teardown, by the ScreenshotPipeline.
+ *                  Test starts and outcomes are passed to the SuiteProfiler.
+ * @Version : 1.4
  ************************************************************************************************************************/
 
 /**
  * TestNG listener implementation for managing WebDriver lifecycle and test reporting.
- * This class provides comprehensive test execution management including driver cleanup,
- * screenshot capture on failures, and integration with Allure reporting framework.
+ * This class provides comprehensive test execution management including driver cleanup
+ * and integration with Allure reporting framework. Screenshots are not taken here; they
+ * are captured once per test at teardown, while the browser session is still held, through
+ * {@link com.auto.framework.reporting.ScreenshotPipeline}. Test starts and outcomes open and
+ * label the test's profile in the {@link SuiteProfiler}.
  * 
  * <p>The listener is scoped to 'driverscope' ensuring it operates on the correct
  * WebDriver instance for each test thread during parallel execution.</p>
  * 
  * @author Ravi Kukreja
- * @version 1.2
+ * @version 1.4
  * @since 1.0
  * @see org.testng.TestListenerAdapter
  * @see org.testng.ITestResult
@@ -47,13 +48,14 @@ public class TestExecutionListener extends TestListenerAdapter {
 
 	/**
 	 * Called when a test starts execution.
-	 * Logs the test start and performs any necessary setup.
+	 * Logs the test start and starts the test's profile.
 	 * 
 	 * @param iTestResult The test result object containing test information
 	 */
 	@Override
 	public void onTestStart(ITestResult iTestResult) {
 		super.onTestStart(iTestResult);
+		SuiteProfiler.testStarted(iTestResult);
 		log.info("Started: {}", iTestResult.getName());
 	}
 
@@ -66,6 +68,7 @@ public class TestExecutionListener extends TestListenerAdapter {
 	@Override
 	public void onTestSuccess(ITestResult iTestResult) {
 		super.onTestSuccess(iTestResult);
+		SuiteProfiler.testEnded(iTestResult);
 		testReportUpdate(iTestResult);
 		log.info("Finished successfully: {}", iTestResult.getName());
 	}
@@ -79,40 +82,25 @@ public class TestExecutionListener extends TestListenerAdapter {
 	@Override
 	public void onTestSkipped(ITestResult iTestResult) {
 		super.onTestSkipped(iTestResult);
+		SuiteProfiler.testEnded(iTestResult);
 		testReportUpdate(iTestResult);
 		log.info("Skipped: {}", iTestResult.getName());
 	}
 
 	/**
 	 * Called when a test fails.
-	 * Captures screenshots, updates reports, and logs failure details.
+	 * Updates reports and logs failure details.
 	 * 
 	 * @param iTestResult The test result object containing test information and failure details
 	 */
 	@Override
 	public void onTestFailure(ITestResult iTestResult) {
 		super.onTestFailure(iTestResult);
+		SuiteProfiler.testEnded(iTestResult);
 		log.error("Failed: {} with: {}", iTestResult.getName(), iTestResult.getThrowable().toString());
 		testReportUpdate(iTestResult);
 	}
 
-	/**
-	 * Captures a screenshot of the current browser state and attaches it to Allure reports.
-	 * This method is annotated with @Attachment to automatically include screenshots in test reports.
-	 * 
-	 * @param driver The WebDriver instance to capture screenshot from
-	 * @return Byte array representing the screenshot image, or empty array if capture fails
-	 */
-	@Attachment(value = "Screen shot", type = "image/png", fileExtension = ".png")
-	private byte[] attachScreenShot(WebDriver driver) {
-		try {
-			return ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
-		} catch (WebDriverException e) {
-			log.error("Selenium screenshot capture failed: {}", e.getMessage());
-		}
-		return new byte[0];
-	}
-
 	/**
 	 * Updates Allure test reports with test information and screenshots.
 	 * This method formats test data and updates the Allure lifecycle with test details.
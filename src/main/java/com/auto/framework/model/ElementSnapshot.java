@@ -0,0 +1,22 @@
+package com.auto.framework.model;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Snapshot of a web element's visible text and selected attributes, read from the browser in a
+ *                  single script call together with other elements.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ElementSnapshot {
+	private String text;
+	private Map<String, String> attributes;
+
+}
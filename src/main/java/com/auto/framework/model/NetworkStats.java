@@ -0,0 +1,92 @@
+package com.auto.framework.model;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Per-session counters of the requests intercepted by the network block-list: requests blocked,
+ *                  broken down by host, and block-list matches let through by the allow-list.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Network interception counters of one browser session. Safe for concurrent updates.
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.config.NetworkBlocker
+ */
+public class NetworkStats {
+
+	private final LongAdder blockedRequests = new LongAdder();
+	private final LongAdder allowedRequests = new LongAdder();
+	private final Map<String, LongAdder> blockedByHost = new ConcurrentHashMap<>();
+
+	/**
+	 * Counts a blocked request.
+	 *
+	 * @param host The host the request was addressed to
+	 */
+	public void recordBlocked(String host) {
+		blockedRequests.increment();
+		blockedByHost.computeIfAbsent(host, key -> new LongAdder()).increment();
+	}
+
+	/**
+	 * Counts a block-list match that the allow-list let through.
+	 */
+	public void recordAllowed() {
+		allowedRequests.increment();
+	}
+
+	/**
+	 * Returns the number of blocked requests.
+	 *
+	 * @return The blocked request count
+	 */
+	public long getBlockedRequests() {
+		return blockedRequests.sum();
+	}
+
+	/**
+	 * Returns the number of block-list matches let through by the allow-list.
+	 *
+	 * @return The allowed request count
+	 */
+	public long getAllowedRequests() {
+		return allowedRequests.sum();
+	}
+
+	/**
+	 * Returns the blocked request counts per host.
+	 *
+	 * @return Blocked requests keyed by host, sorted by host
+	 */
+	public Map<String, Long> getBlockedByHost() {
+		Map<String, Long> counts = new TreeMap<>();
+		blockedByHost.forEach((host, count) -> counts.put(host, count.sum()));
+		return counts;
+	}
+
+	/**
+	 * Adds another session's counters to these.
+	 *
+	 * @param other The counters to add
+	 */
+	public void add(NetworkStats other) {
+		blockedRequests.add(other.getBlockedRequests());
+		allowedRequests.add(other.getAllowedRequests());
+		other.getBlockedByHost().forEach((host, count) -> blockedByHost.computeIfAbsent(host,
+				key -> new LongAdder()).add(count));
+	}
+
+	@Override
+	public String toString() {
+		return "NetworkStats(blocked=" + getBlockedRequests() + ", allowed=" + getAllowedRequests() + ", byHost="
+				+ getBlockedByHost() + ")";
+	}
+}
@@ -0,0 +1,140 @@
+package com.auto.framework.model;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.openqa.selenium.By;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Condition declared by a page object that tells when a freshly opened page is ready for the test:
+ *                  key elements present, network idle for a quiet period, or custom JavaScript predicates.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Readiness condition of a page, checked after navigation instead of waiting for every
+ * subresource to load. All parts of a condition must hold; combine them with
+ * {@link #and(PageReadiness)}:
+ *
+ * <pre>
+ * webElementInteraction.openURL(url, PageReadiness.elementPresent(submitButton)
+ *         .and(PageReadiness.networkIdle(Duration.ofMillis(300))));
+ * </pre>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.interfaces.WaitOperations#waitForPageReady(PageReadiness)
+ */
+public final class PageReadiness {
+
+	private final List<By> elements;
+	private final Duration networkIdle;
+	private final List<String> scripts;
+
+	/**
+	 * Creates a condition from its parts.
+	 *
+	 * @param elements Locators of elements that must be present
+	 * @param networkIdle Quiet period without network activity, or null
+	 * @param scripts JavaScript expressions that must be truthy
+	 */
+	private PageReadiness(List<By> elements, Duration networkIdle, List<String> scripts) {
+		this.elements = Collections.unmodifiableList(elements);
+		this.networkIdle = networkIdle;
+		this.scripts = Collections.unmodifiableList(scripts);
+	}
+
+	/**
+	 * Ready once the DOM is parsed, i.e. when the document is no longer loading.
+	 *
+	 * @return A condition with no further parts
+	 */
+	public static PageReadiness domContentLoaded() {
+		return new PageReadiness(List.of(), null, List.of());
+	}
+
+	/**
+	 * Ready once an element matching the locator is in the DOM.
+	 *
+	 * @param by Locator of the key element; it must be evaluable in the browser
+	 * @return The condition
+	 */
+	public static PageReadiness elementPresent(By by) {
+		return new PageReadiness(List.of(by), null, List.of());
+	}
+
+	/**
+	 * Ready once no request has been in flight or completed for the quiet period.
+	 *
+	 * @param quietPeriod Time without network activity
+	 * @return The condition
+	 */
+	public static PageReadiness networkIdle(Duration quietPeriod) {
+		return new PageReadiness(List.of(), quietPeriod, List.of());
+	}
+
+	/**
+	 * Ready once a JavaScript expression evaluates to a truthy value in the page,
+	 * e.g. {@code "window.jQuery && jQuery.active === 0"}.
+	 *
+	 * @param expression The JavaScript expression
+	 * @return The condition
+	 */
+	public static PageReadiness script(String expression) {
+		return new PageReadiness(List.of(), null, List.of(expression));
+	}
+
+	/**
+	 * Returns a condition that holds when both this and the other condition hold.
+	 * If both declare a network quiet period, the longer one applies.
+	 *
+	 * @param other The other condition
+	 * @return The combined condition
+	 */
+	public PageReadiness and(PageReadiness other) {
+		List<By> combinedElements = new ArrayList<>(elements);
+		combinedElements.addAll(other.elements);
+		List<String> combinedScripts = new ArrayList<>(scripts);
+		combinedScripts.addAll(other.scripts);
+		Duration quiet = networkIdle == null ? other.networkIdle
+				: other.networkIdle == null || networkIdle.compareTo(other.networkIdle) >= 0 ? networkIdle
+						: other.networkIdle;
+		return new PageReadiness(combinedElements, quiet, combinedScripts);
+	}
+
+	/**
+	 * Returns the locators of elements that must be present.
+	 *
+	 * @return The element locators
+	 */
+	public List<By> getElements() {
+		return elements;
+	}
+
+	/**
+	 * Returns the network quiet period.
+	 *
+	 * @return The quiet period, or null if network activity is not checked
+	 */
+	public Duration getNetworkIdle() {
+		return networkIdle;
+	}
+
+	/**
+	 * Returns the JavaScript expressions that must be truthy.
+	 *
+	 * @return The expressions
+	 */
+	public List<String> getScripts() {
+		return scripts;
+	}
+
+	@Override
+	public String toString() {
+		return "PageReadiness(elements=" + elements + ", networkIdle=" + networkIdle + ", scripts=" + scripts + ")";
+	}
+}
@@ -0,0 +1,184 @@
+package com.auto.framework.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : In-memory copy of a web table (header texts and cell texts by row and column) read from the
+ *                  browser in a single script call. Supports indexed lookups of rows by column value.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Snapshot of a web table's header and cell texts.
+ *
+ * <p>Rows and columns are zero-based and refer to data rows only, so they can be passed
+ * straight to the row/column addressed methods of
+ * {@link com.auto.framework.interfaces.WebElementInteraction}. Lookups by column value
+ * use a per-column index that is built on first use.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.interfaces.WebElementInteraction#readTable(org.openqa.selenium.By)
+ */
+@ToString(exclude = "columnIndexes")
+public class TableSnapshot {
+
+	/**
+	 * Header texts, in column order. Empty if the table has no header row.
+	 */
+	@Getter
+	private final List<String> headers;
+
+	/**
+	 * Cell texts of the data rows, in row and column order.
+	 */
+	@Getter
+	private final List<List<String>> rows;
+
+	/**
+	 * Per-column index of cell text to the rows containing it, built on first lookup.
+	 */
+	private final Map<Integer, Map<String, List<Integer>>> columnIndexes = new HashMap<>();
+
+	/**
+	 * Creates a table snapshot.
+	 *
+	 * @param headers Header texts, in column order
+	 * @param rows Cell texts of the data rows
+	 */
+	public TableSnapshot(List<String> headers, List<List<String>> rows) {
+		this.headers = List.copyOf(headers);
+		this.rows = rows.stream().map(List::copyOf).toList();
+	}
+
+	/**
+	 * Returns the number of data rows.
+	 *
+	 * @return The row count
+	 */
+	public int getRowCount() {
+		return rows.size();
+	}
+
+	/**
+	 * Returns the index of the column with the given header, ignoring case and surrounding whitespace.
+	 *
+	 * @param header The header text
+	 * @return The zero-based column index, or -1 if no column has this header
+	 */
+	public int columnIndex(String header) {
+		for (int i = 0; i < headers.size(); i++) {
+			if (headers.get(i).trim().equalsIgnoreCase(header.trim())) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the text of a cell.
+	 *
+	 * @param row The zero-based data row index
+	 * @param column The zero-based column index
+	 * @return The cell text, or null if the row has no such column
+	 * @throws IndexOutOfBoundsException if the row does not exist
+	 */
+	public String cell(int row, int column) {
+		List<String> cells = rows.get(row);
+		return column < cells.size() ? cells.get(column) : null;
+	}
+
+	/**
+	 * Returns the text of a cell addressed by column header.
+	 *
+	 * @param row The zero-based data row index
+	 * @param header The column header
+	 * @return The cell text, or null if the row has no such column
+	 * @throws IllegalArgumentException if no column has this header
+	 */
+	public String cell(int row, String header) {
+		return cell(row, requireColumn(header));
+	}
+
+	/**
+	 * Returns a data row as a map of header to cell text.
+	 *
+	 * @param row The zero-based data row index
+	 * @return The row's cells keyed by header, in column order
+	 */
+	public Map<String, String> row(int row) {
+		Map<String, String> cells = new LinkedHashMap<>();
+		for (int i = 0; i < headers.size(); i++) {
+			cells.put(headers.get(i), cell(row, i));
+		}
+		return cells;
+	}
+
+	/**
+	 * Returns all data rows whose cell in the given column equals the value.
+	 *
+	 * @param header The column header
+	 * @param value The exact cell text to look for
+	 * @return Zero-based indices of the matching rows, in row order
+	 * @throws IllegalArgumentException if no column has this header
+	 */
+	public List<Integer> findRows(String header, String value) {
+		int column = requireColumn(header);
+		return columnIndexes.computeIfAbsent(column, this::buildIndex).getOrDefault(value, Collections.emptyList());
+	}
+
+	/**
+	 * Returns the first data row whose cell in the given column equals the value.
+	 *
+	 * @param header The column header
+	 * @param value The exact cell text to look for
+	 * @return The zero-based row index, or -1 if no row matches
+	 * @throws IllegalArgumentException if no column has this header
+	 */
+	public int findRow(String header, String value) {
+		List<Integer> matches = findRows(header, value);
+		return matches.isEmpty() ? -1 : matches.get(0);
+	}
+
+	/**
+	 * Resolves a column header to its index.
+	 *
+	 * @param header The column header
+	 * @return The zero-based column index
+	 * @throws IllegalArgumentException if no column has this header
+	 */
+	private int requireColumn(String header) {
+		int column = columnIndex(header);
+		if (column < 0) {
+			throw new IllegalArgumentException("No column [" + header + "] in table with headers " + headers);
+		}
+		return column;
+	}
+
+	/**
+	 * Builds the cell text index of one column.
+	 *
+	 * @param column The zero-based column index
+	 * @return Map of cell text to the rows containing it
+	 */
+	private Map<String, List<Integer>> buildIndex(int column) {
+		Map<String, List<Integer>> index = new HashMap<>();
+		for (int row = 0; row < rows.size(); row++) {
+			String text = cell(row, column);
+			if (text != null) {
+				index.computeIfAbsent(text, key -> new ArrayList<>()).add(row);
+			}
+		}
+		return index;
+	}
+}
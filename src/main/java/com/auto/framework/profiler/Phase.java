@@ -0,0 +1,90 @@
+package com.auto.framework.profiler;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Phases the suite profiler splits the wall time of every test into, from starting a browser
+ *                  session to tearing it down again.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Phase of a test's wall time.
+ *
+ * <p>Phases nest: a click may start a browser session and wait for its element. Time is
+ * always counted in the innermost phase, so the phases of a test add up to its wall time.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.profiler.SuiteProfiler
+ */
+public enum Phase {
+
+    /**
+     * Creating the test's 'driverscope' beans, i.e. leasing or starting a browser session.
+     */
+    STARTUP("startup", "#8e6bbf"),
+
+    /**
+     * Loading a page with {@code openURL}, up to the point the browser reports it loaded.
+     */
+    NAVIGATION("navigation", "#3f7fbf"),
+
+    /**
+     * Explicit waits, in the browser or polled by WebDriverWait.
+     */
+    WAIT("wait", "#e0a030"),
+
+    /**
+     * Framework actions called by page objects, apart from the waits and navigation they contain.
+     */
+    COMMAND("command", "#4caf7a"),
+
+    /**
+     * Fetching a screenshot from the browser; encoding and attaching it runs in the background.
+     */
+    SCREENSHOT("screenshot", "#d06090"),
+
+    /**
+     * Test teardown, including releasing the browser session to the pool.
+     */
+    TEARDOWN("teardown", "#8a8a8a"),
+
+    /**
+     * Everything else: test code, assertions, data providers and TestNG itself.
+     */
+    OTHER("other", "#cfd8dc");
+
+    private final String label;
+
+    private final String color;
+
+    /**
+     * Creates a phase.
+     *
+     * @param label The name of the phase in reports
+     * @param color The color of the phase in the HTML report
+     */
+    Phase(String label, String color) {
+        this.label = label;
+        this.color = color;
+    }
+
+    /**
+     * Returns the name of the phase in reports.
+     *
+     * @return The label
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Returns the color of the phase in the HTML report.
+     *
+     * @return A CSS color
+     */
+    public String getColor() {
+        return color;
+    }
+}
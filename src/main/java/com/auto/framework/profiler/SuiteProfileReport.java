@@ -0,0 +1,442 @@
+package com.auto.framework.profiler;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import lombok.extern.slf4j.Slf4j;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Report of the suite profiler: the time breakdown of the suite and of every test, the lanes of
+ *                  the parallel run and its critical path, written as JSON and as a self-contained HTML page.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Suite time-breakdown report.
+ *
+ * <p>Tests are laid out on lanes, one per concurrently running test, so the number of lanes is
+ * the parallelism the run achieved. The critical path is the chain of tests that decided when
+ * the run ended: starting from the test that ended last, each test's predecessor is the test
+ * that ended last before it started, i.e. the one whose slot it most likely took over. The
+ * path's time is the suite setup before the first test, the gaps between the tests of the
+ * chain, and the phases of those tests; together they add up to the suite's wall time, so
+ * shortening anything else does not make the run faster.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.profiler.SuiteProfiler
+ */
+@Slf4j
+public class SuiteProfileReport {
+
+    private final List<TestProfile> tests;
+
+    private final long suiteStart;
+
+    private final long firstStart;
+
+    private final long lastEnd;
+
+    private final List<Integer> lanes = new ArrayList<>();
+
+    private int laneCount;
+
+    private final Set<TestProfile> criticalPath = new LinkedHashSet<>();
+
+    private long criticalGaps;
+
+    /**
+     * Builds the report of finished tests.
+     *
+     * @param profiles The profiles of the tests, in any order
+     * @param suiteStart When the suite started, in epoch milliseconds; the JVM start time
+     */
+    public SuiteProfileReport(List<TestProfile> profiles, long suiteStart) {
+        this.tests = new ArrayList<>(profiles);
+        this.tests.sort(Comparator.comparingLong(TestProfile::getStartMillis));
+        this.firstStart = tests.stream().mapToLong(TestProfile::getStartMillis).min().orElse(suiteStart);
+        this.lastEnd = tests.stream().mapToLong(TestProfile::getEndMillis).max().orElse(firstStart);
+        this.suiteStart = Math.min(suiteStart, firstStart);
+        assignLanes();
+        traceCriticalPath();
+    }
+
+    /**
+     * Puts every test on the first lane that is free when it starts.
+     */
+    private void assignLanes() {
+        List<Long> laneEnds = new ArrayList<>();
+        for (TestProfile test : tests) {
+            int lane = 0;
+            while (lane < laneEnds.size() && laneEnds.get(lane) > test.getStartMillis()) {
+                lane++;
+            }
+            if (lane == laneEnds.size()) {
+                laneEnds.add(test.getEndMillis());
+            } else {
+                laneEnds.set(lane, test.getEndMillis());
+            }
+            lanes.add(lane);
+        }
+        laneCount = laneEnds.size();
+    }
+
+    /**
+     * Follows the tests that decided the end of the run back from the last one.
+     */
+    private void traceCriticalPath() {
+        List<TestProfile> byEnd = new ArrayList<>(tests);
+        byEnd.sort(Comparator.comparingLong(TestProfile::getEndMillis));
+        List<TestProfile> path = new ArrayList<>();
+        int index = byEnd.size() - 1;
+        while (index >= 0) {
+            TestProfile test = byEnd.get(index);
+            path.add(test);
+            int predecessor = lastEndingBy(byEnd, test.getStartMillis(), index - 1);
+            if (predecessor >= 0) {
+                criticalGaps += test.getStartMillis() - byEnd.get(predecessor).getEndMillis();
+            }
+            index = predecessor;
+        }
+        Collections.reverse(path);
+        criticalPath.addAll(path);
+    }
+
+    /**
+     * Finds the test that ended last by a point in time.
+     *
+     * @param byEnd The tests, ordered by end
+     * @param time The point in time, in epoch milliseconds
+     * @param last The index of the last test to consider
+     * @return The index of the test, or -1 if none ended by then
+     */
+    private static int lastEndingBy(List<TestProfile> byEnd, long time, int last) {
+        int low = 0;
+        int high = last;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (byEnd.get(middle).getEndMillis() <= time) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high;
+    }
+
+    /**
+     * Sums a phase over tests.
+     *
+     * @param profiles The tests
+     * @param phase The phase
+     * @return Milliseconds
+     */
+    private static double total(Iterable<TestProfile> profiles, Phase phase) {
+        double millis = 0;
+        for (TestProfile profile : profiles) {
+            millis += profile.getMillis(phase);
+        }
+        return millis;
+    }
+
+    /**
+     * Sums every phase over tests.
+     *
+     * @param profiles The tests
+     * @return Milliseconds per phase
+     */
+    private static Map<Phase, Double> totals(Iterable<TestProfile> profiles) {
+        Map<Phase, Double> totals = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            totals.put(phase, total(profiles, phase));
+        }
+        return totals;
+    }
+
+    /**
+     * Returns the share of the lanes' capacity, from the first test's start to the last test's end,
+     * that was spent running tests.
+     *
+     * @return The utilization, from 0 to 1
+     */
+    private double utilization() {
+        long span = lastEnd - firstStart;
+        long busy = tests.stream().mapToLong(TestProfile::getWallMillis).sum();
+        return span <= 0 || laneCount == 0 ? 0 : Math.min(1, (double) busy / (span * laneCount));
+    }
+
+    /**
+     * Writes {@code suite-profile.json} and {@code index.html} to a directory.
+     *
+     * @param dir The report directory
+     */
+    public void write(Path dir) {
+        try {
+            Files.createDirectories(dir);
+            Files.writeString(dir.resolve("suite-profile.json"), toJson(), StandardCharsets.UTF_8);
+            Files.writeString(dir.resolve("index.html"), toHtml(), StandardCharsets.UTF_8);
+            log.info("Suite profile written to {}", dir.resolve("index.html"));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not write suite profile to {}: {}", dir, e.getMessage());
+        }
+    }
+
+    /**
+     * Logs the breakdown of the suite and of its critical path.
+     */
+    public void log() {
+        log.info(String.format(Locale.ROOT, "Suite profile: %d tests on %d lanes in %.1f s, %.0f%% utilization; %s",
+                tests.size(), laneCount, (lastEnd - suiteStart) / 1000.0, utilization() * 100,
+                breakdown(totals(tests))));
+        log.info(String.format(Locale.ROOT, "Critical path: %d tests, setup %.1f s, gaps %.1f s; %s",
+                criticalPath.size(), (firstStart - suiteStart) / 1000.0, criticalGaps / 1000.0,
+                breakdown(totals(criticalPath))));
+    }
+
+    /**
+     * Formats phase totals as shares for the log.
+     *
+     * @param totals Milliseconds per phase
+     * @return The phases with their time and share
+     */
+    private static String breakdown(Map<Phase, Double> totals) {
+        double sum = totals.values().stream().mapToDouble(Double::doubleValue).sum();
+        return totals.entrySet().stream().map(entry -> String.format(Locale.ROOT, "%s %.1f s (%.0f%%)",
+                entry.getKey().getLabel(), entry.getValue() / 1000.0, sum > 0 ? entry.getValue() / sum * 100 : 0))
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Renders the report as JSON.
+     *
+     * @return The JSON document
+     */
+    String toJson() {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"suite\": {")
+                .append("\"start\": ").append(suiteStart)
+                .append(", \"firstTestStart\": ").append(firstStart)
+                .append(", \"end\": ").append(lastEnd)
+                .append(", \"wallMs\": ").append(lastEnd - suiteStart)
+                .append(", \"setupMs\": ").append(firstStart - suiteStart)
+                .append(", \"tests\": ").append(tests.size())
+                .append(", \"lanes\": ").append(laneCount)
+                .append(String.format(Locale.ROOT, ", \"utilization\": %.3f", utilization()))
+                .append(", \"phasesMs\": ").append(phasesJson(totals(tests))).append("},\n");
+        json.append("  \"criticalPath\": {")
+                .append("\"setupMs\": ").append(firstStart - suiteStart)
+                .append(", \"gapsMs\": ").append(criticalGaps)
+                .append(", \"phasesMs\": ").append(phasesJson(totals(criticalPath)))
+                .append(", \"tests\": [").append(criticalPath.stream().map(test -> quote(test.getName()))
+                        .collect(Collectors.joining(", "))).append("]},\n");
+        json.append("  \"tests\": [");
+        for (int i = 0; i < tests.size(); i++) {
+            TestProfile test = tests.get(i);
+            json.append(i == 0 ? "\n" : ",\n").append("    {\"name\": ").append(quote(test.getName()))
+                    .append(", \"status\": ").append(quote(test.getStatus()))
+                    .append(", \"thread\": ").append(quote(test.getThread()))
+                    .append(", \"lane\": ").append(lanes.get(i))
+                    .append(", \"critical\": ").append(criticalPath.contains(test))
+                    .append(", \"startMs\": ").append(test.getStartMillis() - suiteStart)
+                    .append(", \"wallMs\": ").append(test.getWallMillis())
+                    .append(", \"phasesMs\": ").append(phasesJson(totals(List.of(test)))).append("}");
+        }
+        return json.append("\n  ]\n}\n").toString();
+    }
+
+    /**
+     * Renders phase totals as a JSON object.
+     *
+     * @param totals Milliseconds per phase
+     * @return The JSON object
+     */
+    private static String phasesJson(Map<Phase, Double> totals) {
+        return totals.entrySet().stream().map(entry -> String.format(Locale.ROOT, "\"%s\": %.1f",
+                entry.getKey().getLabel(), entry.getValue())).collect(Collectors.joining(", ", "{", "}"));
+    }
+
+    /**
+     * Quotes a JSON string.
+     *
+     * @param value The value
+     * @return The quoted and escaped value
+     */
+    private static String quote(String value) {
+        StringBuilder quoted = new StringBuilder("\"");
+        for (char c : String.valueOf(value).toCharArray()) {
+            switch (c) {
+                case '"' -> quoted.append("\\\"");
+                case '\\' -> quoted.append("\\\\");
+                default -> {
+                    if (c < 0x20) {
+                        quoted.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+                }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    /**
+     * Renders the report as a self-contained HTML page.
+     *
+     * @return The HTML page
+     */
+    String toHtml() {
+        StringBuilder html = new StringBuilder();
+        html.append("<!DOCTYPE html>\n<html><head><meta charset=\"utf-8\"><title>Suite profile</title>\n<style>\n")
+                .append("body{font-family:sans-serif;margin:24px;color:#222}table{border-collapse:collapse}")
+                .append("td,th{padding:3px 8px;border-bottom:1px solid #ddd;text-align:right}")
+                .append("td:first-child,th:first-child{text-align:left}.bar{display:flex;height:14px;width:400px}")
+                .append(".lanes{position:relative;border-left:1px solid #999}")
+                .append(".lane{position:relative;height:18px;margin:2px 0}")
+                .append(".test{position:absolute;top:0;height:16px;display:flex;overflow:hidden;")
+                .append("border:1px solid #fff}.critical{border-color:#c00}.legend span{margin-right:12px}")
+                .append("\n</style></head><body>\n<h1>Suite profile</h1>\n");
+        html.append(String.format(Locale.ROOT, "<p>%d tests on %d lanes in %.1f s (%.1f s setup before the first "
+                + "test), %.0f%% lane utilization.</p>\n", tests.size(), laneCount, (lastEnd - suiteStart) / 1000.0,
+                (firstStart - suiteStart) / 1000.0, utilization() * 100));
+        html.append("<p class=\"legend\">");
+        for (Phase phase : Phase.values()) {
+            html.append("<span><span style=\"color:").append(phase.getColor()).append("\">&#9632;</span> ")
+                    .append(phase.getLabel()).append("</span>");
+        }
+        html.append("</p>\n<h2>Suite breakdown</h2>\n").append(phaseTable(totals(tests), 0, 0));
+        html.append("<h2>Critical path</h2>\n<p>The tests that decided when the run ended. Setup is the time "
+                + "before the first test; gaps are the time between a test of the path and the one before it.</p>\n")
+                .append(phaseTable(totals(criticalPath), firstStart - suiteStart, criticalGaps)).append("<ol>");
+        for (TestProfile test : criticalPath) {
+            html.append("<li>").append(escape(test.getName())).append(" (")
+                    .append(test.getWallMillis()).append(" ms)</li>");
+        }
+        html.append("</ol>\n<h2>Timeline</h2>\n<div class=\"lanes\">\n");
+        double span = Math.max(1, lastEnd - firstStart);
+        for (int lane = 0; lane < laneCount; lane++) {
+            html.append("<div class=\"lane\">");
+            for (int i = 0; i < tests.size(); i++) {
+                if (lanes.get(i) != lane) {
+                    continue;
+                }
+                TestProfile test = tests.get(i);
+                html.append(String.format(Locale.ROOT, "<div class=\"test%s\" style=\"left:%.3f%%;width:%.3f%%\" "
+                        + "title=\"%s\">%s</div>", criticalPath.contains(test) ? " critical" : "",
+                        (test.getStartMillis() - firstStart) / span * 100, test.getWallMillis() / span * 100,
+                        escape(test.getName() + " " + test.getStatus() + ", " + test.getWallMillis() + " ms"),
+                        segments(test)));
+            }
+            html.append("</div>\n");
+        }
+        html.append("</div>\n<h2>Tests</h2>\n<table><tr><th>Test</th><th>Status</th><th>Thread</th>")
+                .append("<th>Start s</th><th>Wall ms</th>");
+        for (Phase phase : Phase.values()) {
+            html.append("<th>").append(phase.getLabel()).append(" ms</th>");
+        }
+        html.append("</tr>\n");
+        for (TestProfile test : tests) {
+            html.append("<tr><td>").append(criticalPath.contains(test) ? "<b>" : "").append(escape(test.getName()))
+                    .append(criticalPath.contains(test) ? "</b>" : "").append("</td><td>")
+                    .append(escape(test.getStatus())).append("</td><td>").append(escape(test.getThread()))
+                    .append(String.format(Locale.ROOT, "</td><td>%.1f</td><td>%d</td>",
+                            (test.getStartMillis() - suiteStart) / 1000.0, test.getWallMillis()));
+            for (Phase phase : Phase.values()) {
+                html.append(String.format(Locale.ROOT, "<td>%.0f</td>", test.getMillis(phase)));
+            }
+            html.append("</tr>\n");
+        }
+        return html.append("</table>\n</body></html>\n").toString();
+    }
+
+    /**
+     * Renders a table of phase totals with a bar of their shares.
+     *
+     * @param totals Milliseconds per phase
+     * @param setup Setup time listed before the phases, or 0
+     * @param gaps Gap time listed after the phases, or 0
+     * @return The HTML table
+     */
+    private static String phaseTable(Map<Phase, Double> totals, long setup, long gaps) {
+        double sum = setup + gaps + totals.values().stream().mapToDouble(Double::doubleValue).sum();
+        StringBuilder table = new StringBuilder("<table><tr><th>Phase</th><th>Time s</th><th>Share</th></tr>\n");
+        StringBuilder bar = new StringBuilder("<div class=\"bar\">");
+        if (setup > 0) {
+            table.append(row("setup", setup, sum));
+            bar.append(segment("#555", setup / sum));
+        }
+        for (Map.Entry<Phase, Double> entry : totals.entrySet()) {
+            table.append(row(entry.getKey().getLabel(), entry.getValue(), sum));
+            bar.append(segment(entry.getKey().getColor(), sum > 0 ? entry.getValue() / sum : 0));
+        }
+        if (gaps > 0) {
+            table.append(row("gaps", gaps, sum));
+            bar.append(segment("#fff", gaps / sum));
+        }
+        return table.append("</table>\n").append(bar).append("</div>\n").toString();
+    }
+
+    /**
+     * Renders a row of a phase table.
+     *
+     * @param label The phase
+     * @param millis The time of the phase
+     * @param sum The total time of the table
+     * @return The HTML row
+     */
+    private static String row(String label, double millis, double sum) {
+        return String.format(Locale.ROOT, "<tr><td>%s</td><td>%.1f</td><td>%.1f%%</td></tr>\n", label,
+                millis / 1000.0, sum > 0 ? millis / sum * 100 : 0);
+    }
+
+    /**
+     * Renders the phase segments of a test's timeline bar.
+     *
+     * @param test The test
+     * @return The HTML segments
+     */
+    private static String segments(TestProfile test) {
+        double wall = Math.max(1, test.getWallMillis());
+        StringBuilder segments = new StringBuilder();
+        for (Phase phase : Phase.values()) {
+            segments.append(segment(phase.getColor(), test.getMillis(phase) / wall));
+        }
+        return segments.toString();
+    }
+
+    /**
+     * Renders a colored segment of a bar.
+     *
+     * @param color The CSS color
+     * @param share The share of the bar, from 0 to 1
+     * @return The HTML segment
+     */
+    private static String segment(String color, double share) {
+        return share <= 0 ? "" : String.format(Locale.ROOT, "<span style=\"background:%s;width:%.2f%%\"></span>",
+                color, Math.min(1, share) * 100);
+    }
+
+    /**
+     * Escapes text for HTML.
+     *
+     * @param text The text
+     * @return The escaped text
+     */
+    private static String escape(String text) {
+        return String.valueOf(text).replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;")
+                .replace("\"", "&quot;");
+    }
+}
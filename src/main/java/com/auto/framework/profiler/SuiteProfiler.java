@@ -0,0 +1,251 @@
+package com.auto.framework.profiler;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.testng.ITestResult;
+
+import com.auto.framework.config.FrameworkProperties;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Suite profiler splitting the wall time of every test into browser startup, navigation, waits,
+ *                  commands, screenshots and teardown, and writing a per-test and per-suite breakdown with the
+ *                  critical path of the parallel run when the suite ends.
+ * @Version : 1.1
+ ************************************************************************************************************************/
+
+/**
+ * Time-breakdown profiler of the suite.
+ *
+ * <p>Enabled with {@code my.properties.suite-profile=true}. The {@code TestExecutionListener}
+ * opens a {@link TestProfile} on the test's thread when a test starts; the teardown closes it.
+ * While the test runs, the framework marks its phases:</p>
+ * <ul>
+ * <li>{@link Phase#STARTUP}: the 'driverscope' creates the test's beans, i.e. leases a session</li>
+ * <li>{@link Phase#COMMAND}: a page object calls a framework action (timed by the
+ * {@code ActionTimingAspect})</li>
+ * <li>{@link Phase#NAVIGATION}, {@link Phase#WAIT} and {@link Phase#SCREENSHOT}: marked by
+ * the actions and the screenshot pipeline</li>
+ * <li>{@link Phase#TEARDOWN}: the test teardown and the reset of the 'driverscope'</li>
+ * </ul>
+ *
+ * <p>When the Spring context closes, {@code suite-profile.json} and {@code index.html} are
+ * written to {@code my.properties.suite-profile-dir} by {@link SuiteProfileReport}.</p>
+ *
+ * <p>Phases are entered with {@link #enter(Phase)}; the call is cheap when the profiler is
+ * disabled or the thread runs no test.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.1
+ * @since 1.3
+ * @see com.auto.framework.profiler.SuiteProfileReport
+ */
+@Slf4j
+@Component
+public class SuiteProfiler {
+
+    /**
+     * The profiler of the running context, read by the listener and the framework, which are not all beans.
+     */
+    private static volatile SuiteProfiler active;
+
+    @Autowired
+    public FrameworkProperties frameworkProperties;
+
+    private final ThreadLocal<TestProfile> current = new ThreadLocal<>();
+
+    private final Set<TestProfile> running = ConcurrentHashMap.newKeySet();
+
+    private final Queue<TestProfile> finished = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Parameterized invocations started so far, keyed by class and method.
+     */
+    private final Map<String, AtomicInteger> invocations = new ConcurrentHashMap<>();
+
+    /**
+     * Handle of an entered phase, to be exited in a finally block.
+     */
+    public static final class Span {
+
+        /**
+         * Span of a phase entered while no test was profiled.
+         */
+        private static final Span NONE = new Span(null, null);
+
+        private final TestProfile profile;
+
+        private final TestProfile.Frame frame;
+
+        /**
+         * Creates a span.
+         *
+         * @param profile The profile of the test, or null
+         * @param frame The entered frame, or null
+         */
+        private Span(TestProfile profile, TestProfile.Frame frame) {
+            this.profile = profile;
+            this.frame = frame;
+        }
+
+        /**
+         * Leaves the phase, resuming the enclosing one.
+         */
+        public void exit() {
+            if (profile != null && !profile.isFinished()) {
+                profile.exit(frame);
+            }
+        }
+    }
+
+    /**
+     * Makes this profiler the active one, if it is enabled.
+     */
+    @PostConstruct
+    public void activate() {
+        if (frameworkProperties.isSuiteProfile()) {
+            active = this;
+        }
+    }
+
+    /**
+     * Enters a phase of the test running on the current thread.
+     *
+     * @param phase The phase
+     * @return The span to exit when the phase ends
+     */
+    public static Span enter(Phase phase) {
+        SuiteProfiler profiler = active;
+        TestProfile profile = profiler == null ? null : profiler.current.get();
+        if (profile == null || profile.isFinished()) {
+            return Span.NONE;
+        }
+        return new Span(profile, profile.enter(phase));
+    }
+
+    /**
+     * Starts the profile of a test on the current thread. A profile the thread still holds
+     * from a previous test is finished first.
+     *
+     * @param result The result of the starting test
+     */
+    public static void testStarted(ITestResult result) {
+        SuiteProfiler profiler = active;
+        if (profiler != null && result != null) {
+            profiler.finishCurrent();
+            TestProfile profile = new TestProfile(profiler.testName(result), Thread.currentThread().getName());
+            profiler.current.set(profile);
+            profiler.running.add(profile);
+        }
+    }
+
+    /**
+     * Records the outcome of the test on the current thread. The profile stays open for the teardown.
+     *
+     * @param result The result of the test
+     */
+    public static void testEnded(ITestResult result) {
+        SuiteProfiler profiler = active;
+        TestProfile profile = profiler == null ? null : profiler.current.get();
+        if (profile != null && result != null) {
+            profile.setStatus(switch (result.getStatus()) {
+                case ITestResult.SUCCESS -> "success";
+                case ITestResult.FAILURE, ITestResult.SUCCESS_PERCENTAGE_FAILURE -> "failure";
+                case ITestResult.SKIP -> "skip";
+                default -> "unknown";
+            });
+        }
+    }
+
+    /**
+     * Finishes the profile of the test on the current thread, after its teardown.
+     */
+    public static void testFinished() {
+        SuiteProfiler profiler = active;
+        if (profiler != null) {
+            profiler.finishCurrent();
+        }
+    }
+
+    /**
+     * Returns the profiles of the finished tests.
+     *
+     * @return The profiles, in the order the tests finished
+     */
+    public List<TestProfile> getProfiles() {
+        return new ArrayList<>(finished);
+    }
+
+    /**
+     * Writes the report when the context closes. Tests still running are finished first.
+     */
+    @PreDestroy
+    public void writeReport() {
+        if (active == this) {
+            active = null;
+        }
+        for (TestProfile profile : running) {
+            finish(profile);
+        }
+        if (finished.isEmpty()) {
+            return;
+        }
+        long jvmStart = ManagementFactory.getRuntimeMXBean().getStartTime();
+        SuiteProfileReport report = new SuiteProfileReport(getProfiles(), jvmStart);
+        report.write(Path.of(frameworkProperties.getSuiteProfileDir()));
+        report.log();
+    }
+
+    /**
+     * Finishes the profile held by the current thread, if any.
+     */
+    private void finishCurrent() {
+        TestProfile profile = current.get();
+        current.remove();
+        if (profile != null) {
+            finish(profile);
+        }
+    }
+
+    /**
+     * Finishes a profile once.
+     *
+     * @param profile The profile
+     */
+    private void finish(TestProfile profile) {
+        if (running.remove(profile)) {
+            profile.finish();
+            finished.add(profile);
+        }
+    }
+
+    /**
+     * Returns the name of a test in the reports.
+     *
+     * @param result The result of the test
+     * @return Class and method, with the 1-based invocation number for parameterized tests. Invocations
+     *         are numbered in the order they start, which is the data provider order unless rows run in parallel.
+     */
+    String testName(ITestResult result) {
+        String test = result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+        if (result.getParameters().length > 0) {
+            test += "[" + invocations.computeIfAbsent(test, name -> new AtomicInteger()).incrementAndGet() + "]";
+        }
+        return test;
+    }
+}
@@ -0,0 +1,217 @@
+package com.auto.framework.profiler;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Time breakdown of one test: when and on which thread it ran, its outcome, and the time spent in
+ *                  every phase, with nested phases counted only once.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Time breakdown of one test.
+ *
+ * <p>The profile is written by the thread running the test: entering a phase suspends the
+ * enclosing one, so each nanosecond is counted in exactly one phase. Time outside any phase
+ * is reported as {@link Phase#OTHER}. Once finished, the profile is no longer written and
+ * can be read from any thread.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.profiler.SuiteProfiler
+ */
+public final class TestProfile {
+
+    private final String name;
+
+    private final String thread;
+
+    private final long startMillis;
+
+    private final long startNanos;
+
+    private final long[] phaseNanos = new long[Phase.values().length];
+
+    private final Deque<Frame> frames = new ArrayDeque<>();
+
+    private volatile String status = "unknown";
+
+    private volatile long wallNanos = -1;
+
+    /**
+     * An entered phase.
+     */
+    static final class Frame {
+
+        private final Phase phase;
+
+        private long since;
+
+        /**
+         * Creates the frame of a phase entered now.
+         *
+         * @param phase The phase
+         * @param since The time the phase was entered, from System.nanoTime()
+         */
+        private Frame(Phase phase, long since) {
+            this.phase = phase;
+            this.since = since;
+        }
+    }
+
+    /**
+     * Creates the profile of a test starting now.
+     *
+     * @param name The test name
+     * @param thread The name of the thread running the test
+     */
+    TestProfile(String name, String thread) {
+        this.name = name;
+        this.thread = thread;
+        this.startMillis = System.currentTimeMillis();
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Enters a phase, suspending the current one.
+     *
+     * @param phase The phase
+     * @return The frame to pass to {@link #exit(Frame)}
+     */
+    Frame enter(Phase phase) {
+        long now = System.nanoTime();
+        Frame parent = frames.peek();
+        if (parent != null) {
+            phaseNanos[parent.phase.ordinal()] += now - parent.since;
+        }
+        Frame frame = new Frame(phase, now);
+        frames.push(frame);
+        return frame;
+    }
+
+    /**
+     * Leaves a phase, and any phase entered within it that was not left, resuming the enclosing one.
+     *
+     * @param frame The frame returned when the phase was entered
+     */
+    void exit(Frame frame) {
+        if (!frames.contains(frame)) {
+            return;
+        }
+        long now = System.nanoTime();
+        Frame top;
+        do {
+            top = frames.pop();
+            phaseNanos[top.phase.ordinal()] += now - top.since;
+        } while (top != frame);
+        Frame parent = frames.peek();
+        if (parent != null) {
+            parent.since = now;
+        }
+    }
+
+    /**
+     * Records the outcome of the test.
+     *
+     * @param status success, failure, skip or unknown
+     */
+    void setStatus(String status) {
+        this.status = status;
+    }
+
+    /**
+     * Ends the profile now, leaving all phases still entered.
+     */
+    void finish() {
+        if (!frames.isEmpty()) {
+            exit(frames.peekLast());
+        }
+        wallNanos = System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Indicates whether the profile has ended.
+     *
+     * @return true once finished
+     */
+    boolean isFinished() {
+        return wallNanos >= 0;
+    }
+
+    /**
+     * Returns the test name.
+     *
+     * @return Class and method, with the data provider index for parameterized tests
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the thread the test ran on.
+     *
+     * @return The thread name
+     */
+    public String getThread() {
+        return thread;
+    }
+
+    /**
+     * Returns the outcome of the test.
+     *
+     * @return success, failure, skip or unknown
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns when the test started.
+     *
+     * @return Epoch milliseconds
+     */
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    /**
+     * Returns when the test ended, teardown included.
+     *
+     * @return Epoch milliseconds
+     */
+    public long getEndMillis() {
+        return startMillis + getWallMillis();
+    }
+
+    /**
+     * Returns the wall time of the test, teardown included.
+     *
+     * @return Milliseconds, 0 while the test runs
+     */
+    public long getWallMillis() {
+        return Math.max(0, wallNanos) / 1_000_000;
+    }
+
+    /**
+     * Returns the time spent in a phase. The time of {@link Phase#OTHER} is the wall time not
+     * spent in any other phase.
+     *
+     * @param phase The phase
+     * @return Milliseconds
+     */
+    public double getMillis(Phase phase) {
+        if (phase != Phase.OTHER) {
+            return phaseNanos[phase.ordinal()] / 1e6;
+        }
+        long other = Math.max(0, wallNanos);
+        for (Phase measured : Phase.values()) {
+            if (measured != Phase.OTHER) {
+                other -= phaseNanos[measured.ordinal()];
+            }
+        }
+        return Math.max(0, other) / 1e6;
+    }
+}
@@ -0,0 +1,214 @@
+package com.auto.framework.reporting;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.auto.framework.config.FrameworkProperties;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Latency histograms of the framework actions called by page objects, timed by the
+ *                  ActionTimingAspect. The histograms are written as a report when the suite ends, and every
+ *                  action is published as a Micrometer observation when the context has an ObservationRegistry.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Per-action latency recorder.
+ *
+ * <p>Every call of a {@code WebElementInteraction}, {@code IElementValidator},
+ * {@code WaitOperations} or {@code JavaScriptOperations} method made outside the actions
+ * package is recorded in a {@link LatencyHistogram} keyed by page object, method and locator.
+ * Calls the actions make to each other are part of the outer call and are not recorded again,
+ * so the totals add up to the time tests spent in the framework.</p>
+ *
+ * <p>When the Spring context closes, {@code action-latency.csv} is written to
+ * {@code my.properties.action-metrics-dir} and the slowest actions and methods are logged.
+ * If an {@link ObservationRegistry} bean exists, e.g. with Spring Boot Actuator, each call is
+ * also an observation named {@code framework.action}; with Micrometer's meter handler it
+ * becomes a timer tagged with {@code method} and {@code page.object}. The locator is a
+ * high-cardinality value, kept out of the meter tags.</p>
+ *
+ * <p>Timing needs the AspectJ weaver agent, which the surefire configuration adds.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.reporting.ActionTimingAspect
+ */
+@Slf4j
+@Component
+public class ActionLatencyRecorder {
+
+    /**
+     * Name of the Micrometer observation of an action.
+     */
+    public static final String OBSERVATION_NAME = "framework.action";
+
+    /**
+     * Number of slowest actions logged at the end of the suite.
+     */
+    private static final int LOGGED_ACTIONS = 10;
+
+    /**
+     * The recorder of the running context, read by the aspect, which AspectJ instantiates.
+     */
+    private static volatile ActionLatencyRecorder active;
+
+    @Autowired
+    public FrameworkProperties frameworkProperties;
+
+    @Autowired
+    public ObjectProvider<ObservationRegistry> observationRegistry;
+
+    private final Map<ActionKey, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    private ObservationRegistry registry = ObservationRegistry.NOOP;
+
+    /**
+     * Key of the histogram of an action.
+     *
+     * @param pageObject Simple class name of the calling page object
+     * @param method Name of the framework method
+     * @param locator The locator the method was called with, or "-"
+     */
+    public record ActionKey(String pageObject, String method, String locator) {
+    }
+
+    /**
+     * Makes this recorder the active one, if action metrics are enabled.
+     */
+    @PostConstruct
+    public void activate() {
+        if (frameworkProperties.isActionMetrics()) {
+            registry = observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP);
+            active = this;
+        }
+    }
+
+    /**
+     * Returns the recorder of the running context.
+     *
+     * @return The recorder, or null if action metrics are disabled or no context is running
+     */
+    public static ActionLatencyRecorder active() {
+        return active;
+    }
+
+    /**
+     * Starts the Micrometer observation of an action.
+     *
+     * @param key The action
+     * @return The started observation, or null if no ObservationRegistry is configured
+     */
+    public Observation start(ActionKey key) {
+        if (registry.isNoop()) {
+            return null;
+        }
+        return Observation.createNotStarted(OBSERVATION_NAME, registry)
+                .lowCardinalityKeyValue("method", key.method())
+                .lowCardinalityKeyValue("page.object", key.pageObject())
+                .highCardinalityKeyValue("locator", key.locator())
+                .start();
+    }
+
+    /**
+     * Records the latency of a finished action.
+     *
+     * @param key The action
+     * @param nanos The latency in nanoseconds
+     */
+    public void record(ActionKey key, long nanos) {
+        histograms.computeIfAbsent(key, k -> new LatencyHistogram()).recordNanos(nanos);
+    }
+
+    /**
+     * Returns the histograms recorded so far.
+     *
+     * @return Histograms keyed by action
+     */
+    public Map<ActionKey, LatencyHistogram> getHistograms() {
+        return histograms;
+    }
+
+    /**
+     * Writes the latency report and logs the slowest actions and methods when the context closes.
+     */
+    @PreDestroy
+    public void writeReport() {
+        if (active == this) {
+            active = null;
+        }
+        if (histograms.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<ActionKey, LatencyHistogram>> actions = new ArrayList<>(histograms.entrySet());
+        actions.sort(Comparator.comparingLong(
+                (Map.Entry<ActionKey, LatencyHistogram> entry) -> entry.getValue().getTotalMicros()).reversed());
+        List<String> lines = new ArrayList<>();
+        lines.add("page_object,method,locator,count,total_ms,mean_ms,p50_ms,p90_ms,p99_ms,max_ms");
+        Map<String, LatencyHistogram> methods = new TreeMap<>();
+        for (Map.Entry<ActionKey, LatencyHistogram> entry : actions) {
+            ActionKey key = entry.getKey();
+            LatencyHistogram histogram = entry.getValue();
+            lines.add(String.format(Locale.ROOT, "%s,%s,\"%s\",%s", key.pageObject(), key.method(),
+                    key.locator().replace("\"", "\"\""), columns(histogram)));
+            methods.computeIfAbsent(key.method(), m -> new LatencyHistogram()).add(histogram);
+        }
+        Path file = Path.of(frameworkProperties.getActionMetricsDir()).resolve("action-latency.csv");
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, lines);
+            log.info("Action latency report written to {}", file);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not write action latency report to {}: {}", file, e.getMessage());
+        }
+        methods.forEach((method, histogram) -> log.info("Action {}: {}", method, summary(histogram)));
+        actions.stream().limit(LOGGED_ACTIONS).forEach(entry -> log.info("Slow action {}.{}({}): {}",
+                entry.getKey().pageObject(), entry.getKey().method(), entry.getKey().locator(),
+                summary(entry.getValue())));
+    }
+
+    /**
+     * Formats the report columns of a histogram.
+     *
+     * @param histogram The histogram
+     * @return Count, total, mean, p50, p90, p99 and max, comma separated
+     */
+    private static String columns(LatencyHistogram histogram) {
+        return String.format(Locale.ROOT, "%d,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f", histogram.getCount(),
+                histogram.getTotalMicros() / 1000.0, histogram.getMeanMicros() / 1000.0,
+                histogram.getValueAtPercentile(50) / 1000.0, histogram.getValueAtPercentile(90) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0, histogram.getMaxMicros() / 1000.0);
+    }
+
+    /**
+     * Formats a histogram for the log.
+     *
+     * @param histogram The histogram
+     * @return Count, total and percentiles in milliseconds
+     */
+    private static String summary(LatencyHistogram histogram) {
+        return String.format(Locale.ROOT, "%d calls, total %.0f ms, p50 %.1f ms, p99 %.1f ms, max %.1f ms",
+                histogram.getCount(), histogram.getTotalMicros() / 1000.0, histogram.getValueAtPercentile(50)
+                        / 1000.0, histogram.getValueAtPercentile(99) / 1000.0, histogram.getMaxMicros() / 1000.0);
+    }
+}
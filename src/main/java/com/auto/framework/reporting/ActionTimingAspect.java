@@ -0,0 +1,133 @@
+package com.auto.framework.reporting;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.openqa.selenium.By;
+import org.springframework.util.ClassUtils;
+
+import com.auto.framework.profiler.Phase;
+import com.auto.framework.profiler.SuiteProfiler;
+import com.auto.framework.reporting.ActionLatencyRecorder.ActionKey;
+
+import io.micrometer.observation.Observation;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : AspectJ aspect timing every framework action a page object calls, woven at load time by the
+ *                  aspectjweaver agent on the surefire argLine and declared in META-INF/aop.xml.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Times the calls of the framework's action interfaces.
+ *
+ * <p>The aspect wraps the call sites of {@code WebElementInteraction}, {@code IElementValidator},
+ * {@code WaitOperations} and {@code JavaScriptOperations} methods outside the actions package,
+ * so the calling page object is known: it is the class of the object making the call, or the
+ * declaring class for static callers. The locator is the {@link By} arguments of the call.
+ * Latencies go to the active {@link ActionLatencyRecorder}; without one the call proceeds
+ * untimed. Every call is also the {@link Phase#COMMAND} phase of the test's profile in the
+ * {@link SuiteProfiler}.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.reporting.ActionLatencyRecorder
+ */
+@Aspect
+public class ActionTimingAspect {
+
+    /**
+     * Calls of the action interfaces, including calls through their implementations.
+     */
+    @Pointcut("call(* com.auto.framework.interfaces.WebElementInteraction.*(..))"
+            + " || call(* com.auto.framework.interfaces.IElementValidator.*(..))"
+            + " || call(* com.auto.framework.interfaces.WaitOperations.*(..))"
+            + " || call(* com.auto.framework.interfaces.JavaScriptOperations.*(..))")
+    public void actionCall() {
+    }
+
+    /**
+     * Call sites outside the framework's own action and reporting code.
+     */
+    @Pointcut("!within(com.auto.framework.actions..*) && !within(com.auto.framework.reporting..*)"
+            + " && !call(* *.getWebDriver())")
+    public void callerOutsideFramework() {
+    }
+
+    /**
+     * Profiles an action call and times it.
+     *
+     * @param joinPoint The call
+     * @return The result of the call
+     * @throws Throwable Anything the call throws
+     */
+    @Around("actionCall() && callerOutsideFramework()")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        SuiteProfiler.Span span = SuiteProfiler.enter(Phase.COMMAND);
+        try {
+            ActionLatencyRecorder recorder = ActionLatencyRecorder.active();
+            return recorder == null ? joinPoint.proceed() : record(joinPoint, recorder);
+        } finally {
+            span.exit();
+        }
+    }
+
+    /**
+     * Records the latency of an action call.
+     *
+     * @param joinPoint The call
+     * @param recorder The active recorder
+     * @return The result of the call
+     * @throws Throwable Anything the call throws
+     */
+    private static Object record(ProceedingJoinPoint joinPoint, ActionLatencyRecorder recorder) throws Throwable {
+        ActionKey key = new ActionKey(pageObject(joinPoint), joinPoint.getSignature().getName(),
+                locator(joinPoint.getArgs()));
+        Observation observation = recorder.start(key);
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable t) {
+            if (observation != null) {
+                observation.error(t);
+            }
+            throw t;
+        } finally {
+            recorder.record(key, System.nanoTime() - start);
+            if (observation != null) {
+                observation.stop();
+            }
+        }
+    }
+
+    /**
+     * Returns the simple name of the calling page object.
+     *
+     * @param joinPoint The call
+     * @return The class name, without any Spring proxy suffix
+     */
+    private static String pageObject(ProceedingJoinPoint joinPoint) {
+        Object caller = joinPoint.getThis();
+        Class<?> type = caller != null ? ClassUtils.getUserClass(caller)
+                : joinPoint.getStaticPart().getSourceLocation().getWithinType();
+        return type.getSimpleName();
+    }
+
+    /**
+     * Describes the locators among the call arguments.
+     *
+     * @param args The call arguments
+     * @return The locators, separated by " | ", or "-" if there are none
+     */
+    private static String locator(Object[] args) {
+        String locators = Arrays.stream(args).filter(By.class::isInstance).map(String::valueOf)
+                .collect(Collectors.joining(" | "));
+        return locators.isEmpty() ? "-" : locators;
+    }
+}
@@ -0,0 +1,179 @@
+package com.auto.framework.reporting;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.testng.ITestResult;
+
+import com.auto.framework.config.BrowserProfile;
+import com.auto.framework.config.FrameworkProperties;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Benchmark mode recording the wall time of every test under the active browser profile. Results of
+ *                  each profile are written to a CSV file, and once runs of both profiles exist a per-method
+ *                  comparison of the median wall times with the speed-up of the performance profile is written.
+ * @Version : 1.2
+ ************************************************************************************************************************/
+
+/**
+ * Per-test wall time recorder for comparing browser profiles.
+ *
+ * <p>Enabled with {@code my.properties.benchmark=true}. Run the suite once per profile,
+ * e.g. with {@code -Dmy.properties.browser-profile=default} and then
+ * {@code -Dmy.properties.browser-profile=performance}. Each run writes
+ * {@code <profile>.csv} to {@code my.properties.benchmark-dir}; the second run also writes
+ * {@code comparison.csv} and logs the comparison.</p>
+ *
+ * <p>Results are aggregated per test method. The rows of a parameterized method are pooled
+ * rather than compared one by one: the data provider runs them in parallel with unseeded
+ * data, so the n-th row of one run is not the same input as the n-th row of the other. The
+ * comparison uses the median over all invocations, which one slow row does not shift.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.2
+ * @since 1.3
+ * @see com.auto.framework.config.BrowserProfile
+ */
+@Slf4j
+@Component
+public class BenchmarkRecorder {
+
+    @Autowired
+    public FrameworkProperties frameworkProperties;
+
+    /**
+     * Wall times in milliseconds of every invocation, keyed by class and method.
+     */
+    private final Map<String, List<Long>> wallTimes = new ConcurrentHashMap<>();
+
+    /**
+     * Records the wall time of a finished test method, if benchmark mode is on. All invocations
+     * of a parameterized method are recorded under the method.
+     *
+     * @param result The result of the test method
+     */
+    public void record(ITestResult result) {
+        if (!frameworkProperties.isBenchmark() || result == null) {
+            return;
+        }
+        String test = result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+        wallTimes.computeIfAbsent(test, key -> new CopyOnWriteArrayList<>())
+                .add(result.getEndMillis() - result.getStartMillis());
+    }
+
+    /**
+     * Writes the profile's results and, if the other profile has results too, the comparison.
+     */
+    @PreDestroy
+    public void writeReport() {
+        if (wallTimes.isEmpty()) {
+            return;
+        }
+        Path dir = Path.of(frameworkProperties.getBenchmarkDir());
+        BrowserProfile profile = frameworkProperties.getBrowserProfile();
+        Map<String, Double> medians = new TreeMap<>();
+        List<String> lines = new ArrayList<>();
+        lines.add("test,runs,mean_ms,median_ms,min_ms,max_ms");
+        new TreeMap<>(wallTimes).forEach((test, times) -> {
+            long[] sorted = times.stream().mapToLong(Long::longValue).sorted().toArray();
+            double median = sorted.length % 2 == 1 ? sorted[sorted.length / 2]
+                    : (sorted[sorted.length / 2 - 1] + sorted[sorted.length / 2]) / 2.0;
+            medians.put(test, median);
+            lines.add(String.format(Locale.ROOT, "%s,%d,%.1f,%.1f,%d,%d", test, sorted.length,
+                    Arrays.stream(sorted).average().orElse(0), median, sorted[0], sorted[sorted.length - 1]));
+        });
+        try {
+            Files.createDirectories(dir);
+            Files.write(dir.resolve(fileName(profile)), lines);
+            log.info("Benchmark of {} profile written to {}", profile, dir.resolve(fileName(profile)));
+            BrowserProfile other = profile == BrowserProfile.DEFAULT ? BrowserProfile.PERFORMANCE
+                    : BrowserProfile.DEFAULT;
+            Path otherFile = dir.resolve(fileName(other));
+            if (Files.isReadable(otherFile)) {
+                Map<String, Double> otherMedians = readMedians(otherFile);
+                writeComparison(profile == BrowserProfile.DEFAULT ? medians : otherMedians,
+                        profile == BrowserProfile.DEFAULT ? otherMedians : medians, dir);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not write benchmark report to {}: {}", dir, e.getMessage());
+        }
+    }
+
+    /**
+     * Writes and logs the per-method comparison of both profiles.
+     *
+     * @param defaults Median wall times with the default profile
+     * @param performance Median wall times with the performance profile
+     * @param dir The benchmark directory
+     * @throws IOException if the comparison cannot be written
+     */
+    private void writeComparison(Map<String, Double> defaults, Map<String, Double> performance, Path dir)
+            throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("test,default_median_ms,performance_median_ms,speedup");
+        double defaultTotal = 0;
+        double performanceTotal = 0;
+        for (Map.Entry<String, Double> entry : defaults.entrySet()) {
+            Double fast = performance.get(entry.getKey());
+            if (fast == null) {
+                continue;
+            }
+            defaultTotal += entry.getValue();
+            performanceTotal += fast;
+            lines.add(String.format(Locale.ROOT, "%s,%.1f,%.1f,%.2f", entry.getKey(), entry.getValue(), fast,
+                    fast > 0 ? entry.getValue() / fast : 0));
+            log.info("Benchmark {}: median default {} ms, performance {} ms", entry.getKey(),
+                    Math.round(entry.getValue()), Math.round(fast));
+        }
+        Files.write(dir.resolve("comparison.csv"), lines);
+        if (performanceTotal > 0) {
+            log.info(String.format(Locale.ROOT,
+                    "Benchmark total of medians: default %.0f ms, performance %.0f ms (%.2fx)", defaultTotal,
+                    performanceTotal, defaultTotal / performanceTotal));
+        }
+    }
+
+    /**
+     * Reads the median wall times of a profile's results file.
+     *
+     * @param file The results file
+     * @return Median wall time per test method
+     * @throws IOException if the file cannot be read
+     */
+    private static Map<String, Double> readMedians(Path file) throws IOException {
+        Map<String, Double> medians = new TreeMap<>();
+        List<String> lines = Files.readAllLines(file);
+        for (String line : lines.subList(1, lines.size())) {
+            String[] columns = line.split(",");
+            if (columns.length >= 4) {
+                medians.put(columns[0], Double.parseDouble(columns[3]));
+            }
+        }
+        return medians;
+    }
+
+    /**
+     * Returns the results file name of a profile.
+     *
+     * @param profile The browser profile
+     * @return The file name
+     */
+    private static String fileName(BrowserProfile profile) {
+        return profile.name().toLowerCase(Locale.ROOT) + ".csv";
+    }
+}
@@ -0,0 +1,159 @@
+package com.auto.framework.reporting;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Lock-free latency histogram with log-linear buckets, recording from any number of test threads
+ *                  with a fixed memory footprint and a bounded relative error on every percentile.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Latency histogram in the style of HdrHistogram.
+ *
+ * <p>Values are recorded in microseconds. Values below 128 &micro;s are counted exactly; above
+ * that every power of two is split into 64 linear sub-buckets, so a percentile is never off by
+ * more than 1/64 (1.6 %) of its value. Values up to about 38 hours are tracked in 2048 counters;
+ * larger values are counted in the last bucket. Recording is a single atomic increment.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.reporting.ActionLatencyRecorder
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int EXACT = 2 * SUB_BUCKETS;
+    private static final long MAX_VALUE = (1L << 37) - 1;
+    private static final int BUCKETS = index(MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos The latency in nanoseconds
+     */
+    public void recordNanos(long nanos) {
+        long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+        counts.incrementAndGet(index(Math.min(micros, MAX_VALUE)));
+        count.increment();
+        sum.add(micros);
+        max.accumulateAndGet(micros, Math::max);
+    }
+
+    /**
+     * Adds the recorded values of another histogram to this one.
+     *
+     * @param other The histogram to add
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            long bucket = other.counts.get(i);
+            if (bucket > 0) {
+                counts.addAndGet(i, bucket);
+            }
+        }
+        count.add(other.count.sum());
+        sum.add(other.sum.sum());
+        max.accumulateAndGet(other.max.get(), Math::max);
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return The count
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the sum of the recorded values.
+     *
+     * @return The total in microseconds
+     */
+    public long getTotalMicros() {
+        return sum.sum();
+    }
+
+    /**
+     * Returns the mean of the recorded values.
+     *
+     * @return The mean in microseconds, 0 if nothing was recorded
+     */
+    public double getMeanMicros() {
+        long values = getCount();
+        return values == 0 ? 0 : (double) getTotalMicros() / values;
+    }
+
+    /**
+     * Returns the largest recorded value.
+     *
+     * @return The maximum in microseconds
+     */
+    public long getMaxMicros() {
+        return max.get();
+    }
+
+    /**
+     * Returns the value below or at which a percentage of the recorded values lie.
+     *
+     * @param percentile The percentile, from 0 to 100
+     * @return The highest value equivalent to the percentile's bucket in microseconds, capped at
+     *         the maximum; 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long values = getCount();
+        if (values == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * values));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestEquivalentValue(i), getMaxMicros());
+            }
+        }
+        return getMaxMicros();
+    }
+
+    /**
+     * Returns the bucket of a value.
+     *
+     * @param micros The value, at most {@link #MAX_VALUE}
+     * @return The bucket index
+     */
+    private static int index(long micros) {
+        if (micros < EXACT) {
+            return (int) micros;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS;
+        return EXACT + (shift - 1) * SUB_BUCKETS + (int) ((micros >> shift) - SUB_BUCKETS);
+    }
+
+    /**
+     * Returns the largest value counted in a bucket.
+     *
+     * @param index The bucket index
+     * @return The value in microseconds
+     */
+    private static long highestEquivalentValue(int index) {
+        if (index < EXACT) {
+            return index;
+        }
+        int shift = (index - EXACT) / SUB_BUCKETS + 1;
+        long subBucket = (index - EXACT) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,234 @@
+package com.auto.framework.reporting;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.testng.ITestResult;
+
+import com.auto.framework.config.FrameworkProperties;
+import com.auto.framework.jfr.ScreenshotEvent;
+import com.auto.framework.profiler.Phase;
+import com.auto.framework.profiler.SuiteProfiler;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Screenshot pipeline that captures the browser only for the configured test outcomes and hands the
+ *                  image to a bounded background executor for decoding, optional JPEG re-encoding and writing the
+ *                  Allure attachment, so that test teardown is not blocked by image processing or file I/O.
+ *                  The capture on the test thread is recorded as a Java Flight Recorder event.
+ * @Version : 1.1
+ ************************************************************************************************************************/
+
+/**
+ * Asynchronous screenshot capture for test reports.
+ *
+ * <p>Only the screenshot call itself runs on the test thread, since the browser is
+ * released right after. The image is fetched as the Base64 string the driver already
+ * received, and the attachment is registered with the current Allure test or fixture
+ * before the method returns; decoding, encoding and writing the attachment file happen
+ * on {@code my.properties.screenshot-threads} background threads. When the queue of
+ * {@code my.properties.screenshot-queue-size} pending screenshots is full, the test thread
+ * processes its own screenshot rather than dropping it.</p>
+ *
+ * <p>A test result is captured at most once: the first capture marks the result, and
+ * later calls for the same result are ignored.</p>
+ *
+ * <p>The capture on the test thread is recorded as a {@link ScreenshotEvent}.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.1
+ * @since 1.3
+ * @see com.auto.framework.reporting.ScreenshotTrigger
+ * @see io.qameta.allure.AllureLifecycle#prepareAttachment(String, String, String)
+ */
+@Slf4j
+@Component
+public class ScreenshotPipeline {
+
+    /**
+     * Test result attribute marking a result whose screenshot has been taken.
+     */
+    public static final String CAPTURED_ATTRIBUTE = ScreenshotPipeline.class.getName() + ".captured";
+
+    @Autowired
+    public FrameworkProperties frameworkProperties;
+
+    /**
+     * Executor encoding and writing the attachments.
+     */
+    private ThreadPoolExecutor executor;
+
+    /**
+     * Starts the background executor.
+     */
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        int threads = Math.max(1, frameworkProperties.getScreenshotThreads());
+        executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, frameworkProperties.getScreenshotQueueSize())), runnable -> {
+                    Thread thread = new Thread(runnable, "screenshot-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Checks whether the configured triggers ask for a screenshot of this result.
+     *
+     * @param result The result of the test method
+     * @return true if a screenshot should be taken
+     */
+    public boolean shouldCapture(ITestResult result) {
+        return frameworkProperties.getScreenshotOn().stream().anyMatch(trigger -> trigger.matches(result));
+    }
+
+    /**
+     * Captures a screenshot for the test result if its outcome matches the configured
+     * triggers and it has not been captured yet.
+     *
+     * @param driver The browser session to capture
+     * @param result The result of the test method
+     */
+    public void capture(WebDriver driver, ITestResult result) {
+        if (result == null || result.getAttribute(CAPTURED_ATTRIBUTE) != null || !shouldCapture(result)) {
+            return;
+        }
+        result.setAttribute(CAPTURED_ATTRIBUTE, Boolean.TRUE);
+        capture(driver, "Screen shot");
+    }
+
+    /**
+     * Captures a screenshot and attaches it to the current Allure test or fixture.
+     * Returns once the image has been fetched from the browser.
+     *
+     * @param driver The browser session to capture
+     * @param name The attachment name
+     */
+    public void capture(WebDriver driver, String name) {
+        long start = System.nanoTime();
+        ScreenshotEvent event = new ScreenshotEvent();
+        event.begin();
+        SuiteProfiler.Span span = SuiteProfiler.enter(Phase.SCREENSHOT);
+        String base64;
+        try {
+            base64 = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
+        } catch (WebDriverException e) {
+            log.error("Selenium screenshot capture failed: {}", e.getMessage());
+            return;
+        } finally {
+            span.exit();
+            event.end();
+        }
+        if (event.shouldCommit()) {
+            event.name = name;
+            event.size = base64.length() / 4L * 3;
+            event.commit();
+        }
+        boolean jpeg = "jpg".equalsIgnoreCase(frameworkProperties.getScreenshotFormat());
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String source = lifecycle.prepareAttachment(name, jpeg ? "image/jpeg" : "image/png", jpeg ? ".jpg" : ".png");
+        executor.execute(() -> writeAttachment(lifecycle, source, base64, jpeg));
+        log.debug("Captured screenshot in {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Decodes the screenshot, re-encodes it if required and writes the attachment file.
+     *
+     * @param lifecycle The Allure lifecycle the attachment was prepared with
+     * @param source The prepared attachment source
+     * @param base64 The PNG screenshot as returned by the driver
+     * @param jpeg Whether to re-encode the image as JPEG
+     */
+    private void writeAttachment(AllureLifecycle lifecycle, String source, String base64, boolean jpeg) {
+        try {
+            byte[] image = Base64.getMimeDecoder().decode(base64);
+            if (jpeg) {
+                image = toJpeg(image);
+            }
+            lifecycle.writeAttachment(source, new ByteArrayInputStream(image));
+        } catch (IOException | RuntimeException e) {
+            log.error("Could not write screenshot attachment {}: {}", source, e.getMessage());
+        }
+    }
+
+    /**
+     * Re-encodes a PNG image as JPEG at the configured quality.
+     *
+     * @param png The PNG image
+     * @return The JPEG image
+     * @throws IOException if the image cannot be decoded or encoded
+     */
+    private byte[] toJpeg(byte[] png) throws IOException {
+        BufferedImage source = ImageIO.read(new ByteArrayInputStream(png));
+        if (source == null) {
+            throw new IOException("Screenshot is not a readable image");
+        }
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        graphics.drawImage(source, 0, 0, Color.WHITE, null);
+        graphics.dispose();
+
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpg");
+        if (!writers.hasNext()) {
+            throw new IOException("No JPEG image writer available");
+        }
+        ImageWriter writer = writers.next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(frameworkProperties.getScreenshotJpegQuality());
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(jpeg)) {
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(rgb, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return jpeg.toByteArray();
+    }
+
+    /**
+     * Waits for pending attachments to be written when the Spring context closes.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("{} screenshot attachments not written before shutdown", executor.shutdownNow().size());
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.auto.framework.reporting;
+
+import org.testng.ITestResult;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Test outcomes on which a screenshot is taken at teardown, configured through
+ *                  'my.properties.screenshot-on' as a comma-separated list, e.g. "fail,skip".
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Test outcome that triggers a screenshot at teardown.
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.reporting.ScreenshotPipeline
+ */
+public enum ScreenshotTrigger {
+
+    /**
+     * Capture when the test failed.
+     */
+    FAIL,
+
+    /**
+     * Capture when the test was skipped.
+     */
+    SKIP,
+
+    /**
+     * Capture after every test, whatever its outcome.
+     */
+    ALWAYS;
+
+    /**
+     * Checks whether the test result matches this trigger.
+     *
+     * @param result The result of the test method
+     * @return true if a screenshot should be taken for this result
+     */
+    public boolean matches(ITestResult result) {
+        return switch (this) {
+            case FAIL -> result.getStatus() == ITestResult.FAILURE
+                    || result.getStatus() == ITestResult.SUCCESS_PERCENTAGE_FAILURE;
+            case SKIP -> result.getStatus() == ITestResult.SKIP;
+            case ALWAYS -> true;
+        };
+    }
+}
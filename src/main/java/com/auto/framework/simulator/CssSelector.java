@@ -0,0 +1,613 @@
+package com.auto.framework.simulator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.InvalidSelectorException;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : CSS selector engine of the WebDriver simulator, evaluating the selectors produced by Selenium's
+ *                  locators and used by page objects against the in-memory DOM.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Parsed CSS selector list.
+ *
+ * <p>Supported are type, universal, id, class and attribute selectors (with the {@code =},
+ * {@code ~=}, {@code |=}, {@code ^=}, {@code $=} and {@code *=} operators), the descendant,
+ * child, adjacent and general sibling combinators, and the pseudo-classes
+ * {@code :first-child}, {@code :last-child}, {@code :only-child}, {@code :nth-child()},
+ * {@code :nth-of-type()}, {@code :checked}, {@code :disabled}, {@code :enabled},
+ * {@code :empty} and {@code :not()}. Escapes, as written by Selenium for {@code By.id},
+ * {@code By.name} and {@code By.className}, are resolved. Other selectors are rejected with
+ * an {@link InvalidSelectorException}.</p>
+ *
+ * <p>Parsed selectors are cached, since page objects evaluate the same locators over and
+ * over.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.simulator.SimulatedDocument
+ */
+final class CssSelector {
+
+    /**
+     * Parsed selectors keyed by their text.
+     */
+    private static final Map<String, CssSelector> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * Complex selectors of the list, each a chain of compound selectors from left to right.
+     */
+    private final List<List<Compound>> alternatives;
+
+    /**
+     * A compound selector and the combinator linking it to the compound selector on its left.
+     *
+     * @param combinator One of ' ', '>', '+', '~'; ignored for the leftmost compound
+     * @param conditions Conditions that must all hold for an element
+     */
+    private record Compound(char combinator, List<Condition> conditions) {
+    }
+
+    /**
+     * A single condition of a compound selector.
+     */
+    private interface Condition {
+
+        /**
+         * Tests an element.
+         *
+         * @param element The element
+         * @return true if the element satisfies the condition
+         */
+        boolean test(Element element);
+    }
+
+    /**
+     * Creates a selector from parsed alternatives.
+     *
+     * @param alternatives The complex selectors
+     */
+    private CssSelector(List<List<Compound>> alternatives) {
+        this.alternatives = alternatives;
+    }
+
+    /**
+     * Returns the parsed form of a selector.
+     *
+     * @param selector The selector text
+     * @return The selector
+     * @throws InvalidSelectorException if the selector is malformed or not supported
+     */
+    static CssSelector of(String selector) {
+        CssSelector parsed = CACHE.get(selector);
+        if (parsed == null) {
+            parsed = new CssSelector(new Parser(selector).selectorList());
+            CACHE.put(selector, parsed);
+        }
+        return parsed;
+    }
+
+    /**
+     * Returns the descendants of a node matching the selector, in document order.
+     *
+     * @param root The document or element to search within
+     * @return The matching elements
+     */
+    List<Element> select(Node root) {
+        List<Element> found = new ArrayList<>();
+        collect(root, found);
+        return found;
+    }
+
+    /**
+     * Tests an element against the selector.
+     *
+     * @param element The element
+     * @return true if the element matches any alternative
+     */
+    boolean matches(Element element) {
+        for (List<Compound> chain : alternatives) {
+            if (matches(element, chain, chain.size() - 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Collects matching descendants depth-first.
+     *
+     * @param node The node whose descendants are searched
+     * @param found The matches found so far
+     */
+    private void collect(Node node, List<Element> found) {
+        for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof Element element) {
+                if (matches(element)) {
+                    found.add(element);
+                }
+                collect(element, found);
+            }
+        }
+    }
+
+    /**
+     * Matches an element against a chain of compound selectors, right to left.
+     *
+     * @param element The element to match against the compound at index
+     * @param chain The compound selectors
+     * @param index The index of the compound the element must match
+     * @return true if the element and its context match the chain up to index
+     */
+    private static boolean matches(Element element, List<Compound> chain, int index) {
+        Compound compound = chain.get(index);
+        for (Condition condition : compound.conditions()) {
+            if (!condition.test(element)) {
+                return false;
+            }
+        }
+        if (index == 0) {
+            return true;
+        }
+        switch (compound.combinator()) {
+            case '>':
+                return parent(element) != null && matches(parent(element), chain, index - 1);
+            case '+':
+                return previousSibling(element) != null && matches(previousSibling(element), chain, index - 1);
+            case '~':
+                for (Element sibling = previousSibling(element); sibling != null; sibling = previousSibling(sibling)) {
+                    if (matches(sibling, chain, index - 1)) {
+                        return true;
+                    }
+                }
+                return false;
+            default:
+                for (Element ancestor = parent(element); ancestor != null; ancestor = parent(ancestor)) {
+                    if (matches(ancestor, chain, index - 1)) {
+                        return true;
+                    }
+                }
+                return false;
+        }
+    }
+
+    /**
+     * Returns the parent element.
+     *
+     * @param element The element
+     * @return The parent element, or null for the document element
+     */
+    private static Element parent(Element element) {
+        return element.getParentNode() instanceof Element parent ? parent : null;
+    }
+
+    /**
+     * Returns the previous sibling element.
+     *
+     * @param element The element
+     * @return The previous sibling element, or null
+     */
+    private static Element previousSibling(Element element) {
+        for (Node node = element.getPreviousSibling(); node != null; node = node.getPreviousSibling()) {
+            if (node instanceof Element sibling) {
+                return sibling;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the one-based position of an element among its sibling elements.
+     *
+     * @param element The element
+     * @param ofType Whether only siblings of the same tag name are counted
+     * @param fromEnd Whether to count from the last sibling
+     * @return The position
+     */
+    private static int position(Element element, boolean ofType, boolean fromEnd) {
+        int position = 1;
+        for (Node node = fromEnd ? element.getNextSibling() : element.getPreviousSibling(); node != null;
+                node = fromEnd ? node.getNextSibling() : node.getPreviousSibling()) {
+            if (node instanceof Element sibling && (!ofType || sibling.getTagName().equals(element.getTagName()))) {
+                position++;
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Recursive-descent parser of selector text.
+     */
+    private static final class Parser {
+
+        private final String text;
+        private int pos;
+
+        /**
+         * Creates a parser.
+         *
+         * @param text The selector text
+         */
+        Parser(String text) {
+            this.text = text;
+        }
+
+        /**
+         * Parses a comma-separated selector list.
+         *
+         * @return The complex selectors
+         */
+        List<List<Compound>> selectorList() {
+            List<List<Compound>> list = new ArrayList<>();
+            do {
+                list.add(complex());
+            } while (consume(','));
+            skipWhitespace();
+            if (pos < text.length()) {
+                throw invalid("unexpected '" + text.charAt(pos) + "'");
+            }
+            return list;
+        }
+
+        /**
+         * Parses a complex selector.
+         *
+         * @return The chain of compound selectors
+         */
+        private List<Compound> complex() {
+            List<Compound> chain = new ArrayList<>();
+            skipWhitespace();
+            chain.add(new Compound(' ', compound()));
+            while (true) {
+                boolean whitespace = skipWhitespace();
+                if (pos >= text.length() || text.charAt(pos) == ',' || text.charAt(pos) == ')') {
+                    return chain;
+                }
+                char combinator = text.charAt(pos);
+                if (combinator == '>' || combinator == '+' || combinator == '~') {
+                    pos++;
+                    skipWhitespace();
+                } else if (whitespace) {
+                    combinator = ' ';
+                } else {
+                    throw invalid("unexpected '" + combinator + "'");
+                }
+                chain.add(new Compound(combinator, compound()));
+            }
+        }
+
+        /**
+         * Parses a compound selector.
+         *
+         * @return Its conditions
+         */
+        private List<Condition> compound() {
+            List<Condition> conditions = new ArrayList<>();
+            if (consume('*')) {
+                conditions.add(element -> true);
+            } else if (pos < text.length() && isNameChar(text.charAt(pos))) {
+                String tag = identifier().toLowerCase(Locale.ROOT);
+                conditions.add(element -> element.getTagName().equals(tag));
+            }
+            while (pos < text.length()) {
+                char c = text.charAt(pos);
+                if (c == '#') {
+                    pos++;
+                    String id = identifier();
+                    conditions.add(element -> id.equals(element.getAttribute("id")));
+                } else if (c == '.') {
+                    pos++;
+                    String className = identifier();
+                    conditions.add(element -> hasWord(element.getAttribute("class"), className));
+                } else if (c == '[') {
+                    pos++;
+                    conditions.add(attribute());
+                } else if (c == ':') {
+                    pos++;
+                    conditions.add(pseudoClass());
+                } else {
+                    break;
+                }
+            }
+            if (conditions.isEmpty()) {
+                throw invalid("selector expected");
+            }
+            return conditions;
+        }
+
+        /**
+         * Parses an attribute selector after its '['.
+         *
+         * @return The condition
+         */
+        private Condition attribute() {
+            skipWhitespace();
+            String name = identifier().toLowerCase(Locale.ROOT);
+            skipWhitespace();
+            if (consume(']')) {
+                return element -> element.hasAttribute(name);
+            }
+            String operator = text.startsWith("=", pos) ? "=" : pos + 1 < text.length() ? text.substring(pos, pos + 2)
+                    : "";
+            if (!List.of("=", "~=", "|=", "^=", "$=", "*=").contains(operator)) {
+                throw invalid("unsupported attribute operator");
+            }
+            pos += operator.length();
+            skipWhitespace();
+            String value = pos < text.length() && (text.charAt(pos) == '"' || text.charAt(pos) == '\'') ? string()
+                    : identifier();
+            skipWhitespace();
+            boolean ignoreCase = consume('i') || consume('I');
+            skipWhitespace();
+            if (!consume(']')) {
+                throw invalid("']' expected");
+            }
+            String expected = ignoreCase ? value.toLowerCase(Locale.ROOT) : value;
+            return element -> {
+                if (!element.hasAttribute(name)) {
+                    return false;
+                }
+                String actual = ignoreCase ? element.getAttribute(name).toLowerCase(Locale.ROOT)
+                        : element.getAttribute(name);
+                return switch (operator) {
+                    case "=" -> actual.equals(expected);
+                    case "~=" -> hasWord(actual, expected);
+                    case "|=" -> actual.equals(expected) || actual.startsWith(expected + "-");
+                    case "^=" -> !expected.isEmpty() && actual.startsWith(expected);
+                    case "$=" -> !expected.isEmpty() && actual.endsWith(expected);
+                    default -> !expected.isEmpty() && actual.contains(expected);
+                };
+            };
+        }
+
+        /**
+         * Parses a pseudo-class after its ':'.
+         *
+         * @return The condition
+         */
+        private Condition pseudoClass() {
+            String name = identifier().toLowerCase(Locale.ROOT);
+            switch (name) {
+                case "first-child":
+                    return element -> position(element, false, false) == 1;
+                case "last-child":
+                    return element -> position(element, false, true) == 1;
+                case "only-child":
+                    return element -> position(element, false, false) == 1 && position(element, false, true) == 1;
+                case "checked":
+                    return element -> element.hasAttribute("checked") || element.hasAttribute("selected");
+                case "disabled":
+                    return element -> element.hasAttribute("disabled");
+                case "enabled":
+                    return element -> !element.hasAttribute("disabled");
+                case "empty":
+                    return element -> !element.hasChildNodes();
+                case "nth-child":
+                case "nth-of-type":
+                case "nth-last-child": {
+                    int[] formula = nth();
+                    boolean ofType = "nth-of-type".equals(name);
+                    boolean fromEnd = "nth-last-child".equals(name);
+                    return element -> matchesNth(position(element, ofType, fromEnd), formula[0], formula[1]);
+                }
+                case "not": {
+                    expect('(');
+                    List<List<Compound>> negated = new ArrayList<>();
+                    do {
+                        skipWhitespace();
+                        negated.add(List.of(new Compound(' ', compound())));
+                        skipWhitespace();
+                    } while (consume(','));
+                    expect(')');
+                    CssSelector inner = new CssSelector(negated);
+                    return element -> !inner.matches(element);
+                }
+                default:
+                    throw invalid("unsupported pseudo-class :" + name);
+            }
+        }
+
+        /**
+         * Parses the {@code (an+b)} argument of an nth pseudo-class.
+         *
+         * @return The step a and offset b
+         */
+        private int[] nth() {
+            expect('(');
+            int close = text.indexOf(')', pos);
+            if (close < 0) {
+                throw invalid("')' expected");
+            }
+            String formula = text.substring(pos, close).replace(" ", "").toLowerCase(Locale.ROOT);
+            pos = close + 1;
+            try {
+                if ("odd".equals(formula)) {
+                    return new int[] { 2, 1 };
+                }
+                if ("even".equals(formula)) {
+                    return new int[] { 2, 0 };
+                }
+                int n = formula.indexOf('n');
+                if (n < 0) {
+                    return new int[] { 0, Integer.parseInt(formula) };
+                }
+                String step = formula.substring(0, n);
+                int a = step.isEmpty() || "+".equals(step) ? 1 : "-".equals(step) ? -1 : Integer.parseInt(step);
+                String offset = formula.substring(n + 1);
+                int b = offset.isEmpty() ? 0 : Integer.parseInt(offset.startsWith("+") ? offset.substring(1) : offset);
+                return new int[] { a, b };
+            } catch (NumberFormatException e) {
+                throw invalid("invalid nth formula '" + formula + "'");
+            }
+        }
+
+        /**
+         * Parses an identifier, resolving escapes.
+         *
+         * @return The identifier
+         */
+        private String identifier() {
+            StringBuilder identifier = new StringBuilder();
+            while (pos < text.length()) {
+                char c = text.charAt(pos);
+                if (c == '\\') {
+                    identifier.appendCodePoint(escape());
+                } else if (isNameChar(c)) {
+                    identifier.append(c);
+                    pos++;
+                } else {
+                    break;
+                }
+            }
+            if (identifier.length() == 0) {
+                throw invalid("identifier expected");
+            }
+            return identifier.toString();
+        }
+
+        /**
+         * Parses a quoted string, resolving escapes.
+         *
+         * @return The string content
+         */
+        private String string() {
+            char quote = text.charAt(pos++);
+            StringBuilder string = new StringBuilder();
+            while (pos < text.length() && text.charAt(pos) != quote) {
+                if (text.charAt(pos) == '\\') {
+                    string.appendCodePoint(escape());
+                } else {
+                    string.append(text.charAt(pos++));
+                }
+            }
+            expect(quote);
+            return string.toString();
+        }
+
+        /**
+         * Parses an escape: up to six hex digits and an optional space, or an escaped character.
+         *
+         * @return The code point
+         */
+        private int escape() {
+            pos++;
+            int start = pos;
+            while (pos < text.length() && pos - start < 6 && Character.digit(text.charAt(pos), 16) >= 0) {
+                pos++;
+            }
+            if (pos > start) {
+                int codePoint = Integer.parseInt(text.substring(start, pos), 16);
+                if (pos < text.length() && text.charAt(pos) == ' ') {
+                    pos++;
+                }
+                return codePoint;
+            }
+            if (pos >= text.length()) {
+                throw invalid("incomplete escape");
+            }
+            return text.charAt(pos++);
+        }
+
+        /**
+         * Skips whitespace.
+         *
+         * @return true if any whitespace was skipped
+         */
+        private boolean skipWhitespace() {
+            int start = pos;
+            while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+                pos++;
+            }
+            return pos > start;
+        }
+
+        /**
+         * Consumes a character if it is next.
+         *
+         * @param c The character
+         * @return true if it was consumed
+         */
+        private boolean consume(char c) {
+            if (pos < text.length() && text.charAt(pos) == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Consumes a character that must be next.
+         *
+         * @param c The character
+         * @throws InvalidSelectorException if another character is next
+         */
+        private void expect(char c) {
+            if (!consume(c)) {
+                throw invalid("'" + c + "' expected");
+            }
+        }
+
+        /**
+         * Creates the exception for a selector that cannot be parsed.
+         *
+         * @param reason What is wrong at the current position
+         * @return The exception
+         */
+        private InvalidSelectorException invalid(String reason) {
+            return new InvalidSelectorException(String.format("Invalid or unsupported CSS selector '%s' at %d: %s",
+                    text, pos, reason));
+        }
+    }
+
+    /**
+     * Returns true if a character may appear in an identifier.
+     *
+     * @param c The character
+     * @return true for letters, digits, '-', '_' and non-ASCII characters
+     */
+    private static boolean isNameChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '-' || c == '_' || c > 0x7f;
+    }
+
+    /**
+     * Returns true if a whitespace-separated list contains a word.
+     *
+     * @param list The list, e.g. a class attribute
+     * @param word The word
+     * @return true if the word is in the list
+     */
+    private static boolean hasWord(String list, String word) {
+        for (String item : list.trim().split("\\s+")) {
+            if (item.equals(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if a position satisfies {@code an+b} for some n &gt;= 0.
+     *
+     * @param position The one-based position
+     * @param a The step
+     * @param b The offset
+     * @return true if the position matches
+     */
+    private static boolean matchesNth(int position, int a, int b) {
+        if (a == 0) {
+            return position == b;
+        }
+        int n = position - b;
+        return n % a == 0 && n / a >= 0;
+    }
+}
@@ -0,0 +1,350 @@
+package com.auto.framework.simulator;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.w3c.dom.DOMException;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Lenient HTML parser building the in-memory DOM of the WebDriver simulator from page sources.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Parses HTML into a W3C DOM without a browser.
+ *
+ * <p>The parser is lenient in the way browsers are for the common cases: void elements need
+ * no end tag, list items, paragraphs, table rows and cells and options close their open
+ * predecessor, stray end tags are ignored, and the contents of {@code script}, {@code style},
+ * {@code textarea} and {@code title} are read as raw text. Element and attribute names are
+ * lower-cased; attributes whose names are not valid XML names, such as framework bindings,
+ * are skipped.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.simulator.SimulatedDocument
+ */
+final class HtmlParser {
+
+    /**
+     * Elements that never have content or an end tag.
+     */
+    private static final Set<String> VOID_ELEMENTS = Set.of("area", "base", "br", "col", "embed", "hr", "img",
+            "input", "link", "meta", "source", "track", "wbr");
+
+    /**
+     * Elements whose content is raw text rather than markup.
+     */
+    private static final Set<String> RAW_TEXT_ELEMENTS = Set.of("script", "style", "textarea", "title");
+
+    /**
+     * Open elements closed by the start tag of a given element when they are the current element.
+     */
+    private static final Map<String, Set<String>> IMPLIED_END_TAGS = Map.of(
+            "li", Set.of("li"),
+            "p", Set.of("p"),
+            "option", Set.of("option"),
+            "dt", Set.of("dt", "dd"),
+            "dd", Set.of("dt", "dd"),
+            "td", Set.of("td", "th"),
+            "th", Set.of("td", "th"),
+            "tr", Set.of("tr", "td", "th"));
+
+    /**
+     * Named character references decoded in text and attribute values.
+     */
+    private static final Map<String, String> ENTITIES = Map.of("amp", "&", "lt", "<", "gt", ">", "quot", "\"",
+            "apos", "'", "nbsp", "\u00a0", "copy", "\u00a9", "reg", "\u00ae", "hellip", "\u2026");
+
+    private final String html;
+    private final Document document;
+    private final Deque<Element> open = new ArrayDeque<>();
+    private int pos;
+
+    /**
+     * Creates a parser for one page source.
+     *
+     * @param html The page source
+     */
+    private HtmlParser(String html) {
+        this.html = html;
+        try {
+            this.document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+        } catch (ParserConfigurationException e) {
+            throw new IllegalStateException("No DOM implementation available", e);
+        }
+    }
+
+    /**
+     * Parses a page source. The document element is always {@code html}.
+     *
+     * @param html The page source
+     * @return The parsed document
+     */
+    static Document parse(String html) {
+        HtmlParser parser = new HtmlParser(html);
+        parser.run();
+        return parser.document;
+    }
+
+    /**
+     * Reads the page source into the document.
+     */
+    private void run() {
+        Element root = document.createElement("html");
+        document.appendChild(root);
+        open.push(root);
+        while (pos < html.length()) {
+            if (html.startsWith("<!--", pos)) {
+                int end = html.indexOf("-->", pos + 4);
+                pos = end < 0 ? html.length() : end + 3;
+            } else if (html.startsWith("<!", pos) || html.startsWith("<?", pos)) {
+                int end = html.indexOf('>', pos);
+                pos = end < 0 ? html.length() : end + 1;
+            } else if (html.startsWith("</", pos) && pos + 2 < html.length() && Character.isLetter(html.charAt(pos
+                    + 2))) {
+                endTag();
+            } else if (html.charAt(pos) == '<' && pos + 1 < html.length() && Character.isLetter(html.charAt(pos
+                    + 1))) {
+                startTag();
+            } else {
+                int end = html.indexOf('<', pos + 1);
+                end = end < 0 ? html.length() : end;
+                text(html.substring(pos, end));
+                pos = end;
+            }
+        }
+    }
+
+    /**
+     * Reads a start tag with its attributes, and the raw text content of raw text elements.
+     */
+    private void startTag() {
+        pos++;
+        String name = readName();
+        Element element = createElement(name);
+        while (pos < html.length()) {
+            skipWhitespace();
+            if (pos >= html.length() || html.charAt(pos) == '>' || html.startsWith("/>", pos)) {
+                break;
+            }
+            String attribute = readName();
+            if (attribute.isEmpty()) {
+                pos++;
+                continue;
+            }
+            String value = "";
+            skipWhitespace();
+            if (pos < html.length() && html.charAt(pos) == '=') {
+                pos++;
+                skipWhitespace();
+                value = decode(readAttributeValue());
+            }
+            if (element != null) {
+                setAttribute(element, attribute, value);
+            }
+        }
+        boolean selfClosing = html.startsWith("/>", pos);
+        pos = Math.min(html.length(), pos + (selfClosing ? 2 : 1));
+        if (element == null) {
+            return;
+        }
+        if ("html".equals(name)) {
+            copyAttributes(element, document.getDocumentElement());
+            return;
+        }
+        Set<String> implied = IMPLIED_END_TAGS.get(name);
+        while (implied != null && open.size() > 1 && implied.contains(open.peek().getTagName())) {
+            open.pop();
+        }
+        open.peek().appendChild(element);
+        if (RAW_TEXT_ELEMENTS.contains(name)) {
+            int end = html.toLowerCase(Locale.ROOT).indexOf("</" + name, pos);
+            end = end < 0 ? html.length() : end;
+            String content = html.substring(pos, end);
+            element.appendChild(document.createTextNode("script".equals(name) || "style".equals(name) ? content
+                    : decode(content)));
+            int close = html.indexOf('>', end);
+            pos = close < 0 ? html.length() : close + 1;
+        } else if (!selfClosing && !VOID_ELEMENTS.contains(name)) {
+            open.push(element);
+        }
+    }
+
+    /**
+     * Reads an end tag and closes the matching open element with everything opened after it.
+     * End tags without an open element of the same name are ignored.
+     */
+    private void endTag() {
+        pos += 2;
+        String name = readName();
+        int close = html.indexOf('>', pos);
+        pos = close < 0 ? html.length() : close + 1;
+        if (open.stream().noneMatch(element -> element.getTagName().equals(name)) || "html".equals(name)) {
+            return;
+        }
+        Element closed;
+        do {
+            closed = open.pop();
+        } while (!closed.getTagName().equals(name));
+    }
+
+    /**
+     * Appends decoded text to the current element.
+     *
+     * @param text The raw text
+     */
+    private void text(String text) {
+        open.peek().appendChild(document.createTextNode(decode(text)));
+    }
+
+    /**
+     * Reads a tag or attribute name.
+     *
+     * @return The lower-cased name, empty if none is at the current position
+     */
+    private String readName() {
+        int start = pos;
+        while (pos < html.length()) {
+            char c = html.charAt(pos);
+            if (Character.isWhitespace(c) || c == '>' || c == '=' || (c == '/' && pos > start)) {
+                break;
+            }
+            pos++;
+        }
+        return html.substring(start, pos).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Reads a quoted or unquoted attribute value.
+     *
+     * @return The raw value
+     */
+    private String readAttributeValue() {
+        if (pos >= html.length()) {
+            return "";
+        }
+        char quote = html.charAt(pos);
+        if (quote == '"' || quote == '\'') {
+            int end = html.indexOf(quote, pos + 1);
+            end = end < 0 ? html.length() : end;
+            String value = html.substring(pos + 1, end);
+            pos = Math.min(html.length(), end + 1);
+            return value;
+        }
+        int start = pos;
+        while (pos < html.length() && !Character.isWhitespace(html.charAt(pos)) && html.charAt(pos) != '>') {
+            pos++;
+        }
+        return html.substring(start, pos);
+    }
+
+    /**
+     * Skips whitespace.
+     */
+    private void skipWhitespace() {
+        while (pos < html.length() && Character.isWhitespace(html.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    /**
+     * Creates an element, or returns null if the name is not a valid element name.
+     *
+     * @param name The lower-cased tag name
+     * @return The element, or null
+     */
+    private Element createElement(String name) {
+        try {
+            return document.createElement(name);
+        } catch (DOMException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Sets an attribute, skipping names that are not valid attribute names.
+     *
+     * @param element The element
+     * @param name The lower-cased attribute name
+     * @param value The decoded value
+     */
+    private static void setAttribute(Element element, String name, String value) {
+        try {
+            element.setAttribute(name, value);
+        } catch (DOMException e) {
+            // names such as '@click' or '[value]' cannot be represented and are not needed
+        }
+    }
+
+    /**
+     * Copies the attributes of a parsed {@code html} tag to the document element.
+     *
+     * @param from The parsed element
+     * @param to The document element
+     */
+    private static void copyAttributes(Element from, Element to) {
+        for (int i = 0; i < from.getAttributes().getLength(); i++) {
+            to.setAttribute(from.getAttributes().item(i).getNodeName(), from.getAttributes().item(i).getNodeValue());
+        }
+    }
+
+    /**
+     * Decodes character references.
+     *
+     * @param text The raw text
+     * @return The decoded text
+     */
+    private static String decode(String text) {
+        int amp = text.indexOf('&');
+        if (amp < 0) {
+            return text;
+        }
+        StringBuilder decoded = new StringBuilder(text.length());
+        int i = 0;
+        while (amp >= 0) {
+            decoded.append(text, i, amp);
+            int semicolon = text.indexOf(';', amp);
+            String replacement = semicolon < 0 || semicolon - amp > 10 ? null
+                    : reference(text.substring(amp + 1, semicolon));
+            if (replacement == null) {
+                decoded.append('&');
+                i = amp + 1;
+            } else {
+                decoded.append(replacement);
+                i = semicolon + 1;
+            }
+            amp = text.indexOf('&', i);
+        }
+        return decoded.append(text, i, text.length()).toString();
+    }
+
+    /**
+     * Resolves a named or numeric character reference.
+     *
+     * @param reference The reference without '&amp;' and ';'
+     * @return The referenced text, or null if unknown
+     */
+    private static String reference(String reference) {
+        if (reference.startsWith("#")) {
+            try {
+                int codePoint = reference.startsWith("#x") || reference.startsWith("#X")
+                        ? Integer.parseInt(reference.substring(2), 16) : Integer.parseInt(reference.substring(1));
+                return new String(Character.toChars(codePoint));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        return ENTITIES.get(reference);
+    }
+}
@@ -0,0 +1,333 @@
+package com.auto.framework.simulator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+
+import org.openqa.selenium.InvalidSelectorException;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import lombok.extern.slf4j.Slf4j;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Page loaded in the WebDriver simulator: the in-memory DOM of the page source, with the locator
+ *                  strategies, visibility rules and text extraction WebDriver defines for real browsers.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * In-memory model of a loaded page.
+ *
+ * <p>Page sources are read from {@code file:} and {@code classpath:} URLs directly. HTTP URLs
+ * are mapped onto the directory in {@code my.properties.simulator-pages}: the path
+ * {@code /text-box} is read from {@code text-box.html} and the root from {@code index.html}.
+ * URLs without a page source load an empty document, like {@code about:blank}.</p>
+ *
+ * <p>No style sheets or scripts are evaluated. An element is displayed unless it, or one of
+ * its ancestors, is in the document head, has the {@code hidden} attribute, is a hidden input
+ * or is hidden by its inline {@code style}.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.simulator.SimulatedWebDriver
+ */
+@Slf4j
+final class SimulatedDocument {
+
+    /**
+     * Elements that are never rendered.
+     */
+    private static final Set<String> NOT_RENDERED = Set.of("head", "script", "style", "title", "meta", "link",
+            "template", "noscript");
+
+    /**
+     * Elements whose text starts on a new line.
+     */
+    private static final Set<String> BLOCK_ELEMENTS = Set.of("address", "article", "aside", "blockquote", "dd",
+            "div", "dl", "dt", "fieldset", "figcaption", "figure", "footer", "form", "h1", "h2", "h3", "h4", "h5",
+            "h6", "header", "hr", "li", "main", "nav", "ol", "p", "pre", "section", "table", "tr", "ul");
+
+    /**
+     * XPath evaluators, which are not thread-safe, one per thread.
+     */
+    private static final ThreadLocal<XPath> XPATH = ThreadLocal.withInitial(() -> XPathFactory.newInstance()
+            .newXPath());
+
+    private final String url;
+    private final Document document;
+
+    /**
+     * Whether the page was marked as the previous document before a navigation.
+     */
+    private boolean marked;
+
+    /**
+     * Creates a page.
+     *
+     * @param url The URL of the page
+     * @param document The parsed page source
+     */
+    private SimulatedDocument(String url, Document document) {
+        this.url = url;
+        this.document = document;
+    }
+
+    /**
+     * Loads the page source of a URL.
+     *
+     * @param url The URL
+     * @param pagesDir Directory holding the page sources of HTTP URLs
+     * @return The loaded page; empty if the URL has no page source
+     */
+    static SimulatedDocument load(String url, Path pagesDir) {
+        String html = "";
+        try {
+            if (url.startsWith("classpath:")) {
+                String resource = "/" + url.substring("classpath:".length()).replaceFirst("^/+", "");
+                try (InputStream in = SimulatedDocument.class.getResourceAsStream(resource)) {
+                    html = in == null ? "" : new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                }
+            } else if (url.startsWith("file:")) {
+                html = Files.readString(Path.of(URI.create(url)), StandardCharsets.UTF_8);
+            } else if (url.startsWith("http:") || url.startsWith("https:")) {
+                Path page = pageFile(URI.create(url).getPath(), pagesDir);
+                html = Files.isRegularFile(page) ? Files.readString(page, StandardCharsets.UTF_8) : "";
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            log.debug("No page source for {}: {}", url, e.getMessage());
+        }
+        if (html.isEmpty() && !"about:blank".equals(url)) {
+            log.debug("Simulating empty page for {}", url);
+        }
+        return new SimulatedDocument(url, HtmlParser.parse(html));
+    }
+
+    /**
+     * Returns the URL of the page.
+     *
+     * @return The URL
+     */
+    String getUrl() {
+        return url;
+    }
+
+    /**
+     * Returns the DOM of the page.
+     *
+     * @return The document
+     */
+    Document getDocument() {
+        return document;
+    }
+
+    /**
+     * Returns the text of the first {@code title} element.
+     *
+     * @return The title, empty if the page has none
+     */
+    String title() {
+        NodeList titles = document.getElementsByTagName("title");
+        return titles.getLength() == 0 ? "" : titles.item(0).getTextContent().trim().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * Marks the page as the previous document.
+     */
+    void mark() {
+        marked = true;
+    }
+
+    /**
+     * Returns true if the page was marked as the previous document.
+     *
+     * @return true if marked
+     */
+    boolean isMarked() {
+        return marked;
+    }
+
+    /**
+     * Finds the elements matching a W3C locator, in document order.
+     *
+     * @param using The locator strategy
+     * @param value The locator value
+     * @param root The document or element to search within
+     * @return The matching elements
+     * @throws InvalidSelectorException if the strategy is not supported or the value is invalid
+     */
+    List<Element> findAll(String using, String value, Node root) {
+        switch (using) {
+            case "css selector":
+                return CssSelector.of(value).select(root);
+            case "tag name":
+                return CssSelector.of(value.isEmpty() ? "*" : value).select(root);
+            case "xpath":
+                return xpath(value, root);
+            case "link text":
+            case "partial link text": {
+                List<Element> links = new ArrayList<>();
+                for (Element link : CssSelector.of("a").select(root)) {
+                    String text = textOf(link);
+                    if ("link text".equals(using) ? text.equals(value.trim()) : text.contains(value)) {
+                        links.add(link);
+                    }
+                }
+                return links;
+            }
+            default:
+                throw new InvalidSelectorException("Locator strategy not supported by the simulator: " + using);
+        }
+    }
+
+    /**
+     * Returns true if an element is rendered.
+     *
+     * @param element The element
+     * @return true if neither the element nor an ancestor is hidden
+     */
+    static boolean isDisplayed(Element element) {
+        for (Node node = element; node instanceof Element current; node = node.getParentNode()) {
+            String style = current.getAttribute("style").replace(" ", "").toLowerCase(Locale.ROOT);
+            if (NOT_RENDERED.contains(current.getTagName()) || current.hasAttribute("hidden")
+                    || ("input".equals(current.getTagName()) && "hidden".equalsIgnoreCase(current.getAttribute(
+                            "type"))) || style.contains("display:none") || style.contains("visibility:hidden")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the rendered text of an element, as WebElement.getText() does: hidden content is
+     * left out, whitespace is collapsed and block elements start new lines.
+     *
+     * @param element The element
+     * @return The text, empty if the element is not displayed
+     */
+    static String textOf(Element element) {
+        if (!isDisplayed(element)) {
+            return "";
+        }
+        StringBuilder raw = new StringBuilder();
+        appendText(element, raw);
+        StringBuilder text = new StringBuilder();
+        for (String line : raw.toString().replace('\u00a0', ' ').split("\n")) {
+            String collapsed = line.replaceAll("[ \\t\\r\\f]+", " ").trim();
+            if (!collapsed.isEmpty()) {
+                text.append(text.length() == 0 ? "" : "\n").append(collapsed);
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Serializes the DOM.
+     *
+     * @return The page source
+     */
+    String source() {
+        try {
+            Transformer transformer = TransformerFactory.newInstance().newTransformer();
+            transformer.setOutputProperty(OutputKeys.METHOD, "html");
+            StringWriter out = new StringWriter();
+            transformer.transform(new DOMSource(document), new StreamResult(out));
+            return out.toString();
+        } catch (TransformerException e) {
+            throw new IllegalStateException("Cannot serialize simulated page " + url, e);
+        }
+    }
+
+    /**
+     * Appends the rendered text of a node and its descendants.
+     *
+     * @param node The node
+     * @param text The text collected so far
+     */
+    private static void appendText(Node node, StringBuilder text) {
+        for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getNodeType() == Node.TEXT_NODE) {
+                text.append(child.getNodeValue().replace('\n', ' '));
+            } else if (child instanceof Element element && isDisplayed(element)) {
+                String tag = element.getTagName();
+                if ("br".equals(tag)) {
+                    text.append('\n');
+                    continue;
+                }
+                boolean block = BLOCK_ELEMENTS.contains(tag);
+                if (block) {
+                    text.append('\n');
+                }
+                appendText(element, text);
+                if (block) {
+                    text.append('\n');
+                } else if ("td".equals(tag) || "th".equals(tag)) {
+                    text.append(' ');
+                }
+            }
+        }
+    }
+
+    /**
+     * Evaluates an XPath expression selecting elements.
+     *
+     * @param expression The XPath 1.0 expression
+     * @param root The context node
+     * @return The selected elements, in document order
+     * @throws InvalidSelectorException if the expression is invalid
+     */
+    private static List<Element> xpath(String expression, Node root) {
+        NodeList nodes;
+        try {
+            nodes = (NodeList) XPATH.get().evaluate(expression, root, XPathConstants.NODESET);
+        } catch (XPathExpressionException e) {
+            throw new InvalidSelectorException("Invalid or unsupported XPath '" + expression + "': " + e.getMessage());
+        }
+        List<Element> elements = new ArrayList<>();
+        for (int i = 0; i < nodes.getLength(); i++) {
+            if (nodes.item(i) instanceof Element element) {
+                elements.add(element);
+            }
+        }
+        return elements;
+    }
+
+    /**
+     * Maps the path of an HTTP URL onto a page source file.
+     *
+     * @param path The URL path
+     * @param pagesDir Directory holding the page sources
+     * @return The page source file
+     */
+    private static Path pageFile(String path, Path pagesDir) {
+        String name = path == null ? "" : path.replaceFirst("^/+", "").replaceFirst("/+$", "");
+        if (name.isEmpty()) {
+            return pagesDir.resolve("index.html");
+        }
+        Path page = pagesDir.resolve(name).normalize();
+        return Files.isRegularFile(page) || name.contains(".") ? page : pagesDir.resolve(name + ".html");
+    }
+}
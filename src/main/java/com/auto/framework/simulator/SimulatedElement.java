@@ -0,0 +1,420 @@
+package com.auto.framework.simulator;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.remote.DriverCommand;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : WebElement of the WebDriver simulator, backed by an element of the in-memory DOM of the page it
+ *                  was found on.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Element of a simulated page.
+ *
+ * <p>Interactions change the DOM the way a browser's default actions do: clicks check
+ * checkboxes and radio buttons, select options, follow the {@code for} attribute of labels
+ * and follow links; typing appends to the {@code value} of inputs and text areas. Page
+ * scripts are not run, so event handlers have no effect. Elements of a page that was
+ * navigated away from are stale.</p>
+ *
+ * <p>Every method is one command of the session and is delayed by its simulated latency.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.simulator.SimulatedWebDriver
+ */
+final class SimulatedElement implements WebElement, WrapsDriver {
+
+    /**
+     * Attributes that WebElement.getAttribute() reports as "true" or null.
+     */
+    private static final Set<String> BOOLEAN_ATTRIBUTES = Set.of("checked", "selected", "disabled", "readonly",
+            "required", "multiple", "hidden", "autofocus");
+
+    /**
+     * Rendered size reported for every displayed element; the simulator has no layout.
+     */
+    private static final Dimension SIZE = new Dimension(100, 20);
+
+    private final SimulatedWebDriver driver;
+    private final SimulatedDocument page;
+    private final Element element;
+
+    /**
+     * Creates an element.
+     *
+     * @param driver The session the element was found in
+     * @param page The page the element belongs to
+     * @param element The DOM element
+     */
+    SimulatedElement(SimulatedWebDriver driver, SimulatedDocument page, Element element) {
+        this.driver = driver;
+        this.page = page;
+        this.element = element;
+    }
+
+    /**
+     * Returns the DOM element, failing if the page is no longer loaded.
+     *
+     * @return The DOM element
+     * @throws StaleElementReferenceException if the session navigated away from the element's page
+     */
+    Element element() {
+        if (driver.currentPage() != page) {
+            throw new StaleElementReferenceException("Element belongs to a page that is no longer loaded: "
+                    + page.getUrl());
+        }
+        return element;
+    }
+
+    @Override
+    public void click() {
+        driver.command(DriverCommand.CLICK_ELEMENT);
+        Element target = element();
+        if (!SimulatedDocument.isDisplayed(target)) {
+            throw new ElementNotInteractableException("Element is not displayed: " + describe());
+        }
+        activate(target);
+    }
+
+    /**
+     * Performs the default action of an element, as a click or a script {@code click()} does.
+     *
+     * @param target The DOM element
+     */
+    void activate(Element target) {
+        driver.focus(this);
+        if (target.hasAttribute("disabled")) {
+            return;
+        }
+        String tag = target.getTagName();
+        String type = target.getAttribute("type").toLowerCase(Locale.ROOT);
+        if ("input".equals(tag) && "checkbox".equals(type)) {
+            toggle(target, "checked");
+        } else if ("input".equals(tag) && "radio".equals(type)) {
+            for (Element radio : page.findAll("css selector", "input[type=radio]", page.getDocument())) {
+                if (radio.getAttribute("name").equals(target.getAttribute("name"))) {
+                    radio.removeAttribute("checked");
+                }
+            }
+            target.setAttribute("checked", "");
+        } else if ("option".equals(tag)) {
+            if (target.getParentNode() instanceof Element select && !select.hasAttribute("multiple")) {
+                for (Element option : page.findAll("tag name", "option", select)) {
+                    option.removeAttribute("selected");
+                }
+                target.setAttribute("selected", "");
+            } else {
+                toggle(target, "selected");
+            }
+        } else if ("label".equals(tag)) {
+            Element control = target.hasAttribute("for") ? byId(target.getAttribute("for"))
+                    : page.findAll("css selector", "input, select, textarea, button", target).stream().findFirst()
+                            .orElse(null);
+            if (control != null) {
+                activate(control);
+            }
+        } else if ("a".equals(tag) && target.hasAttribute("href")) {
+            String href = target.getAttribute("href");
+            if (!href.startsWith("#") && !href.startsWith("javascript:")) {
+                driver.navigate(driver.resolve(href));
+            }
+        }
+    }
+
+    @Override
+    public void submit() {
+        driver.command(DriverCommand.SUBMIT_ELEMENT);
+        element();
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        driver.command(DriverCommand.SEND_KEYS_TO_ELEMENT);
+        Element target = element();
+        if (!SimulatedDocument.isDisplayed(target) && !"file".equalsIgnoreCase(target.getAttribute("type"))) {
+            throw new ElementNotInteractableException("Element is not displayed: " + describe());
+        }
+        StringBuilder typed = new StringBuilder();
+        for (CharSequence keys : keysToSend) {
+            keys.chars().filter(c -> c < '\uE000' || c > '\uF8FF').forEach(c -> typed.append((char) c));
+        }
+        driver.focus(this);
+        if (isEditable(target) && !target.hasAttribute("readonly") && !target.hasAttribute("disabled")) {
+            target.setAttribute("value", value(target) + typed);
+        }
+    }
+
+    @Override
+    public void clear() {
+        driver.command(DriverCommand.CLEAR_ELEMENT);
+        Element target = element();
+        if (!isEditable(target)) {
+            throw new ElementNotInteractableException("Element is not editable: " + describe());
+        }
+        target.setAttribute("value", "");
+    }
+
+    @Override
+    public String getTagName() {
+        driver.command(DriverCommand.GET_ELEMENT_TAG_NAME);
+        return element().getTagName();
+    }
+
+    @Override
+    public String getDomProperty(String name) {
+        driver.command(DriverCommand.GET_ELEMENT_DOM_PROPERTY);
+        return property(element(), name);
+    }
+
+    @Override
+    public String getDomAttribute(String name) {
+        driver.command(DriverCommand.GET_ELEMENT_DOM_ATTRIBUTE);
+        Element target = element();
+        return target.hasAttribute(name) ? target.getAttribute(name) : null;
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        driver.command(DriverCommand.GET_ELEMENT_ATTRIBUTE);
+        return attribute(element(), name);
+    }
+
+    @Override
+    public boolean isSelected() {
+        driver.command(DriverCommand.IS_ELEMENT_SELECTED);
+        Element target = element();
+        return target.hasAttribute("checked") || target.hasAttribute("selected");
+    }
+
+    @Override
+    public boolean isEnabled() {
+        driver.command(DriverCommand.IS_ELEMENT_ENABLED);
+        return !element().hasAttribute("disabled");
+    }
+
+    @Override
+    public String getText() {
+        driver.command(DriverCommand.GET_ELEMENT_TEXT);
+        return SimulatedDocument.textOf(element());
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return driver.find(by, element(), false, this);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return driver.find(by, element(), true, this).get(0);
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        driver.command(DriverCommand.IS_ELEMENT_DISPLAYED);
+        return SimulatedDocument.isDisplayed(element());
+    }
+
+    @Override
+    public Point getLocation() {
+        return getRect().getPoint();
+    }
+
+    @Override
+    public Dimension getSize() {
+        return getRect().getDimension();
+    }
+
+    @Override
+    public Rectangle getRect() {
+        driver.command(DriverCommand.GET_ELEMENT_RECT);
+        return SimulatedDocument.isDisplayed(element()) ? new Rectangle(new Point(0, 0), SIZE)
+                : new Rectangle(0, 0, 0, 0);
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        driver.command(DriverCommand.GET_ELEMENT_VALUE_OF_CSS_PROPERTY);
+        for (String declaration : element().getAttribute("style").split(";")) {
+            String[] parts = declaration.split(":", 2);
+            if (parts.length == 2 && parts[0].trim().equalsIgnoreCase(propertyName)) {
+                return parts[1].trim();
+            }
+        }
+        return "";
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) throws WebDriverException {
+        driver.command(DriverCommand.ELEMENT_SCREENSHOT);
+        element();
+        return SimulatedWebDriver.screenshot(target);
+    }
+
+    @Override
+    public SimulatedWebDriver getWrappedDriver() {
+        return driver;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof SimulatedElement that && that.element == element && that.page == page;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(element);
+    }
+
+    @Override
+    public String toString() {
+        return "[SimulatedElement: " + describe() + "]";
+    }
+
+    /**
+     * Returns the value of an attribute the way WebElement.getAttribute() does: the current
+     * value of form controls, "true" or null for boolean attributes, and the attribute otherwise.
+     *
+     * @param target The DOM element
+     * @param name The attribute name
+     * @return The value, or null if not set
+     */
+    static String attribute(Element target, String name) {
+        String lower = name.toLowerCase(Locale.ROOT);
+        if (BOOLEAN_ATTRIBUTES.contains(lower)) {
+            return target.hasAttribute(lower) ? "true" : null;
+        }
+        if ("value".equals(lower) && isEditable(target)) {
+            return value(target);
+        }
+        if ("textcontent".equals(lower) || "innertext".equals(lower)) {
+            return SimulatedDocument.textOf(target);
+        }
+        return target.hasAttribute(lower) ? target.getAttribute(lower) : null;
+    }
+
+    /**
+     * Returns the value of a DOM property.
+     *
+     * @param target The DOM element
+     * @param name The property name
+     * @return The value, or null if not set
+     */
+    private static String property(Element target, String name) {
+        switch (name) {
+            case "value":
+                return value(target);
+            case "checked":
+            case "selected":
+            case "disabled":
+                return String.valueOf(target.hasAttribute(name));
+            case "tagName":
+                return target.getTagName().toUpperCase(Locale.ROOT);
+            case "textContent":
+                return target.getTextContent();
+            case "innerText":
+                return SimulatedDocument.textOf(target);
+            case "className":
+                return target.getAttribute("class");
+            default:
+                return target.hasAttribute(name) ? target.getAttribute(name) : null;
+        }
+    }
+
+    /**
+     * Returns the current value of a form control: its value attribute, the text of a text area
+     * not typed into yet, or "on" for checkboxes and radio buttons without a value.
+     *
+     * @param target The DOM element
+     * @return The value
+     */
+    private static String value(Element target) {
+        if (target.hasAttribute("value")) {
+            return target.getAttribute("value");
+        }
+        if ("textarea".equals(target.getTagName())) {
+            return target.getTextContent();
+        }
+        String type = target.getAttribute("type").toLowerCase(Locale.ROOT);
+        return "checkbox".equals(type) || "radio".equals(type) ? "on" : "";
+    }
+
+    /**
+     * Returns true for elements that take typed text.
+     *
+     * @param target The DOM element
+     * @return true for text areas and text-like inputs
+     */
+    private static boolean isEditable(Element target) {
+        if ("textarea".equals(target.getTagName())) {
+            return true;
+        }
+        String type = target.getAttribute("type").toLowerCase(Locale.ROOT);
+        return "input".equals(target.getTagName()) && !Set.of("checkbox", "radio", "button", "submit", "reset",
+                "image", "hidden").contains(type);
+    }
+
+    /**
+     * Toggles a boolean attribute.
+     *
+     * @param target The DOM element
+     * @param name The attribute name
+     */
+    private static void toggle(Element target, String name) {
+        if (target.hasAttribute(name)) {
+            target.removeAttribute(name);
+        } else {
+            target.setAttribute(name, "");
+        }
+    }
+
+    /**
+     * Finds an element of the page by id.
+     *
+     * @param id The id
+     * @return The element, or null
+     */
+    private Element byId(String id) {
+        NodeList elements = page.getDocument().getElementsByTagName("*");
+        for (int i = 0; i < elements.getLength(); i++) {
+            if (id.equals(((Element) elements.item(i)).getAttribute("id"))) {
+                return (Element) elements.item(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Describes the element for messages.
+     *
+     * @return Tag name, id and classes of the element
+     */
+    private String describe() {
+        StringBuilder description = new StringBuilder(element.getTagName());
+        if (element.hasAttribute("id")) {
+            description.append('#').append(element.getAttribute("id"));
+        }
+        if (element.hasAttribute("class")) {
+            description.append('.').append(element.getAttribute("class").trim().replaceAll("\\s+", "."));
+        }
+        return description.toString();
+    }
+}
@@ -0,0 +1,382 @@
+package com.auto.framework.simulator;
+
+import static com.auto.framework.constants.JavaScripts.ELEMENT_SNAPSHOT;
+import static com.auto.framework.constants.JavaScripts.FIND_BY_TEXT;
+import static com.auto.framework.constants.JavaScripts.MARK_DOCUMENT;
+import static com.auto.framework.constants.JavaScripts.TABLE_CELL;
+import static com.auto.framework.constants.JavaScripts.TABLE_INPUT_RIGHT_OF_TEXT;
+import static com.auto.framework.constants.JavaScripts.TABLE_SNAPSHOT;
+import static com.auto.framework.constants.JavaScripts.WAIT_FOR_CLICKABLE;
+import static com.auto.framework.constants.JavaScripts.WAIT_FOR_PAGE_READY;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.openqa.selenium.JavascriptException;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Java implementations of the framework's browser scripts for the WebDriver simulator, so that the
+ *                  actions and waits take the same code paths as against a real browser.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Script executor of a simulated session.
+ *
+ * <p>The simulator has no JavaScript engine. The scripts of
+ * {@link com.auto.framework.constants.JavaScripts} and the few one-liners the framework runs
+ * are recognised by their text and evaluated against the in-memory DOM with the same
+ * arguments and results as in a browser. Asynchronous waits return at once: nothing changes
+ * a simulated page on its own, so a condition that does not hold when the wait starts never
+ * will. Custom JavaScript predicates of page readiness conditions cannot be evaluated and are
+ * reported as pending. Any other script fails with a {@link JavascriptException}, which the
+ * framework treats like a browser without script support.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.simulator.SimulatedWebDriver
+ */
+final class SimulatedScripts {
+
+    private static final String SCROLL_INTO_VIEW = "arguments[0].scrollIntoView(true);";
+    private static final String CLICK = "arguments[0].click();";
+    private static final String CLEAR_STORAGE = "window.localStorage.clear(); window.sessionStorage.clear();";
+    private static final String READY_STATE = "return document.readyState";
+
+    /**
+     * Prefix of {@link com.auto.framework.constants.JavaScripts#WAIT_FOR_PAGE_READY} for conditions without
+     * JavaScript predicates.
+     */
+    private static final String NO_PREDICATES = "var predicates = [];\n";
+
+    /**
+     * Selectors of the table cells and header cells recognised by the table scripts.
+     */
+    private static final String CELL = "td, th, [role=gridcell], [role=cell], [role=columnheader], [role=rowheader]";
+    private static final String HEADER_CELL = "th, [role=columnheader]";
+
+    private final SimulatedWebDriver driver;
+
+    /**
+     * Creates the script executor of a session.
+     *
+     * @param driver The session
+     */
+    SimulatedScripts(SimulatedWebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Evaluates a script.
+     *
+     * @param script The script text
+     * @param args The script arguments
+     * @return The script result, with elements as WebElements
+     * @throws JavascriptException if the script is not known to the simulator
+     */
+    @SuppressWarnings("unchecked")
+    Object execute(String script, Object[] args) {
+        if (script.endsWith(WAIT_FOR_PAGE_READY)) {
+            return waitForPageReady(script, (List<Map<String, Object>>) args[0]);
+        }
+        switch (script) {
+            case ELEMENT_SNAPSHOT:
+                return elementSnapshot((Map<String, Map<String, Object>>) args[0], (List<String>) args[1]);
+            case FIND_BY_TEXT:
+                return findByText((Map<String, Object>) args[0], (String) args[1], args.length > 2 ? args[2] : null);
+            case TABLE_SNAPSHOT:
+                return tableSnapshot((Map<String, Object>) args[0]);
+            case TABLE_CELL:
+                return tableCell((Map<String, Object>) args[0], ((Number) args[1]).intValue(),
+                        ((Number) args[2]).intValue(), args.length > 3 ? (Map<String, Object>) args[3] : null);
+            case TABLE_INPUT_RIGHT_OF_TEXT:
+                return tableInputRightOfText((Map<String, Object>) args[0], (String) args[1]);
+            case WAIT_FOR_CLICKABLE:
+                return waitForClickable((Map<String, Object>) args[0], (Number) args[1],
+                        args.length > 2 ? (Map<String, Object>) args[2] : null);
+            case MARK_DOCUMENT:
+                driver.currentPage().mark();
+                return null;
+            case SCROLL_INTO_VIEW:
+                element(args[0]).element();
+                return null;
+            case CLICK: {
+                SimulatedElement element = element(args[0]);
+                element.activate(element.element());
+                return null;
+            }
+            case CLEAR_STORAGE:
+                return null;
+            case READY_STATE:
+                return "complete";
+            default:
+                throw new JavascriptException("Script not supported by the WebDriver simulator: "
+                        + script.strip().lines().findFirst().orElse(""));
+        }
+    }
+
+    /**
+     * Reads the text and attributes of several elements.
+     *
+     * @param locators Locators keyed by name
+     * @param attributeNames The attributes to read
+     * @return Snapshots keyed by name, null for elements not found
+     */
+    private Map<String, Object> elementSnapshot(Map<String, Map<String, Object>> locators,
+            List<String> attributeNames) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        locators.forEach((key, locator) -> {
+            Element element = findFirst(locator, null);
+            if (element == null) {
+                result.put(key, null);
+                return;
+            }
+            Map<String, Object> attributes = new LinkedHashMap<>();
+            attributeNames.forEach(name -> attributes.put(name, element.hasAttribute(name) ? element.getAttribute(
+                    name) : null));
+            Map<String, Object> snapshot = new LinkedHashMap<>();
+            snapshot.put("text", SimulatedDocument.textOf(element));
+            snapshot.put("attributes", attributes);
+            result.put(key, snapshot);
+        });
+        return result;
+    }
+
+    /**
+     * Finds the first displayed element of a locator containing a text, ignoring case.
+     *
+     * @param locator The locator
+     * @param text The search text
+     * @param root The element to search within, or null
+     * @return The element, or null
+     */
+    private SimulatedElement findByText(Map<String, Object> locator, String text, Object root) {
+        String needle = text.toLowerCase(Locale.ROOT);
+        for (Element element : findAll(locator, root == null ? null : element(root).element())) {
+            if (SimulatedDocument.isDisplayed(element) && SimulatedDocument.textOf(element).toLowerCase(Locale.ROOT)
+                    .contains(needle)) {
+                return driver.wrap(element);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads the header and cell texts of a table.
+     *
+     * @param locator The table locator
+     * @return {@code {headers, rows}}, or null if the table is not found
+     */
+    private Map<String, Object> tableSnapshot(Map<String, Object> locator) {
+        Element table = findFirst(locator, null);
+        if (table == null) {
+            return null;
+        }
+        List<Element> headers = new ArrayList<>();
+        List<List<Element>> rows = new ArrayList<>();
+        tableModel(table, headers, rows);
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("headers", headers.stream().map(SimulatedDocument::textOf).toList());
+        snapshot.put("rows", rows.stream().map(cells -> cells.stream().map(SimulatedDocument::textOf).toList())
+                .toList());
+        return snapshot;
+    }
+
+    /**
+     * Resolves a table cell, or an element within it.
+     *
+     * @param locator The table locator
+     * @param row The data row index
+     * @param column The column index
+     * @param target Locator searched within the cell, or null
+     * @return The element, or null
+     */
+    private SimulatedElement tableCell(Map<String, Object> locator, int row, int column, Map<String, Object> target) {
+        Element table = findFirst(locator, null);
+        if (table == null) {
+            return null;
+        }
+        List<List<Element>> rows = new ArrayList<>();
+        tableModel(table, new ArrayList<>(), rows);
+        if (row < 0 || row >= rows.size() || column < 0 || column >= rows.get(row).size()) {
+            return null;
+        }
+        Element cell = rows.get(row).get(column);
+        Element element = target == null ? cell : findFirst(target, cell);
+        return element == null ? null : driver.wrap(element);
+    }
+
+    /**
+     * Finds the input in a later cell of the first row whose td cell contains a text.
+     *
+     * @param locator The row locator
+     * @param text The search text
+     * @return The input, or null
+     */
+    private SimulatedElement tableInputRightOfText(Map<String, Object> locator, String text) {
+        String needle = text.toLowerCase(Locale.ROOT);
+        for (Element row : findAll(locator, null)) {
+            List<Element> cells = driver.currentPage().findAll("tag name", "td", row);
+            for (int j = 0; j < cells.size(); j++) {
+                if (SimulatedDocument.textOf(cells.get(j)).toLowerCase(Locale.ROOT).contains(needle)) {
+                    for (int k = j + 1; k < cells.size(); k++) {
+                        List<Element> inputs = driver.currentPage().findAll("tag name", "input", cells.get(k));
+                        if (!inputs.isEmpty()) {
+                            return driver.wrap(inputs.get(0));
+                        }
+                    }
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether the element of a locator is clickable.
+     *
+     * @param locator The locator
+     * @param timeout The default timeout in milliseconds
+     * @param pageTimeouts Timeouts by page path
+     * @return {@code {element, readyAfter, page, timeout}}
+     */
+    private Map<String, Object> waitForClickable(Map<String, Object> locator, Number timeout,
+            Map<String, Object> pageTimeouts) {
+        String page = pagePath();
+        Element element = findFirst(locator, null);
+        boolean clickable = element != null && !element.hasAttribute("disabled")
+                && SimulatedDocument.isDisplayed(element);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("element", clickable ? driver.wrap(element) : null);
+        result.put("readyAfter", 0.0);
+        result.put("page", page);
+        result.put("timeout", pageTimeouts != null && pageTimeouts.containsKey(page) ? pageTimeouts.get(page)
+                : timeout);
+        return result;
+    }
+
+    /**
+     * Checks the readiness condition of the current page.
+     *
+     * @param script The script with its predicate declaration
+     * @param locators Locators of elements that must be present
+     * @return {@code {ready, previous, readyAfter, pending}}
+     */
+    private Map<String, Object> waitForPageReady(String script, List<Map<String, Object>> locators) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (driver.currentPage().isMarked()) {
+            result.put("ready", false);
+            result.put("previous", true);
+            return result;
+        }
+        List<String> pending = new ArrayList<>();
+        for (Map<String, Object> locator : locators) {
+            if (findFirst(locator, null) == null) {
+                pending.add(locator.get("using") + "=" + locator.get("value"));
+            }
+        }
+        if (!NO_PREDICATES.equals(script.substring(0, script.length() - WAIT_FOR_PAGE_READY.length()))) {
+            pending.add("script (not evaluated by the simulator)");
+        }
+        result.put("ready", pending.isEmpty());
+        result.put("previous", false);
+        result.put("readyAfter", 0.0);
+        result.put("pending", pending);
+        return result;
+    }
+
+    /**
+     * Splits a table into header cells and data rows, skipping blank padding rows.
+     *
+     * @param table The table element
+     * @param headers Receives the header cells
+     * @param rows Receives the cells of each data row
+     */
+    private void tableModel(Element table, List<Element> headers, List<List<Element>> rows) {
+        CssSelector cell = CssSelector.of(CELL);
+        CssSelector headerCell = CssSelector.of(HEADER_CELL);
+        for (Element row : CssSelector.of("tr, [role=row]").select(table)) {
+            List<Element> cells = new ArrayList<>();
+            for (Node child = row.getFirstChild(); child != null; child = child.getNextSibling()) {
+                if (child instanceof Element element && cell.matches(element)) {
+                    cells.add(element);
+                }
+            }
+            if (cells.isEmpty()) {
+                continue;
+            }
+            if (cells.stream().allMatch(headerCell::matches)) {
+                if (headers.isEmpty()) {
+                    headers.addAll(cells);
+                }
+                continue;
+            }
+            boolean blank = cells.stream().allMatch(c -> SimulatedDocument.textOf(c).isEmpty() && CssSelector.of(
+                    "input, select, textarea, button, a").select(c).isEmpty());
+            if (!blank) {
+                rows.add(cells);
+            }
+        }
+    }
+
+    /**
+     * Returns the path of the current page, as {@code location.pathname} does.
+     *
+     * @return The path, empty if the URL has none
+     */
+    private String pagePath() {
+        try {
+            String path = URI.create(driver.currentPage().getUrl()).getPath();
+            return path == null ? "" : path;
+        } catch (IllegalArgumentException e) {
+            return "";
+        }
+    }
+
+    /**
+     * Finds the elements of a script locator.
+     *
+     * @param locator The {@code {using, value}} locator
+     * @param root The element to search within, or null for the whole page
+     * @return The elements
+     */
+    private List<Element> findAll(Map<String, Object> locator, Element root) {
+        SimulatedDocument page = driver.currentPage();
+        return page.findAll(String.valueOf(locator.get("using")), String.valueOf(locator.get("value")),
+                root == null ? page.getDocument() : root);
+    }
+
+    /**
+     * Finds the first element of a script locator.
+     *
+     * @param locator The {@code {using, value}} locator
+     * @param root The element to search within, or null for the whole page
+     * @return The element, or null
+     */
+    private Element findFirst(Map<String, Object> locator, Element root) {
+        List<Element> found = findAll(locator, root);
+        return found.isEmpty() ? null : found.get(0);
+    }
+
+    /**
+     * Casts a script argument to an element of this session.
+     *
+     * @param argument The argument
+     * @return The element
+     * @throws JavascriptException if the argument is not an element of the simulator
+     */
+    private static SimulatedElement element(Object argument) {
+        if (argument instanceof SimulatedElement element) {
+            return element;
+        }
+        throw new JavascriptException("Script argument is not an element of the simulator: " + argument);
+    }
+}
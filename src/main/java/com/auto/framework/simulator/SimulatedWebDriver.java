@@ -0,0 +1,630 @@
+package com.auto.framework.simulator;
+
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchFrameException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.logging.Logs;
+import org.openqa.selenium.remote.DriverCommand;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import lombok.extern.slf4j.Slf4j;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : In-memory WebDriver for measuring the overhead of the framework without a browser. Pages are parsed
+ *                  into a DOM held by the session and every command is delayed by a configurable latency.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * WebDriver, JavascriptExecutor and TakesScreenshot implementation backed by an in-memory DOM.
+ *
+ * <p>The simulator answers every command in microseconds, so a suite run against it measures
+ * what the framework itself costs: Spring bean lookups, the driverscope and session pool,
+ * TestNG listeners, reporting and the action and wait helpers. Browser round trips are
+ * modelled by {@code my.properties.simulator-latency}, applied to every command, and by
+ * {@code my.properties.simulator-command-latency}, keyed by the
+ * {@link DriverCommand} name of the command, e.g. {@code findElement} or {@code clickElement}.</p>
+ *
+ * <p>Page sources are loaded as described in {@link SimulatedDocument}. The framework scripts
+ * are emulated by {@link SimulatedScripts}; other JavaScript is not supported. A session has a
+ * single window without frames or alerts.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.config.BrowserConfiguration
+ */
+@Slf4j
+public class SimulatedWebDriver implements WebDriver, JavascriptExecutor, TakesScreenshot {
+
+    /**
+     * A 1x1 PNG image returned by every screenshot.
+     */
+    private static final String SCREENSHOT = "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAQAAAC1HAwCAAAAC0lEQVR42mNkYAAAAAYAAjCB0C8"
+            + "AAAAASUVORK5CYII=";
+
+    /**
+     * Counter used to give every session its own window handle.
+     */
+    private static final AtomicInteger SESSIONS = new AtomicInteger();
+
+    private final Path pagesDir;
+    private final Duration latency;
+    private final Map<String, Duration> commandLatency = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final SimulatedScripts scripts = new SimulatedScripts(this);
+    private final String windowHandle = "simulated-window-" + SESSIONS.incrementAndGet();
+    private final AtomicLong commandCount = new AtomicLong();
+
+    private final List<String> history = new ArrayList<>();
+    private final Map<String, Cookie> cookies = new LinkedHashMap<>();
+    private final SimulatedTimeouts timeouts = new SimulatedTimeouts();
+    private final SimulatedWindow window = new SimulatedWindow();
+    private int historyIndex = -1;
+    private volatile SimulatedDocument page;
+    private SimulatedElement focused;
+    private volatile boolean open = true;
+
+    /**
+     * Creates a session showing {@code about:blank}.
+     *
+     * @param pagesDir Directory holding the page sources of HTTP URLs
+     * @param latency Latency added to every command
+     * @param commandLatency Latencies of individual commands by {@link DriverCommand} name, replacing the default
+     */
+    public SimulatedWebDriver(Path pagesDir, Duration latency, Map<String, Duration> commandLatency) {
+        this.pagesDir = pagesDir;
+        this.latency = latency;
+        this.commandLatency.putAll(commandLatency);
+        this.page = SimulatedDocument.load("about:blank", pagesDir);
+        log.debug("Started simulated session {}", windowHandle);
+    }
+
+    /**
+     * Returns the number of commands this session has executed.
+     *
+     * @return The command count
+     */
+    public long getCommandCount() {
+        return commandCount.get();
+    }
+
+    @Override
+    public void get(String url) {
+        command(DriverCommand.GET);
+        navigate(url);
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        command(DriverCommand.GET_CURRENT_URL);
+        return page.getUrl();
+    }
+
+    @Override
+    public String getTitle() {
+        command(DriverCommand.GET_TITLE);
+        return page.title();
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return find(by, page.getDocument(), false, this);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return find(by, page.getDocument(), true, this).get(0);
+    }
+
+    @Override
+    public String getPageSource() {
+        command(DriverCommand.GET_PAGE_SOURCE);
+        return page.source();
+    }
+
+    @Override
+    public void close() {
+        command(DriverCommand.CLOSE);
+        open = false;
+    }
+
+    @Override
+    public void quit() {
+        if (open) {
+            command(DriverCommand.QUIT);
+        }
+        open = false;
+        log.debug("Quit simulated session {} after {} commands", windowHandle, commandCount.get());
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        command(DriverCommand.GET_WINDOW_HANDLES);
+        return new LinkedHashSet<>(Set.of(windowHandle));
+    }
+
+    @Override
+    public String getWindowHandle() {
+        command(DriverCommand.GET_CURRENT_WINDOW_HANDLE);
+        return windowHandle;
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        return new SimulatedTargetLocator();
+    }
+
+    @Override
+    public Navigation navigate() {
+        return new SimulatedNavigation();
+    }
+
+    @Override
+    public Options manage() {
+        return new SimulatedOptions();
+    }
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        command(DriverCommand.EXECUTE_SCRIPT);
+        return scripts.execute(script, args == null ? new Object[0] : args);
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        command(DriverCommand.EXECUTE_ASYNC_SCRIPT);
+        return scripts.execute(script, args == null ? new Object[0] : args);
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) throws WebDriverException {
+        command(DriverCommand.SCREENSHOT);
+        return screenshot(target);
+    }
+
+    @Override
+    public String toString() {
+        return "SimulatedWebDriver: " + windowHandle + " on " + page.getUrl();
+    }
+
+    /**
+     * Counts a command and delays it by its simulated latency.
+     *
+     * @param name The {@link DriverCommand} name of the command
+     * @throws NoSuchSessionException if the session was closed
+     */
+    void command(String name) {
+        if (!open) {
+            throw new NoSuchSessionException("Simulated session " + windowHandle + " was closed");
+        }
+        commandCount.incrementAndGet();
+        Duration delay = commandLatency.getOrDefault(name, latency);
+        if (delay.isZero() || delay.isNegative()) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(delay.toNanos());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while simulating command " + name, e);
+        }
+    }
+
+    /**
+     * Returns the page currently loaded.
+     *
+     * @return The page
+     */
+    SimulatedDocument currentPage() {
+        return page;
+    }
+
+    /**
+     * Wraps a DOM element of the current page.
+     *
+     * @param element The DOM element
+     * @return The WebElement
+     */
+    SimulatedElement wrap(Element element) {
+        return new SimulatedElement(this, page, element);
+    }
+
+    /**
+     * Records the element that has the focus.
+     *
+     * @param element The focused element
+     */
+    void focus(SimulatedElement element) {
+        focused = element;
+    }
+
+    /**
+     * Loads a URL as a new history entry, dropping the entries after the current one.
+     *
+     * @param url The URL
+     */
+    void navigate(String url) {
+        history.subList(historyIndex + 1, history.size()).clear();
+        history.add(url);
+        historyIndex = history.size() - 1;
+        load(url);
+    }
+
+    /**
+     * Resolves a link target against the URL of the current page.
+     *
+     * @param href The link target
+     * @return The absolute URL, or the target itself if it cannot be resolved
+     */
+    String resolve(String href) {
+        try {
+            return URI.create(page.getUrl()).resolve(href.trim()).toString();
+        } catch (IllegalArgumentException e) {
+            return href;
+        }
+    }
+
+    /**
+     * Finds elements with a locator. W3C locators are evaluated against the DOM; other
+     * locators are evaluated by the locator itself through the search context.
+     *
+     * @param by The locator
+     * @param root The document or element to search within
+     * @param single true for findElement, which fails if nothing is found
+     * @param context The search context the locator was used on
+     * @return The elements found
+     * @throws NoSuchElementException if a single element was requested and none is found
+     */
+    List<WebElement> find(By by, Node root, boolean single, SearchContext context) {
+        if (!(by instanceof By.Remotable remotable)) {
+            return single ? List.of(by.findElement(context)) : by.findElements(context);
+        }
+        command(single ? DriverCommand.FIND_ELEMENT : DriverCommand.FIND_ELEMENTS);
+        By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+        List<Element> found = page.findAll(parameters.using(), String.valueOf(parameters.value()), root);
+        if (single && found.isEmpty()) {
+            throw new NoSuchElementException("Unable to locate element: " + by);
+        }
+        List<WebElement> elements = new ArrayList<>(single ? 1 : found.size());
+        for (Element element : single ? found.subList(0, 1) : found) {
+            elements.add(wrap(element));
+        }
+        return elements;
+    }
+
+    /**
+     * Converts the simulated screenshot image to the requested output type.
+     *
+     * @param <X> The output type
+     * @param target The output type
+     * @return The screenshot
+     */
+    static <X> X screenshot(OutputType<X> target) {
+        return target.convertFromBase64Png(SCREENSHOT);
+    }
+
+    /**
+     * Loads a URL without changing the history.
+     *
+     * @param url The URL
+     */
+    private void load(String url) {
+        page = SimulatedDocument.load(url, pagesDir);
+        focused = null;
+    }
+
+    /**
+     * Moves through the history.
+     *
+     * @param steps Number of entries to move, negative to go back
+     */
+    private void traverse(int steps) {
+        int index = historyIndex + steps;
+        if (index >= 0 && index < history.size()) {
+            historyIndex = index;
+            load(history.get(index));
+        }
+    }
+
+    /**
+     * Navigation through the history of the session.
+     */
+    private class SimulatedNavigation implements Navigation {
+
+        @Override
+        public void back() {
+            command(DriverCommand.GO_BACK);
+            traverse(-1);
+        }
+
+        @Override
+        public void forward() {
+            command(DriverCommand.GO_FORWARD);
+            traverse(1);
+        }
+
+        @Override
+        public void to(String url) {
+            get(url);
+        }
+
+        @Override
+        public void to(URL url) {
+            get(url.toString());
+        }
+
+        @Override
+        public void refresh() {
+            command(DriverCommand.REFRESH);
+            load(page.getUrl());
+        }
+    }
+
+    /**
+     * Target locator of the single window of the session.
+     */
+    private class SimulatedTargetLocator implements TargetLocator {
+
+        @Override
+        public WebDriver frame(int index) {
+            throw new NoSuchFrameException("The simulator does not support frames");
+        }
+
+        @Override
+        public WebDriver frame(String nameOrId) {
+            throw new NoSuchFrameException("The simulator does not support frames");
+        }
+
+        @Override
+        public WebDriver frame(WebElement frameElement) {
+            throw new NoSuchFrameException("The simulator does not support frames");
+        }
+
+        @Override
+        public WebDriver parentFrame() {
+            command(DriverCommand.SWITCH_TO_PARENT_FRAME);
+            return SimulatedWebDriver.this;
+        }
+
+        @Override
+        public WebDriver window(String nameOrHandle) {
+            command(DriverCommand.SWITCH_TO_WINDOW);
+            if (!windowHandle.equals(nameOrHandle)) {
+                throw new NoSuchWindowException("No simulated window " + nameOrHandle);
+            }
+            return SimulatedWebDriver.this;
+        }
+
+        @Override
+        public WebDriver newWindow(WindowType typeHint) {
+            throw new UnsupportedCommandException("The simulator has a single window");
+        }
+
+        @Override
+        public WebDriver defaultContent() {
+            command(DriverCommand.SWITCH_TO_FRAME);
+            return SimulatedWebDriver.this;
+        }
+
+        @Override
+        public WebElement activeElement() {
+            command(DriverCommand.GET_ACTIVE_ELEMENT);
+            if (focused != null) {
+                return focused;
+            }
+            NodeList bodies = page.getDocument().getElementsByTagName("body");
+            return wrap(bodies.getLength() > 0 ? (Element) bodies.item(0) : page.getDocument().getDocumentElement());
+        }
+
+        @Override
+        public Alert alert() {
+            throw new NoAlertPresentException("The simulator does not show alerts");
+        }
+    }
+
+    /**
+     * Cookie, timeout and window settings of the session.
+     */
+    private class SimulatedOptions implements Options {
+
+        @Override
+        public void addCookie(Cookie cookie) {
+            command(DriverCommand.ADD_COOKIE);
+            cookies.put(cookie.getName(), cookie);
+        }
+
+        @Override
+        public void deleteCookieNamed(String name) {
+            command(DriverCommand.DELETE_COOKIE);
+            cookies.remove(name);
+        }
+
+        @Override
+        public void deleteCookie(Cookie cookie) {
+            deleteCookieNamed(cookie.getName());
+        }
+
+        @Override
+        public void deleteAllCookies() {
+            command(DriverCommand.DELETE_ALL_COOKIES);
+            cookies.clear();
+        }
+
+        @Override
+        public Set<Cookie> getCookies() {
+            command(DriverCommand.GET_ALL_COOKIES);
+            return Collections.unmodifiableSet(new LinkedHashSet<>(cookies.values()));
+        }
+
+        @Override
+        public Cookie getCookieNamed(String name) {
+            command(DriverCommand.GET_COOKIE);
+            return cookies.get(name);
+        }
+
+        @Override
+        public Timeouts timeouts() {
+            return timeouts;
+        }
+
+        @Override
+        public Window window() {
+            return window;
+        }
+
+        @Override
+        public Logs logs() {
+            throw new UnsupportedCommandException("The simulator does not collect logs");
+        }
+    }
+
+    /**
+     * Timeouts of the session. They are stored only: the simulator never waits for the browser.
+     */
+    private class SimulatedTimeouts implements Timeouts {
+
+        private Duration implicitWait = Duration.ZERO;
+        private Duration scriptTimeout = Duration.ofSeconds(30);
+        private Duration pageLoadTimeout = Duration.ofMinutes(5);
+
+        @Override
+        @Deprecated
+        public Timeouts implicitlyWait(long time, TimeUnit unit) {
+            return implicitlyWait(Duration.of(time, unit.toChronoUnit()));
+        }
+
+        @Override
+        public Timeouts implicitlyWait(Duration duration) {
+            command(DriverCommand.SET_TIMEOUT);
+            implicitWait = duration;
+            return this;
+        }
+
+        @Override
+        public Duration getImplicitWaitTimeout() {
+            command(DriverCommand.GET_TIMEOUTS);
+            return implicitWait;
+        }
+
+        @Override
+        @Deprecated
+        public Timeouts setScriptTimeout(long time, TimeUnit unit) {
+            return scriptTimeout(Duration.of(time, unit.toChronoUnit()));
+        }
+
+        @Override
+        public Timeouts scriptTimeout(Duration duration) {
+            command(DriverCommand.SET_TIMEOUT);
+            scriptTimeout = duration;
+            return this;
+        }
+
+        @Override
+        public Duration getScriptTimeout() {
+            command(DriverCommand.GET_TIMEOUTS);
+            return scriptTimeout;
+        }
+
+        @Override
+        @Deprecated
+        public Timeouts pageLoadTimeout(long time, TimeUnit unit) {
+            return pageLoadTimeout(Duration.of(time, unit.toChronoUnit()));
+        }
+
+        @Override
+        public Timeouts pageLoadTimeout(Duration duration) {
+            command(DriverCommand.SET_TIMEOUT);
+            pageLoadTimeout = duration;
+            return this;
+        }
+
+        @Override
+        public Duration getPageLoadTimeout() {
+            command(DriverCommand.GET_TIMEOUTS);
+            return pageLoadTimeout;
+        }
+    }
+
+    /**
+     * Size and position of the session window. They are stored only: the simulator has no layout.
+     */
+    private class SimulatedWindow implements Window {
+
+        private Dimension size = new Dimension(1920, 1080);
+        private Point position = new Point(0, 0);
+
+        @Override
+        public Dimension getSize() {
+            command(DriverCommand.GET_CURRENT_WINDOW_SIZE);
+            return size;
+        }
+
+        @Override
+        public void setSize(Dimension targetSize) {
+            command(DriverCommand.SET_CURRENT_WINDOW_SIZE);
+            size = targetSize;
+        }
+
+        @Override
+        public Point getPosition() {
+            command(DriverCommand.GET_CURRENT_WINDOW_POSITION);
+            return position;
+        }
+
+        @Override
+        public void setPosition(Point targetPosition) {
+            command(DriverCommand.SET_CURRENT_WINDOW_POSITION);
+            position = targetPosition;
+        }
+
+        @Override
+        public void maximize() {
+            command(DriverCommand.MAXIMIZE_CURRENT_WINDOW);
+        }
+
+        @Override
+        public void minimize() {
+            command(DriverCommand.MINIMIZE_CURRENT_WINDOW);
+        }
+
+        @Override
+        public void fullscreen() {
+            command(DriverCommand.FULLSCREEN_CURRENT_WINDOW);
+        }
+    }
+}
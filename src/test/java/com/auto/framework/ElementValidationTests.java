@@ -7,12 +7,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.testng.AbstractTestNGSpringContextTests;
+import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
 
 import com.auto.framework.listeners.TestExecutionListener;
+import com.auto.framework.model.TableSnapshot;
 import com.auto.framework.pageobjects.demoqa.ElementsPage;
 import com.auto.framework.testdata.UserDataProvider;
 import com.auto.framework.testdata.UserModal;
@@ -80,10 +82,11 @@ public class ElementValidationTests extends AbstractTestNGSpringContextTests {
 		elementsPage.textBoxPF.enterPermanentAddress(userData.getPermAddress());
 		elementsPage.textBoxPF.submitForm();
 
-		assertThat(elementsPage.textBoxPF.getConfirmationMessage().getFirstName(), is(userData.getFirstName()));
-		assertThat(elementsPage.textBoxPF.getConfirmationMessage().getEmail(), is(userData.getEmail()));
-		assertThat(elementsPage.textBoxPF.getConfirmationMessage().getCurrAddress(), is(userData.getCurrAddress()));
-		assertThat(elementsPage.textBoxPF.getConfirmationMessage().getPermAddress(), is(userData.getPermAddress()));
+		UserModal confirmation = elementsPage.textBoxPF.getConfirmationMessage();
+		assertThat(confirmation.getFirstName(), is(userData.getFirstName()));
+		assertThat(confirmation.getEmail(), is(userData.getEmail()));
+		assertThat(confirmation.getCurrAddress(), is(userData.getCurrAddress()));
+		assertThat(confirmation.getPermAddress(), is(userData.getPermAddress()));
 
 	}
 
@@ -120,6 +123,27 @@ public class ElementValidationTests extends AbstractTestNGSpringContextTests {
 
 	}
 
+	/**
+	 * Tests the Web Tables form by adding a user record.
+	 * Verifies that the new record is listed in the table with the submitted data.
+     * 
+     * @param userData Test data containing user information from the data provider
+     * @throws AssertionError if the record is not listed or its data does not match
+     */
+	@Test(dataProvider = "User Data", dataProviderClass = UserDataProvider.class)
+	public void whenAddWebTableRecord_thenDisplayInTable(UserModal userData) {
+		elementsPage.webTablePF.openWebTablesPage();
+		elementsPage.webTablePF.addUserData(userData);
+		elementsPage.webTablePF.submitUserData();
+
+		TableSnapshot userTable = elementsPage.webTablePF.getUserTable();
+		int row = userTable.findRow("Email", userData.getEmail());
+		assertThat(row >= 0, is(true));
+		assertThat(userTable.cell(row, "First Name"), is(userData.getFirstName()));
+		assertThat(userTable.cell(row, "Department"), is(userData.getDepartment()));
+
+	}
+
 	/**
 	 * Prepares the Spring test context before each test method execution.
 	 * This method ensures proper Spring context initialization for test dependency injection.
@@ -135,10 +159,12 @@ public class ElementValidationTests extends AbstractTestNGSpringContextTests {
 	/**
 	 * Cleans up test resources after each test method execution.
 	 * This method ensures proper cleanup of WebDriver instances and other resources.
+	 * 
+	 * @param result The result of the test method, used to decide whether to take a screenshot
 	 */
 	@AfterMethod(alwaysRun = true)
-	public void teardownDriver() {
-		elementsPage.teardownDriver();
+	public void teardownDriver(ITestResult result) {
+		elementsPage.teardownDriver(result);
 	}
 
 }
@@ -0,0 +1,182 @@
+package com.auto.framework.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.auto.framework.config.AssetCache.CachedAsset;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Unit tests of the shared asset cache: which responses are stored, how long they stay fresh, and
+ *                  the revalidation of stale entries.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Tests of {@link AssetCache}, against a cache directory in a temporary directory.
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.config.AssetCache
+ */
+public class AssetCacheTests {
+
+	private static final String URL = "https://example.test/app.js";
+
+	private static final byte[] BODY = "console.log(1);".getBytes(StandardCharsets.UTF_8);
+
+	private Path directory;
+
+	private AssetCache cache;
+
+	/**
+	 * Creates an enabled cache in an empty directory.
+	 *
+	 * @throws IOException if the directory cannot be created
+	 */
+	@BeforeMethod
+	public void createCache() throws IOException {
+		directory = Files.createTempDirectory("asset-cache");
+		FrameworkProperties properties = new FrameworkProperties();
+		properties.setAssetCache(true);
+		properties.setAssetCacheDir(directory.toString());
+		cache = new AssetCache();
+		cache.frameworkProperties = properties;
+	}
+
+	/**
+	 * Deletes the cache directory.
+	 *
+	 * @throws IOException if it cannot be deleted
+	 */
+	@AfterMethod(alwaysRun = true)
+	public void deleteDirectory() throws IOException {
+		try (var files = Files.list(directory)) {
+			for (Path file : files.toList()) {
+				Files.delete(file);
+			}
+		}
+		Files.delete(directory);
+	}
+
+	/**
+	 * Verifies that a response with max-age is served fresh from a single entry file.
+	 *
+	 * @throws IOException if the cache directory cannot be listed
+	 */
+	@Test
+	public void whenResponseHasMaxAge_thenItIsServedFreshFromOneFile() throws IOException {
+		cache.store(URL, "GET", 200, headers("Cache-Control", "max-age=600", "Content-Encoding", "gzip"), BODY);
+
+		CachedAsset cached = cache.lookup(URL).orElseThrow();
+
+		assertThat(cached.isFresh(), is(true));
+		assertThat(cached.body(), is(BODY));
+		assertThat(cached.headers(), is(headers("Cache-Control", "max-age=600")));
+		try (var files = Files.list(directory)) {
+			assertThat(files.count(), is(1L));
+		}
+	}
+
+	/**
+	 * Verifies that no-store, private, cookies and Vary on request headers keep a response out of the cache.
+	 */
+	@Test
+	public void whenResponseMustNotBeShared_thenItIsNotStored() {
+		assertThat(AssetCache.isStorable(headers("Cache-Control", "public, no-store")), is(false));
+		assertThat(AssetCache.isStorable(headers("Cache-Control", "private, max-age=60")), is(false));
+		assertThat(AssetCache.isStorable(headers("Set-Cookie", "id=1")), is(false));
+		assertThat(AssetCache.isStorable(headers("Vary", "Origin")), is(false));
+		assertThat(AssetCache.isStorable(headers("Vary", "Accept-Encoding")), is(true));
+
+		cache.store(URL, "GET", 200, headers("Cache-Control", "max-age=600", "Vary", "Origin"), BODY);
+
+		assertThat(cache.lookup(URL).isPresent(), is(false));
+	}
+
+	/**
+	 * Verifies that a response without freshness or validator is not stored, and that no-cache
+	 * with an ETag is stored stale so that it is revalidated.
+	 */
+	@Test
+	public void whenResponseMustBeRevalidated_thenOnlyResponsesWithValidatorsAreStored() {
+		cache.store(URL, "GET", 200, headers("Cache-Control", "no-cache"), BODY);
+		assertThat(cache.lookup(URL).isPresent(), is(false));
+
+		cache.store(URL, "GET", 200, headers("Cache-Control", "no-cache", "ETag", "\"v1\""), BODY);
+		CachedAsset stale = cache.lookup(URL).orElseThrow();
+
+		assertThat(stale.isFresh(), is(false));
+		assertThat(stale.validators(), is(headers("If-None-Match", "\"v1\"")));
+	}
+
+	/**
+	 * Verifies that a 304 makes a stale entry fresh again with the headers of the 304.
+	 */
+	@Test
+	public void whenStaleEntryIsNotModified_thenRevalidationRefreshesIt() {
+		cache.store(URL, "GET", 200, headers("Cache-Control", "max-age=0", "ETag", "\"v1\""), BODY);
+
+		CachedAsset refreshed = cache.revalidate(URL, headers("Cache-Control", "max-age=600")).orElseThrow();
+
+		assertThat(refreshed.isFresh(), is(true));
+		assertThat(refreshed.body(), is(BODY));
+		assertThat(cache.lookup(URL).orElseThrow().isFresh(), is(true));
+	}
+
+	/**
+	 * Verifies the lifetimes derived from Expires, Age and Last-Modified, and the asset-cache-max-age cap.
+	 */
+	@Test
+	public void whenFreshnessHeadersDiffer_thenLifetimeFollowsThemUpToMaxAge() {
+		Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+		assertThat(lifetime(now, "Cache-Control", "max-age=600, s-maxage=60"), is(Duration.ofSeconds(60)));
+		assertThat(lifetime(now, "Cache-Control", "max-age=600", "Age", "100"), is(Duration.ofSeconds(500)));
+		assertThat(lifetime(now, "Date", "Mon, 01 Jan 2024 00:00:00 GMT", "Expires", "Mon, 01 Jan 2024 01:00:00 GMT"),
+				is(Duration.ofHours(1)));
+		assertThat(lifetime(now, "Last-Modified", "Fri, 22 Dec 2023 00:00:00 GMT"), is(Duration.ofDays(1)));
+		assertThat(lifetime(now, "Cache-Control", "max-age=31536000"), is(Duration.ofDays(1)));
+		assertThat(lifetime(now), is(Duration.ZERO));
+	}
+
+	/**
+	 * Returns the freshness lifetime the cache gives a response.
+	 *
+	 * @param now The time the response was received
+	 * @param namesAndValues The response headers
+	 * @return The lifetime
+	 */
+	private Duration lifetime(Instant now, String... namesAndValues) {
+		return Duration.ofMillis(cache.expiry(headers(namesAndValues), now) - now.toEpochMilli());
+	}
+
+	/**
+	 * Returns headers as DevTools name/value entries.
+	 *
+	 * @param namesAndValues Alternating header names and values
+	 * @return The headers
+	 */
+	private static List<Map<String, String>> headers(String... namesAndValues) {
+		List<Map<String, String>> headers = new ArrayList<>();
+		for (int i = 0; i < namesAndValues.length; i += 2) {
+			headers.add(Map.of("name", namesAndValues[i], "value", namesAndValues[i + 1]));
+		}
+		return headers;
+	}
+}
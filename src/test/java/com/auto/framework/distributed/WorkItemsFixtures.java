@@ -0,0 +1,107 @@
+package com.auto.framework.distributed;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Classes the WorkItemsTests read work items from. They are not part of any suite that runs: TestNG
+ *                  would run the nested classes of a test class along with it.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Fixture classes of {@link WorkItemsTests}.
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.distributed.WorkItemsTests
+ */
+final class WorkItemsFixtures {
+
+	/**
+	 * Not instantiated.
+	 */
+	private WorkItemsFixtures() {
+	}
+
+	/**
+	 * Test methods with a dependency chain, a disabled method and a configuration method.
+	 */
+	public static class MethodLevel {
+
+		/**
+		 * Configuration method, never an item.
+		 */
+		@BeforeMethod
+		public void setUp() {
+		}
+
+		/**
+		 * Independent test.
+		 */
+		@Test
+		public void alpha() {
+		}
+
+		/**
+		 * First test of a chain.
+		 */
+		@Test
+		public void beta() {
+		}
+
+		/**
+		 * Test depending on {@link #beta()}.
+		 */
+		@Test(dependsOnMethods = "beta")
+		public void gamma() {
+		}
+
+		/**
+		 * Test depending on {@link #gamma()}, joining the chain.
+		 */
+		@Test(dependsOnMethods = "gamma")
+		public void delta() {
+		}
+
+		/**
+		 * Disabled test, never an item.
+		 */
+		@Test(enabled = false)
+		public void disabled() {
+		}
+	}
+
+	/**
+	 * Class whose public methods are tests by a class-level {@code @Test}.
+	 */
+	@Test
+	public static class ClassLevel {
+
+		/**
+		 * Configuration method, not turned into a test by the class annotation.
+		 */
+		@BeforeMethod
+		public void setUp() {
+		}
+
+		/**
+		 * Data provider, not turned into a test by the class annotation.
+		 *
+		 * @return No rows
+		 */
+		@DataProvider
+		public Object[][] rows() {
+			return new Object[0][];
+		}
+
+		/**
+		 * Test by the class annotation.
+		 */
+		public void only() {
+		}
+	}
+}
@@ -0,0 +1,171 @@
+package com.auto.framework.distributed;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.auto.framework.execution.TestDurationHistory;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Unit tests of the WorkItems of a distributed run: which methods of a suite file are handed out, how
+ *                  dependent methods are grouped, and the longest-first order.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Tests of {@link WorkItems}, against suite files written to a temporary directory that
+ * name the classes of {@link WorkItemsFixtures}.
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.distributed.WorkItems
+ */
+public class WorkItemsTests {
+
+	private static final String METHOD_LEVEL = WorkItemsFixtures.MethodLevel.class.getName();
+
+	private static final String CLASS_LEVEL = WorkItemsFixtures.ClassLevel.class.getName();
+
+	private Path directory;
+
+	/**
+	 * Creates the directory of the suite files.
+	 *
+	 * @throws IOException if it cannot be created
+	 */
+	@BeforeClass
+	public void createDirectory() throws IOException {
+		directory = Files.createTempDirectory("work-items");
+	}
+
+	/**
+	 * Deletes the suite files.
+	 *
+	 * @throws IOException if they cannot be deleted
+	 */
+	@AfterClass(alwaysRun = true)
+	public void deleteDirectory() throws IOException {
+		try (var files = Files.list(directory)) {
+			for (Path file : files.toList()) {
+				Files.delete(file);
+			}
+		}
+		Files.delete(directory);
+	}
+
+	/**
+	 * Verifies that methods linked by dependsOnMethods form one item, and that disabled and
+	 * configuration methods are left out.
+	 *
+	 * @throws IOException if the suite file cannot be read
+	 */
+	@Test
+	public void whenMethodsDependOnEachOther_thenTheyFormOneItem() throws IOException {
+		Path suite = suite("chain.xml", "<class name=\"" + METHOD_LEVEL + "\" />");
+
+		assertThat(WorkItems.fromSuite(suite.toString()),
+				is(List.of(METHOD_LEVEL + "#alpha", METHOD_LEVEL + "#beta,delta,gamma")));
+	}
+
+	/**
+	 * Verifies that a class-level @Test turns only the declared non-configuration methods into items.
+	 *
+	 * @throws IOException if the suite file cannot be read
+	 */
+	@Test
+	public void whenClassHasClassLevelTest_thenOnlyItsTestMethodsAreItems() throws IOException {
+		Path suite = suite("class-level.xml", "<class name=\"" + CLASS_LEVEL + "\" />");
+
+		assertThat(WorkItems.fromSuite(suite.toString()), is(List.of(CLASS_LEVEL + "#only")));
+	}
+
+	/**
+	 * Verifies that include and exclude lists of the suite file are applied.
+	 *
+	 * @throws IOException if the suite file cannot be read
+	 */
+	@Test
+	public void whenSuiteIncludesOrExcludesMethods_thenItemsFollowTheSuite() throws IOException {
+		Path included = suite("included.xml", "<class name=\"" + METHOD_LEVEL + "\"><methods>"
+				+ "<include name=\"alpha\" /></methods></class>");
+		Path excluded = suite("excluded.xml", "<class name=\"" + METHOD_LEVEL + "\"><methods>"
+				+ "<exclude name=\"alpha\" /></methods></class>");
+
+		assertThat(WorkItems.fromSuite(included.toString()), is(List.of(METHOD_LEVEL + "#alpha")));
+		assertThat(WorkItems.fromSuite(excluded.toString()), is(List.of(METHOD_LEVEL + "#beta,delta,gamma")));
+	}
+
+	/**
+	 * Verifies that suite files included by a suite are resolved against its directory, and that
+	 * a file included twice yields its items once.
+	 *
+	 * @throws IOException if a suite file cannot be read
+	 */
+	@Test
+	public void whenSuiteIncludesSuiteFiles_thenTheirItemsAreReadOnce() throws IOException {
+		suite("child.xml", "<class name=\"" + CLASS_LEVEL + "\" />");
+		Path parent = write("parent.xml", "<suite name=\"parent\"><suite-files><suite-file path=\"child.xml\" />"
+				+ "<suite-file path=\"./child.xml\" /></suite-files></suite>");
+
+		assertThat(WorkItems.fromSuite(parent.toString()), is(List.of(CLASS_LEVEL + "#only")));
+	}
+
+	/**
+	 * Verifies the longest-first order: items without history count as the longest known item,
+	 * and ties keep their order.
+	 *
+	 * @throws IOException if the history directory cannot be read
+	 */
+	@Test
+	public void whenDurationsAreKnown_thenItemsAreOrderedLongestFirst() throws IOException {
+		TestDurationHistory history = new TestDurationHistory(directory.resolve("durations.properties"));
+		history.record("C.short", 100);
+		history.record("C.long", 900);
+		history.record("C.first", 300);
+		history.record("C.second", 400);
+
+		List<String> ordered = WorkItems.longestFirst(List.of("C#short", "C#unknown", "C#first,second", "C#long"),
+				history);
+
+		assertThat(ordered, is(List.of("C#unknown", "C#long", "C#first,second", "C#short")));
+		assertThat(WorkItems.estimate("C#first,second", history), is(700L));
+		assertThat(WorkItems.className("C#first,second"), is("C"));
+		assertThat(WorkItems.methods("C#first,second"), is(List.of("first", "second")));
+	}
+
+	/**
+	 * Writes a suite file with one test of the given classes.
+	 *
+	 * @param name The file name
+	 * @param classes The class elements
+	 * @return The suite file
+	 * @throws IOException if it cannot be written
+	 */
+	private Path suite(String name, String classes) throws IOException {
+		return write(name, "<suite name=\"" + name + "\"><test name=\"test\"><classes>" + classes
+				+ "</classes></test></suite>");
+	}
+
+	/**
+	 * Writes a suite file.
+	 *
+	 * @param name The file name
+	 * @param body The suite element
+	 * @return The suite file
+	 * @throws IOException if it cannot be written
+	 */
+	private Path write(String name, String body) throws IOException {
+		return Files.writeString(directory.resolve(name), "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+				+ "<!DOCTYPE suite SYSTEM \"https://testng.org/testng-1.0.dtd\">\n" + body + "\n");
+	}
+}
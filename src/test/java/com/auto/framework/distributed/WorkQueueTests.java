@@ -0,0 +1,131 @@
+package com.auto.framework.distributed;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Unit tests of the WorkQueue of a distributed run: claiming, completion, and the reassignment of
+ *                  the tests of workers that stop sending heartbeats.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Tests of {@link WorkQueue}. Times are passed in explicitly, so no test sleeps.
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.distributed.WorkQueue
+ */
+public class WorkQueueTests {
+
+	private static final long TIMEOUT = 1_000;
+
+	/**
+	 * Verifies that tests are handed out in queue order, once each, and that an empty queue answers null.
+	 */
+	@Test
+	public void whenWorkersClaim_thenTestsAreHandedOutInOrderOnce() {
+		WorkQueue queue = new WorkQueue(List.of("a", "b"), 2);
+
+		assertThat(queue.claim("w1", 0), is("a"));
+		assertThat(queue.claim("w2", 0), is("b"));
+		assertThat(queue.claim("w1", 0), is(nullValue()));
+		assertThat(queue.isDone(), is(false));
+	}
+
+	/**
+	 * Verifies that completions are counted per worker and that failures are counted.
+	 */
+	@Test
+	public void whenAllTestsComplete_thenQueueIsDoneWithFailuresCounted() {
+		WorkQueue queue = new WorkQueue(List.of("a", "b"), 2);
+		queue.claim("w1", 100);
+		queue.claim("w2", 100);
+
+		assertThat(queue.complete("w1", "a", true, 350), is(250L));
+		assertThat(queue.complete("w2", "b", false, 400), is(300L));
+
+		assertThat(queue.isDone(), is(true));
+		assertThat(queue.getDone(), is(2));
+		assertThat(queue.getFailed(), is(1));
+		assertThat(queue.getCompletedBy(), is(Map.of("w1", 1, "w2", 1)));
+	}
+
+	/**
+	 * Verifies that the tests of a worker without heartbeat go back to the front of the queue,
+	 * while a worker that keeps sending heartbeats keeps its tests.
+	 */
+	@Test
+	public void whenWorkerStopsHeartbeats_thenItsTestGoesToFrontOfQueue() {
+		WorkQueue queue = new WorkQueue(List.of("a", "b", "c"), 2);
+		queue.claim("dead", 0);
+		queue.claim("alive", 0);
+		queue.heartbeat("alive", 900);
+
+		assertThat(queue.reap(1_500, TIMEOUT), is(List.of("dead")));
+
+		assertThat(queue.getReassigned(), is(1));
+		assertThat(queue.claim("alive", 1_500), is("a"));
+		assertThat(queue.claim("alive", 1_500), is("c"));
+		assertThat(queue.complete("alive", "b", true, 1_600), is(1_600L));
+	}
+
+	/**
+	 * Verifies that a test whose workers keep dying is given up as failed after the maximum attempts.
+	 */
+	@Test
+	public void whenTestReachesMaxAttempts_thenItIsGivenUpAsFailed() {
+		WorkQueue queue = new WorkQueue(List.of("a"), 2);
+		queue.claim("w1", 0);
+		queue.reap(2_000, TIMEOUT);
+		assertThat(queue.claim("w2", 2_000), is("a"));
+
+		queue.reap(4_000, TIMEOUT);
+
+		assertThat(queue.isDone(), is(true));
+		assertThat(queue.getFailed(), is(1));
+		assertThat(queue.getReassigned(), is(1));
+		assertThat(queue.claim("w3", 4_000), is(nullValue()));
+	}
+
+	/**
+	 * Verifies that the first completion of a reassigned test wins and a late one is ignored.
+	 */
+	@Test
+	public void whenPresumedDeadWorkerCompletesLate_thenFirstCompletionWins() {
+		WorkQueue queue = new WorkQueue(List.of("a"), 3);
+		queue.claim("slow", 0);
+		queue.reap(2_000, TIMEOUT);
+		queue.claim("other", 2_000);
+
+		assertThat(queue.complete("slow", "a", false, 2_500), is(-1L));
+		assertThat(queue.complete("other", "a", true, 3_000), is(-1L));
+
+		assertThat(queue.isDone(), is(true));
+		assertThat(queue.getFailed(), is(1));
+		assertThat(queue.getCompletedBy(), is(Map.of("slow", 1)));
+	}
+
+	/**
+	 * Verifies that a test completed by a presumed-dead worker before it is claimed again leaves the queue.
+	 */
+	@Test
+	public void whenReassignedTestCompletesBeforeNextClaim_thenItIsNotHandedOutAgain() {
+		WorkQueue queue = new WorkQueue(List.of("a", "b"), 2);
+		queue.claim("slow", 0);
+		queue.reap(2_000, TIMEOUT);
+
+		queue.complete("slow", "a", true, 2_100);
+
+		assertThat(queue.claim("other", 2_200), is("b"));
+		assertThat(queue.claim("other", 2_200), is(nullValue()));
+	}
+}
@@ -1,22 +1,23 @@
 package com.auto.framework.pageobjects.common;
 
-import static java.util.Objects.nonNull;
-
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebDriverException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
+import org.testng.ITestResult;
 
 import com.auto.framework.actions.BaseAction;
+import com.auto.framework.driverscope.DriverScope;
 import com.auto.framework.interfaces.IElementValidator;
 import com.auto.framework.interfaces.WaitOperations;
 import com.auto.framework.interfaces.JavaScriptOperations;
 import com.auto.framework.interfaces.WebElementInteraction;
+import com.auto.framework.jfr.TeardownEvent;
+import com.auto.framework.profiler.Phase;
+import com.auto.framework.profiler.SuiteProfiler;
+import com.auto.framework.reporting.BenchmarkRecorder;
+import com.auto.framework.reporting.ScreenshotPipeline;
 
-import io.qameta.allure.Attachment;
 import lombok.extern.slf4j.Slf4j;
 
 /************************************************************************************************************************
@@ -25,7 +26,8 @@ import lombok.extern.slf4j.Slf4j;
  *                  This class extends BaseAction and serves as the foundation for all page object
  *                  classes, providing access to UI elements, verification, wait operations, and JavaScript
  *                  actions. Includes screenshot capture functionality for test reporting and debugging.
- * @Version : 1.2
+ *                  Teardown is recorded as a Java Flight Recorder event and ends the test's profile.
+ * @Version : 1.5
  ************************************************************************************************************************/
 
 /**
@@ -38,7 +40,7 @@ import lombok.extern.slf4j.Slf4j;
  * capture functionality for test reporting and debugging purposes.</p>
  * 
  * @author Ravi Kukreja
- * @version 1.2
+ * @version 1.5
  * @since 1.0
  * @see com.auto.framework.actions.BaseAction
  * @see com.auto.framework.interfaces.WebElementInteraction
@@ -78,33 +80,56 @@ public class BasePageObject extends BaseAction {
     @Autowired
 	public JavaScriptOperations javaScriptOperations;
 
+    /**
+     * Scope holding the current thread's WebDriver session.
+     * Reset at teardown to hand the browser back to the session pool.
+     */
+    @Autowired
+    public DriverScope driverScope;
+
+    /**
+     * Asynchronous screenshot capture for test reports.
+     */
+    @Autowired
+    public ScreenshotPipeline screenshotPipeline;
+
+    /**
+     * Recorder of per-test wall times in benchmark mode.
+     */
+    @Autowired
+    public BenchmarkRecorder benchmarkRecorder;
+
     /**
      * Tears down the WebDriver instance after test execution.
-     * Captures a screenshot for test reporting and closes the browser.
+     * Captures a screenshot if the test outcome matches 'my.properties.screenshot-on' and
+     * releases the browser session back to the pool. The screenshot is encoded and attached
+     * in the background, so only the capture itself delays teardown. In benchmark mode the
+     * test's wall time is recorded. Nothing else is done if the test never started a browser.
+     * The teardown is recorded as a {@link TeardownEvent} and is the last phase of the test's
+     * profile in the {@link SuiteProfiler}.
+     * 
+     * @param result The result of the test method that just ran
      */
-    public void teardownDriver() {
-        log.info("Taking Screenshots");
-        attachScreenShot();
-        log.info("Closing Browsers");
-        if (nonNull(driver)) {
-            driver.quit();
+    public void teardownDriver(ITestResult result) {
+        benchmarkRecorder.record(result);
+        if (!driverScope.isActive()) {
+            SuiteProfiler.testFinished();
+            return;
+        }
+        TeardownEvent event = TeardownEvent.begin(result);
+        SuiteProfiler.Span span = SuiteProfiler.enter(Phase.TEARDOWN);
+        try {
+            if (screenshotPipeline.shouldCapture(result)) {
+                log.info("Taking Screenshots");
+                screenshotPipeline.capture(applicationContext.getBean(WebDriver.class), result);
+            }
+            log.info("Releasing Browser Session");
+            driverScope.reset();
+        } finally {
+            span.exit();
+            event.commit();
+            SuiteProfiler.testFinished();
         }
     }
 
-	/**
-	 * Captures a screenshot of the current browser state and attaches it to test reports.
-	 * This method is annotated with @Attachment to automatically include screenshots in test reports.
-	 * 
-	 * @return Byte array representing the screenshot image, or empty array if capture fails
-	 */
-	@Attachment(value = "Screen shot", type = "image/png", fileExtension = ".png")
-	public byte[] attachScreenShot() {
-		try {
-			return ((TakesScreenshot) applicationContext.getBean(WebDriver.class)).getScreenshotAs(OutputType.BYTES);
-		} catch (WebDriverException e) {
-			log.error("Selenium screenshot capture failed: {}", e.getMessage());
-		}
-		return new byte[0];
-	}
-
 }
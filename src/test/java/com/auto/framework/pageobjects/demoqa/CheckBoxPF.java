@@ -5,6 +5,7 @@ import static com.auto.framework.constants.Constants.CHECKBOX_PAGE;
 import org.openqa.selenium.By;
 import org.springframework.stereotype.Component;
 
+import com.auto.framework.model.PageReadiness;
 import com.auto.framework.pageobjects.common.BasePageObject;
 
 import io.qameta.allure.Step;
@@ -27,7 +28,8 @@ public class CheckBoxPF extends BasePageObject {
 	private static By successMsg = By.className("text-success");
 
 	public void openCheckBoxPage() {
-		webElementInteraction.openURL(frameworkProperties.getDemoUrl() + CHECKBOX_PAGE);
+		webElementInteraction.openURL(frameworkProperties.getDemoUrl() + CHECKBOX_PAGE,
+				PageReadiness.elementPresent(expandButtonRL));
 	}
 
 	@Step("Expand Level 1 Menu")
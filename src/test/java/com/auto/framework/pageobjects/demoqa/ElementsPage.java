@@ -5,6 +5,7 @@ import static com.auto.framework.constants.Constants.ELEMENTS_PAGE;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import com.auto.framework.model.PageReadiness;
 import com.auto.framework.pageobjects.common.BasePageObject;
 
 import io.qameta.allure.Step;
@@ -31,7 +32,8 @@ public class ElementsPage extends BasePageObject {
 
 	@Step("Open webpage")
 	public void openElementsPage() {
-		webElementInteraction.openURL(frameworkProperties.getDemoUrl() + ELEMENTS_PAGE);
+		webElementInteraction.openURL(frameworkProperties.getDemoUrl() + ELEMENTS_PAGE,
+				PageReadiness.domContentLoaded());
 	}
 
 	@Step("Verify Page Title")
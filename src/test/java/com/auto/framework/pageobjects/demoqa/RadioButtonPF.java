@@ -5,6 +5,7 @@ import static com.auto.framework.constants.Constants.RADIOBUTTON_PAGE;
 import org.openqa.selenium.By;
 import org.springframework.stereotype.Component;
 
+import com.auto.framework.model.PageReadiness;
 import com.auto.framework.pageobjects.common.BasePageObject;
 
 import io.qameta.allure.Step;
@@ -23,7 +24,8 @@ public class RadioButtonPF extends BasePageObject {
 	private static By successMsg = By.className("text-success");
 
 	public void openRadioButtonPage() {
-		webElementInteraction.openURL(frameworkProperties.getDemoUrl() + RADIOBUTTON_PAGE);
+		webElementInteraction.openURL(frameworkProperties.getDemoUrl() + RADIOBUTTON_PAGE,
+				PageReadiness.elementPresent(radioButtons));
 	}
 
 	@Step("Clicked on the Radio Button")
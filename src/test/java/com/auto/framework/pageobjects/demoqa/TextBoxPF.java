@@ -2,9 +2,12 @@ package com.auto.framework.pageobjects.demoqa;
 
 import static com.auto.framework.constants.Constants.TEXTBOX_PAGE;
 
+import java.util.List;
+
 import org.openqa.selenium.By;
 import org.springframework.stereotype.Component;
 
+import com.auto.framework.model.PageReadiness;
 import com.auto.framework.pageobjects.common.BasePageObject;
 import com.auto.framework.testdata.UserModal;
 
@@ -34,7 +37,8 @@ public class TextBoxPF extends BasePageObject {
 	private static By permAddText = By.cssSelector("p#permanentAddress");
 
 	public void openTextBoxPage() {
-		webElementInteraction.openURL(frameworkProperties.getDemoUrl() + TEXTBOX_PAGE);
+		webElementInteraction.openURL(frameworkProperties.getDemoUrl() + TEXTBOX_PAGE,
+				PageReadiness.elementPresent(submitButton));
 	}
 
 	public void updateTextBoxes(UserModal userData) {
@@ -71,10 +75,11 @@ public class TextBoxPF extends BasePageObject {
 	}
 
 	public UserModal getConfirmationMessage() {
-		UserModal userModal = UserModal.builder().firstName(elementValidator.getText(nameText).split(":")[1])
-				.email(elementValidator.getText(emailText).split(":")[1])
-				.currAddress(elementValidator.getText(currAddText).split(":")[1])
-				.permAddress(elementValidator.getText(permAddText).split(":")[1]).build();
+		List<String> output = elementValidator.getTexts(List.of(nameText, emailText, currAddText, permAddText));
+		UserModal userModal = UserModal.builder().firstName(output.get(0).split(":")[1])
+				.email(output.get(1).split(":")[1])
+				.currAddress(output.get(2).split(":")[1])
+				.permAddress(output.get(3).split(":")[1]).build();
 		log.info("Confirmation Data: {}", userModal);
 		return userModal;
 	}
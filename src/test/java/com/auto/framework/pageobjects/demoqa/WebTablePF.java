@@ -5,6 +5,8 @@ import static com.auto.framework.constants.Constants.WEBTABLES_PAGE;
 import org.openqa.selenium.By;
 import org.springframework.stereotype.Component;
 
+import com.auto.framework.model.PageReadiness;
+import com.auto.framework.model.TableSnapshot;
 import com.auto.framework.pageobjects.common.BasePageObject;
 import com.auto.framework.testdata.UserModal;
 
@@ -27,9 +29,12 @@ public class WebTablePF extends BasePageObject {
 	private static By ageTextField = By.cssSelector("#age");
 	private static By salaryTextField = By.id("salary");
 	private static By departmentTextField = By.id("department");
+	private static By submitButton = By.cssSelector("#submit");
+	private static By userTable = By.cssSelector(".rt-table");
 
 	public void openWebTablesPage() {
-		webElementInteraction.openURL(frameworkProperties.getDemoUrl() + WEBTABLES_PAGE);
+		webElementInteraction.openURL(frameworkProperties.getDemoUrl() + WEBTABLES_PAGE,
+				PageReadiness.elementPresent(addButton));
 	}
 
 	@Step("Add User Data")
@@ -43,5 +48,14 @@ public class WebTablePF extends BasePageObject {
 		webElementInteraction.sendKeys(departmentTextField, userData.getDepartment());
 	}
 
+	@Step("Submit User Data")
+	public void submitUserData() {
+		webElementInteraction.click(submitButton);
+	}
+
+	public TableSnapshot getUserTable() {
+		return webElementInteraction.readTable(userTable);
+	}
+
 
 }
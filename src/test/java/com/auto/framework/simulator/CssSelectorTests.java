@@ -0,0 +1,202 @@
+package com.auto.framework.simulator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.openqa.selenium.InvalidSelectorException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Unit tests of the CSS selector engine of the WebDriver simulator: simple selectors, attribute
+ *                  operators, combinators, pseudo-classes, escapes and the rejection of unsupported selectors.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Tests of {@link CssSelector}, against the simulator page {@code elements.html}.
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.simulator.CssSelector
+ */
+public class CssSelectorTests {
+
+	private Document document;
+
+	/**
+	 * Parses the elements page.
+	 *
+	 * @throws IOException if the page cannot be read
+	 */
+	@BeforeClass
+	public void parsePage() throws IOException {
+		document = HtmlParser.parse(Files.readString(HtmlParserTests.ELEMENTS, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Verifies type, universal, id and class selectors, and selector lists in document order.
+	 */
+	@Test
+	public void whenSelectorIsSimple_thenMatchingElementsAreFound() {
+		assertThat(ids("li.btn.btn-light"), is(List.of("item-0", "item-1", "item-2", "item-3")));
+		assertThat(ids("#item-2"), is(List.of("item-2")));
+		assertThat(ids("#item-3, #item-0"), is(List.of("item-0", "item-3")));
+		assertThat(select("ul > *").size(), is(4));
+		assertThat(select("LI").size(), is(4));
+		assertThat(select(".missing").size(), is(0));
+	}
+
+	/**
+	 * Verifies the attribute operators and the case-insensitivity flag.
+	 */
+	@Test
+	public void whenSelectorHasAttributes_thenOperatorsAreApplied() {
+		assertThat(hrefs("a[href]").size(), is(5));
+		assertThat(hrefs("a[href='/webtables']"), is(List.of("/webtables")));
+		assertThat(hrefs("a[href^=\"/check\"]"), is(List.of("/checkbox")));
+		assertThat(hrefs("a[href$=box]"), is(List.of("/text-box", "/checkbox")));
+		assertThat(hrefs("a[href*=radio]"), is(List.of("/radio-button")));
+		assertThat(ids("[class~=btn-light]").size(), is(4));
+		assertThat(select("html[lang|=en]").size(), is(1));
+		assertThat(select("img[alt=toolsqa i]").size(), is(1));
+		assertThat(select("img[alt=toolsqa]").size(), is(0));
+		assertThat(hrefs("a[href^='']").size(), is(0));
+	}
+
+	/**
+	 * Verifies the descendant, child, adjacent and general sibling combinators.
+	 */
+	@Test
+	public void whenSelectorHasCombinators_thenContextIsMatched() {
+		assertThat(text("#item-2 span.text"), is(List.of("Radio Button")));
+		assertThat(select(".left-pannel > li").size(), is(0));
+		assertThat(select(".left-pannel li > a > span").size(), is(4));
+		assertThat(ids("li + li"), is(List.of("item-1", "item-2", "item-3")));
+		assertThat(ids("#item-1 ~ li"), is(List.of("item-2", "item-3")));
+		assertThat(select(".left-pannel + .main-header").size(), is(1));
+	}
+
+	/**
+	 * Verifies the structural pseudo-classes, :empty and :not().
+	 */
+	@Test
+	public void whenSelectorHasPseudoClasses_thenPositionsAndStatesAreMatched() {
+		assertThat(ids("ul > li:first-child"), is(List.of("item-0")));
+		assertThat(ids("ul > li:last-child"), is(List.of("item-3")));
+		assertThat(ids("li:nth-child(odd)"), is(List.of("item-0", "item-2")));
+		assertThat(ids("li:nth-child(2n+2)"), is(List.of("item-1", "item-3")));
+		assertThat(ids("li:nth-child(-n+2)"), is(List.of("item-0", "item-1")));
+		assertThat(ids("li:nth-of-type(3)"), is(List.of("item-2")));
+		assertThat(ids("li:nth-last-child(1)"), is(List.of("item-3")));
+		assertThat(ids("ul > :not(#item-0, #item-3)"), is(List.of("item-1", "item-2")));
+		assertThat(select("header > a:only-child").size(), is(1));
+		assertThat(select("img:empty").size(), is(1));
+		assertThat(select("li:enabled").size(), is(4));
+		assertThat(select("li:disabled, li:checked").size(), is(0));
+	}
+
+	/**
+	 * Verifies that the escapes Selenium writes for By.id and By.className are resolved.
+	 */
+	@Test
+	public void whenSelectorHasEscapes_thenTheyAreResolved() {
+		assertThat(ids("#item\\-1"), is(List.of("item-1")));
+		assertThat(ids("#item\\2d 1"), is(List.of("item-1")));
+		assertThat(ids("[id=\"item\\-3\"]"), is(List.of("item-3")));
+		assertThat(select(".btn\\-light").size(), is(4));
+	}
+
+	/**
+	 * Verifies that matching a single element agrees with selecting it.
+	 */
+	@Test
+	public void whenElementIsMatched_thenAnyAlternativeMayMatch() {
+		Element item = select("#item-1").get(0);
+
+		assertThat(CssSelector.of("ul li.btn").matches(item), is(true));
+		assertThat(CssSelector.of("div > li, #item-1").matches(item), is(true));
+		assertThat(CssSelector.of("ul > li:first-child").matches(item), is(false));
+	}
+
+	/**
+	 * Verifies that a pseudo-element is rejected.
+	 */
+	@Test(expectedExceptions = InvalidSelectorException.class)
+	public void whenSelectorHasPseudoElement_thenItIsRejected() {
+		CssSelector.of("li::before");
+	}
+
+	/**
+	 * Verifies that an unsupported pseudo-class is rejected.
+	 */
+	@Test(expectedExceptions = InvalidSelectorException.class)
+	public void whenSelectorHasUnsupportedPseudoClass_thenItIsRejected() {
+		CssSelector.of("li:hover");
+	}
+
+	/**
+	 * Verifies that an unsupported attribute operator is rejected.
+	 */
+	@Test(expectedExceptions = InvalidSelectorException.class)
+	public void whenSelectorHasUnsupportedOperator_thenItIsRejected() {
+		CssSelector.of("a[href!='/']");
+	}
+
+	/**
+	 * Verifies that a selector ending in a combinator is rejected.
+	 */
+	@Test(expectedExceptions = InvalidSelectorException.class)
+	public void whenSelectorIsIncomplete_thenItIsRejected() {
+		CssSelector.of("ul >");
+	}
+
+	/**
+	 * Returns the elements of the page matching a selector.
+	 *
+	 * @param selector The selector
+	 * @return The elements, in document order
+	 */
+	private List<Element> select(String selector) {
+		return CssSelector.of(selector).select(document);
+	}
+
+	/**
+	 * Returns the ids of the elements matching a selector.
+	 *
+	 * @param selector The selector
+	 * @return The ids, in document order
+	 */
+	private List<String> ids(String selector) {
+		return select(selector).stream().map(element -> element.getAttribute("id")).toList();
+	}
+
+	/**
+	 * Returns the links of the elements matching a selector.
+	 *
+	 * @param selector The selector
+	 * @return The href attributes, in document order
+	 */
+	private List<String> hrefs(String selector) {
+		return select(selector).stream().map(element -> element.getAttribute("href")).toList();
+	}
+
+	/**
+	 * Returns the text of the elements matching a selector.
+	 *
+	 * @param selector The selector
+	 * @return The text contents, in document order
+	 */
+	private List<String> text(String selector) {
+		return select(selector).stream().map(Element::getTextContent).toList();
+	}
+}
@@ -0,0 +1,136 @@
+package com.auto.framework.simulator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Unit tests of the HTML parser of the WebDriver simulator: the tree built from a page source, and
+ *                  the lenient handling of end tags, raw text and character references.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Tests of {@link HtmlParser}, against the simulator page {@code elements.html} and short sources.
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.simulator.HtmlParser
+ */
+public class HtmlParserTests {
+
+	/**
+	 * Page source of the simulated elements page.
+	 */
+	static final Path ELEMENTS = Path.of("src/test/resources/simulator/elements.html");
+
+	/**
+	 * Verifies the tree of the elements page: the html attributes, the head, and the menu items
+	 * closed by their end tags.
+	 *
+	 * @throws IOException if the page cannot be read
+	 */
+	@Test
+	public void whenPageIsParsed_thenTreeFollowsTheSource() throws IOException {
+		Document document = HtmlParser.parse(Files.readString(ELEMENTS, StandardCharsets.UTF_8));
+		Element html = document.getDocumentElement();
+
+		assertThat(html.getTagName(), is("html"));
+		assertThat(html.getAttribute("lang"), is("en"));
+		assertThat(tags(html), is(List.of("head", "body")));
+		assertThat(tags(first(document, "head")), is(List.of("meta", "title")));
+		assertThat(first(document, "title").getTextContent(), is("DEMOQA"));
+		assertThat(tags(first(document, "ul")), is(List.of("li", "li", "li", "li")));
+		assertThat(first(document, "img").hasChildNodes(), is(false));
+		assertThat(first(document, "img").getAttribute("alt"), is("ToolsQA"));
+	}
+
+	/**
+	 * Verifies that list items, paragraphs and table cells close their open predecessor, and that
+	 * stray end tags are ignored.
+	 */
+	@Test
+	public void whenEndTagsAreImpliedOrStray_thenTreeIsRepairedLikeABrowser() {
+		Document document = HtmlParser.parse("<ul><li>a<li>b</ul></div><p>one<p>two</p>"
+				+ "<table><tr><td>1<td>2<tr><td>3</table><br/>");
+		Element html = document.getDocumentElement();
+
+		assertThat(tags(html), is(List.of("ul", "p", "p", "table", "br")));
+		assertThat(tags(first(document, "ul")), is(List.of("li", "li")));
+		assertThat(tags(first(document, "table")), is(List.of("tr", "tr")));
+		assertThat(tags((Element) first(document, "table").getFirstChild()), is(List.of("td", "td")));
+	}
+
+	/**
+	 * Verifies that scripts are read as raw text and that character references are decoded in
+	 * text and attribute values.
+	 */
+	@Test
+	public void whenSourceHasRawTextAndReferences_thenTheyAreReadAsText() {
+		Document document = HtmlParser.parse("<script>if (a < b && c) { x('</p>'); }</script>"
+				+ "<p title=\"&quot;a&quot; &amp; b\">&lt;&#65;&#x42;&nbsp;&unknown; &amp c</p>");
+
+		assertThat(first(document, "script").getTextContent(), is("if (a < b && c) { x('</p>'); }"));
+		assertThat(first(document, "p").getAttribute("title"), is("\"a\" & b"));
+		assertThat(first(document, "p").getTextContent(), is("<AB &unknown; &amp c"));
+	}
+
+	/**
+	 * Verifies that names are lower-cased, attributes without value are empty, and attributes
+	 * that are not XML names are skipped.
+	 */
+	@Test
+	public void whenAttributesAreUnusual_thenValidOnesAreKept() {
+		Document document = HtmlParser.parse("<INPUT Type=checkbox disabled @click=\"go()\" [value]='v' id=box>");
+		Element input = first(document, "input");
+
+		assertThat(input.getAttribute("type"), is("checkbox"));
+		assertThat(input.hasAttribute("disabled"), is(true));
+		assertThat(input.getAttribute("disabled"), is(""));
+		assertThat(input.getAttribute("id"), is("box"));
+		assertThat(input.getAttributes().getLength(), is(3));
+	}
+
+	/**
+	 * Returns the first element of a tag name.
+	 *
+	 * @param document The document
+	 * @param tag The tag name
+	 * @return The element
+	 */
+	private static Element first(Document document, String tag) {
+		return (Element) document.getElementsByTagName(tag).item(0);
+	}
+
+	/**
+	 * Returns the tag names of the child elements of an element.
+	 *
+	 * @param element The element
+	 * @return The tag names, in document order
+	 */
+	private static List<String> tags(Element element) {
+		List<String> tags = new ArrayList<>();
+		NodeList children = element.getChildNodes();
+		for (int i = 0; i < children.getLength(); i++) {
+			Node child = children.item(i);
+			if (child instanceof Element childElement) {
+				tags.add(childElement.getTagName());
+			}
+		}
+		return tags;
+	}
+}
@@ -0,0 +1,157 @@
+package com.auto.framework.simulator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.openqa.selenium.InvalidSelectorException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.w3c.dom.Element;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Unit tests of the pages of the WebDriver simulator: loading page sources for URLs, the locator
+ *                  strategies of findAll, visibility and rendered text.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Tests of {@link SimulatedDocument}, against the simulator page {@code elements.html}.
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.simulator.SimulatedDocument
+ */
+public class SimulatedDocumentTests {
+
+	private static final Path PAGES = HtmlParserTests.ELEMENTS.getParent();
+
+	private SimulatedDocument page;
+
+	/**
+	 * Loads the elements page through its HTTP URL.
+	 */
+	@BeforeClass
+	public void loadPage() {
+		page = SimulatedDocument.load("https://demoqa.com/elements", PAGES);
+	}
+
+	/**
+	 * Verifies that HTTP, classpath and file URLs load the page source, and that URLs without a
+	 * page source load an empty page.
+	 */
+	@Test
+	public void whenUrlIsLoaded_thenItsPageSourceIsParsed() {
+		assertThat(page.getUrl(), is("https://demoqa.com/elements"));
+		assertThat(page.title(), is("DEMOQA"));
+		assertThat(SimulatedDocument.load("https://demoqa.com/elements/", PAGES).title(), is("DEMOQA"));
+		assertThat(SimulatedDocument.load("classpath:simulator/elements.html", PAGES).title(), is("DEMOQA"));
+		assertThat(SimulatedDocument.load(HtmlParserTests.ELEMENTS.toUri().toString(), PAGES).title(),
+				is("DEMOQA"));
+
+		SimulatedDocument missing = SimulatedDocument.load("https://demoqa.com/missing", PAGES);
+
+		assertThat(missing.title(), is(""));
+		assertThat(missing.findAll("css selector", "body", missing.getDocument()).size(), is(0));
+	}
+
+	/**
+	 * Verifies the css selector, tag name and xpath strategies, in the document and within an element.
+	 */
+	@Test
+	public void whenElementsAreFound_thenEveryStrategyAgrees() {
+		Element list = find("css selector", "ul.menu-list").get(0);
+
+		assertThat(find("css selector", "li.btn").size(), is(4));
+		assertThat(find("tag name", "li").size(), is(4));
+		assertThat(find("xpath", "//ul/li").size(), is(4));
+		assertThat(page.findAll("tag name", "span", list).size(), is(4));
+		assertThat(page.findAll("xpath", ".//li[@id='item-3']//span", list).get(0).getTextContent(),
+				is("Web Tables"));
+		assertThat(page.findAll("css selector", "header", list).size(), is(0));
+	}
+
+	/**
+	 * Verifies that link text matches the whole rendered text and partial link text a part of it.
+	 */
+	@Test
+	public void whenLinksAreFoundByText_thenRenderedTextIsCompared() {
+		assertThat(hrefs(find("link text", "Check Box")), is(List.of("/checkbox")));
+		assertThat(hrefs(find("link text", " Web Tables ")), is(List.of("/webtables")));
+		assertThat(hrefs(find("link text", "Box")).size(), is(0));
+		assertThat(hrefs(find("partial link text", "Box")), is(List.of("/text-box", "/checkbox")));
+	}
+
+	/**
+	 * Verifies that unsupported strategies and invalid XPath are rejected.
+	 */
+	@Test
+	public void whenLocatorIsInvalid_thenItIsRejected() {
+		assertThat(rejects("id", "item-0"), is(true));
+		assertThat(rejects("xpath", "//li[@id="), is(true));
+		assertThat(rejects("css selector", "li:hover"), is(true));
+	}
+
+	/**
+	 * Verifies visibility and the rendered text of block elements.
+	 */
+	@Test
+	public void whenTextIsRead_thenHiddenContentIsLeftOutAndBlocksStartLines() {
+		assertThat(SimulatedDocument.isDisplayed(find("tag name", "title").get(0)), is(false));
+		assertThat(SimulatedDocument.isDisplayed(find("css selector", "#item-0").get(0)), is(true));
+		assertThat(SimulatedDocument.textOf(find("css selector", "ul.menu-list").get(0)),
+				is("Text Box\nCheck Box\nRadio Button\nWeb Tables"));
+		assertThat(SimulatedDocument.textOf(find("css selector", ".body-height").get(0)),
+				is("Text Box\nCheck Box\nRadio Button\nWeb Tables\nElements"));
+		assertThat(SimulatedDocument.textOf(find("tag name", "title").get(0)), is(""));
+
+		SimulatedDocument hidden = SimulatedDocument.load("classpath:simulator/elements.html", PAGES);
+		Element item = hidden.findAll("css selector", "#item-1", hidden.getDocument()).get(0);
+		item.setAttribute("style", "display: none");
+
+		assertThat(SimulatedDocument.isDisplayed(item), is(false));
+		assertThat(SimulatedDocument.textOf(hidden.findAll("css selector", "ul", hidden.getDocument()).get(0)),
+				is("Text Box\nRadio Button\nWeb Tables"));
+	}
+
+	/**
+	 * Finds elements in the elements page.
+	 *
+	 * @param using The locator strategy
+	 * @param value The locator value
+	 * @return The elements, in document order
+	 */
+	private List<Element> find(String using, String value) {
+		return page.findAll(using, value, page.getDocument());
+	}
+
+	/**
+	 * Returns the links of elements.
+	 *
+	 * @param elements The elements
+	 * @return The href attributes, in document order
+	 */
+	private static List<String> hrefs(List<Element> elements) {
+		return elements.stream().map(element -> element.getAttribute("href")).toList();
+	}
+
+	/**
+	 * Returns true if a locator is rejected as invalid.
+	 *
+	 * @param using The locator strategy
+	 * @param value The locator value
+	 * @return true if findAll throws InvalidSelectorException
+	 */
+	private boolean rejects(String using, String value) {
+		try {
+			find(using, value);
+			return false;
+		} catch (InvalidSelectorException e) {
+			return true;
+		}
+	}
+}
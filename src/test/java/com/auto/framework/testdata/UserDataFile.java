@@ -0,0 +1,201 @@
+package com.auto.framework.testdata;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Binary file of pre-generated user data rows, memory-mapped so that a row is decoded only when a test
+ *                  reads it and the operating system pages the file in on demand.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * A file of {@link UserModal} rows.
+ *
+ * <p>Layout, big-endian:</p>
+ * <pre>
+ * int magic 'UDAT' | int version | long seed
+ * rows: 8 fields of (unsigned short length, UTF-8 bytes) each
+ * int offset of every row | int rows | int offset of the offsets
+ * </pre>
+ *
+ * <p>The offsets are written last so that rows can be streamed to the file as they are
+ * generated. An open file holds the mapping only; {@link #row(int)} reads with absolute
+ * positions and is safe to call from several threads. Files are limited to 2 GB, the size
+ * of one mapping.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.testdata.UserDataPool
+ */
+public final class UserDataFile {
+
+	private static final int MAGIC = 0x55444154;
+
+	private static final int VERSION = 1;
+
+	private static final int HEADER_SIZE = 16;
+
+	private static final int TRAILER_SIZE = 8;
+
+	private static final int FIELDS = 8;
+
+	/**
+	 * Rows generated in parallel before they are written in order.
+	 */
+	private static final int CHUNK_ROWS = 4096;
+
+	private final ByteBuffer buffer;
+
+	private final long seed;
+
+	private final int rows;
+
+	private final int index;
+
+	/**
+	 * Creates a view of a mapped file.
+	 *
+	 * @param buffer The mapped file
+	 * @param seed The seed the rows were generated from
+	 * @param rows The number of rows
+	 * @param index The offset of the row offsets
+	 */
+	private UserDataFile(ByteBuffer buffer, long seed, int rows, int index) {
+		this.buffer = buffer;
+		this.seed = seed;
+		this.rows = rows;
+		this.index = index;
+	}
+
+	/**
+	 * Maps a file.
+	 *
+	 * @param file The file
+	 * @return The mapped file
+	 * @throws IOException if the file cannot be read or is not a user data file
+	 */
+	public static UserDataFile open(Path file) throws IOException {
+		ByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			if (channel.size() < HEADER_SIZE + TRAILER_SIZE || channel.size() > Integer.MAX_VALUE) {
+				throw new IOException("Not a user data file: " + file);
+			}
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+			throw new IOException("Not a user data file of version " + VERSION + ": " + file);
+		}
+		int rows = buffer.getInt(buffer.limit() - TRAILER_SIZE);
+		int index = buffer.getInt(buffer.limit() - TRAILER_SIZE + 4);
+		if (rows < 0 || index < HEADER_SIZE || (long) index + 4L * rows != buffer.limit() - TRAILER_SIZE) {
+			throw new IOException("Corrupt user data file: " + file);
+		}
+		return new UserDataFile(buffer, buffer.getLong(8), rows, index);
+	}
+
+	/**
+	 * Writes the first rows of a generator to a file. Rows are generated in parallel, a chunk at
+	 * a time, on the generator's pool. The file is written next to its final name and moved
+	 * into place, so that a reader never maps a partly written file.
+	 *
+	 * @param file The file
+	 * @param generator The generator
+	 * @param rows The number of rows
+	 * @throws IOException if the file cannot be written or would exceed 2 GB
+	 */
+	public static void write(Path file, UserDataGenerator generator, int rows) throws IOException {
+		Path absolute = file.toAbsolutePath();
+		Files.createDirectories(absolute.getParent());
+		Path partial = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+		try {
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(Files.newOutputStream(partial), 1 << 16))) {
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeLong(generator.getSeed());
+				int[] offsets = new int[rows];
+				for (int chunk = 0; chunk < rows; chunk += CHUNK_ROWS) {
+					List<UserModal> users = IntStream.range(chunk, Math.min(rows, chunk + CHUNK_ROWS)).parallel()
+							.mapToObj(generator::row).toList();
+					for (int row = chunk; row < chunk + users.size(); row++) {
+						offsets[row] = out.size();
+						UserModal user = users.get(row - chunk);
+						for (String field : new String[] { user.getFirstName(), user.getLastName(), user.getEmail(),
+								user.getCurrAddress(), user.getPermAddress(), user.getAge(), user.getSalary(),
+								user.getDepartment() }) {
+							byte[] bytes = field.getBytes(StandardCharsets.UTF_8);
+							out.writeShort(bytes.length);
+							out.write(bytes);
+						}
+						if (out.size() > Integer.MAX_VALUE - 4L * rows - TRAILER_SIZE) {
+							throw new IOException("User data file would exceed 2 GB after " + (row + 1) + " rows");
+						}
+					}
+				}
+				int index = out.size();
+				for (int offset : offsets) {
+					out.writeInt(offset);
+				}
+				out.writeInt(rows);
+				out.writeInt(index);
+			}
+			Files.move(partial, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(partial);
+		}
+	}
+
+	/**
+	 * Returns the seed the rows were generated from.
+	 *
+	 * @return The seed
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Returns the number of rows.
+	 *
+	 * @return The number of rows
+	 */
+	public int getRows() {
+		return rows;
+	}
+
+	/**
+	 * Decodes a row.
+	 *
+	 * @param row The row index, 0 to rows - 1
+	 * @return The row
+	 */
+	public UserModal row(int row) {
+		if (row < 0 || row >= rows) {
+			throw new IndexOutOfBoundsException("Row " + row + " of " + rows);
+		}
+		int position = buffer.getInt(index + 4 * row);
+		String[] fields = new String[FIELDS];
+		for (int field = 0; field < FIELDS; field++) {
+			int length = Short.toUnsignedInt(buffer.getShort(position));
+			byte[] bytes = new byte[length];
+			buffer.get(position + 2, bytes);
+			fields[field] = new String(bytes, StandardCharsets.UTF_8);
+			position += 2 + length;
+		}
+		return UserModal.builder().firstName(fields[0]).lastName(fields[1]).email(fields[2]).currAddress(fields[3])
+				.permAddress(fields[4]).age(fields[5]).salary(fields[6]).department(fields[7]).build();
+	}
+}
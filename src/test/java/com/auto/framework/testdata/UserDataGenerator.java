@@ -0,0 +1,118 @@
+package com.auto.framework.testdata;
+
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.javafaker.Faker;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Thread-safe generator of user data rows: reuses a pool of Faker instances instead of building one
+ *                  per row, and derives every row from the seed and its index only.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Generates {@link UserModal} rows.
+ *
+ * <p>A {@code Faker} loads its locale files when built, which costs far more than a row.
+ * The generator keeps the instances it has built in a pool: a thread borrows one for a row
+ * and puts it back, so the pool grows to the number of threads that generate at once and no
+ * further. Faker is not thread-safe, so an instance is never shared by two threads.</p>
+ *
+ * <p>Before a row is generated, the random source of the borrowed instance is reseeded from
+ * the generator seed and the row index. Row {@code n} of a seed is therefore the same on
+ * every run, whichever thread or instance generates it.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.testdata.UserDataPool
+ */
+public final class UserDataGenerator {
+
+	private final long seed;
+
+	private final long mixedSeed;
+
+	private final Queue<Generator> idle = new ConcurrentLinkedQueue<>();
+
+	private final AtomicLong sequence = new AtomicLong();
+
+	/**
+	 * A Faker instance and the random source it draws from.
+	 *
+	 * @param random The random source, reseeded per row
+	 * @param faker The Faker instance
+	 */
+	private record Generator(Random random, Faker faker) {
+	}
+
+	/**
+	 * Creates a generator.
+	 *
+	 * @param seed The seed all rows are derived from
+	 */
+	public UserDataGenerator(long seed) {
+		this.seed = seed;
+		this.mixedSeed = mix(seed);
+	}
+
+	/**
+	 * Returns the seed.
+	 *
+	 * @return The seed all rows are derived from
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Generates a row.
+	 *
+	 * @param index The row index
+	 * @return The row, the same for the same seed and index
+	 */
+	public UserModal row(long index) {
+		Generator generator = idle.poll();
+		if (generator == null) {
+			Random random = new Random();
+			generator = new Generator(random, new Faker(random));
+		}
+		try {
+			generator.random().setSeed(mix(mixedSeed + index));
+			Faker faker = generator.faker();
+			return UserModal.builder().firstName(faker.name().firstName()).lastName(faker.name().lastName())
+					.email(faker.internet().emailAddress())
+					.currAddress(faker.address().fullAddress()).permAddress(faker.address().fullAddress())
+					.age(faker.number().digit()).salary(faker.number().digits(5)).department(faker.company().name())
+					.build();
+		} finally {
+			idle.offer(generator);
+		}
+	}
+
+	/**
+	 * Generates the next row of this generator's own sequence, separate from the indexed rows.
+	 *
+	 * @return The row
+	 */
+	public UserModal next() {
+		return row(Long.MIN_VALUE + sequence.getAndIncrement());
+	}
+
+	/**
+	 * Spreads consecutive values over the whole seed space (the SplitMix64 finalizer), so that
+	 * the random sequences of neighbouring rows are unrelated.
+	 *
+	 * @param value The value
+	 * @return The mixed value
+	 */
+	private static long mix(long value) {
+		long mixed = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+		mixed = (mixed ^ (mixed >>> 27)) * 0x94d049bb133111ebL;
+		return mixed ^ (mixed >>> 31);
+	}
+}
@@ -0,0 +1,49 @@
+package com.auto.framework.testdata;
+
+import java.lang.reflect.Method;
+
+import org.testng.IAnnotationTransformer;
+import org.testng.annotations.IDataProviderAnnotation;
+
+import com.auto.framework.execution.DurationAwareScheduler;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Annotation transformer applying my.properties.user-data-parallel to the 'User Data' provider, which
+ *                  decides whether its rows run in parallel or are streamed one after the other.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * Sets the {@code parallel} attribute of {@link UserDataProvider#userDataProvider()} from
+ * {@code my.properties.user-data-parallel}.
+ *
+ * <p>TestNG reads every row of a parallel data provider before it runs the first one, so a
+ * parallel provider holds all rows in memory. Large row counts stream only with the property
+ * set to false. Annotation transformers must be registered in the suite file, as
+ * {@code Element-Tests.xml} does; without it the annotation's value, parallel, applies. The
+ * transformer runs before the Spring context exists, so it binds the framework properties
+ * itself.</p>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.testdata.UserDataProvider
+ */
+public class UserDataParallelism implements IAnnotationTransformer {
+
+	private final boolean parallel = DurationAwareScheduler.loadProperties().isUserDataParallel();
+
+	/**
+	 * Sets whether the rows of the 'User Data' provider run in parallel.
+	 *
+	 * @param annotation The data provider annotation
+	 * @param method The data provider method
+	 */
+	@Override
+	public void transform(IDataProviderAnnotation annotation, Method method) {
+		if (method.getDeclaringClass() == UserDataProvider.class) {
+			annotation.setParallel(parallel);
+		}
+	}
+}
@@ -0,0 +1,145 @@
+package com.auto.framework.testdata;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.auto.framework.config.FrameworkProperties;
+import com.auto.framework.execution.DurationAwareScheduler;
+
+import lombok.extern.slf4j.Slf4j;
+
+/************************************************************************************************************************
+ * @Author : Ravi Kukreja
+ * @Description : Source of the rows of the 'User Data' provider, shared by all tests of a JVM: generated on demand
+ *                  or read from a memory-mapped file of pre-generated rows.
+ * @Version : 1.0
+ ************************************************************************************************************************/
+
+/**
+ * The user data of a run.
+ *
+ * <p>Data providers are created by TestNG, outside the Spring context, so the pool binds
+ * {@code my.properties.user-data-*} itself, once per JVM:</p>
+ * <ul>
+ *   <li>{@code user-data-rows} is the number of rows each test of the provider gets.</li>
+ *   <li>{@code user-data-seed} makes the rows the same on every run. Without it a new seed is
+ *       drawn and logged, so that a failing run can be repeated with it.</li>
+ *   <li>{@code user-data-file} names a {@link UserDataFile}. When it exists with enough rows,
+ *       and with the configured seed if there is one, its rows are read from the mapping;
+ *       otherwise it is written once, from the generator, and then mapped.</li>
+ * </ul>
+ *
+ * @author Ravi Kukreja
+ * @version 1.0
+ * @since 1.3
+ * @see com.auto.framework.testdata.UserDataProvider
+ */
+@Slf4j
+public final class UserDataPool {
+
+	private static volatile UserDataPool shared;
+
+	private final int rows;
+
+	private final UserDataGenerator generator;
+
+	private final UserDataFile file;
+
+	/**
+	 * Creates a pool.
+	 *
+	 * @param rows The number of rows
+	 * @param generator The generator
+	 * @param file The file the rows are read from, or null to generate them
+	 */
+	UserDataPool(int rows, UserDataGenerator generator, UserDataFile file) {
+		this.rows = rows;
+		this.generator = generator;
+		this.file = file;
+	}
+
+	/**
+	 * Returns the pool of this JVM, created from the framework properties on first use.
+	 *
+	 * @return The pool
+	 */
+	public static UserDataPool get() {
+		UserDataPool pool = shared;
+		if (pool == null) {
+			synchronized (UserDataPool.class) {
+				pool = shared;
+				if (pool == null) {
+					pool = create(DurationAwareScheduler.loadProperties());
+					shared = pool;
+				}
+			}
+		}
+		return pool;
+	}
+
+	/**
+	 * Creates a pool from the framework properties, writing the data file if needed.
+	 *
+	 * @param frameworkProperties The framework properties
+	 * @return The pool
+	 */
+	static UserDataPool create(FrameworkProperties frameworkProperties) {
+		int rows = Math.max(0, frameworkProperties.getUserDataRows());
+		Long seed = frameworkProperties.getUserDataSeed();
+		String fileName = frameworkProperties.getUserDataFile();
+		if (fileName.isBlank()) {
+			UserDataGenerator generator = new UserDataGenerator(seed != null ? seed
+					: ThreadLocalRandom.current().nextLong());
+			log.info("User data: {} rows generated on demand with seed {}", rows, generator.getSeed());
+			return new UserDataPool(rows, generator, null);
+		}
+		Path path = Path.of(fileName);
+		try {
+			UserDataFile file = Files.exists(path) ? UserDataFile.open(path) : null;
+			if (file == null || file.getRows() < rows || (seed != null && file.getSeed() != seed)) {
+				UserDataGenerator generator = new UserDataGenerator(seed != null ? seed
+						: ThreadLocalRandom.current().nextLong());
+				long start = System.nanoTime();
+				UserDataFile.write(path, generator, rows);
+				file = UserDataFile.open(path);
+				log.info("User data: wrote {} rows with seed {} to {} in {} ms", rows, generator.getSeed(), path,
+						(System.nanoTime() - start) / 1_000_000);
+			}
+			log.info("User data: {} of the {} rows of {}, seed {}", rows, file.getRows(), path, file.getSeed());
+			return new UserDataPool(rows, new UserDataGenerator(file.getSeed()), file);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not prepare the user data file " + path, e);
+		}
+	}
+
+	/**
+	 * Returns the number of rows each test gets.
+	 *
+	 * @return The number of rows
+	 */
+	public int getRows() {
+		return rows;
+	}
+
+	/**
+	 * Returns the generator, for rows beyond the provider's.
+	 *
+	 * @return The generator
+	 */
+	public UserDataGenerator getGenerator() {
+		return generator;
+	}
+
+	/**
+	 * Returns a row, read from the file or generated.
+	 *
+	 * @param row The row index, 0 to rows - 1
+	 * @return The row
+	 */
+	public UserModal row(int row) {
+		return file != null ? file.row(row) : generator.row(row);
+	}
+}
@@ -1,32 +1,57 @@
 package com.auto.framework.testdata;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
 import org.springframework.stereotype.Component;
 import org.testng.annotations.DataProvider;
 
-import com.github.javafaker.Faker;
-
 /************************************************************************************************************************
  * @Author : Ravi Kukreja
  * @Description : User Data Provider
- * @Version : 1.0
+ * @Version : 1.2
  ************************************************************************************************************************/
 @Component
 public class UserDataProvider {
 
+	/**
+	 * Returns the rows of the {@link UserDataPool}. Each row is generated, or read from the
+	 * user data file, when the iterator reaches it. Rows run in parallel unless
+	 * {@code my.properties.user-data-parallel} is false, see {@link UserDataParallelism}; TestNG
+	 * reads all rows of a parallel provider before the first one runs, so only a sequential
+	 * provider streams its rows.
+	 *
+	 * @return The rows, one {@link UserModal} per test invocation
+	 */
 	@DataProvider(name = "User Data", parallel = true)
-	public Object[][] userDataProvider() {
-		Object[][] userDataSet = { { generateUserData() }, { generateUserData() } };
-
-		return userDataSet;
-
+	public Iterator<Object[]> userDataProvider() {
+		UserDataPool pool = UserDataPool.get();
+		return new Iterator<>() {
+
+			private int next;
+
+			@Override
+			public boolean hasNext() {
+				return next < pool.getRows();
+			}
+
+			@Override
+			public Object[] next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return new Object[] { pool.row(next++) };
+			}
+		};
 	}
 
+	/**
+	 * Generates a row outside the provider's rows, from the shared generator pool.
+	 *
+	 * @return The row
+	 */
 	public UserModal generateUserData() {
-		Faker faker = new Faker();
-		return UserModal.builder().firstName(faker.name().firstName()).email(faker.internet().emailAddress())
-				.currAddress(faker.address().fullAddress()).permAddress(faker.address().fullAddress())
-				.age(faker.number().digit()).salary(faker.number().digits(5)).department(faker.company().name())
-				.build();
+		return UserDataPool.get().getGenerator().next();
 	}
 
 }